@@ -43,7 +43,7 @@ sonar {
 
         // 언어 설정
         property("sonar.language", "java")
-        property("sonar.java.source", "17")
+        property("sonar.java.source", "21")
 
         // 인코딩 설정
         property("sonar.sourceEncoding", "UTF-8")
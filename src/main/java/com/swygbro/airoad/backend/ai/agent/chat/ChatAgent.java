@@ -1,12 +1,15 @@
 package com.swygbro.airoad.backend.ai.agent.chat;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.client.advisor.SimpleLoggerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.support.ToolCallbacks;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
@@ -15,17 +18,26 @@ import com.swygbro.airoad.backend.ai.agent.chat.dto.request.AiChatRequest;
 import com.swygbro.airoad.backend.ai.application.context.dto.ChatRoomContext;
 import com.swygbro.airoad.backend.ai.application.context.dto.TripPlanQueryContext;
 import com.swygbro.airoad.backend.ai.application.tool.DailyPlanCommandTool;
+import com.swygbro.airoad.backend.ai.application.tool.PlaceHybridSearchTool;
+import com.swygbro.airoad.backend.ai.application.tool.PlaceNearbyQueryTool;
 import com.swygbro.airoad.backend.ai.application.tool.PlaceVectorQueryTool;
 import com.swygbro.airoad.backend.ai.application.tool.ScheduledPlaceCommandTool;
+import com.swygbro.airoad.backend.ai.common.advisor.ChatClientMetricsAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecution;
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecutionRegistry;
 import com.swygbro.airoad.backend.ai.common.agent.AiroadAgent;
 import com.swygbro.airoad.backend.ai.common.context.ContextManager;
+import com.swygbro.airoad.backend.ai.common.tool.CancellableToolCallback;
+import com.swygbro.airoad.backend.ai.common.tool.MeteredToolCallback;
 import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.domain.event.AiMessageChunkGeneratedEvent;
 import com.swygbro.airoad.backend.ai.domain.event.AiMessageGeneratedEvent;
 import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
 import com.swygbro.airoad.backend.common.exception.BusinessException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -34,6 +46,12 @@ import lombok.extern.slf4j.Slf4j;
  * <p>사용자의 자연어 요청을 분석하여 여행 일정 조회 및 수정 기능을 제공합니다.
  *
  * <p>도메인별 Application Service를 주입받아 @Tool 메서드를 자동으로 등록합니다.
+ *
+ * <p>응답은 스트리밍으로 생성되며, 청크마다 {@link AiMessageChunkGeneratedEvent}를 발행하고 전체 응답이 완성되면 {@link
+ * AiMessageGeneratedEvent}를 발행합니다.
+ *
+ * <p>사용자의 WebSocket 연결이 모두 끊어지면 {@link AgentExecutionRegistry}에 의해 실행이 취소되며, 스트리밍과 도구 호출이 중단되고
+ * 완성 이벤트는 발행되지 않습니다.
  */
 @Slf4j
 @Component
@@ -44,6 +62,7 @@ public class ChatAgent implements AiroadAgent {
   private final ChatClient chatClient;
   private final ApplicationEventPublisher eventPublisher;
   private final ContextManager contextManager;
+  private final AgentExecutionRegistry agentExecutionRegistry;
 
   public ChatAgent(
       @Qualifier("openAiChatModel") ChatModel chatModel,
@@ -52,16 +71,41 @@ public class ChatAgent implements AiroadAgent {
       DailyPlanCommandTool dailyPlanCommandTool,
       ScheduledPlaceCommandTool scheduledPlaceCommandTool,
       PlaceVectorQueryTool placeVectorQueryTool,
-      ContextManager contextManager) {
+      PlaceHybridSearchTool placeHybridSearchTool,
+      PlaceNearbyQueryTool placeNearbyQueryTool,
+      ContextManager contextManager,
+      AgentExecutionRegistry agentExecutionRegistry,
+      MeterRegistry meterRegistry) {
     this.eventPublisher = eventPublisher;
     this.contextManager = contextManager;
+    this.agentExecutionRegistry = agentExecutionRegistry;
+
+    ChatClientMetricsAdvisor metricsAdvisor =
+        ChatClientMetricsAdvisor.builder()
+            .meterRegistry(meterRegistry)
+            .agentType(agentType)
+            .build();
+
     this.chatClient =
         ChatClient.builder(chatModel)
             .defaultAdvisors(
+                metricsAdvisor,
+                metricsAdvisor.attemptCounter(),
                 new SimpleLoggerAdvisor(),
                 MessageChatMemoryAdvisor.builder(chatMemory).build(),
                 PromptMetadataAdvisor.builder().build())
-            .defaultTools(dailyPlanCommandTool, scheduledPlaceCommandTool, placeVectorQueryTool)
+            .defaultToolCallbacks(
+                MeteredToolCallback.wrap(
+                    meterRegistry,
+                    agentType,
+                    ChatClientMetricsAdvisor.modelName(chatModel.getDefaultOptions()),
+                    CancellableToolCallback.wrap(
+                        ToolCallbacks.from(
+                            dailyPlanCommandTool,
+                            scheduledPlaceCommandTool,
+                            placeVectorQueryTool,
+                            placeHybridSearchTool,
+                            placeNearbyQueryTool))))
             .build();
   }
 
@@ -73,6 +117,8 @@ public class ChatAgent implements AiroadAgent {
   @Override
   public void execute(Object data) {
     AiChatRequest request = (AiChatRequest) data;
+    AgentExecution execution =
+        agentExecutionRegistry.start(agentType, request.username(), request.chatRoomId());
 
     try {
       log.debug(
@@ -104,8 +150,19 @@ public class ChatAgent implements AiroadAgent {
                   a ->
                       a.param(ChatMemory.CONVERSATION_ID, request.chatRoomId())
                           .param(PromptMetadataAdvisor.METADATA_KEY, contextMetadata))
-              .call()
-              .content();
+              .toolContext(Map.of(AgentExecution.TOOL_CONTEXT_KEY, execution))
+              .stream()
+              .content()
+              .takeWhile(chunk -> !execution.isCancelled())
+              .filter(chunk -> !chunk.isEmpty())
+              .doOnNext(chunk -> publishChunk(request, chunk))
+              .collect(Collectors.joining())
+              .block();
+
+      if (execution.isCancelled()) {
+        log.info("ChatAgent 실행 취소 - chatRoomId: {}", request.chatRoomId());
+        return;
+      }
 
       log.debug("ChatAgent 응답 생성 완료 - response: {}", response);
 
@@ -121,13 +178,36 @@ public class ChatAgent implements AiroadAgent {
 
       log.debug("ChatAgent 실행 완료 - chatRoomId: {}", request.chatRoomId());
 
-    } catch (BusinessException e) {
-      throw e;
     } catch (Exception e) {
+      if (execution.isCancelled()) {
+        log.info("ChatAgent 실행 취소 - chatRoomId: {}", request.chatRoomId());
+        return;
+      }
+      if (e instanceof BusinessException businessException) {
+        throw businessException;
+      }
       log.error("ChatAgent 실행 중 오류 발생", e);
       throw new BusinessException(
           AiErrorCode.AGENT_EXECUTION_FAILED,
           "ChatAgent 실행 중 오류가 발생했습니다: %s".formatted(e.getMessage()));
+    } finally {
+      agentExecutionRegistry.finish(execution);
     }
   }
+
+  /**
+   * 스트리밍 응답 청크를 이벤트로 발행합니다.
+   *
+   * @param request 채팅 요청
+   * @param chunk 응답 청크
+   */
+  private void publishChunk(AiChatRequest request, String chunk) {
+    eventPublisher.publishEvent(
+        AiMessageChunkGeneratedEvent.builder()
+            .chatRoomId(request.chatRoomId())
+            .tripPlanId(request.tripPlanId())
+            .username(request.username())
+            .chunk(chunk)
+            .build());
+  }
 }
@@ -11,15 +11,19 @@ import org.springframework.stereotype.Component;
 import com.swygbro.airoad.backend.ai.agent.summary.dto.request.AiPlaceSummaryRequest;
 import com.swygbro.airoad.backend.ai.agent.summary.dto.response.PlaceSummaryAiResponse;
 import com.swygbro.airoad.backend.ai.application.context.dto.PlaceQueryContext;
+import com.swygbro.airoad.backend.ai.common.advisor.ChatClientMetricsAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
 import com.swygbro.airoad.backend.ai.common.agent.AiroadAgent;
 import com.swygbro.airoad.backend.ai.common.context.ContextManager;
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter;
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter.Provider;
 import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
 import com.swygbro.airoad.backend.ai.domain.event.PlaceSummaryGeneratedEvent;
 import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
 import com.swygbro.airoad.backend.common.exception.BusinessException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -34,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>지역명을 반복 포함하여 검색 정확도 향상
  *   <li>여행 가이드북 스타일의 읽기 쉬운 설명
  * </ul>
+ *
+ * <p>여러 작업자가 동시에 실행되므로 모델 호출 전에 프로바이더 토큰 버킷에서 토큰을 획득합니다.
  */
 @Slf4j
 @Component
@@ -44,16 +50,30 @@ public class PlaceSummaryAgent implements AiroadAgent {
   private final ChatClient chatClient;
   private final ApplicationEventPublisher eventPublisher;
   private final ContextManager contextManager;
+  private final ProviderRateLimiter providerRateLimiter;
 
   public PlaceSummaryAgent(
       ApplicationEventPublisher eventPublisher,
       @Qualifier("naverChatModel") OpenAiChatModel upstageChatModel,
-      ContextManager contextManager) {
+      ContextManager contextManager,
+      ProviderRateLimiter providerRateLimiter,
+      MeterRegistry meterRegistry) {
     this.eventPublisher = eventPublisher;
     this.contextManager = contextManager;
+    this.providerRateLimiter = providerRateLimiter;
+
+    ChatClientMetricsAdvisor metricsAdvisor =
+        ChatClientMetricsAdvisor.builder()
+            .meterRegistry(meterRegistry)
+            .agentType(agentType)
+            .build();
+
     this.chatClient =
         ChatClient.builder(upstageChatModel)
-            .defaultAdvisors(PromptMetadataAdvisor.builder().build())
+            .defaultAdvisors(
+                metricsAdvisor,
+                metricsAdvisor.attemptCounter(),
+                PromptMetadataAdvisor.builder().build())
             .build();
   }
 
@@ -78,6 +98,7 @@ public class PlaceSummaryAgent implements AiroadAgent {
               .address(request.address())
               .themes(request.themes())
               .content(response.content())
+              .contentHash(request.contentHash())
               .build();
 
       eventPublisher.publishEvent(event);
@@ -91,6 +112,25 @@ public class PlaceSummaryAgent implements AiroadAgent {
     }
   }
 
+  /**
+   * 장소 요약을 생성하여 바로 반환합니다.
+   *
+   * <p>요약 완료 이벤트를 발행하지 않으므로, 호출한 쪽이 요약 결과를 직접 저장하고 실패를 기록할 때 사용합니다.
+   *
+   * @param request 장소 요약 요청
+   * @return 생성된 자연어 요약
+   * @throws BusinessException 요약 생성에 실패한 경우
+   */
+  public String summarize(AiPlaceSummaryRequest request) {
+    try {
+      return generateSummary(request).content();
+    } catch (Exception e) {
+      log.error("PlaceSummaryAgent 요약 실패 - placeId: {}", request.placeId(), e);
+      throw new BusinessException(
+          AiErrorCode.AGENT_EXECUTION_FAILED, "PlaceSummaryAgent 실행 중 오류가 발생했습니다", e);
+    }
+  }
+
   private PlaceSummaryAiResponse generateSummary(AiPlaceSummaryRequest request) {
     PlaceQueryContext placeQueryContext =
         PlaceQueryContext.builder()
@@ -105,6 +145,7 @@ public class PlaceSummaryAgent implements AiroadAgent {
     List<MetadataEntry> contextMetadata =
         contextManager.buildContext(AgentType.PLACE_SUMMARY_AGENT, placeQueryContext);
 
+    providerRateLimiter.acquire(Provider.NAVER_CHAT);
     PlaceSummaryAiResponse response =
         chatClient
             .prompt()
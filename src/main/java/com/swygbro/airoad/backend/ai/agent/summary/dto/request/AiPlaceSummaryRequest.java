@@ -12,4 +12,5 @@ public record AiPlaceSummaryRequest(
     String description,
     String operatingHours,
     String holidayInfo,
-    List<String> themes) {}
+    List<String> themes,
+    String contentHash) {}
@@ -1,7 +1,18 @@
 package com.swygbro.airoad.backend.ai.agent.trip;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.client.ChatClient;
@@ -10,49 +21,84 @@ import org.springframework.ai.chat.client.advisor.StructuredOutputValidationAdvi
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.swygbro.airoad.backend.ai.agent.trip.dto.request.AiDailyPlanRequest;
 import com.swygbro.airoad.backend.ai.agent.trip.dto.response.AiDailyPlanResponse;
+import com.swygbro.airoad.backend.ai.agent.trip.dto.response.AiDailyPlanResponse.AiScheduledPlaceDto;
 import com.swygbro.airoad.backend.ai.application.context.dto.PlaceVectorQueryContext;
 import com.swygbro.airoad.backend.ai.application.context.dto.PlaceVectorQueryContext.QueryType;
 import com.swygbro.airoad.backend.ai.application.context.dto.TripPlanCommandContext;
 import com.swygbro.airoad.backend.ai.application.context.dto.TripPlanQueryContext;
+import com.swygbro.airoad.backend.ai.common.advisor.ChatClientMetricsAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecution;
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecutionRegistry;
 import com.swygbro.airoad.backend.ai.common.agent.AiroadAgent;
 import com.swygbro.airoad.backend.ai.common.context.ContextManager;
+import com.swygbro.airoad.backend.ai.common.context.ContextSession;
 import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
 import com.swygbro.airoad.backend.ai.domain.event.DailyPlanGeneratedEvent;
 import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
 import com.swygbro.airoad.backend.trip.domain.dto.request.DailyPlanCreateRequest;
 import com.swygbro.airoad.backend.trip.domain.dto.request.ScheduledPlaceCreateRequest;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationCancelledEvent;
 import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationCompletedEvent;
 import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationErrorEvent;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class TripAgent implements AiroadAgent {
 
+  /** 일차 생성 결과를 기다리는 동안 실행 취소 여부를 확인하는 간격 (ms) */
+  private static final long CANCEL_CHECK_INTERVAL_MS = 500;
+
+  /** AI가 방문 순서를 누락한 장소는 마지막에 배치 */
+  private static final Comparator<AiScheduledPlaceDto> VISIT_ORDER =
+      Comparator.comparing(
+          AiScheduledPlaceDto::visitOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
   private final AgentType agentType = AgentType.TRIP_AGENT;
   private final ChatClient chatClient;
   private final ApplicationEventPublisher eventPublisher;
   private final ContextManager contextManager;
+  private final Executor chatExecutor;
+  private final AgentExecutionRegistry agentExecutionRegistry;
+  private final boolean parallelGeneration;
 
   public TripAgent(
       ApplicationEventPublisher eventPublisher,
       @Qualifier("upstageChatModel") ChatModel chatModel,
-      ContextManager contextManager) {
+      @Qualifier("upstageChatExecutor") Executor chatExecutor,
+      ContextManager contextManager,
+      AgentExecutionRegistry agentExecutionRegistry,
+      MeterRegistry meterRegistry,
+      @Value("${spring.ai.trip-agent.parallel-generation:true}") boolean parallelGeneration) {
 
     this.eventPublisher = eventPublisher;
     this.contextManager = contextManager;
+    this.chatExecutor = chatExecutor;
+    this.agentExecutionRegistry = agentExecutionRegistry;
+    this.parallelGeneration = parallelGeneration;
+
+    ChatClientMetricsAdvisor metricsAdvisor =
+        ChatClientMetricsAdvisor.builder()
+            .meterRegistry(meterRegistry)
+            .agentType(agentType)
+            .build();
+
     this.chatClient =
         ChatClient.builder(chatModel)
             .defaultAdvisors(
+                metricsAdvisor,
+                metricsAdvisor.attemptCounter(),
                 new SimpleLoggerAdvisor(),
                 PromptMetadataAdvisor.builder().build(),
                 StructuredOutputValidationAdvisor.builder()
@@ -77,15 +123,65 @@ public class TripAgent implements AiroadAgent {
         request.duration(),
         request.tripPlanId());
 
+    AgentExecution execution =
+        agentExecutionRegistry.start(agentType, request.username(), request.chatRoomId());
+
+    // 이미 생성이 끝난 일차에 배정된 장소 ID (다른 일차 프롬프트의 제외 힌트로 사용)
+    Set<Long> claimedPlaceIds = ConcurrentHashMap.newKeySet();
+    List<FutureTask<AiDailyPlanResponse>> tasks = new ArrayList<>();
+
     try {
-      // 일차별 순차 생성
+      // 모든 일차에 공통인 컨텍스트(프롬프트 템플릿, 여행 조건, 장소 벡터 검색)는 한 번만 생성
+      InvariantContexts invariantContexts = createInvariantContexts(request);
+      ContextSession contextSession =
+          contextManager.openSession(
+              AgentType.TRIP_AGENT,
+              invariantContexts.tripPlanCommandContext(),
+              invariantContexts.placeVectorPlaceQueryContext(),
+              invariantContexts.placeVectorRestaurantQueryContext());
+
+      // 취소 시 실행 중인 스레드를 인터럽트할 수 있도록 FutureTask로 일차별 작업 생성
       for (int dayNumber = 1; dayNumber <= request.duration(); dayNumber++) {
-        log.debug("{}일차 일정 생성 시작", dayNumber);
+        int targetDay = dayNumber;
+        tasks.add(
+            new FutureTask<>(
+                () -> {
+                  log.debug("{}일차 일정 생성 시작", targetDay);
+                  AiDailyPlanResponse dailyPlan =
+                      generateDailyPlan(
+                          request,
+                          targetDay,
+                          Set.copyOf(claimedPlaceIds),
+                          execution,
+                          contextSession,
+                          invariantContexts);
+                  if (dailyPlan.places() != null) {
+                    dailyPlan.places().stream()
+                        .map(AiScheduledPlaceDto::placeId)
+                        .filter(Objects::nonNull)
+                        .forEach(claimedPlaceIds::add);
+                  }
+                  return dailyPlan;
+                }));
+      }
 
-        AiDailyPlanResponse dailyPlan = generateDailyPlan(request, dayNumber);
+      // 병렬 모드는 모든 일차를 한 번에 제출 (동시 실행 수는 프로바이더 스레드 풀 크기로 제한)
+      if (parallelGeneration) {
+        tasks.forEach(chatExecutor::execute);
+      }
 
-        // 생성된 일정을 이벤트로 발행
-        DailyPlanCreateRequest dailyPlanCreateRequest = toDailyPlanDto(dailyPlan);
+      // 생성 완료 순서와 관계없이 일차 순서대로 중복을 정리하고 이벤트 발행
+      Set<Long> usedPlaceIds = new HashSet<>();
+      for (int i = 0; i < tasks.size(); i++) {
+        int dayNumber = i + 1;
+        // 순차 모드는 앞선 일차가 끝난 뒤 제출하여 확정된 장소를 제외 힌트로 전달
+        if (!parallelGeneration) {
+          chatExecutor.execute(tasks.get(i));
+        }
+        AiDailyPlanResponse dailyPlan = awaitDailyPlan(tasks.get(i), execution);
+
+        DailyPlanCreateRequest dailyPlanCreateRequest =
+            toDailyPlanDto(dailyPlan, excludeUsedPlaces(dailyPlan, dayNumber, usedPlaceIds));
         DailyPlanGeneratedEvent event =
             DailyPlanGeneratedEvent.builder()
                 .chatRoomId(request.chatRoomId())
@@ -111,6 +207,29 @@ public class TripAgent implements AiroadAgent {
       log.info("여행 일정 전체 생성 완료 - 총 {}일", request.duration());
 
     } catch (Exception e) {
+      tasks.forEach(task -> task.cancel(true));
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (execution.isCancelled()) {
+        log.info(
+            "여행 일정 생성 취소 - 여행 ID: {}, 사유: {}",
+            request.tripPlanId(),
+            execution.getCancelReason());
+
+        TripPlanGenerationCancelledEvent cancelledEvent =
+            TripPlanGenerationCancelledEvent.builder()
+                .chatRoomId(request.chatRoomId())
+                .tripPlanId(request.tripPlanId())
+                .username(request.username())
+                .reason(execution.getCancelReason())
+                .build();
+
+        eventPublisher.publishEvent(cancelledEvent);
+        return;
+      }
+
       log.error("AI 일정 생성 중 오류 발생", e);
 
       TripPlanGenerationErrorEvent errorEvent =
@@ -122,6 +241,34 @@ public class TripAgent implements AiroadAgent {
               .build();
 
       eventPublisher.publishEvent(errorEvent);
+    } finally {
+      agentExecutionRegistry.finish(execution);
+    }
+  }
+
+  /**
+   * 일차 생성 작업이 끝날 때까지 기다리며, 그 사이 실행이 취소되면 즉시 중단합니다.
+   *
+   * @param task 일차 생성 작업
+   * @param execution 실행 핸들
+   * @return 생성된 일일 일정
+   * @throws InterruptedException 대기 중 스레드가 인터럽트된 경우
+   */
+  private AiDailyPlanResponse awaitDailyPlan(
+      FutureTask<AiDailyPlanResponse> task, AgentExecution execution)
+      throws InterruptedException {
+    while (true) {
+      execution.throwIfCancelled();
+      try {
+        return task.get(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        // 아직 생성 중이면 취소 여부를 다시 확인
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw new IllegalStateException(e.getCause());
+      }
     }
   }
 
@@ -130,9 +277,21 @@ public class TripAgent implements AiroadAgent {
    *
    * @param request 여행 일정 생성 요청
    * @param dayNumber 생성할 일차 번호 (1부터 시작)
+   * @param excludedPlaceIds 다른 일차에 이미 배정되어 제외할 장소 ID
+   * @param execution 실행 핸들 (취소된 경우 모델을 호출하지 않음)
+   * @param contextSession 고정 컨텍스트가 보관된 세션
+   * @param invariantContexts 일정 생성 동안 변하지 않는 컨텍스트 데이터
    * @return 생성된 일일 일정
    */
-  private AiDailyPlanResponse generateDailyPlan(AiDailyPlanRequest request, int dayNumber) {
+  private AiDailyPlanResponse generateDailyPlan(
+      AiDailyPlanRequest request,
+      int dayNumber,
+      Set<Long> excludedPlaceIds,
+      AgentExecution execution,
+      ContextSession contextSession,
+      InvariantContexts invariantContexts) {
+    // 대기 중에 취소된 일차는 컨텍스트 조회도 하지 않음
+    execution.throwIfCancelled();
     LocalDate targetDate = request.startDate().plusDays(dayNumber - 1);
 
     TripPlanQueryContext tripPlanQueryContext =
@@ -141,6 +300,81 @@ public class TripAgent implements AiroadAgent {
             .username(request.username())
             .build();
 
+    // 생성 중 변하는 기존 일정 컨텍스트만 새로 조회하고 나머지는 세션에 보관된 결과를 재사용
+    List<MetadataEntry> contextMetadata =
+        contextSession.buildContext(
+            AgentType.TRIP_AGENT,
+            tripPlanQueryContext,
+            invariantContexts.tripPlanCommandContext(),
+            invariantContexts.placeVectorPlaceQueryContext(),
+            invariantContexts.placeVectorRestaurantQueryContext());
+
+    String daySpecificPrompt =
+        String.format(
+            """
+                %d일차 여행 (%s) 일정을 생성해주세요.
+                """,
+            dayNumber, targetDate);
+
+    if (!excludedPlaceIds.isEmpty()) {
+      daySpecificPrompt +=
+          "다음 장소 ID는 다른 일차에 이미 배정되었으니 제외해주세요: %s".formatted(excludedPlaceIds);
+    }
+
+    // 컨텍스트 조회 중 취소된 경우 모델을 호출하지 않음
+    execution.throwIfCancelled();
+
+    try {
+      AiDailyPlanResponse dailyPlan =
+          chatClient
+              .prompt()
+              .user(daySpecificPrompt)
+              .advisors(a -> a.param(PromptMetadataAdvisor.METADATA_KEY, contextMetadata))
+              .call()
+              .entity(AiDailyPlanResponse.class);
+
+      log.debug("{}일차 AI 응답 수신 완료", dayNumber);
+      return dailyPlan;
+
+    } catch (Exception e) {
+      log.error("{}일차 일정 생성 중 오류 발생", dayNumber, e);
+      throw new RuntimeException("일정 생성 실패: " + dayNumber + "일차", e);
+    }
+  }
+
+  /**
+   * 지역과 테마로 장소 벡터 검색 질의를 생성합니다.
+   *
+   * <p>질의 임베딩 캐시 예열에서도 같은 질의를 만들 수 있도록 공개합니다.
+   *
+   * @param region 여행 지역
+   * @param themes 여행 테마 목록
+   * @return 장소 검색 질의
+   */
+  public static String placeQuery(String region, List<PlaceThemeType> themes) {
+    return "%s에 있는 %s 테마에 어울리는 장소를 찾고 싶어요."
+        .formatted(
+            region,
+            themes.stream().map(PlaceThemeType::getDescription).collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * 지역으로 음식점 벡터 검색 질의를 생성합니다.
+   *
+   * @param region 여행 지역
+   * @return 음식점 검색 질의
+   */
+  public static String restaurantQuery(String region) {
+    return "%s에 있는 음식점을 찾고 싶어요.".formatted(region);
+  }
+
+  /**
+   * 일정 생성 동안 변하지 않는 컨텍스트 데이터를 생성합니다.
+   *
+   * @param request 여행 일정 생성 요청
+   * @return 고정 컨텍스트 데이터
+   */
+  private InvariantContexts createInvariantContexts(AiDailyPlanRequest request) {
     TripPlanCommandContext tripPlanCommandContext =
         TripPlanCommandContext.builder()
             .region(request.region())
@@ -156,16 +390,11 @@ public class TripAgent implements AiroadAgent {
             .queryType(QueryType.PLACE)
             .searchRequest(
                 SearchRequest.builder()
-                    .query(
-                        "%s에 있는 %s 테마에 어울리는 장소를 찾고 싶어요."
-                            .formatted(
-                                request.region(),
-                                request.themes().stream()
-                                    .map(PlaceThemeType::getDescription)
-                                    .collect(Collectors.joining(", "))))
+                    .query(placeQuery(request.region(), request.themes()))
                     .topK(10)
                     .similarityThreshold(0.45d)
                     .build())
+            .region(request.region())
             .build();
 
     PlaceVectorQueryContext placeVectorRestaurantQueryContext =
@@ -173,58 +402,61 @@ public class TripAgent implements AiroadAgent {
             .queryType(QueryType.RESTAURANT)
             .searchRequest(
                 SearchRequest.builder()
-                    .query("%s에 있는 음식점을 찾고 싶어요.".formatted(request.region()))
+                    .query(restaurantQuery(request.region()))
                     .topK(10)
                     .similarityThreshold(0.45d)
                     .build())
+            .region(request.region())
             .build();
 
-    List<MetadataEntry> contextMetadata =
-        contextManager.buildContext(
-            AgentType.TRIP_AGENT,
-            tripPlanQueryContext,
-            tripPlanCommandContext,
-            placeVectorPlaceQueryContext,
-            placeVectorRestaurantQueryContext);
-
-    String daySpecificPrompt =
-        String.format(
-            """
-                %d일차 여행 (%s) 일정을 생성해주세요.
-                """,
-            dayNumber, targetDate);
-
-    try {
-      AiDailyPlanResponse dailyPlan =
-          chatClient
-              .prompt()
-              .user(daySpecificPrompt)
-              .advisors(a -> a.param(PromptMetadataAdvisor.METADATA_KEY, contextMetadata))
-              .call()
-              .entity(AiDailyPlanResponse.class);
+    return new InvariantContexts(
+        tripPlanCommandContext, placeVectorPlaceQueryContext, placeVectorRestaurantQueryContext);
+  }
 
-      log.debug("{}일차 AI 응답 수신 완료", dayNumber);
-      return dailyPlan;
+  /**
+   * 앞선 일차에서 이미 사용된 장소를 제외합니다.
+   *
+   * <p>병렬 생성 시 각 일차가 서로의 결과를 보지 못해 같은 장소가 중복 배정될 수 있으므로, 일차 순서대로 먼저 배정된 일차를 우선합니다. 장소 ID가
+   * 없는 장소는 저장할 수 없으므로 제외하고, 방문 순서가 없는 장소는 마지막에 배치합니다.
+   *
+   * @param dailyPlan AI가 생성한 일일 일정
+   * @param dayNumber 일차 번호
+   * @param usedPlaceIds 앞선 일차에서 사용된 장소 ID (제외 후 현재 일차의 장소가 추가됨)
+   * @return 중복이 제거된 방문 장소 목록 (방문 순서 기준 정렬)
+   */
+  static List<AiScheduledPlaceDto> excludeUsedPlaces(
+      AiDailyPlanResponse dailyPlan, int dayNumber, Set<Long> usedPlaceIds) {
+    List<AiScheduledPlaceDto> generated =
+        dailyPlan.places() != null ? dailyPlan.places() : List.of();
+    List<AiScheduledPlaceDto> places =
+        generated.stream()
+            .filter(place -> place.placeId() != null)
+            .sorted(VISIT_ORDER)
+            .filter(place -> usedPlaceIds.add(place.placeId()))
+            .toList();
 
-    } catch (Exception e) {
-      log.error("{}일차 일정 생성 중 오류 발생", dayNumber, e);
-      throw new RuntimeException("일정 생성 실패: " + dayNumber + "일차", e);
+    if (places.size() < generated.size()) {
+      log.warn(
+          "{}일차 일정에서 ID 누락 또는 중복 장소 {}개 제외", dayNumber, generated.size() - places.size());
     }
+    return places;
   }
 
-  private DailyPlanCreateRequest toDailyPlanDto(AiDailyPlanResponse aiDailyPlanResponse) {
-    List<ScheduledPlaceCreateRequest> scheduledPlaces =
-        aiDailyPlanResponse.places().stream()
-            .map(
-                p ->
-                    ScheduledPlaceCreateRequest.builder()
-                        .placeId(p.placeId())
-                        .category(p.category())
-                        .travelTime(p.travelTime())
-                        .transportation(p.transportation())
-                        .visitOrder(p.visitOrder())
-                        .build())
-            .toList();
+  private DailyPlanCreateRequest toDailyPlanDto(
+      AiDailyPlanResponse aiDailyPlanResponse, List<AiScheduledPlaceDto> places) {
+    // 중복 제거로 비는 순서가 없도록 방문 순서를 1부터 다시 매김
+    List<ScheduledPlaceCreateRequest> scheduledPlaces = new ArrayList<>();
+    for (int i = 0; i < places.size(); i++) {
+      AiScheduledPlaceDto p = places.get(i);
+      scheduledPlaces.add(
+          ScheduledPlaceCreateRequest.builder()
+              .placeId(p.placeId())
+              .category(p.category())
+              .travelTime(p.travelTime())
+              .transportation(p.transportation())
+              .visitOrder(i + 1)
+              .build());
+    }
 
     return DailyPlanCreateRequest.builder()
         .dayNumber(aiDailyPlanResponse.dayNumber())
@@ -234,4 +466,16 @@ public class TripAgent implements AiroadAgent {
         .places(scheduledPlaces)
         .build();
   }
+
+  /**
+   * 일정 생성 동안 변하지 않는 컨텍스트 데이터
+   *
+   * @param tripPlanCommandContext 여행 조건 컨텍스트
+   * @param placeVectorPlaceQueryContext 테마 장소 벡터 검색 컨텍스트
+   * @param placeVectorRestaurantQueryContext 음식점 벡터 검색 컨텍스트
+   */
+  private record InvariantContexts(
+      TripPlanCommandContext tripPlanCommandContext,
+      PlaceVectorQueryContext placeVectorPlaceQueryContext,
+      PlaceVectorQueryContext placeVectorRestaurantQueryContext) {}
 }
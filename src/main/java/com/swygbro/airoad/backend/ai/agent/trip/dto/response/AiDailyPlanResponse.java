@@ -61,7 +61,7 @@ public record AiDailyPlanResponse(
           Long placeId,
       @JsonProperty(required = true, value = "visitOrder")
           @JsonPropertyDescription("일정 방문 순서 (1부터 시작)")
-          int visitOrder,
+          Integer visitOrder,
       @JsonProperty(required = true, value = "category")
           @JsonPropertyDescription(
               "일정 카테고리. 반드시 다음 중 하나만 사용: MORNING(오전 일정, 아침~점심 전), AFTERNOON(오후 일정, 점심~저녁 전), EVENING(저녁 일정, 저녁~밤). 점심 식사 - `AFTERNOON`, 저녁 식사 - `EVENING` 으로 분류")
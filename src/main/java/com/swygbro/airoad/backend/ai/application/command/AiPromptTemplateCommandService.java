@@ -3,6 +3,7 @@ package com.swygbro.airoad.backend.ai.application.command;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.swygbro.airoad.backend.ai.domain.dto.response.AiPromptTemplateRespons
 import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
 import com.swygbro.airoad.backend.ai.domain.entity.AiPromptTemplate;
 import com.swygbro.airoad.backend.ai.domain.entity.PromptType;
+import com.swygbro.airoad.backend.ai.domain.event.AiPromptTemplateChangedEvent;
 import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
 import com.swygbro.airoad.backend.ai.infrastructure.repository.AiPromptTemplateRepository;
 import com.swygbro.airoad.backend.common.exception.BusinessException;
@@ -27,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AiPromptTemplateCommandService implements AiPromptTemplateCommandUseCase {
 
   private final AiPromptTemplateRepository aiPromptTemplateRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public AiPromptTemplateResponse createPromptTemplate(CreateAiPromptTemplateRequest request) {
@@ -40,6 +43,7 @@ public class AiPromptTemplateCommandService implements AiPromptTemplateCommandUs
 
     AiPromptTemplate savedTemplate = aiPromptTemplateRepository.save(template);
 
+    publishChangedEvent(savedTemplate.getId());
     log.info("AI 프롬프트 템플릿을 성공적으로 생성했습니다. ID: {}", savedTemplate.getId());
     return AiPromptTemplateResponse.of(savedTemplate);
   }
@@ -55,6 +59,7 @@ public class AiPromptTemplateCommandService implements AiPromptTemplateCommandUs
     applyUpdate(request.prompt(), template::updatePrompt);
     applyUpdate(request.description(), template::updateDescription);
 
+    publishChangedEvent(promptId);
     log.info("AI 프롬프트 템플릿 ID {}의 부분 수정을 완료했습니다.", promptId);
   }
 
@@ -65,9 +70,19 @@ public class AiPromptTemplateCommandService implements AiPromptTemplateCommandUs
     }
 
     aiPromptTemplateRepository.deleteById(promptId);
+    publishChangedEvent(promptId);
     log.info("AI 프롬프트 템플릿 ID {}를 성공적으로 삭제했습니다.", promptId);
   }
 
+  /**
+   * 활성 프롬프트 템플릿 캐시 무효화를 위해 템플릿 변경 이벤트를 발행합니다.
+   *
+   * @param promptId 변경된 템플릿 ID
+   */
+  private void publishChangedEvent(Long promptId) {
+    eventPublisher.publishEvent(AiPromptTemplateChangedEvent.builder().promptId(promptId).build());
+  }
+
   /**
    * 값이 null이 아닐 경우에만 Consumer의 업데이트 로직을 실행하는 헬퍼 메서드
    *
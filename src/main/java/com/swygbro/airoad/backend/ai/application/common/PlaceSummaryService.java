@@ -0,0 +1,20 @@
+package com.swygbro.airoad.backend.ai.application.common;
+
+import org.springframework.stereotype.Service;
+
+import com.swygbro.airoad.backend.ai.agent.summary.PlaceSummaryAgent;
+import com.swygbro.airoad.backend.ai.agent.summary.dto.request.AiPlaceSummaryRequest;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PlaceSummaryService implements PlaceSummaryUseCase {
+
+  private final PlaceSummaryAgent placeSummaryAgent;
+
+  @Override
+  public String summarize(AiPlaceSummaryRequest request) {
+    return placeSummaryAgent.summarize(request);
+  }
+}
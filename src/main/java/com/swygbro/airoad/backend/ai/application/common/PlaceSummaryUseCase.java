@@ -0,0 +1,19 @@
+package com.swygbro.airoad.backend.ai.application.common;
+
+import com.swygbro.airoad.backend.ai.agent.summary.dto.request.AiPlaceSummaryRequest;
+
+/**
+ * 장소 요약 UseCase 인터페이스
+ *
+ * <p>이벤트 없이 장소 요약을 생성하여 호출한 쪽에 바로 돌려줍니다.
+ */
+public interface PlaceSummaryUseCase {
+
+  /**
+   * 장소 요약을 생성
+   *
+   * @param request 장소 요약 요청
+   * @return 생성된 자연어 요약
+   */
+  String summarize(AiPlaceSummaryRequest request);
+}
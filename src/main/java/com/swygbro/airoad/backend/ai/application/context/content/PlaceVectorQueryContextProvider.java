@@ -1,17 +1,19 @@
 package com.swygbro.airoad.backend.ai.application.context.content;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.stereotype.Component;
 
 import com.swygbro.airoad.backend.ai.application.context.dto.PlaceVectorQueryContext;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor;
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
 import com.swygbro.airoad.backend.ai.common.context.AbstractContextProvider;
+import com.swygbro.airoad.backend.content.application.PlaceVectorQueryUseCase;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,18 +22,19 @@ import lombok.extern.slf4j.Slf4j;
 public class PlaceVectorQueryContextProvider
     extends AbstractContextProvider<PlaceVectorQueryContext> {
 
-  private final VectorStore vectorStore;
+  private final PlaceVectorQueryUseCase placeVectorQueryUseCase;
 
-  public PlaceVectorQueryContextProvider(VectorStore vectorStore) {
+  public PlaceVectorQueryContextProvider(PlaceVectorQueryUseCase placeVectorQueryUseCase) {
     super(PlaceVectorQueryContext.class);
-    this.vectorStore = vectorStore;
+    this.placeVectorQueryUseCase = placeVectorQueryUseCase;
   }
 
   @Override
   protected List<MetadataEntry> doGetContext(PlaceVectorQueryContext context) {
     log.debug(
-        "장소 유사도 검색 - queryType: {}, searchRequest: {}",
+        "장소 유사도 검색 - queryType: {}, region: {}, searchRequest: {}",
         context.queryType(),
+        context.region(),
         context.searchRequest());
 
     List<Document> documents = vectorSearch(context);
@@ -61,8 +64,31 @@ public class PlaceVectorQueryContextProvider
     return 31;
   }
 
+  /** 임베딩 API 호출과 벡터 검색이 포함되므로 기본값보다 짧은 제한 시간을 두어 전체 응답 지연을 막습니다. */
+  @Override
+  public Optional<Duration> getTimeout() {
+    return Optional.of(Duration.ofSeconds(5));
+  }
+
+  @Override
+  public List<MetadataEntry> getFallbackContext(Object data) {
+    PlaceVectorQueryContext context = (PlaceVectorQueryContext) data;
+    return PromptMetadataAdvisor.systemMetadata(
+        """
+        ## %s 컨텍스트 (%s Context)
+
+        현재 %s 검색 결과를 불러올 수 없습니다. 장소 검색 도구가 있다면 도구를 사용하고, 없다면 장소를 지어내지 말고 정보가 부족하다고 답변하세요.
+
+        """
+            .formatted(
+                context.queryType().getDescription(),
+                context.queryType().name(),
+                context.queryType().getDescription()));
+  }
+
   private List<Document> vectorSearch(PlaceVectorQueryContext context) {
-    List<Document> allPlaces = vectorStore.similaritySearch(context.searchRequest());
+    List<Document> allPlaces =
+        placeVectorQueryUseCase.search(context.searchRequest(), context.region());
     return allPlaces.stream().distinct().toList();
   }
 
@@ -6,8 +6,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 장소 벡터 검색 컨텍스트 데이터
+ *
+ * @param queryType 검색 대상 종류
+ * @param searchRequest 검색 요청
+ * @param region 검색을 제한할 여행 지역 (null이면 전국 검색)
+ */
 @Builder
-public record PlaceVectorQueryContext(QueryType queryType, SearchRequest searchRequest) {
+public record PlaceVectorQueryContext(
+    QueryType queryType, SearchRequest searchRequest, String region) {
 
   @Getter
   @RequiredArgsConstructor
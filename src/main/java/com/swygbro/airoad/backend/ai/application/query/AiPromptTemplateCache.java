@@ -0,0 +1,77 @@
+package com.swygbro.airoad.backend.ai.application.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.ai.domain.dto.response.AiPromptTemplateResponse;
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.domain.entity.PromptType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 AI 프롬프트 템플릿의 인메모리 캐시
+ *
+ * <p>(PromptType, AgentType) 조합별 활성 템플릿을 보관하여 에이전트 호출마다 발생하던 DB 조회를 제거합니다.
+ *
+ * <p>캐시는 버전으로 관리됩니다. 무효화 시 버전이 증가하며, 무효화 이전 버전으로 적재된 항목은 조회 시 무시되므로 무효화와 동시에 진행된 DB 조회
+ * 결과가 캐시에 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class AiPromptTemplateCache {
+
+  /** 다른 서버 인스턴스에 캐시 무효화를 알리는 Redis Pub/Sub 채널 */
+  public static final String INVALIDATION_CHANNEL = "ai:prompt-template:invalidated";
+
+  private final Map<CacheKey, CachedTemplate> templates = new ConcurrentHashMap<>();
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * 캐시된 활성 템플릿을 반환하고, 없으면 loader로 조회하여 캐시에 적재합니다.
+   *
+   * @param promptType 프롬프트 타입
+   * @param agentType 에이전트 타입
+   * @param loader 캐시 미스 시 템플릿을 조회하는 함수
+   * @return 활성 프롬프트 템플릿
+   */
+  public AiPromptTemplateResponse get(
+      PromptType promptType, AgentType agentType, Supplier<AiPromptTemplateResponse> loader) {
+    CacheKey key = new CacheKey(promptType, agentType);
+    long currentVersion = version.get();
+
+    CachedTemplate cached = templates.get(key);
+    if (cached != null && cached.version() == currentVersion) {
+      return cached.template();
+    }
+
+    AiPromptTemplateResponse template = loader.get();
+    templates.put(key, new CachedTemplate(currentVersion, template));
+    log.debug("활성 프롬프트 템플릿 캐시 적재 - {}, {}, version: {}", promptType, agentType, currentVersion);
+    return template;
+  }
+
+  /** 캐시된 모든 템플릿을 무효화합니다. */
+  public void invalidateAll() {
+    long newVersion = version.incrementAndGet();
+    templates.clear();
+    log.info("활성 프롬프트 템플릿 캐시 무효화 - version: {}", newVersion);
+  }
+
+  /**
+   * 현재 캐시 버전을 반환합니다.
+   *
+   * @return 캐시 버전
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  private record CacheKey(PromptType promptType, AgentType agentType) {}
+
+  private record CachedTemplate(long version, AiPromptTemplateResponse template) {}
+}
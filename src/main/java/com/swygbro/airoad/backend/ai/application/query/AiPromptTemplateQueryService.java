@@ -25,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AiPromptTemplateQueryService implements AiPromptTemplateQueryUseCase {
 
   private final AiPromptTemplateRepository aiPromptTemplateRepository;
+  private final AiPromptTemplateCache aiPromptTemplateCache;
 
   @Override
   public PageResponse<AiPromptTemplateResponse> findPromptTemplates(
@@ -52,10 +53,13 @@ public class AiPromptTemplateQueryService implements AiPromptTemplateQueryUseCas
   @Override
   public AiPromptTemplateResponse findActivePromptTemplate(
       PromptType promptType, AgentType agentType) {
-    AiPromptTemplate template =
-        aiPromptTemplateRepository
-            .findByActivePrompt(promptType, agentType)
-            .orElseThrow(() -> new BusinessException(AiErrorCode.TEMPLATE_NOT_FOUND));
-    return AiPromptTemplateResponse.of(template);
+    return aiPromptTemplateCache.get(
+        promptType,
+        agentType,
+        () ->
+            aiPromptTemplateRepository
+                .findByActivePrompt(promptType, agentType)
+                .map(AiPromptTemplateResponse::of)
+                .orElseThrow(() -> new BusinessException(AiErrorCode.TEMPLATE_NOT_FOUND)));
   }
 }
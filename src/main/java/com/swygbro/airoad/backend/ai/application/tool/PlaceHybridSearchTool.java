@@ -0,0 +1,65 @@
+package com.swygbro.airoad.backend.ai.application.tool;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.ai.application.tool.dto.ToolResponse;
+import com.swygbro.airoad.backend.content.application.PlaceHybridSearchUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PlaceHybridSearchTool {
+
+  /** 한 번에 반환할 수 있는 최대 결과 개수 */
+  static final int MAX_SIZE = 20;
+
+  private final PlaceHybridSearchUseCase placeHybridSearchUseCase;
+
+  @Tool(
+      description = """
+              장소 이름이나 키워드로 장소를 검색할 때 사용합니다.
+              사용자가 '성산일출봉', '광장시장'처럼 특정 장소 이름을 말하면 이 도구를 우선 사용하세요.
+              이름 일치 결과와 의미적 유사도 결과를 함께 반환합니다.
+              """)
+  public ToolResponse searchPlaceByName(
+      @ToolParam(description = "장소 이름 또는 짧은 키워드 (예: '성산일출봉', '광장시장 육회')") String query,
+      @ToolParam(description = "반환할 최대 결과 개수 - 일반적으로 3~5개 권장") int size,
+      @ToolParam(description = "여행 지역 (예: '서울', '제주') - 생략하면 전국 검색", required = false)
+          String region) {
+    log.debug("장소 하이브리드 검색 - query: {}, size: {}, region: {}", query, size, region);
+
+    if (size < 1 || size > MAX_SIZE) {
+      return ToolResponse.failure(String.format("size는 1 이상 %d 이하로 지정해야 합니다.", MAX_SIZE));
+    }
+
+    List<PlaceResponse> places = placeHybridSearchUseCase.search(query, size, region);
+
+    if (places.isEmpty()) {
+      return ToolResponse.failure("검색 결과가 없습니다.");
+    }
+
+    return ToolResponse.success(
+        places.stream().map(this::formatPlace).collect(Collectors.joining("\n\n")));
+  }
+
+  private String formatPlace(PlaceResponse place) {
+    return String.format(
+        """
+            [장소ID: %s]
+            이름: %s
+            주소: %s
+            테마: %s
+            설명: %s
+            """,
+        place.id(), place.name(), place.address(), place.themes(), place.description());
+  }
+}
@@ -0,0 +1,122 @@
+package com.swygbro.airoad.backend.ai.application.tool;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.ai.application.tool.dto.ToolResponse;
+import com.swygbro.airoad.backend.content.application.PlaceNearbyQueryUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.trip.application.TripPlanQueryUseCase;
+import com.swygbro.airoad.backend.trip.domain.dto.response.ScheduledPlaceResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PlaceNearbyQueryTool {
+
+  private static final String THEMES_DESCRIPTION =
+      """
+      장소 테마 목록 - 생략하면 전체
+      - FAMOUS_SPOT: 유명 관광지
+      - HEALING: 힐링
+      - SNS_HOTSPOT: sns 핫플
+      - EXPERIENCE_ACTIVITY: 체험 액티비티
+      - CULTURE_ART: 문화/예술
+      - SHOPPING: 쇼핑
+      - RESTAURANT: 음식점
+      """;
+
+  private final PlaceNearbyQueryUseCase placeNearbyQueryUseCase;
+  private final TripPlanQueryUseCase tripPlanQueryUseCase;
+
+  @Tool(
+      description = """
+              일정에 포함된 장소 근처의 다른 장소를 가까운 순서로 찾을 때 사용합니다.
+              사용자가 '2일차 첫 번째 장소 근처 맛집', '여기서 가까운 카페'처럼 일정 속 장소를 기준으로 물으면 이 도구를 사용하세요.
+              벡터 검색보다 빠르고 실제 직선 거리를 함께 반환합니다.
+              """)
+  public ToolResponse findPlacesNearScheduledPlace(
+      @ToolParam(description = "여행 계획 고유 식별자") Long tripPlanId,
+      @ToolParam(description = "사용자 이메일 주소") String username,
+      @ToolParam(description = "기준 장소가 속한 일차 (1=첫째 날, 2=둘째 날, ...)") Integer dayNumber,
+      @ToolParam(description = "기준 장소의 방문 순서 (1=첫 번째, 2=두 번째, ...)") Integer visitOrder,
+      @ToolParam(description = "검색 반경 (미터) - 생략하면 거리 제한 없이 가까운 순", required = false)
+          Integer radiusMeters,
+      @ToolParam(description = THEMES_DESCRIPTION, required = false) List<PlaceThemeType> themes,
+      @ToolParam(description = "반환할 최대 결과 개수 - 일반적으로 3~5개 권장") int size) {
+    log.debug(
+        "일정 장소 주변 검색 - tripPlanId: {}, 일차: {}, 방문 순서: {}, 반경: {}m",
+        tripPlanId,
+        dayNumber,
+        visitOrder,
+        radiusMeters);
+
+    Optional<ScheduledPlaceResponse> origin =
+        tripPlanQueryUseCase.findTripPlanDetailsById(tripPlanId, username).dailyPlans().stream()
+            .filter(dailyPlan -> dailyPlan.dayNumber().equals(dayNumber))
+            .flatMap(dailyPlan -> dailyPlan.scheduledPlaces().stream())
+            .filter(scheduledPlace -> scheduledPlace.visitOrder().equals(visitOrder))
+            .findFirst();
+
+    if (origin.isEmpty()) {
+      return ToolResponse.failure(
+          String.format("%d일차 %d번째 일정을 찾을 수 없습니다.", dayNumber, visitOrder));
+    }
+
+    return toToolResponse(
+        placeNearbyQueryUseCase.findPlacesNearPlace(
+            origin.get().place().id(), radiusMeters, themes, size));
+  }
+
+  @Tool(
+      description = """
+              특정 좌표(위도/경도) 근처의 장소를 가까운 순서로 찾을 때 사용합니다.
+              기준이 되는 장소의 좌표를 이미 알고 있을 때 사용하세요.
+              """)
+  public ToolResponse findNearbyPlaces(
+      @ToolParam(description = "기준 위도 (예: 37.5547)") double latitude,
+      @ToolParam(description = "기준 경도 (예: 126.9716)") double longitude,
+      @ToolParam(description = "검색 반경 (미터) - 생략하면 거리 제한 없이 가까운 순", required = false)
+          Integer radiusMeters,
+      @ToolParam(description = THEMES_DESCRIPTION, required = false) List<PlaceThemeType> themes,
+      @ToolParam(description = "반환할 최대 결과 개수 - 일반적으로 3~5개 권장") int size) {
+    log.debug("좌표 주변 검색 - 좌표: ({}, {}), 반경: {}m", latitude, longitude, radiusMeters);
+
+    return toToolResponse(
+        placeNearbyQueryUseCase.findNearbyPlaces(latitude, longitude, radiusMeters, themes, size));
+  }
+
+  private ToolResponse toToolResponse(List<NearbyPlaceResponse> places) {
+    if (places.isEmpty()) {
+      return ToolResponse.failure("조건에 맞는 주변 장소가 없습니다.");
+    }
+
+    return ToolResponse.success(
+        places.stream().map(this::formatPlace).collect(Collectors.joining("\n\n")));
+  }
+
+  private String formatPlace(NearbyPlaceResponse nearbyPlace) {
+    return String.format(
+        """
+            [장소ID: %s]
+            이름: %s
+            주소: %s
+            거리: %dm
+            테마: %s
+            """,
+        nearbyPlace.place().id(),
+        nearbyPlace.place().name(),
+        nearbyPlace.place().address(),
+        nearbyPlace.distanceMeters(),
+        nearbyPlace.place().themes());
+  }
+}
@@ -33,14 +33,20 @@ public class PlaceVectorQueryTool {
           String query,
       @ToolParam(description = "반환할 최대 결과 개수 - 일반적으로 3~5개 권장") int topK,
       @ToolParam(description = "유사도 임계값 (0.0~1.0) - 높을수록 더 유사한 결과만 반환, 기본값 0.45 권장, 0.6 이상은 매우 엄격")
-          double similarityThreshold) {
+          double similarityThreshold,
+      @ToolParam(
+              description = "여행 지역 (예: '서울', '부산', '강릉') - 해당 지역 장소를 우선 검색, 생략하면 전국 검색",
+              required = false)
+          String region) {
     log.debug(
-        "장소 벡터 검색 - query: {}, topK: {}, similarityThreshold: {}",
+        "장소 벡터 검색 - query: {}, topK: {}, similarityThreshold: {}, region: {}",
         query,
         topK,
-        similarityThreshold);
+        similarityThreshold,
+        region);
 
-    List<Document> documents = placeVectorQueryUseCase.search(query, topK, similarityThreshold);
+    List<Document> documents =
+        placeVectorQueryUseCase.search(query, topK, similarityThreshold, region);
 
     log.debug(
         "검색된 장소: {}",
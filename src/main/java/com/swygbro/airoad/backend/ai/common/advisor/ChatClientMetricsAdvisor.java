@@ -0,0 +1,271 @@
+package com.swygbro.airoad.backend.ai.common.advisor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import reactor.core.publisher.Flux;
+
+/**
+ * ChatClient 호출을 Micrometer 메트릭으로 기록하는 Advisor
+ *
+ * <p>에이전트 타입({@code agent}), 모델 이름({@code model}), 결과({@code outcome}) 태그로 다음 메트릭을 기록합니다. 모델 이름은 응답
+ * 메타데이터의 모델을 우선 사용하고, 응답이 없으면 요청 옵션의 모델을 사용합니다.
+ *
+ * <ul>
+ *   <li>{@value #LATENCY_METRIC}: 호출 전체 지연 시간 (재시도 포함)
+ *   <li>{@value #TTFT_METRIC}: 스트리밍 첫 토큰까지의 시간
+ *   <li>{@value #TOKENS_METRIC}: 프롬프트/응답 토큰 수 ({@code type} 태그)
+ *   <li>{@value #RETRIES_METRIC}: 구조화 출력 검증 실패 등으로 인한 모델 재호출 횟수
+ * </ul>
+ *
+ * <p>재시도 횟수는 {@link #attemptCounter()}가 반환하는 Advisor를 함께 등록해야 기록됩니다. 이 Advisor는 모델 호출 직전에 위치하여
+ * 실제 모델 호출 횟수를 셉니다.
+ */
+public class ChatClientMetricsAdvisor implements CallAdvisor, StreamAdvisor {
+
+  public static final String LATENCY_METRIC = "airoad.ai.chat.latency";
+  public static final String TTFT_METRIC = "airoad.ai.chat.ttft";
+  public static final String TOKENS_METRIC = "airoad.ai.chat.tokens";
+  public static final String RETRIES_METRIC = "airoad.ai.chat.retries";
+
+  /** Advisor 컨텍스트에서 모델 호출 횟수를 식별하는 키 */
+  private static final String ATTEMPTS_KEY = "METRICS_ATTEMPTS";
+
+  /** 요청과 응답 어디에서도 모델을 알 수 없을 때 사용하는 태그 값 */
+  public static final String UNKNOWN_MODEL = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final String agent;
+
+  @Builder
+  private ChatClientMetricsAdvisor(MeterRegistry meterRegistry, AgentType agentType) {
+    this.meterRegistry = meterRegistry;
+    this.agent = agentType.name();
+  }
+
+  /**
+   * 채팅 옵션에서 메트릭 태그로 사용할 모델 이름을 구합니다.
+   *
+   * @param options 채팅 옵션
+   * @return 모델 이름, 없으면 {@value #UNKNOWN_MODEL}
+   */
+  public static String modelName(ChatOptions options) {
+    return options != null && StringUtils.hasText(options.getModel())
+        ? options.getModel()
+        : UNKNOWN_MODEL;
+  }
+
+  @Override
+  public String getName() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  /**
+   * 실제 모델 호출 횟수를 세는 Advisor를 반환합니다.
+   *
+   * @return 모델 호출 직전에 실행되는 Advisor
+   */
+  public AttemptCountingAdvisor attemptCounter() {
+    return new AttemptCountingAdvisor();
+  }
+
+  @Override
+  public ChatClientResponse adviseCall(
+      ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+    AtomicInteger attempts = new AtomicInteger();
+    String requestModel = modelName(chatClientRequest.prompt().getOptions());
+    long start = System.nanoTime();
+
+    String model = requestModel;
+    try {
+      ChatClientResponse response =
+          callAdvisorChain.nextCall(withAttempts(chatClientRequest, attempts));
+      model = responseModel(response.chatResponse(), requestModel);
+      recordLatency(model, "call", "success", start);
+      recordUsage(model, response.chatResponse());
+      return response;
+    } catch (RuntimeException e) {
+      recordLatency(model, "call", "error", start);
+      throw e;
+    } finally {
+      recordRetries(model, attempts);
+    }
+  }
+
+  @Override
+  public Flux<ChatClientResponse> adviseStream(
+      ChatClientRequest chatClientRequest, StreamAdvisorChain streamAdvisorChain) {
+    return Flux.defer(
+        () -> {
+          AtomicInteger attempts = new AtomicInteger();
+          AtomicBoolean firstToken = new AtomicBoolean(true);
+          AtomicReference<ChatResponse> lastUsage = new AtomicReference<>();
+          AtomicReference<String> model =
+              new AtomicReference<>(modelName(chatClientRequest.prompt().getOptions()));
+          long start = System.nanoTime();
+
+          return streamAdvisorChain
+              .nextStream(withAttempts(chatClientRequest, attempts))
+              .doOnNext(
+                  response -> {
+                    model.set(responseModel(response.chatResponse(), model.get()));
+                    if (hasText(response) && firstToken.compareAndSet(true, false)) {
+                      timer(TTFT_METRIC, model.get(), "stream", "success")
+                          .record(Duration.ofNanos(System.nanoTime() - start));
+                    }
+                    if (hasUsage(response.chatResponse())) {
+                      lastUsage.set(response.chatResponse());
+                    }
+                  })
+              .doOnComplete(
+                  () -> {
+                    recordLatency(model.get(), "stream", "success", start);
+                    recordUsage(model.get(), lastUsage.get());
+                    recordRetries(model.get(), attempts);
+                  })
+              .doOnError(
+                  e -> {
+                    recordLatency(model.get(), "stream", "error", start);
+                    recordRetries(model.get(), attempts);
+                  })
+              .doOnCancel(() -> recordLatency(model.get(), "stream", "cancelled", start));
+        });
+  }
+
+  private ChatClientRequest withAttempts(ChatClientRequest request, AtomicInteger attempts) {
+    return request.mutate().context(ATTEMPTS_KEY, attempts).build();
+  }
+
+  private void recordLatency(String model, String mode, String outcome, long start) {
+    timer(LATENCY_METRIC, model, mode, outcome)
+        .record(Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private void recordUsage(String model, ChatResponse chatResponse) {
+    if (!hasUsage(chatResponse)) {
+      return;
+    }
+    Usage usage = chatResponse.getMetadata().getUsage();
+    tokenCounter(model, "prompt").increment(toCount(usage.getPromptTokens()));
+    tokenCounter(model, "completion").increment(toCount(usage.getCompletionTokens()));
+  }
+
+  private void recordRetries(String model, AtomicInteger attempts) {
+    int retries = attempts.get() - 1;
+    if (retries > 0) {
+      Counter.builder(RETRIES_METRIC)
+          .tag("agent", agent)
+          .tag("model", model)
+          .register(meterRegistry)
+          .increment(retries);
+    }
+  }
+
+  private Timer timer(String name, String model, String mode, String outcome) {
+    return Timer.builder(name)
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("mode", mode)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private Counter tokenCounter(String model, String type) {
+    return Counter.builder(TOKENS_METRIC)
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+
+  private static String responseModel(ChatResponse chatResponse, String requestModel) {
+    if (chatResponse != null
+        && chatResponse.getMetadata() != null
+        && StringUtils.hasText(chatResponse.getMetadata().getModel())) {
+      return chatResponse.getMetadata().getModel();
+    }
+    return requestModel;
+  }
+
+  private static boolean hasText(ChatClientResponse response) {
+    ChatResponse chatResponse = response.chatResponse();
+    return chatResponse != null
+        && chatResponse.getResult() != null
+        && StringUtils.hasText(chatResponse.getResult().getOutput().getText());
+  }
+
+  private static boolean hasUsage(ChatResponse chatResponse) {
+    return chatResponse != null
+        && chatResponse.getMetadata() != null
+        && chatResponse.getMetadata().getUsage() != null
+        && chatResponse.getMetadata().getUsage().getTotalTokens() != null
+        && chatResponse.getMetadata().getUsage().getTotalTokens() > 0;
+  }
+
+  private static double toCount(Integer tokens) {
+    return tokens != null ? tokens : 0;
+  }
+
+  /** 모델 호출 직전에 위치하여 실제 모델 호출 횟수를 세는 Advisor */
+  public static class AttemptCountingAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private AttemptCountingAdvisor() {}
+
+    @Override
+    public String getName() {
+      return this.getClass().getSimpleName();
+    }
+
+    /** 모델을 호출하는 ChatModelCallAdvisor(LOWEST_PRECEDENCE) 바로 앞에서 실행됩니다. */
+    @Override
+    public int getOrder() {
+      return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(
+        ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+      countAttempt(chatClientRequest);
+      return callAdvisorChain.nextCall(chatClientRequest);
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(
+        ChatClientRequest chatClientRequest, StreamAdvisorChain streamAdvisorChain) {
+      countAttempt(chatClientRequest);
+      return streamAdvisorChain.nextStream(chatClientRequest);
+    }
+
+    private void countAttempt(ChatClientRequest chatClientRequest) {
+      if (chatClientRequest.context().get(ATTEMPTS_KEY) instanceof AtomicInteger attempts) {
+        attempts.incrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.swygbro.airoad.backend.ai.common.agent;
+
+import java.util.UUID;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+
+import lombok.Getter;
+
+/**
+ * 진행 중인 에이전트 실행 하나를 나타내는 핸들
+ *
+ * <p>취소는 협력적으로 동작합니다. 에이전트는 일차 생성, 도구 호출 등 작업 단위 사이에서 {@link #throwIfCancelled()}를 호출하여 취소 여부를
+ * 확인해야 합니다.
+ */
+@Getter
+public class AgentExecution {
+
+  /** 도구 호출 시 ToolContext에서 실행 핸들을 식별하는 키 */
+  public static final String TOOL_CONTEXT_KEY = "AGENT_EXECUTION";
+
+  private final String id = UUID.randomUUID().toString();
+  private final AgentType agentType;
+  private final String username;
+  private final Long chatRoomId;
+
+  private volatile boolean cancelled;
+  private volatile String cancelReason;
+
+  AgentExecution(AgentType agentType, String username, Long chatRoomId) {
+    this.agentType = agentType;
+    this.username = username;
+    this.chatRoomId = chatRoomId;
+  }
+
+  /**
+   * 실행 취소를 요청합니다.
+   *
+   * @param reason 취소 사유
+   */
+  public void cancel(String reason) {
+    this.cancelReason = reason;
+    this.cancelled = true;
+  }
+
+  /**
+   * 취소가 요청되었으면 예외를 발생시킵니다.
+   *
+   * @throws BusinessException AI007 - 실행이 취소된 경우
+   */
+  public void throwIfCancelled() {
+    if (cancelled) {
+      throw new BusinessException(
+          AiErrorCode.AGENT_EXECUTION_CANCELLED, "에이전트 실행이 취소되었습니다: " + cancelReason);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.swygbro.airoad.backend.ai.common.agent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중인 에이전트 실행과 사용자의 WebSocket 세션을 관리하는 레지스트리
+ *
+ * <p>세션마다 구독 중인 채팅방을 기록하고, 세션이 종료되면 그 세션이 보던 채팅방의 실행만 취소 대상으로 봅니다. 취소는 유예 시간 뒤에 다시
+ * 확인하여, 그 사이 같은 사용자의 다른 세션이 해당 채팅방을 구독하고 있으면 실행을 유지합니다. 따라서 탭 하나를 닫거나 페이지를 새로고침해도 다른
+ * 채팅방이나 다시 연결된 채팅방의 생성 작업은 계속됩니다.
+ *
+ * <p>채팅방을 구독하지 않은 세션이 사용자의 마지막 세션이었다면, 유예 시간 뒤에도 아무도 구독하지 않는 채팅방의 실행을 모두 취소합니다.
+ */
+@Slf4j
+@Component
+public class AgentExecutionRegistry {
+
+  static final String DISCONNECT_REASON = "WebSocket 연결 종료";
+
+  private final Map<String, WatchingSession> sessions = new ConcurrentHashMap<>();
+  private final Map<String, AgentExecution> executions = new ConcurrentHashMap<>();
+  private final TaskScheduler taskScheduler;
+  private final Duration gracePeriod;
+
+  public AgentExecutionRegistry(
+      @Qualifier("wsHeartbeatScheduler") TaskScheduler taskScheduler,
+      @Value("${spring.ai.agent.disconnect-grace-period-ms:10000}") long gracePeriodMs) {
+    this.taskScheduler = taskScheduler;
+    this.gracePeriod = Duration.ofMillis(gracePeriodMs);
+  }
+
+  /**
+   * 에이전트 실행을 등록합니다. 실행이 끝나면 반드시 {@link #finish(AgentExecution)}를 호출해야 합니다.
+   *
+   * @param agentType 에이전트 타입
+   * @param username 사용자 이름 (이메일)
+   * @param chatRoomId 채팅방 ID
+   * @return 실행 핸들
+   */
+  public AgentExecution start(AgentType agentType, String username, Long chatRoomId) {
+    AgentExecution execution = new AgentExecution(agentType, username, chatRoomId);
+    executions.put(execution.getId(), execution);
+    log.debug(
+        "에이전트 실행 등록 - {}, username: {}, chatRoomId: {}", agentType, username, chatRoomId);
+    return execution;
+  }
+
+  /**
+   * 에이전트 실행 등록을 해제합니다.
+   *
+   * @param execution 실행 핸들
+   */
+  public void finish(AgentExecution execution) {
+    executions.remove(execution.getId());
+  }
+
+  /**
+   * 사용자의 WebSocket 세션을 등록합니다.
+   *
+   * @param username 사용자 이름 (이메일)
+   * @param sessionId WebSocket 세션 ID
+   */
+  public void registerSession(String username, String sessionId) {
+    sessions.putIfAbsent(sessionId, new WatchingSession(username));
+  }
+
+  /**
+   * 세션이 채팅방 채널을 구독했음을 기록합니다.
+   *
+   * @param username 사용자 이름 (이메일)
+   * @param sessionId WebSocket 세션 ID
+   * @param chatRoomId 구독한 채팅방 ID
+   */
+  public void watchChatRoom(String username, String sessionId, Long chatRoomId) {
+    sessions
+        .computeIfAbsent(sessionId, key -> new WatchingSession(username))
+        .chatRoomIds()
+        .add(chatRoomId);
+  }
+
+  /**
+   * 사용자의 WebSocket 세션을 해제하고, 이 세션이 보던 채팅방의 실행을 유예 시간 뒤에 취소합니다.
+   *
+   * <p>등록되지 않았거나 이미 해제된 세션이면 아무 작업도 하지 않습니다.
+   *
+   * @param username 사용자 이름 (이메일)
+   * @param sessionId WebSocket 세션 ID
+   */
+  public void unregisterSession(String username, String sessionId) {
+    WatchingSession closed = sessions.remove(sessionId);
+    if (closed == null) {
+      log.debug("등록되지 않은 세션 해제 무시 - username: {}, sessionId: {}", username, sessionId);
+      return;
+    }
+
+    List<AgentExecution> candidates =
+        executions.values().stream()
+            .filter(execution -> execution.getUsername().equals(username))
+            .toList();
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    if (gracePeriod.isZero()) {
+      cancelUnwatched(username, closed, candidates);
+    } else {
+      taskScheduler.schedule(
+          () -> cancelUnwatched(username, closed, candidates), Instant.now().plus(gracePeriod));
+    }
+  }
+
+  /**
+   * 종료된 세션과 관련된 실행 중 아무 세션도 구독하지 않는 채팅방의 실행을 취소합니다.
+   *
+   * @param username 사용자 이름 (이메일)
+   * @param closed 종료된 세션
+   * @param candidates 세션 종료 시점에 진행 중이던 사용자의 실행
+   * @return 취소된 실행 목록
+   */
+  List<AgentExecution> cancelUnwatched(
+      String username, WatchingSession closed, List<AgentExecution> candidates) {
+    boolean noSessionLeft =
+        sessions.values().stream().noneMatch(session -> session.username().equals(username));
+
+    List<AgentExecution> cancelled =
+        candidates.stream()
+            .filter(execution -> executions.containsKey(execution.getId()))
+            .filter(
+                execution ->
+                    closed.chatRoomIds().contains(execution.getChatRoomId()) || noSessionLeft)
+            .filter(execution -> !isWatched(username, execution.getChatRoomId()))
+            .toList();
+    cancelled.forEach(execution -> execution.cancel(DISCONNECT_REASON));
+
+    if (!cancelled.isEmpty()) {
+      log.info("WebSocket 연결 종료로 에이전트 실행 {}건 취소 - username: {}", cancelled.size(), username);
+    }
+    return cancelled;
+  }
+
+  private boolean isWatched(String username, Long chatRoomId) {
+    return sessions.values().stream()
+        .anyMatch(
+            session ->
+                session.username().equals(username) && session.chatRoomIds().contains(chatRoomId));
+  }
+
+  /**
+   * 연결된 WebSocket 세션과 구독 중인 채팅방
+   *
+   * @param username 사용자 이름 (이메일)
+   * @param chatRoomIds 구독 중인 채팅방 ID
+   */
+  record WatchingSession(String username, Set<Long> chatRoomIds) {
+
+    WatchingSession(String username) {
+      this(username, ConcurrentHashMap.newKeySet());
+    }
+  }
+}
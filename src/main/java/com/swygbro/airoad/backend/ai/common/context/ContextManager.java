@@ -1,13 +1,21 @@
 package com.swygbro.airoad.backend.ai.common.context;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
@@ -17,31 +25,62 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 모든 ContextProvider를 관리하고 컨텍스트를 조합하는 매니저
  *
- * <p>등록된 Provider들을 타입별로 그룹화하여 효율적으로 컨텍스트를 생성합니다.
+ * <p>등록된 Provider들을 타입별로 그룹화하고 Order 순으로 미리 정렬해 두어 효율적으로 컨텍스트를 생성합니다.
+ *
+ * <p>병렬 모드에서는 모든 Provider를 동시에 실행하고 Provider별 제한 시간을 적용합니다. 실패하거나 제한 시간을 초과한 Provider는 {@link
+ * ContextProvider#getFallbackContext(Object)}로 대체되며, 결과는 순차 모드와 동일한 순서로 조합됩니다. 제한 시간을 초과한 Provider
+ * 작업은 인터럽트하여 Executor 스레드를 반환합니다.
  */
 @Slf4j
 @Component
 public class ContextManager {
 
   private final Map<Class<?>, List<ContextProvider<?>>> providersByType;
+  private final Executor contextExecutor;
+  private final boolean parallel;
+  private final Duration defaultTimeout;
 
   /**
-   * Spring이 자동 주입한 모든 ContextProvider를 타입별로 그룹화합니다.
+   * Spring이 자동 주입한 모든 ContextProvider를 타입별로 그룹화하고 Order 순으로 정렬합니다.
    *
    * @param providers 모든 ContextProvider 구현체들
+   * @param contextExecutor 병렬 모드에서 Provider를 실행할 Executor
+   * @param parallel 병렬 모드 사용 여부
+   * @param defaultTimeoutMillis Provider별 기본 제한 시간 (ms)
    */
-  public ContextManager(List<ContextProvider<?>> providers) {
+  public ContextManager(
+      List<ContextProvider<?>> providers,
+      @Qualifier("contextExecutor") Executor contextExecutor,
+      @Value("${spring.ai.context.parallel:true}") boolean parallel,
+      @Value("${spring.ai.context.provider-timeout:10000}") long defaultTimeoutMillis) {
     this.providersByType =
-        providers.stream().collect(Collectors.groupingBy(ContextProvider::getSupportedType));
+        providers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    ContextProvider::getSupportedType,
+                    HashMap::new,
+                    Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        list ->
+                            list.stream()
+                                .sorted(Comparator.comparingInt(ContextProvider::getOrder))
+                                .toList())));
+    this.contextExecutor = contextExecutor;
+    this.parallel = parallel;
+    this.defaultTimeout = Duration.ofMillis(defaultTimeoutMillis);
 
     log.info(
-        "ContextManager 초기화 완료 - {} 개 타입, {} 개 Provider", providersByType.size(), providers.size());
+        "ContextManager 초기화 완료 - {} 개 타입, {} 개 Provider, 병렬 모드: {}",
+        providersByType.size(),
+        providers.size(),
+        parallel);
   }
 
   /**
    * 주어진 데이터들로부터 컨텍스트를 구성합니다.
    *
-   * <p>각 데이터에 대해 해당 타입을 지원하는 Provider를 찾아 컨텍스트를 생성하고, Order 순서대로 정렬하여 반환합니다.
+   * <p>각 데이터에 대해 해당 타입을 지원하는 Provider를 찾아 컨텍스트를 생성하고, 데이터 순서와 Provider의 Order 순서대로 조합하여
+   * 반환합니다.
    *
    * @param data 컨텍스트 생성에 필요한 데이터들 (가변 인자)
    * @return 조합된 메타데이터 엔트리 리스트
@@ -50,25 +89,118 @@ public class ContextManager {
     log.debug("컨텍스트 구성 시작 - {} 개 데이터", data.length);
 
     List<MetadataEntry> result =
+        parallel ? buildContextInParallel(data) : buildContextSequentially(data);
+
+    log.debug("컨텍스트 구성 완료 - {} 개 메타데이터 엔트리", result.size());
+    return result;
+  }
+
+  /**
+   * 변하지 않는 데이터의 컨텍스트를 미리 생성해 두는 세션을 엽니다.
+   *
+   * <p>여러 번의 AI 호출에서 동일하게 사용되는 컨텍스트(프롬프트 템플릿, 벡터 검색 결과 등)를 한 번만 생성하기 위해 사용합니다.
+   *
+   * @param invariantData 세션 동안 변하지 않는 데이터들 (가변 인자)
+   * @return 컨텍스트 세션
+   */
+  public ContextSession openSession(Object... invariantData) {
+    List<Object> sessionData = Arrays.stream(invariantData).filter(Objects::nonNull).toList();
+
+    Map<Object, List<MetadataEntry>> invariantContexts = new HashMap<>();
+    if (parallel) {
+      List<List<PendingContext>> pending = sessionData.stream().map(this::submitContext).toList();
+      for (int i = 0; i < sessionData.size(); i++) {
+        invariantContexts.put(sessionData.get(i), joinAll(pending.get(i)));
+      }
+    } else {
+      sessionData.forEach(d -> invariantContexts.put(d, collectContext(d)));
+    }
+
+    log.debug("컨텍스트 세션 생성 - {} 개 고정 데이터", invariantContexts.size());
+    return new ContextSession(this, invariantContexts);
+  }
+
+  private List<MetadataEntry> buildContextSequentially(Object... data) {
+    return Arrays.stream(data)
+        .filter(Objects::nonNull)
+        .flatMap(d -> collectContext(d).stream())
+        .toList();
+  }
+
+  private List<MetadataEntry> buildContextInParallel(Object... data) {
+    // 모든 Provider를 먼저 제출한 뒤, 제출 순서대로 결과를 합쳐 순서를 보장
+    List<PendingContext> pending =
         Arrays.stream(data)
             .filter(Objects::nonNull)
-            .flatMap(d -> collectContext(d.getClass(), d).stream())
+            .flatMap(d -> submitContext(d).stream())
             .toList();
 
-    log.debug("컨텍스트 구성 완료 - {} 개 메타데이터 엔트리", result.size());
-    return result;
+    return joinAll(pending);
   }
 
   /**
-   * 특정 타입의 데이터에 대한 컨텍스트를 수집합니다.
+   * 특정 데이터에 대한 컨텍스트를 순차적으로 수집합니다.
    *
-   * @param dataType 데이터 타입
    * @param data 실제 데이터
-   * @param <T> 데이터 타입 파라미터
    * @return 수집된 메타데이터 엔트리 리스트
    */
-  @SuppressWarnings("unchecked")
-  private <T> List<MetadataEntry> collectContext(Class<?> dataType, T data) {
+  private List<MetadataEntry> collectContext(Object data) {
+    return findProviders(data).stream().flatMap(p -> runProvider(p, data).stream()).toList();
+  }
+
+  /**
+   * 특정 데이터를 지원하는 Provider들을 Executor에 제출합니다.
+   *
+   * @param data 실제 데이터
+   * @return Provider 순서대로 정렬된 실행 결과
+   */
+  private List<PendingContext> submitContext(Object data) {
+    return findProviders(data).stream()
+        .map(
+            provider -> {
+              Duration timeout = provider.getTimeout().orElse(defaultTimeout);
+              FutureTask<List<MetadataEntry>> task =
+                  new FutureTask<>(() -> runProvider(provider, data));
+              contextExecutor.execute(task);
+              return new PendingContext(
+                  provider, data, task, System.nanoTime() + timeout.toNanos(), timeout);
+            })
+        .toList();
+  }
+
+  private List<MetadataEntry> joinAll(List<PendingContext> pending) {
+    return pending.stream().flatMap(pending -> await(pending).stream()).toList();
+  }
+
+  /**
+   * 제출된 Provider의 결과를 제한 시간까지 기다립니다.
+   *
+   * <p>제한 시간은 제출 시점부터 계산하므로 앞선 Provider를 기다린 시간만큼 줄어듭니다. 제한 시간을 초과하면 작업을 인터럽트하고 대체 컨텍스트를
+   * 반환합니다.
+   *
+   * @param pending 제출된 Provider 작업
+   * @return 생성된 메타데이터 엔트리 리스트
+   */
+  private List<MetadataEntry> await(PendingContext pending) {
+    try {
+      long remaining = Math.max(0, pending.deadlineNanos() - System.nanoTime());
+      return pending.task().get(remaining, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (TimeoutException | ExecutionException e) {
+      // 다음 처리로 진행
+    }
+
+    pending.task().cancel(true);
+    log.warn(
+        "  ✗ {} - 제한 시간({}ms) 초과 또는 실행 실패, 대체 컨텍스트 사용",
+        pending.provider().getClass().getSimpleName(),
+        pending.timeout().toMillis());
+    return fallback(pending.provider(), pending.data());
+  }
+
+  private List<ContextProvider<?>> findProviders(Object data) {
+    Class<?> dataType = data.getClass();
     List<ContextProvider<?>> providers = providersByType.get(dataType);
 
     if (providers == null || providers.isEmpty()) {
@@ -77,23 +209,50 @@ public class ContextManager {
     }
 
     log.debug("타입 {}에 대해 {} 개 Provider 실행", dataType.getSimpleName(), providers.size());
+    return providers;
+  }
 
-    return providers.stream()
-        .sorted(Comparator.comparingInt(ContextProvider::getOrder))
-        .flatMap(
-            provider -> {
-              try {
-                ContextProvider<T> typedProvider = (ContextProvider<T>) provider;
-                List<MetadataEntry> entries = typedProvider.getContext(data);
-                log.debug(
-                    "  ↳ {} - {} 개 엔트리 생성", provider.getClass().getSimpleName(), entries.size());
-                return entries.stream();
-              } catch (Exception e) {
-                log.warn(
-                    "  ✗ {} - 컨텍스트 생성 실패: {}", provider.getClass().getSimpleName(), e.getMessage());
-                return Stream.empty();
-              }
-            })
-        .toList();
+  /**
+   * Provider를 실행하고, 실패 시 대체 컨텍스트를 반환합니다.
+   *
+   * @param provider 실행할 Provider
+   * @param data 실제 데이터
+   * @return 생성된 메타데이터 엔트리 리스트
+   */
+  private List<MetadataEntry> runProvider(ContextProvider<?> provider, Object data) {
+    try {
+      List<MetadataEntry> entries = provider.getContext(data);
+      log.debug("  ↳ {} - {} 개 엔트리 생성", provider.getClass().getSimpleName(), entries.size());
+      return entries;
+    } catch (Exception e) {
+      log.warn("  ✗ {} - 컨텍스트 생성 실패: {}", provider.getClass().getSimpleName(), e.getMessage());
+      return fallback(provider, data);
+    }
+  }
+
+  private List<MetadataEntry> fallback(ContextProvider<?> provider, Object data) {
+    try {
+      return provider.getFallbackContext(data);
+    } catch (Exception e) {
+      log.warn(
+          "  ✗ {} - 대체 컨텍스트 생성 실패: {}", provider.getClass().getSimpleName(), e.getMessage());
+      return List.of();
+    }
   }
+
+  /**
+   * Executor에 제출된 Provider 작업
+   *
+   * @param provider 실행 중인 Provider
+   * @param data 실제 데이터
+   * @param task 인터럽트 가능한 Provider 작업
+   * @param deadlineNanos 제한 시각 ({@link System#nanoTime()} 기준)
+   * @param timeout Provider 제한 시간
+   */
+  private record PendingContext(
+      ContextProvider<?> provider,
+      Object data,
+      FutureTask<List<MetadataEntry>> task,
+      long deadlineNanos,
+      Duration timeout) {}
 }
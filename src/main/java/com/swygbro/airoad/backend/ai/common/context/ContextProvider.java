@@ -1,6 +1,8 @@
 package com.swygbro.airoad.backend.ai.common.context;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
 
@@ -34,4 +36,25 @@ public interface ContextProvider<T> {
    * @return 순서 값 (음수일수록 우선순위 높음)
    */
   int getOrder();
+
+  /**
+   * 병렬 모드에서 이 Provider에 허용되는 최대 실행 시간을 반환합니다.
+   *
+   * <p>비어 있으면 ContextManager의 기본 제한 시간을 사용합니다.
+   *
+   * @return Provider별 제한 시간
+   */
+  default Optional<Duration> getTimeout() {
+    return Optional.empty();
+  }
+
+  /**
+   * 컨텍스트 생성이 실패하거나 제한 시간을 초과했을 때 대신 사용할 컨텍스트를 반환합니다.
+   *
+   * @param data 컨텍스트 생성에 필요한 데이터
+   * @return 대체 메타데이터 엔트리 리스트 (기본값: 빈 리스트)
+   */
+  default List<MetadataEntry> getFallbackContext(Object data) {
+    return List.of();
+  }
 }
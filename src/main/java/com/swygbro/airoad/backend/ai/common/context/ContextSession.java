@@ -0,0 +1,54 @@
+package com.swygbro.airoad.backend.ai.common.context;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하나의 생성 작업 동안 변하지 않는 컨텍스트를 재사용하는 세션
+ *
+ * <p>세션을 열 때 전달한 데이터의 컨텍스트는 한 번만 생성되어 보관되고, 이후 {@link #buildContext(Object...)} 호출 시 보관된 결과를
+ * 그대로 사용합니다. 세션에 없는 데이터만 매 호출마다 Provider를 실행합니다.
+ *
+ * <p>보관된 결과는 불변이므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+@Slf4j
+public class ContextSession {
+
+  private final ContextManager contextManager;
+  private final Map<Object, List<MetadataEntry>> invariantContexts;
+
+  ContextSession(ContextManager contextManager, Map<Object, List<MetadataEntry>> invariantContexts) {
+    this.contextManager = contextManager;
+    this.invariantContexts = Map.copyOf(invariantContexts);
+  }
+
+  /**
+   * 주어진 데이터들로부터 컨텍스트를 구성합니다.
+   *
+   * <p>데이터 순서는 {@link ContextManager#buildContext(Object...)}와 동일하게 유지되며, 세션에 보관된 데이터는 Provider를 다시
+   * 실행하지 않습니다.
+   *
+   * @param data 컨텍스트 생성에 필요한 데이터들 (가변 인자)
+   * @return 조합된 메타데이터 엔트리 리스트
+   */
+  public List<MetadataEntry> buildContext(Object... data) {
+    List<MetadataEntry> result =
+        Arrays.stream(data)
+            .filter(Objects::nonNull)
+            .flatMap(
+                d -> {
+                  List<MetadataEntry> cached = invariantContexts.get(d);
+                  return (cached != null ? cached : contextManager.buildContext(d)).stream();
+                })
+            .toList();
+
+    log.debug("세션 컨텍스트 구성 완료 - {} 개 메타데이터 엔트리", result.size());
+    return result;
+  }
+}
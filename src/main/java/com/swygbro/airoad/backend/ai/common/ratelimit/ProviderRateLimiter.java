@@ -0,0 +1,109 @@
+package com.swygbro.airoad.backend.ai.common.ratelimit;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 프로바이더별 요청 속도 제한기
+ *
+ * <p>프로바이더의 분당 요청 한도를 토큰 버킷(Guava RateLimiter)으로 관리합니다. 같은 프로바이더를 호출하는 모든 스레드가 하나의 버킷을 공유하므로,
+ * 작업자 수를 늘려도 한도를 넘지 않습니다. 토큰을 기다린 시간은 {@value #WAIT_METRIC} 메트릭으로 기록됩니다.
+ *
+ * <p>배치 작업용 버킷({@link Provider#NAVER_EMBEDDING_BATCH})은 자신의 버킷과 상위 버킷의 토큰을 모두 획득합니다. 배치 한도는 전체
+ * 한도에서 대화형 예약 비율({@code spring.ai.naver.embedding.interactive-reserve-ratio})만큼을 뺀 값이며, 그만큼은 항상 검색
+ * 질의 같은 대화형 호출 몫으로 남습니다. 대화형 호출은 배치가 없을 때 전체 한도를 그대로 사용합니다.
+ *
+ * <p>장소 한 곳을 다시 임베딩하려면 요약(NAVER_CHAT) 한 번과 임베딩(NAVER_EMBEDDING_BATCH) 한 번이 필요하므로, 재임베딩 처리량은 작업자
+ * 수와 관계없이 두 한도 중 작은 값(분당 장소 수)을 넘지 않습니다. 작업자 수({@code max-concurrency})는 분당 한도 × 호출 시간(분)만큼이면
+ * 충분합니다.
+ */
+@Slf4j
+@Component
+public class ProviderRateLimiter {
+
+  public static final String WAIT_METRIC = "airoad.ai.rate-limit.wait";
+
+  /** 요청 속도를 제한할 프로바이더 API */
+  public enum Provider {
+    NAVER_CHAT(null),
+    NAVER_EMBEDDING(null),
+    /** 장소 임베딩 배치 (NAVER_EMBEDDING 한도를 함께 사용) */
+    NAVER_EMBEDDING_BATCH(NAVER_EMBEDDING);
+
+    private final Provider parent;
+
+    Provider(Provider parent) {
+      this.parent = parent;
+    }
+  }
+
+  private final Map<Provider, RateLimiter> rateLimiters = new EnumMap<>(Provider.class);
+  private final Map<Provider, Timer> waitTimers = new EnumMap<>(Provider.class);
+
+  /**
+   * 프로바이더별 토큰 버킷을 생성합니다.
+   *
+   * @param naverChatRequestsPerMinute Naver CLOVA 채팅 분당 요청 한도
+   * @param naverEmbeddingRequestsPerMinute Naver CLOVA 임베딩 전체 분당 요청 한도
+   * @param interactiveReserveRatio 임베딩 전체 한도 중 대화형 호출 몫으로 남겨 둘 비율 (0 이상 1 미만)
+   * @param meterRegistry 메트릭 레지스트리
+   * @throws IllegalArgumentException 예약 비율이 범위를 벗어난 경우
+   */
+  public ProviderRateLimiter(
+      @Value("${spring.ai.naver.chat.requests-per-minute:55}") double naverChatRequestsPerMinute,
+      @Value("${spring.ai.naver.embedding.requests-per-minute:55}")
+          double naverEmbeddingRequestsPerMinute,
+      @Value("${spring.ai.naver.embedding.interactive-reserve-ratio:0.1}")
+          double interactiveReserveRatio,
+      MeterRegistry meterRegistry) {
+    if (interactiveReserveRatio < 0 || interactiveReserveRatio >= 1) {
+      throw new IllegalArgumentException(
+          "interactive-reserve-ratio must be in [0, 1): " + interactiveReserveRatio);
+    }
+    double naverEmbeddingBatchRequestsPerMinute =
+        naverEmbeddingRequestsPerMinute * (1 - interactiveReserveRatio);
+
+    register(Provider.NAVER_CHAT, naverChatRequestsPerMinute, meterRegistry);
+    register(Provider.NAVER_EMBEDDING, naverEmbeddingRequestsPerMinute, meterRegistry);
+    register(Provider.NAVER_EMBEDDING_BATCH, naverEmbeddingBatchRequestsPerMinute, meterRegistry);
+
+    log.info(
+        "장소 재임베딩 예상 처리량 - 분당 최대 {}곳 (요약 분당 {}회, 배치 임베딩 분당 {}회)",
+        Math.min(naverChatRequestsPerMinute, naverEmbeddingBatchRequestsPerMinute),
+        naverChatRequestsPerMinute,
+        naverEmbeddingBatchRequestsPerMinute);
+  }
+
+  /**
+   * 프로바이더 호출 토큰을 획득합니다. 토큰이 없으면 다음 토큰이 채워질 때까지 대기합니다.
+   *
+   * <p>상위 버킷이 있는 프로바이더는 자신의 토큰을 얻은 뒤 상위 버킷의 토큰도 획득합니다.
+   *
+   * @param provider 호출할 프로바이더 API
+   */
+  public void acquire(Provider provider) {
+    double waitedSeconds = rateLimiters.get(provider).acquire();
+    if (provider.parent != null) {
+      waitedSeconds += rateLimiters.get(provider.parent).acquire();
+    }
+    waitTimers.get(provider).record(Duration.ofNanos((long) (waitedSeconds * 1_000_000_000)));
+  }
+
+  private void register(Provider provider, double requestsPerMinute, MeterRegistry meterRegistry) {
+    rateLimiters.put(provider, RateLimiter.create(requestsPerMinute / 60.0));
+    waitTimers.put(
+        provider,
+        Timer.builder(WAIT_METRIC).tag("provider", provider.name()).register(meterRegistry));
+    log.info("프로바이더 요청 한도 설정 - {}: 분당 {}회", provider, requestsPerMinute);
+  }
+}
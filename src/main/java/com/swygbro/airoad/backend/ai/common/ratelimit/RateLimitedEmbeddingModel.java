@@ -0,0 +1,63 @@
+package com.swygbro.airoad.backend.ai.common.ratelimit;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter.Provider;
+
+/**
+ * 임베딩 API 호출마다 프로바이더 토큰을 획득하는 EmbeddingModel 데코레이터
+ *
+ * <p>VectorStore 저장과 검색 질의 임베딩이 모두 이 모델을 거칩니다. 검색 질의({@link #embed(String)})는 질의용 프로바이더 토큰을,
+ * 문서 저장({@link #call(EmbeddingRequest)}, {@link #embed(Document)})은 배치용 프로바이더 토큰을 획득하므로 대량 재임베딩
+ * 중에도 검색 질의 몫의 한도가 남습니다.
+ */
+public class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+  private final EmbeddingModel delegate;
+  private final ProviderRateLimiter rateLimiter;
+  private final Provider queryProvider;
+  private final Provider documentProvider;
+
+  /**
+   * @param delegate 실제 임베딩 모델
+   * @param rateLimiter 프로바이더별 요청 속도 제한기
+   * @param queryProvider 검색 질의 임베딩에 사용할 프로바이더 버킷
+   * @param documentProvider 문서 저장 임베딩에 사용할 프로바이더 버킷
+   */
+  public RateLimitedEmbeddingModel(
+      EmbeddingModel delegate,
+      ProviderRateLimiter rateLimiter,
+      Provider queryProvider,
+      Provider documentProvider) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+    this.queryProvider = queryProvider;
+    this.documentProvider = documentProvider;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    rateLimiter.acquire(queryProvider);
+    return delegate.embed(text);
+  }
+
+  @Override
+  public EmbeddingResponse call(EmbeddingRequest request) {
+    rateLimiter.acquire(documentProvider);
+    return delegate.call(request);
+  }
+
+  @Override
+  public float[] embed(Document document) {
+    rateLimiter.acquire(documentProvider);
+    return delegate.embed(document);
+  }
+
+  @Override
+  public int dimensions() {
+    return delegate.dimensions();
+  }
+}
@@ -0,0 +1,62 @@
+package com.swygbro.airoad.backend.ai.common.tool;
+
+import java.util.Arrays;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecution;
+
+/**
+ * 에이전트 실행이 취소되었으면 도구를 실행하지 않는 ToolCallback 데코레이터
+ *
+ * <p>ToolContext의 {@link AgentExecution#TOOL_CONTEXT_KEY}에 담긴 실행 핸들을 도구 호출 직전에 확인합니다. 취소 예외는
+ * ToolExecutionException이 아니므로 모델에 전달되지 않고 호출 전체가 중단됩니다.
+ */
+public class CancellableToolCallback implements ToolCallback {
+
+  private final ToolCallback delegate;
+
+  private CancellableToolCallback(ToolCallback delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * 주어진 도구들을 취소 확인 도구로 감쌉니다.
+   *
+   * @param toolCallbacks 감쌀 도구들
+   * @return 취소 여부를 확인하는 도구 배열
+   */
+  public static ToolCallback[] wrap(ToolCallback... toolCallbacks) {
+    return Arrays.stream(toolCallbacks)
+        .map(CancellableToolCallback::new)
+        .toArray(ToolCallback[]::new);
+  }
+
+  @Override
+  public ToolDefinition getToolDefinition() {
+    return delegate.getToolDefinition();
+  }
+
+  @Override
+  public ToolMetadata getToolMetadata() {
+    return delegate.getToolMetadata();
+  }
+
+  @Override
+  public String call(String toolInput) {
+    return call(toolInput, null);
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    if (toolContext != null
+        && toolContext.getContext().get(AgentExecution.TOOL_CONTEXT_KEY)
+            instanceof AgentExecution execution) {
+      execution.throwIfCancelled();
+    }
+    return delegate.call(toolInput, toolContext);
+  }
+}
@@ -0,0 +1,92 @@
+package com.swygbro.airoad.backend.ai.common.tool;
+
+import java.util.Arrays;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 도구 호출 횟수를 Micrometer 메트릭으로 기록하는 ToolCallback 데코레이터
+ *
+ * <p>도구 호출은 ChatModel 내부에서 실행되어 Advisor에서는 관찰할 수 없으므로, 도구 자체를 감싸 호출 횟수를 기록합니다.
+ */
+public class MeteredToolCallback implements ToolCallback {
+
+  public static final String TOOL_CALLS_METRIC = "airoad.ai.tool.calls";
+
+  private final ToolCallback delegate;
+  private final MeterRegistry meterRegistry;
+  private final String agent;
+  private final String model;
+
+  private MeteredToolCallback(
+      ToolCallback delegate, MeterRegistry meterRegistry, AgentType agentType, String model) {
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.agent = agentType.name();
+    this.model = model;
+  }
+
+  /**
+   * 주어진 도구들을 메트릭 기록 도구로 감쌉니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @param agentType 도구를 사용하는 에이전트 타입
+   * @param model 도구를 호출하는 모델 이름 (채팅 모델 기본 옵션의 모델)
+   * @param toolCallbacks 감쌀 도구들
+   * @return 메트릭을 기록하는 도구 배열
+   */
+  public static ToolCallback[] wrap(
+      MeterRegistry meterRegistry,
+      AgentType agentType,
+      String model,
+      ToolCallback... toolCallbacks) {
+    return Arrays.stream(toolCallbacks)
+        .map(tool -> new MeteredToolCallback(tool, meterRegistry, agentType, model))
+        .toArray(ToolCallback[]::new);
+  }
+
+  @Override
+  public ToolDefinition getToolDefinition() {
+    return delegate.getToolDefinition();
+  }
+
+  @Override
+  public ToolMetadata getToolMetadata() {
+    return delegate.getToolMetadata();
+  }
+
+  @Override
+  public String call(String toolInput) {
+    return call(toolInput, null);
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    try {
+      String result = delegate.call(toolInput, toolContext);
+      count("success");
+      return result;
+    } catch (RuntimeException e) {
+      count("error");
+      throw e;
+    }
+  }
+
+  private void count(String outcome) {
+    Counter.builder(TOOL_CALLS_METRIC)
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("tool", delegate.getToolDefinition().name())
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -0,0 +1,45 @@
+package com.swygbro.airoad.backend.ai.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.swygbro.airoad.backend.common.config.AsyncConfig;
+
+/**
+ * AI 작업 전용 스레드 풀 설정
+ *
+ * <p>공용 비동기 스레드 풀(taskExecutor)과 분리하여, AI 작업의 지연이 다른 비동기 작업에 영향을 주지 않도록 합니다.
+ */
+@Configuration
+public class AiExecutorConfig {
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  /**
+   * 컨텍스트 Provider 병렬 실행용 스레드 풀을 생성합니다.
+   *
+   * <p>Provider는 DB 조회, 임베딩 API 호출 등 I/O-bound 작업이므로 코어 수보다 넉넉하게 설정합니다. 큐가 가득 차면 호출 스레드에서 직접
+   * 실행하여 컨텍스트가 누락되지 않도록 합니다. 가상 스레드 모드에서는 동시 실행 한도를 64로 확장합니다.
+   *
+   * @return 컨텍스트 생성용 ThreadPoolTaskExecutor
+   */
+  @Bean("contextExecutor")
+  public ThreadPoolTaskExecutor contextExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(16);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("ai-context-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    if (virtualThreads) {
+      AsyncConfig.useVirtualThreads(executor, 64);
+    }
+    executor.initialize();
+    return executor;
+  }
+}
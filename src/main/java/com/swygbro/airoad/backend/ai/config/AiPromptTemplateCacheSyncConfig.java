@@ -0,0 +1,31 @@
+package com.swygbro.airoad.backend.ai.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.swygbro.airoad.backend.ai.application.query.AiPromptTemplateCache;
+
+/**
+ * 활성 프롬프트 템플릿 캐시의 서버 간 동기화 설정
+ *
+ * <p>다른 인스턴스에서 템플릿이 변경되면 Redis Pub/Sub 메시지를 수신하여 로컬 캐시를 무효화합니다.
+ */
+@Configuration
+@Profile("!test")
+public class AiPromptTemplateCacheSyncConfig {
+
+  @Bean
+  public RedisMessageListenerContainer aiPromptTemplateCacheListenerContainer(
+      RedisConnectionFactory connectionFactory, AiPromptTemplateCache aiPromptTemplateCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        (message, pattern) -> aiPromptTemplateCache.invalidateAll(),
+        new ChannelTopic(AiPromptTemplateCache.INVALIDATION_CHANNEL));
+    return container;
+  }
+}
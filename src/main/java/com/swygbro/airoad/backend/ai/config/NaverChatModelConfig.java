@@ -1,6 +1,7 @@
 package com.swygbro.airoad.backend.ai.config;
 
 import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.OpenAiEmbeddingModel;
@@ -12,6 +13,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
 
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter;
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter.Provider;
+import com.swygbro.airoad.backend.ai.common.ratelimit.RateLimitedEmbeddingModel;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -58,8 +63,19 @@ public class NaverChatModelConfig {
         .build();
   }
 
+  /**
+   * Naver CLOVA 임베딩 모델을 생성합니다.
+   *
+   * <p>장소 임베딩 배치와 검색 질의가 같은 분당 요청 한도를 공유하도록 프로바이더 토큰 버킷으로 감쌉니다. 배치는 별도 버킷으로 한 번 더 제한하여
+   * 검색 질의 몫의 한도를 남겨 둡니다.
+   *
+   * @param embeddingRestClientBuilder 임베딩 전용 RestClient 빌더
+   * @param providerRateLimiter 프로바이더별 요청 속도 제한기
+   * @return 요청 속도가 제한된 임베딩 모델
+   */
   @Bean("naverEmbeddingModel")
-  public OpenAiEmbeddingModel naverEmbeddingModel(RestClient.Builder embeddingRestClientBuilder) {
+  public EmbeddingModel naverEmbeddingModel(
+      RestClient.Builder embeddingRestClientBuilder, ProviderRateLimiter providerRateLimiter) {
     OpenAiApi openAiApi =
         OpenAiApi.builder()
             .apiKey(apiKey)
@@ -69,14 +85,21 @@ public class NaverChatModelConfig {
             .embeddingsPath(embeddingsPath)
             .build();
 
-    return new OpenAiEmbeddingModel(
-        openAiApi,
-        MetadataMode.EMBED,
-        OpenAiEmbeddingOptions.builder()
-            .model(embeddingModel)
-            .dimensions(embeddingDimensions)
-            .encodingFormat(embeddingEncodingFormat)
-            .build(),
-        RetryUtils.DEFAULT_RETRY_TEMPLATE);
+    OpenAiEmbeddingModel openAiEmbeddingModel =
+        new OpenAiEmbeddingModel(
+            openAiApi,
+            MetadataMode.EMBED,
+            OpenAiEmbeddingOptions.builder()
+                .model(embeddingModel)
+                .dimensions(embeddingDimensions)
+                .encodingFormat(embeddingEncodingFormat)
+                .build(),
+            RetryUtils.DEFAULT_RETRY_TEMPLATE);
+
+    return new RateLimitedEmbeddingModel(
+        openAiEmbeddingModel,
+        providerRateLimiter,
+        Provider.NAVER_EMBEDDING,
+        Provider.NAVER_EMBEDDING_BATCH);
   }
 }
@@ -29,7 +29,12 @@ public class OpenAiChatModelConfig {
     return OpenAiChatModel.builder()
         .openAiApi(openAiApi)
         .defaultOptions(
-            OpenAiChatOptions.builder().model(model).temperature(0.3d).maxTokens(1500).build())
+            OpenAiChatOptions.builder()
+                .model(model)
+                .temperature(0.3d)
+                .maxTokens(1500)
+                .streamUsage(true)
+                .build())
         .build();
   }
 }
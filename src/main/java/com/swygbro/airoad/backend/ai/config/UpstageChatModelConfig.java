@@ -1,11 +1,16 @@
 package com.swygbro.airoad.backend.ai.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.swygbro.airoad.backend.common.config.AsyncConfig;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +27,12 @@ public class UpstageChatModelConfig {
   @Value("${spring.ai.upstage.chat.options.model}")
   private String model;
 
+  @Value("${spring.ai.upstage.chat.max-concurrency:3}")
+  private int maxConcurrency;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
   @Bean("upstageChatModel")
   public OpenAiChatModel upstageChatModel() {
     OpenAiApi openAiApi = OpenAiApi.builder().apiKey(apiKey).baseUrl(baseUrl).build();
@@ -32,4 +43,27 @@ public class UpstageChatModelConfig {
             OpenAiChatOptions.builder().model(model).temperature(0.3d).maxTokens(1500).build())
         .build();
   }
+
+  /**
+   * Upstage 모델 호출 전용 스레드 풀을 생성합니다.
+   *
+   * <p>프로바이더의 동시 요청 한도를 넘지 않도록 스레드 수를 {@code max-concurrency}로 고정합니다. 큐가 가득 차면 호출 스레드에서 직접
+   * 실행하여 요청이 유실되지 않도록 합니다. 가상 스레드 모드에서도 동시 실행 한도는 {@code max-concurrency}로 유지됩니다.
+   *
+   * @return Upstage 호출용 ThreadPoolTaskExecutor
+   */
+  @Bean("upstageChatExecutor")
+  public ThreadPoolTaskExecutor upstageChatExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("upstage-chat-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    if (virtualThreads) {
+      AsyncConfig.useVirtualThreads(executor, maxConcurrency);
+    }
+    executor.initialize();
+    return executor;
+  }
 }
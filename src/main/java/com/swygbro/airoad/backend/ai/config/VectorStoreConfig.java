@@ -1,15 +1,25 @@
 package com.swygbro.airoad.backend.ai.config;
 
+import java.time.Duration;
+
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.swygbro.airoad.backend.ai.infrastructure.embedding.CachingEmbeddingModel;
+import com.swygbro.airoad.backend.ai.infrastructure.embedding.SingleInputBatchingStrategy;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceVectorStoreRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @Profile("!test")
 public class VectorStoreConfig {
@@ -23,16 +33,87 @@ public class VectorStoreConfig {
   @Value("${spring.ai.vectorstore.pgvector.schema-name:public}")
   private String schemaName;
 
+  @Value("${spring.ai.naver.embedding.options.model:bge-m3}")
+  private String embeddingModelId;
+
+  @Value("${spring.ai.embedding-cache.max-entries:5000}")
+  private int cacheMaxEntries;
+
+  @Value("${spring.ai.embedding-cache.redis.enabled:false}")
+  private boolean cacheRedisEnabled;
+
+  @Value("${spring.ai.embedding-cache.redis.ttl-hours:168}")
+  private long cacheRedisTtlHours;
+
+  /**
+   * 검색 질의 임베딩을 캐시하는 임베딩 모델을 생성합니다.
+   *
+   * <p>요청 속도가 제한된 Naver CLOVA 임베딩 모델을 감싸므로, 캐시에 없는 질의만 프로바이더 한도를 사용합니다.
+   *
+   * @param embeddingModel 요청 속도가 제한된 Naver CLOVA 임베딩 모델
+   * @param redisTemplate 공유 캐시에 사용할 Redis 템플릿
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 질의 임베딩 캐시가 적용된 임베딩 모델
+   */
+  @Bean("queryEmbeddingModel")
+  public CachingEmbeddingModel queryEmbeddingModel(
+      @Qualifier("naverEmbeddingModel") EmbeddingModel embeddingModel,
+      RedisTemplate<String, Object> redisTemplate,
+      MeterRegistry meterRegistry) {
+    return new CachingEmbeddingModel(
+        embeddingModel,
+        embeddingModelId,
+        cacheMaxEntries,
+        cacheRedisEnabled ? redisTemplate : null,
+        Duration.ofHours(cacheRedisTtlHours),
+        meterRegistry);
+  }
+
   @Bean
   public VectorStore vectorStore(
-      JdbcTemplate jdbcTemplate, @Qualifier("naverEmbeddingModel") EmbeddingModel embeddingModel) {
-    return PgVectorStore.builder(jdbcTemplate, embeddingModel)
+      JdbcTemplate jdbcTemplate, CachingEmbeddingModel queryEmbeddingModel) {
+    return PgVectorStore.builder(jdbcTemplate, queryEmbeddingModel)
         .dimensions(dimensions)
         .distanceType(PgVectorStore.PgDistanceType.COSINE_DISTANCE)
         .indexType(PgVectorStore.PgIndexType.HNSW)
+        .batchingStrategy(new SingleInputBatchingStrategy())
         .initializeSchema(true)
         .schemaName(schemaName)
         .vectorTableName(tableName)
         .build();
   }
+
+  /**
+   * metadata 조회용 인덱스를 생성합니다.
+   *
+   * <p>PgVectorStore가 테이블을 만든 뒤 실행됩니다.
+   *
+   * <ul>
+   *   <li>placeId 표현식 인덱스: placeId로 삭제할 때 metadata 전체를 스캔하지 않도록 합니다.
+   *   <li>metadata GIN 인덱스: 지역 필터({@code metadata::jsonb @@ jsonpath})로 후보를 먼저 좁힐 수 있도록 합니다.
+   * </ul>
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param vectorStore 테이블 생성이 끝난 벡터 스토어 (생성 순서 보장용)
+   * @return 인덱스를 생성하는 ApplicationRunner
+   */
+  @Bean
+  public ApplicationRunner placeEmbeddingMetadataIndexInitializer(
+      JdbcTemplate jdbcTemplate, VectorStore vectorStore) {
+    String table = schemaName + "." + tableName;
+    return args -> {
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS "
+              + PlaceVectorStoreRepository.PLACE_ID_INDEX
+              + " ON "
+              + table
+              + " ((metadata->>'placeId'))");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS "
+              + PlaceVectorStoreRepository.METADATA_INDEX
+              + " ON "
+              + table
+              + " USING gin ((metadata::jsonb) jsonb_path_ops)");
+    };
+  }
 }
@@ -0,0 +1,17 @@
+package com.swygbro.airoad.backend.ai.domain.event;
+
+import lombok.Builder;
+
+/**
+ * AI 채팅 메시지 스트리밍 청크 생성 이벤트
+ *
+ * <p>AI 응답이 스트리밍으로 생성되는 동안 청크 단위로 발행됩니다. 응답이 모두 생성되면 {@link AiMessageGeneratedEvent}가 발행됩니다.
+ *
+ * @param chatRoomId 채팅방 ID
+ * @param tripPlanId 여행 계획 ID
+ * @param username 사용자 이름 (이메일)
+ * @param chunk AI가 생성한 메시지 청크
+ */
+@Builder
+public record AiMessageChunkGeneratedEvent(
+    Long chatRoomId, Long tripPlanId, String username, String chunk) {}
@@ -0,0 +1,13 @@
+package com.swygbro.airoad.backend.ai.domain.event;
+
+import lombok.Builder;
+
+/**
+ * AI 프롬프트 템플릿이 생성, 수정, 활성화 또는 삭제되었을 때 발행되는 이벤트입니다.
+ *
+ * <p>트랜잭션 커밋 후 활성 프롬프트 템플릿 캐시를 무효화하는 데 사용됩니다.
+ *
+ * @param promptId 변경된 프롬프트 템플릿 ID
+ */
+@Builder
+public record AiPromptTemplateChangedEvent(Long promptId) {}
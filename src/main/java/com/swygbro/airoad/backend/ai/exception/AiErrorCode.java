@@ -20,7 +20,9 @@ public enum AiErrorCode implements ErrorCode {
 
   TEMPLATE_NOT_FOUND("AI005", HttpStatus.NOT_FOUND, "AI 프롬프트 템플릿을 찾을 수 없습니다."),
 
-  ACTIVE_PROMPT_NOT_FOUND("AI006", HttpStatus.NOT_FOUND, "활성화된 프롬프트를 찾을 수 없습니다.");
+  ACTIVE_PROMPT_NOT_FOUND("AI006", HttpStatus.NOT_FOUND, "활성화된 프롬프트를 찾을 수 없습니다."),
+
+  AGENT_EXECUTION_CANCELLED("AI007", HttpStatus.CONFLICT, "AI 에이전트 실행이 취소되었습니다");
 
   private final String code;
   private final HttpStatus httpStatus;
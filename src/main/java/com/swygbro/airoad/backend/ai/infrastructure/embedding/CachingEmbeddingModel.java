@@ -0,0 +1,250 @@
+package com.swygbro.airoad.backend.ai.infrastructure.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 질의 임베딩을 캐시하는 EmbeddingModel 데코레이터
+ *
+ * <p>벡터 검색은 질의마다 {@link #embed(String)}를 호출하므로, 이 메서드만 캐시합니다. Document 저장 경로({@link
+ * #call(EmbeddingRequest)})는 그대로 위임합니다. 키는 정규화한 질의 텍스트와 모델 ID의 해시이며, 조회 순서는 다음과 같습니다.
+ *
+ * <ol>
+ *   <li>로컬 LRU 캐시 (최대 {@code maxEntries}개)
+ *   <li>Redis (활성화된 경우, 서버 인스턴스 간 공유)
+ *   <li>위임 모델 호출 (요청 속도 제한 적용)
+ * </ol>
+ *
+ * <p>결과는 {@value #REQUESTS_METRIC} 메트릭의 {@code outcome} 태그({@code local_hit}, {@code redis_hit},
+ * {@code miss})로 기록됩니다. Redis 장애 시에는 로컬 캐시와 위임 모델만 사용합니다.
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+  public static final String REQUESTS_METRIC = "airoad.ai.embedding.cache.requests";
+  public static final String SIZE_METRIC = "airoad.ai.embedding.cache.size";
+
+  private static final String KEY_PREFIX = "ai:embedding:query:";
+
+  private final EmbeddingModel delegate;
+  private final String modelId;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final Duration redisTtl;
+  private final Map<String, float[]> localCache;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Counter localHits;
+  private final Counter redisHits;
+  private final Counter misses;
+
+  /**
+   * @param delegate 실제 임베딩 모델
+   * @param modelId 임베딩 모델 ID (모델이 바뀌면 캐시 키가 달라짐)
+   * @param maxEntries 로컬 캐시 최대 항목 수
+   * @param redisTemplate 공유 캐시에 사용할 템플릿 (null이면 로컬 캐시만 사용)
+   * @param redisTtl Redis 항목 만료 시간
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public CachingEmbeddingModel(
+      EmbeddingModel delegate,
+      String modelId,
+      int maxEntries,
+      RedisTemplate<String, Object> redisTemplate,
+      Duration redisTtl,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.modelId = modelId;
+    this.redisTemplate = redisTemplate;
+    this.redisTtl = redisTtl;
+    this.localCache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+            return size() > maxEntries;
+          }
+        };
+
+    this.localHits = requests(meterRegistry, "local_hit");
+    this.redisHits = requests(meterRegistry, "redis_hit");
+    this.misses = requests(meterRegistry, "miss");
+    Gauge.builder(SIZE_METRIC, this, CachingEmbeddingModel::size).register(meterRegistry);
+  }
+
+  @Override
+  public float[] embed(String text) {
+    return embedCached(text, delegate::embed);
+  }
+
+  private float[] embedCached(String text, Function<String, float[]> loader) {
+    String normalized = normalize(text);
+    String key = cacheKey(normalized);
+
+    float[] cached = getLocal(key);
+    if (cached != null) {
+      localHits.increment();
+      return cached.clone();
+    }
+
+    cached = getRedis(key);
+    if (cached != null) {
+      redisHits.increment();
+      putLocal(key, cached);
+      return cached.clone();
+    }
+
+    misses.increment();
+    float[] embedding = loader.apply(normalized);
+    putLocal(key, embedding);
+    putRedis(key, embedding);
+    return embedding.clone();
+  }
+
+  @Override
+  public EmbeddingResponse call(EmbeddingRequest request) {
+    return delegate.call(request);
+  }
+
+  @Override
+  public float[] embed(Document document) {
+    return delegate.embed(document);
+  }
+
+  @Override
+  public int dimensions() {
+    return delegate.dimensions();
+  }
+
+  /**
+   * 질의 임베딩을 미리 캐시에 적재합니다.
+   *
+   * <p>이미 로컬 또는 Redis에 있는 질의는 임베딩 API를 호출하지 않습니다. 캐시에 없는 질의는 문서 저장과 같은 배치 경로({@link
+   * #call(EmbeddingRequest)})로 임베딩하므로, 요청 속도 제한 시 검색 질의 몫이 아닌 배치 몫의 토큰을 사용합니다. 개별 질의의 실패는 건너뜁니다.
+   *
+   * @param texts 적재할 질의 목록
+   * @return 캐시에 적재된 질의 수
+   */
+  public int warmUp(Collection<String> texts) {
+    int loaded = 0;
+    for (String text : texts) {
+      try {
+        embedCached(text, this::embedAsBatch);
+        loaded++;
+      } catch (Exception e) {
+        log.warn("질의 임베딩 캐시 적재 실패 - query: {}, {}", text, e.getMessage());
+      }
+    }
+    return loaded;
+  }
+
+  private float[] embedAsBatch(String normalized) {
+    return delegate.call(new EmbeddingRequest(List.of(normalized), null)).getResult().getOutput();
+  }
+
+  /**
+   * 로컬 캐시 항목 수를 반환합니다.
+   *
+   * @return 로컬 캐시 항목 수
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return localCache.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 공백과 유니코드 표현 차이만 다른 질의가 같은 키를 갖도록 정규화합니다. */
+  static String normalize(String text) {
+    return Normalizer.normalize(text, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+  }
+
+  private String cacheKey(String normalized) {
+    return KEY_PREFIX
+        + modelId
+        + ":"
+        + Hashing.sha256().hashString(normalized, StandardCharsets.UTF_8);
+  }
+
+  private float[] getLocal(String key) {
+    lock.lock();
+    try {
+      return localCache.get(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void putLocal(String key, float[] embedding) {
+    lock.lock();
+    try {
+      localCache.put(key, embedding.clone());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private float[] getRedis(String key) {
+    if (redisTemplate == null) {
+      return null;
+    }
+    try {
+      return redisTemplate.opsForValue().get(key) instanceof String encoded
+          ? decode(encoded)
+          : null;
+    } catch (Exception e) {
+      log.warn("질의 임베딩 캐시 조회 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void putRedis(String key, float[] embedding) {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      redisTemplate.opsForValue().set(key, encode(embedding), redisTtl);
+    } catch (Exception e) {
+      log.warn("질의 임베딩 캐시 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  private static String encode(float[] embedding) {
+    ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES);
+    buffer.asFloatBuffer().put(embedding);
+    return Base64.getEncoder().encodeToString(buffer.array());
+  }
+
+  private static float[] decode(String encoded) {
+    ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+    float[] embedding = new float[buffer.remaining() / Float.BYTES];
+    buffer.asFloatBuffer().get(embedding);
+    return embedding;
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(REQUESTS_METRIC).tag("outcome", outcome).register(meterRegistry);
+  }
+}
@@ -0,0 +1,20 @@
+package com.swygbro.airoad.backend.ai.infrastructure.embedding;
+
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+
+/**
+ * Document마다 임베딩 요청을 하나씩 보내는 배치 전략
+ *
+ * <p>Clova Studio 임베딩 API는 input으로 단일 문자열만 지원하므로, 여러 Document를 한 번에 저장하더라도 임베딩 요청은 Document마다
+ * 분리합니다. 벡터 스토어의 저장(JDBC 배치)은 이 전략과 관계없이 한 번에 수행됩니다.
+ */
+public class SingleInputBatchingStrategy implements BatchingStrategy {
+
+  @Override
+  public List<List<Document>> batch(List<Document> documents) {
+    return documents.stream().map(List::of).toList();
+  }
+}
@@ -0,0 +1,162 @@
+package com.swygbro.airoad.backend.ai.infrastructure.memory;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.swygbro.airoad.backend.ai.infrastructure.repository.AppendOnlyChatMemoryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지를 추가만 하고 최근 N개를 윈도우로 제공하는 ChatMemory
+ *
+ * <p>Redis Hot Tail이 활성화되면 대화별 최근 N개 메시지를 Redis 리스트에 유지하여, 윈도우 조회 시 PostgreSQL을 거치지 않습니다. Redis
+ * 장애 시에는 DB에서 조회합니다.
+ */
+@Slf4j
+public class AppendOnlyChatMemory implements ChatMemory {
+
+  private static final String TAIL_KEY_PREFIX = "ai:chat-memory:tail:";
+  private static final Duration TAIL_TTL = Duration.ofHours(1);
+
+  private final AppendOnlyChatMemoryRepository chatMemoryRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final int maxMessages;
+
+  /**
+   * @param chatMemoryRepository 메시지 저장소
+   * @param redisTemplate Redis Hot Tail에 사용할 템플릿 (null이면 Hot Tail 비활성화)
+   * @param maxMessages 윈도우 크기
+   */
+  public AppendOnlyChatMemory(
+      AppendOnlyChatMemoryRepository chatMemoryRepository,
+      RedisTemplate<String, Object> redisTemplate,
+      int maxMessages) {
+    this.chatMemoryRepository = chatMemoryRepository;
+    this.redisTemplate = redisTemplate;
+    this.maxMessages = maxMessages;
+  }
+
+  @Override
+  public void add(String conversationId, List<Message> messages) {
+    chatMemoryRepository.append(conversationId, messages);
+    appendTail(conversationId, messages);
+  }
+
+  @Override
+  public List<Message> get(String conversationId) {
+    List<Message> tail = readTail(conversationId);
+    if (tail != null) {
+      return tail;
+    }
+
+    List<Message> messages =
+        chatMemoryRepository.findRecentByConversationId(conversationId, maxMessages);
+    writeTail(conversationId, messages);
+    return messages;
+  }
+
+  @Override
+  public void clear(String conversationId) {
+    chatMemoryRepository.deleteByConversationId(conversationId);
+    if (redisTemplate != null) {
+      runQuietly(() -> redisTemplate.delete(tailKey(conversationId)));
+    }
+  }
+
+  /** Tail이 이미 존재할 때만 추가합니다. 없으면 다음 조회 시 DB에서 적재됩니다. */
+  private void appendTail(String conversationId, List<Message> messages) {
+    if (redisTemplate == null) {
+      return;
+    }
+    String key = tailKey(conversationId);
+    runQuietly(
+        () -> {
+          if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            messages.stream()
+                .filter(m -> m.getMessageType() != MessageType.TOOL && m.getText() != null)
+                .forEach(m -> redisTemplate.opsForList().rightPush(key, TailEntry.of(m)));
+            redisTemplate.opsForList().trim(key, -maxMessages, -1);
+            redisTemplate.expire(key, TAIL_TTL);
+          }
+        });
+  }
+
+  private List<Message> readTail(String conversationId) {
+    if (redisTemplate == null) {
+      return null;
+    }
+    try {
+      String key = tailKey(conversationId);
+      if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+        return null;
+      }
+      List<Object> entries = redisTemplate.opsForList().range(key, 0, -1);
+      return entries == null
+          ? null
+          : entries.stream().map(e -> ((TailEntry) e).toMessage()).toList();
+    } catch (Exception e) {
+      log.warn("대화 메모리 Hot Tail 조회 실패 - conversationId: {}", conversationId, e);
+      return null;
+    }
+  }
+
+  private void writeTail(String conversationId, List<Message> messages) {
+    if (redisTemplate == null) {
+      return;
+    }
+    String key = tailKey(conversationId);
+    runQuietly(
+        () -> {
+          redisTemplate.delete(key);
+          if (!messages.isEmpty()) {
+            redisTemplate
+                .opsForList()
+                .rightPushAll(key, messages.stream().map(TailEntry::of).toArray());
+          }
+          redisTemplate.expire(key, TAIL_TTL);
+        });
+  }
+
+  private void runQuietly(Runnable action) {
+    try {
+      action.run();
+    } catch (Exception e) {
+      log.warn("대화 메모리 Hot Tail 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  private String tailKey(String conversationId) {
+    return TAIL_KEY_PREFIX + conversationId;
+  }
+
+  /**
+   * Redis에 저장되는 메시지 항목
+   *
+   * @param messageType 메시지 타입
+   * @param content 메시지 내용
+   */
+  public record TailEntry(String messageType, String content) {
+
+    static TailEntry of(Message message) {
+      return new TailEntry(message.getMessageType().name(), message.getText());
+    }
+
+    Message toMessage() {
+      return switch (MessageType.valueOf(messageType)) {
+        case USER -> new UserMessage(content);
+        case ASSISTANT -> new AssistantMessage(content);
+        case SYSTEM -> new SystemMessage(content);
+        default -> throw new IllegalStateException("지원하지 않는 메시지 타입입니다: " + messageType);
+      };
+    }
+  }
+}
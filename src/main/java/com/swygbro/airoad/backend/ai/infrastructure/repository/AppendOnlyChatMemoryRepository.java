@@ -0,0 +1,164 @@
+package com.swygbro.airoad.backend.ai.infrastructure.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ai_message 테이블에 대화 메시지를 추가만 하는 ChatMemoryRepository
+ *
+ * <p>Spring AI의 JdbcChatMemoryRepository는 저장할 때마다 대화의 모든 메시지를 삭제하고 윈도우만 다시 저장하므로, 메시지 히스토리
+ * 조회 API가 사용하는 과거 메시지가 사라지고 매 턴마다 O(히스토리) 쓰기가 발생합니다. 이 저장소는 새 메시지만 추가하고, 최근 메시지 윈도우는
+ * (conversation_id, id) 인덱스를 사용해 {@code ORDER BY id DESC LIMIT n}으로 조회합니다.
+ */
+@Slf4j
+public class AppendOnlyChatMemoryRepository implements ChatMemoryRepository {
+
+  private static final String SELECT_CONVERSATION_IDS_SQL =
+      """
+      SELECT CAST(id AS VARCHAR) AS conversation_id
+      FROM ai_conversation
+      ORDER BY id
+      """;
+
+  private static final String SELECT_ALL_MESSAGES_SQL =
+      """
+      SELECT content, message_type
+      FROM ai_message
+      WHERE conversation_id = ?
+      ORDER BY id
+      """;
+
+  private static final String SELECT_RECENT_MESSAGES_SQL =
+      """
+      SELECT content, message_type
+      FROM (
+          SELECT id, content, message_type
+          FROM ai_message
+          WHERE conversation_id = ?
+          ORDER BY id DESC
+          LIMIT ?
+      ) AS recent
+      ORDER BY id
+      """;
+
+  private static final String INSERT_MESSAGE_SQL =
+      """
+      INSERT INTO ai_message (conversation_id, content, message_type, created_at, updated_at)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  private static final String DELETE_MESSAGES_SQL =
+      """
+      DELETE FROM ai_message
+      WHERE conversation_id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public AppendOnlyChatMemoryRepository(
+      JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @Override
+  public List<String> findConversationIds() {
+    return jdbcTemplate.queryForList(SELECT_CONVERSATION_IDS_SQL, String.class);
+  }
+
+  @Override
+  public List<Message> findByConversationId(String conversationId) {
+    return jdbcTemplate.query(
+        SELECT_ALL_MESSAGES_SQL, (rs, rowNum) -> toMessage(rs), Long.valueOf(conversationId));
+  }
+
+  /**
+   * 대화의 최근 메시지를 오래된 순서로 조회합니다.
+   *
+   * @param conversationId 대화 ID
+   * @param limit 조회할 최대 메시지 수
+   * @return 최근 메시지 목록 (오래된 순)
+   */
+  public List<Message> findRecentByConversationId(String conversationId, int limit) {
+    return jdbcTemplate.query(
+        SELECT_RECENT_MESSAGES_SQL,
+        (rs, rowNum) -> toMessage(rs),
+        Long.valueOf(conversationId),
+        limit);
+  }
+
+  /**
+   * 대화에 새 메시지를 추가합니다. 기존 메시지는 변경하지 않습니다.
+   *
+   * @param conversationId 대화 ID
+   * @param messages 추가할 메시지 목록
+   */
+  public void append(String conversationId, List<Message> messages) {
+    List<Message> persistable = messages.stream().filter(this::isPersistable).toList();
+    if (persistable.isEmpty()) {
+      return;
+    }
+
+    Long id = Long.valueOf(conversationId);
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> batchArgs = new ArrayList<>();
+    for (Message message : persistable) {
+      batchArgs.add(
+          new Object[] {id, message.getText(), message.getMessageType().name(), now, now});
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, batchArgs);
+    log.debug("대화 메시지 추가 - conversationId: {}, {} 개", conversationId, batchArgs.size());
+  }
+
+  /**
+   * 대화의 메시지를 주어진 목록으로 교체합니다.
+   *
+   * <p>ChatMemoryRepository 계약을 위한 구현으로, 대화 중 메시지 저장에는 {@link #append(String, List)}를 사용합니다.
+   */
+  @Override
+  public void saveAll(String conversationId, List<Message> messages) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          deleteByConversationId(conversationId);
+          append(conversationId, messages);
+        });
+  }
+
+  @Override
+  public void deleteByConversationId(String conversationId) {
+    jdbcTemplate.update(DELETE_MESSAGES_SQL, Long.valueOf(conversationId));
+  }
+
+  private boolean isPersistable(Message message) {
+    return message.getMessageType() != MessageType.TOOL && message.getText() != null;
+  }
+
+  private Message toMessage(ResultSet rs) throws SQLException {
+    String content = rs.getString("content");
+    MessageType type = MessageType.valueOf(rs.getString("message_type"));
+
+    return switch (type) {
+      case USER -> new UserMessage(content);
+      case ASSISTANT -> new AssistantMessage(content);
+      case SYSTEM -> new SystemMessage(content);
+      default -> throw new IllegalStateException("지원하지 않는 메시지 타입입니다: " + type);
+    };
+  }
+}
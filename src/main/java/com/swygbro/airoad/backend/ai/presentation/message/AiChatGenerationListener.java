@@ -32,7 +32,7 @@ public class AiChatGenerationListener {
    *
    * @param event AI 채팅 요청 이벤트
    */
-  @Async
+  @Async("chatTaskExecutor")
   @EventListener
   public void handleAiChatRequest(AiChatGenerationRequestedEvent event) {
     log.info(
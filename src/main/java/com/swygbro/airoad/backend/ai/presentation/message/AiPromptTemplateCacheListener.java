@@ -0,0 +1,71 @@
+package com.swygbro.airoad.backend.ai.presentation.message;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.swygbro.airoad.backend.ai.application.query.AiPromptTemplateCache;
+import com.swygbro.airoad.backend.ai.application.query.AiPromptTemplateQueryUseCase;
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.domain.entity.PromptType;
+import com.swygbro.airoad.backend.ai.domain.event.AiPromptTemplateChangedEvent;
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 프롬프트 템플릿 캐시의 적재와 무효화를 담당하는 리스너입니다.
+ *
+ * <p>애플리케이션 기동 시 모든 에이전트의 활성 템플릿을 미리 적재하고, 템플릿이 변경되면 로컬 캐시를 무효화한 뒤 Redis Pub/Sub으로 다른 서버
+ * 인스턴스에 변경을 알립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiPromptTemplateCacheListener {
+
+  private final AiPromptTemplateCache aiPromptTemplateCache;
+  private final AiPromptTemplateQueryUseCase aiPromptTemplateQueryUseCase;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  /** 애플리케이션 기동 후 모든 (PromptType, AgentType) 조합의 활성 템플릿을 캐시에 적재합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    int loaded = 0;
+    for (AgentType agentType : AgentType.values()) {
+      for (PromptType promptType : PromptType.values()) {
+        try {
+          aiPromptTemplateQueryUseCase.findActivePromptTemplate(promptType, agentType);
+          loaded++;
+        } catch (BusinessException e) {
+          log.debug("활성 프롬프트 템플릿 없음 - {}, {}", promptType, agentType);
+        } catch (Exception e) {
+          log.warn("활성 프롬프트 템플릿 캐시 적재 실패 - {}, {}: {}", promptType, agentType, e.getMessage());
+        }
+      }
+    }
+    log.info("활성 프롬프트 템플릿 캐시 적재 완료 - {} 개", loaded);
+  }
+
+  /**
+   * 프롬프트 템플릿 변경 이벤트를 처리합니다.
+   *
+   * <p>트랜잭션 커밋 후 로컬 캐시를 무효화하고 다른 인스턴스에 무효화 메시지를 발행합니다.
+   *
+   * @param event 프롬프트 템플릿 변경 이벤트
+   */
+  @TransactionalEventListener
+  public void handlePromptTemplateChanged(AiPromptTemplateChangedEvent event) {
+    aiPromptTemplateCache.invalidateAll();
+
+    try {
+      redisTemplate.convertAndSend(
+          AiPromptTemplateCache.INVALIDATION_CHANNEL, String.valueOf(event.promptId()));
+    } catch (Exception e) {
+      log.warn("프롬프트 템플릿 캐시 무효화 메시지 발행 실패 - promptId: {}", event.promptId(), e);
+    }
+  }
+}
@@ -19,7 +19,7 @@ public class PlaceSummaryGenerationListener {
   private final AiUseCase aiUseCase;
 
   @EventListener
-  @Async
+  @Async("summaryTaskExecutor")
   public void onPlaceSummaryRequested(PlaceSummaryRequestedEvent event) {
     log.info("PlaceSummaryRequestedEvent 수신 - placeId: {}", event.placeId());
 
@@ -32,6 +32,7 @@ public class PlaceSummaryGenerationListener {
             .operatingHours(event.operatingHours())
             .holidayInfo(event.holidayInfo())
             .themes(event.themes())
+            .contentHash(event.contentHash())
             .build();
 
     aiUseCase.agentCall(AgentType.PLACE_SUMMARY_AGENT, request);
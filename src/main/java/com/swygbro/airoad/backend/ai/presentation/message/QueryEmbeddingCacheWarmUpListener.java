@@ -0,0 +1,60 @@
+package com.swygbro.airoad.backend.ai.presentation.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.ai.agent.trip.TripAgent;
+import com.swygbro.airoad.backend.ai.infrastructure.embedding.CachingEmbeddingModel;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 질의 임베딩 캐시를 예열하는 리스너입니다.
+ *
+ * <p>애플리케이션 기동 후 설정된 지역마다 여행 일정 생성에 쓰이는 장소(테마별)와 음식점 검색 질의를 캐시에 적재합니다. 예열은 전용 스레드
+ * 풀(embeddingWarmUpExecutor)에서 실행되어 기동이나 임베딩 작업을 지연시키지 않으며, Redis에 이미 있는 질의는 임베딩 API를 호출하지 않습니다.
+ * 캐시에 없는 질의는 배치 몫의 요청 한도로 임베딩하므로 예열 중에도 사용자 검색 질의 몫이 줄지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class QueryEmbeddingCacheWarmUpListener {
+
+  private final CachingEmbeddingModel queryEmbeddingModel;
+
+  @Value("${spring.ai.embedding-cache.warm-up.enabled:true}")
+  private boolean enabled;
+
+  @Value("${spring.ai.embedding-cache.warm-up.regions:}")
+  private List<String> regions;
+
+  /** 지역 × 테마 조합의 검색 질의를 캐시에 적재합니다. */
+  @Async("embeddingWarmUpExecutor")
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (!enabled || regions.isEmpty()) {
+      return;
+    }
+
+    List<String> queries = new ArrayList<>();
+    for (String region : regions) {
+      for (PlaceThemeType theme : PlaceThemeType.values()) {
+        queries.add(TripAgent.placeQuery(region, List.of(theme)));
+      }
+      queries.add(TripAgent.restaurantQuery(region));
+    }
+
+    int loaded = queryEmbeddingModel.warmUp(queries);
+    log.info("질의 임베딩 캐시 예열 완료 - {}/{} 개", loaded, queries.size());
+  }
+}
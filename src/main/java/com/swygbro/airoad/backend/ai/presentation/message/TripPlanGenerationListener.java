@@ -26,7 +26,7 @@ public class TripPlanGenerationListener {
    *
    * @param event 여행 일정 생성 요청 이벤트
    */
-  @Async
+  @Async("tripTaskExecutor")
   @EventListener
   public void handleTripPlanGenerationRequested(TripPlanGenerationRequestedEvent event) {
     log.info(
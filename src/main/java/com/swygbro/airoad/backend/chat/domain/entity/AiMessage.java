@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 
 import org.springframework.ai.chat.messages.MessageType;
 
-import com.swygbro.airoad.backend.common.domain.entity.BaseEntity;
+import com.swygbro.airoad.backend.common.domain.entity.BaseTimeEntity;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,14 +14,26 @@ import lombok.NoArgsConstructor;
 /**
  * 대화 세션에 포함된 개별 메시지를 나타내는 엔티티
  *
- * <p><strong>ID 순서 보장</strong>: 이 엔티티는 {@link GenerationType#IDENTITY} 전략을 사용하여 ID를 생성합니다.
- * PostgreSQL의 SERIAL/BIGSERIAL은 단조 증가를 보장하므로, ID가 작을수록 먼저 생성된 메시지입니다. 따라서 {@code ORDER BY id DESC}는
- * 시간 역순 정렬과 동일합니다.
+ * <p><strong>ID 순서 보장</strong>: 이 엔티티는 다른 엔티티의 시퀀스 전략 대신 {@link GenerationType#IDENTITY} 전략을 사용하여
+ * ID를 생성합니다. PostgreSQL의 SERIAL/BIGSERIAL은 단조 증가를 보장하므로, ID가 작을수록 먼저 생성된 메시지입니다. 따라서 {@code
+ * ORDER BY id DESC}는 시간 역순 정렬과 동일합니다. 블록 단위로 할당하는 시퀀스 옵티마이저는 여러 인스턴스 사이에서 이 순서를 보장하지
+ * 않습니다. 대화 중 메시지는 AppendOnlyChatMemoryRepository가 JDBC 배치로 추가하므로 IDENTITY 전략으로도 배치 INSERT가
+ * 유지됩니다.
+ *
+ * <p>대화별 최근 메시지 조회({@code WHERE conversation_id = ? ORDER BY id DESC})를 위해 (conversation_id, id) 복합 인덱스를
+ * 사용합니다.
  */
 @Entity
+@Table(
+    indexes =
+        @Index(name = "idx_ai_message_conversation_id_id", columnList = "conversation_id, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AiMessage extends BaseEntity {
+public class AiMessage extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
 
   /** 메시지가 속한 대화 세션 */
   @ManyToOne(fetch = FetchType.LAZY)
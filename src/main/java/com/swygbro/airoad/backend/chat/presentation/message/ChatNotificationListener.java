@@ -4,6 +4,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import com.swygbro.airoad.backend.ai.domain.event.AiMessageChunkGeneratedEvent;
 import com.swygbro.airoad.backend.ai.domain.event.AiMessageGeneratedEvent;
 import com.swygbro.airoad.backend.chat.domain.dto.response.ChatStreamDto;
 import com.swygbro.airoad.backend.common.domain.dto.ErrorResponse;
@@ -36,6 +37,29 @@ public class ChatNotificationListener {
     sendToWebSocket(event);
   }
 
+  /**
+   * AI 메시지 스트리밍 청크 이벤트 처리
+   *
+   * <p>생성 중인 응답 청크를 완료되지 않은 메시지(isComplete=false)로 WebSocket에 전송합니다. 최종 응답은 {@link
+   * AiMessageGeneratedEvent}로 전송됩니다.
+   *
+   * @param event AI 메시지 청크 생성 이벤트
+   */
+  @EventListener
+  public void handleAiMessageChunkGenerated(AiMessageChunkGeneratedEvent event) {
+    try {
+      ChatStreamDto response = ChatStreamDto.ofChat(event.chunk(), false);
+      messagingTemplate.convertAndSendToUser(
+          event.username(), "/sub/chat/" + event.chatRoomId(), response);
+    } catch (Exception e) {
+      // 청크 유실은 최종 완료 메시지로 보완되므로 로그만 남김
+      log.warn(
+          "[Chat Notification] 스트리밍 청크 전송 실패 - chatRoomId: {}, error: {}",
+          event.chatRoomId(),
+          e.getMessage());
+    }
+  }
+
   /**
    * WebSocket을 통해 클라이언트에게 응답 전송
    *
@@ -1,5 +1,9 @@
 package com.swygbro.airoad.backend.chat.presentation.message;
 
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
@@ -8,17 +12,28 @@ import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecutionRegistry;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * WebSocket 연결/구독 이벤트 리스너
  *
- * <p>디버깅을 위해 WebSocket 세션의 연결, 구독, 해제 이벤트
+ * <p>WebSocket 세션의 연결, 구독, 해제 이벤트를 기록하고, 사용자의 세션과 구독 중인 채팅방을 {@link AgentExecutionRegistry}에
+ * 등록합니다. 세션이 종료된 뒤 유예 시간 안에 해당 채팅방을 다시 구독하는 세션이 없으면 진행 중인 AI 생성 작업이 취소됩니다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+  /** 채팅방 단위 구독 경로 (/user/sub/chat/{chatRoomId}, /user/sub/errors/{chatRoomId}) */
+  private static final Pattern CHAT_ROOM_DESTINATION =
+      Pattern.compile("^(?:/user)?/sub/(?:chat|errors)/(\\d+)$");
+
+  private final AgentExecutionRegistry agentExecutionRegistry;
+
   @EventListener
   public void handleWebSocketConnectListener(SessionConnectEvent event) {
     StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -28,7 +43,13 @@ public class WebSocketEventListener {
   @EventListener
   public void handleWebSocketConnectedListener(SessionConnectedEvent event) {
     StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-    log.info("[WebSocket Event] 연결 완료 - sessionId: {}", headerAccessor.getSessionId());
+    String sessionId = headerAccessor.getSessionId();
+    log.info("[WebSocket Event] 연결 완료 - sessionId: {}", sessionId);
+
+    Principal user = event.getUser();
+    if (user != null && sessionId != null) {
+      agentExecutionRegistry.registerSession(user.getName(), sessionId);
+    }
   }
 
   @EventListener
@@ -43,20 +64,31 @@ public class WebSocketEventListener {
         sessionId,
         destination,
         subscriptionId);
+
+    Principal user = event.getUser();
+    if (user == null || sessionId == null || destination == null) {
+      return;
+    }
+    Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+    if (matcher.matches()) {
+      agentExecutionRegistry.watchChatRoom(
+          user.getName(), sessionId, Long.parseLong(matcher.group(1)));
+    }
   }
 
   @EventListener
   public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
-    StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-    String sessionId = headerAccessor.getSessionId();
+    String sessionId = event.getSessionId();
 
-    log.info("[WebSocket Event] 연결 해제 - sessionId: {}", sessionId);
+    log.info(
+        "[WebSocket Event] 연결 해제 - sessionId: {}, closeStatus: {}",
+        sessionId,
+        event.getCloseStatus());
 
-    // TODO: AI API 연동 시 세션 정리 작업 추가 필요
-    // - 진행 중인 AI 요청 취소 (스트리밍 응답 중단)
-    // - 세션 캐시 삭제 (Redis 또는 인메모리 맵)
-    // - 리소스 해제 (WebClient, 임시 파일 등)
-    // 예: aiRequestManager.cancelRequest(sessionId);
-    //     sessionStore.remove(sessionId);
+    // 유예 시간 뒤에도 구독하는 세션이 없는 채팅방의 AI 생성 작업을 취소
+    Principal user = event.getUser();
+    if (user != null) {
+      agentExecutionRegistry.unregisterSession(user.getName(), sessionId);
+    }
   }
 }
@@ -1,14 +1,24 @@
 package com.swygbro.airoad.backend.common.config;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.common.exception.CommonErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * 비동기 처리 및 재시도 설정
  *
@@ -51,12 +61,84 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  *   <li>AI 응답 전송과 같은 중요한 작업의 손실 방지
  *   <li>자연스러운 백프레셔(back-pressure) 제공으로 시스템 과부하 방지
  * </ul>
+ *
+ * <h3>워크로드별 격리 스레드 풀 (Bulkhead)</h3>
+ *
+ * <p>AI 작업은 수 초 이상 걸리므로 공용 풀을 함께 쓰면 배치 작업(요약 생성, 벡터 저장)이 대화형 작업(채팅, 일정 생성)을 굶기게 됩니다. 워크로드별로
+ * 풀을 분리하고 리스너는 {@code @Async("이름")}으로 자신의 풀을 지정합니다.
+ *
+ * <table>
+ *   <tr><th>이름</th><th>core/max/queue</th><th>거부 정책</th></tr>
+ *   <tr><td>chatTaskExecutor</td><td>5/10/20</td><td>즉시 거부 (COMMON503)</td></tr>
+ *   <tr><td>tripTaskExecutor</td><td>3/5/20</td><td>즉시 거부 (COMMON503)</td></tr>
+ *   <tr><td>summaryTaskExecutor</td><td>N/N/200</td><td>CallerRunsPolicy</td></tr>
+ *   <tr><td>vectorTaskExecutor</td><td>N/N/200</td><td>CallerRunsPolicy</td></tr>
+ *   <tr><td>embeddingJobExecutor</td><td>1/1/10</td><td>즉시 거부 (COMMON503)</td></tr>
+ *   <tr><td>embeddingWarmUpExecutor</td><td>1/1/1</td><td>즉시 거부</td></tr>
+ *   <tr><td>cacheRefreshExecutor</td><td>2/2/100</td><td>즉시 거부 (갱신 생략)</td></tr>
+ * </table>
+ *
+ * <p>배치 풀의 N은 프로바이더 동시 요청 한도({@code spring.ai.naver.*.max-concurrency})이며, 요청 속도는 별도의 프로바이더 토큰
+ * 버킷이 제한합니다.
+ *
+ * <p>대화형 풀은 사용자가 긴 대기열 뒤에서 기다리지 않도록 포화 시 바로 거부하고, 배치 풀은 호출 스레드(배치 생산자)에서 실행하여 생산 속도를 늦춥니다.
+ *
+ * <p>큐 길이, 활성 스레드 수 등은 Spring Boot가 ThreadPoolTaskExecutor 빈마다 {@code executor.*} 메트릭으로 노출하며, 여기서는
+ * 대기 시간({@value #WAIT_METRIC})과 거부 횟수({@value #REJECTED_METRIC})를 추가로 기록합니다.
+ *
+ * <h3>가상 스레드 모드</h3>
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이면 모든 풀이 가상 스레드로 작업을 실행합니다. AI 작업은 대부분 외부 API 응답을
+ * 기다리는 시간이므로, 플랫폼 스레드 수 대신 아래 동시 실행 한도까지 확장됩니다. 큐와 거부 정책은 그대로 유지되며, 실제 모델 호출 수는 프로바이더별
+ * 풀(upstageChatExecutor 등)의 한도를 따릅니다.
+ *
+ * <table>
+ *   <tr><th>이름</th><th>동시 실행 한도</th></tr>
+ *   <tr><td>taskExecutor</td><td>200</td></tr>
+ *   <tr><td>chatTaskExecutor</td><td>100</td></tr>
+ *   <tr><td>tripTaskExecutor</td><td>50</td></tr>
+ *   <tr><td>summaryTaskExecutor</td><td>N (프로바이더 한도 유지)</td></tr>
+ *   <tr><td>vectorTaskExecutor</td><td>N (프로바이더 한도 유지)</td></tr>
+ *   <tr><td>embeddingJobExecutor</td><td>1</td></tr>
+ *   <tr><td>embeddingWarmUpExecutor</td><td>1</td></tr>
+ *   <tr><td>cacheRefreshExecutor</td><td>16</td></tr>
+ * </table>
+ *
+ * <p>가상 스레드에서 DB 커넥션 풀은 여전히 병목이므로, 트랜잭션 안에서 모델을 호출하지 않도록 주의해야 합니다.
  */
 @Configuration
 @EnableAsync
 @EnableRetry
 public class AsyncConfig {
 
+  public static final String WAIT_METRIC = "airoad.executor.wait";
+  public static final String REJECTED_METRIC = "airoad.executor.rejected";
+
+  /** 가상 스레드 풀에서 유휴 스레드를 정리하기까지의 시간 (초) */
+  private static final int VIRTUAL_KEEP_ALIVE_SECONDS = 10;
+
+  private final boolean virtualThreads;
+
+  public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
+  /**
+   * 스레드 풀이 가상 스레드로 작업을 실행하도록 설정합니다.
+   *
+   * <p>가상 스레드는 생성 비용이 작으므로 코어 스레드도 유휴 시 정리되도록 하고, 최대 스레드 수를 동시 실행 한도로 사용합니다.
+   *
+   * @param executor 설정할 스레드 풀 (initialize 전)
+   * @param concurrencyLimit 동시 실행 한도
+   */
+  public static void useVirtualThreads(ThreadPoolTaskExecutor executor, int concurrencyLimit) {
+    executor.setVirtualThreads(true);
+    executor.setCorePoolSize(concurrencyLimit);
+    executor.setMaxPoolSize(concurrencyLimit);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setKeepAliveSeconds(VIRTUAL_KEEP_ALIVE_SECONDS);
+  }
+
   /**
    * 비동기 작업 실행을 위한 스레드 풀 TaskExecutor를 생성합니다.
    *
@@ -72,7 +154,181 @@ public class AsyncConfig {
     executor.setQueueCapacity(50);
     executor.setThreadNamePrefix("async-");
     executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    if (virtualThreads) {
+      useVirtualThreads(executor, 200);
+    }
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * AI 채팅 응답 생성용 스레드 풀을 생성합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 채팅용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "chatTaskExecutor")
+  public ThreadPoolTaskExecutor chatTaskExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("chat", 5, 10, 100, 20, false, meterRegistry);
+  }
+
+  /**
+   * 여행 일정 생성용 스레드 풀을 생성합니다.
+   *
+   * <p>일정 생성 하나가 일차별 모델 호출을 별도 풀(upstageChatExecutor)로 분산하므로 적은 스레드로 충분합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 일정 생성용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "tripTaskExecutor")
+  public ThreadPoolTaskExecutor tripTaskExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("trip", 3, 5, 50, 20, false, meterRegistry);
+  }
+
+  /**
+   * 장소 요약 생성(배치)용 스레드 풀을 생성합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @param maxConcurrency Naver CLOVA 채팅 동시 요청 한도
+   * @return 요약 생성용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "summaryTaskExecutor")
+  public ThreadPoolTaskExecutor summaryTaskExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${spring.ai.naver.chat.max-concurrency:4}") int maxConcurrency) {
+    return bulkhead(
+        "summary", maxConcurrency, maxConcurrency, maxConcurrency, 200, true, meterRegistry);
+  }
+
+  /**
+   * 장소 벡터 저장(배치)용 스레드 풀을 생성합니다.
+   *
+   * <p>벡터 저장은 임베딩 API 호출을 포함하므로 임베딩 동시 요청 한도로 크기를 정합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @param maxConcurrency Naver CLOVA 임베딩 동시 요청 한도
+   * @return 벡터 저장용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "vectorTaskExecutor")
+  public ThreadPoolTaskExecutor vectorTaskExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${spring.ai.naver.embedding.max-concurrency:4}") int maxConcurrency) {
+    return bulkhead(
+        "vector", maxConcurrency, maxConcurrency, maxConcurrency, 200, true, meterRegistry);
+  }
+
+  /**
+   * 장소 하이브리드 검색용 스레드 풀을 생성합니다.
+   *
+   * <p>어휘 검색과 벡터 검색을 동시에 실행하기 위해 사용합니다. 포화 시 호출 스레드에서 실행하여 순차 검색으로 동작합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 검색용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "searchTaskExecutor")
+  public ThreadPoolTaskExecutor searchTaskExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("search", 4, 8, 16, 50, true, meterRegistry);
+  }
+
+  /**
+   * 장소 임베딩 작업 실행용 스레드 풀을 생성합니다.
+   *
+   * <p>임베딩 작업은 한 번에 하나만 진행되며, 작업 스레드는 배치를 읽어 요약/벡터 풀에 작업을 넘기고 배치가 모두 저장될 때까지 기다린 뒤 체크포인트를 저장합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 임베딩 작업용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "embeddingJobExecutor")
+  public ThreadPoolTaskExecutor embeddingJobExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("embedding-job", 1, 1, 1, 10, false, meterRegistry);
+  }
+
+  /**
+   * 질의 임베딩 캐시 예열용 스레드 풀을 생성합니다.
+   *
+   * <p>예열은 기동 직후 한 번 실행되며 수 분 동안 임베딩 API 토큰을 기다릴 수 있으므로, 임베딩 작업이나 캐시 갱신 풀을 점유하지 않도록 분리합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 예열용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "embeddingWarmUpExecutor")
+  public ThreadPoolTaskExecutor embeddingWarmUpExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("embedding-warm-up", 1, 1, 1, 1, false, meterRegistry);
+  }
+
+  /**
+   * 2단계 캐시 조기 갱신용 스레드 풀을 생성합니다.
+   *
+   * <p>갱신은 기존 캐시 값을 반환한 뒤 백그라운드에서 실행되므로, 포화 시 거부하고 다음 조회에서 다시 시도합니다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 캐시 갱신용 ThreadPoolTaskExecutor
+   */
+  @Bean(name = "cacheRefreshExecutor")
+  public ThreadPoolTaskExecutor cacheRefreshExecutor(MeterRegistry meterRegistry) {
+    return bulkhead("cache-refresh", 2, 2, 16, 100, false, meterRegistry);
+  }
+
+  /**
+   * 워크로드 전용 스레드 풀을 생성합니다.
+   *
+   * @param name 워크로드 이름 (스레드 이름 접두사와 메트릭 태그로 사용)
+   * @param corePoolSize 기본 스레드 수
+   * @param maxPoolSize 최대 스레드 수
+   * @param virtualConcurrencyLimit 가상 스레드 모드의 동시 실행 한도
+   * @param queueCapacity 대기 큐 크기
+   * @param callerRuns 포화 시 호출 스레드에서 실행할지 여부 (false면 즉시 거부)
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 설정된 ThreadPoolTaskExecutor
+   */
+  private ThreadPoolTaskExecutor bulkhead(
+      String name,
+      int corePoolSize,
+      int maxPoolSize,
+      int virtualConcurrencyLimit,
+      int queueCapacity,
+      boolean callerRuns,
+      MeterRegistry meterRegistry) {
+    Timer waitTimer =
+        Timer.builder(WAIT_METRIC)
+            .tag("name", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    Counter rejectedCounter =
+        Counter.builder(REJECTED_METRIC).tag("name", name).register(meterRegistry);
+
+    RejectedExecutionHandler rejectionPolicy =
+        callerRuns ? new ThreadPoolExecutor.CallerRunsPolicy() : rejectWithBusinessException();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix(name + "-");
+    executor.setTaskDecorator(
+        task -> {
+          long submittedAt = System.nanoTime();
+          return () -> {
+            waitTimer.record(Duration.ofNanos(System.nanoTime() - submittedAt));
+            task.run();
+          };
+        });
+    executor.setRejectedExecutionHandler(
+        (task, pool) -> {
+          rejectedCounter.increment();
+          rejectionPolicy.rejectedExecution(task, pool);
+        });
+    if (virtualThreads) {
+      useVirtualThreads(executor, virtualConcurrencyLimit);
+    }
     executor.initialize();
     return executor;
   }
+
+  /** 포화 시 작업을 즉시 거부하여 호출한 요청이 COMMON503 에러로 응답되도록 합니다. */
+  private static RejectedExecutionHandler rejectWithBusinessException() {
+    return (task, pool) -> {
+      throw new BusinessException(CommonErrorCode.SERVICE_BUSY);
+    };
+  }
 }
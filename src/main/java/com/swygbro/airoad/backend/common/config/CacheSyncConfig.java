@@ -0,0 +1,34 @@
+package com.swygbro.airoad.backend.common.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.swygbro.airoad.backend.common.infrastructure.cache.TwoLevelCacheManager;
+
+/**
+ * 2단계 캐시 L1의 서버 간 동기화 설정
+ *
+ * <p>다른 인스턴스에서 캐시 항목이 변경되면 Redis Pub/Sub 메시지를 수신하여 로컬 L1 항목을 제거합니다.
+ */
+@Configuration
+@Profile("!test")
+public class CacheSyncConfig {
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory, CacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+      container.addMessageListener(
+          (message, pattern) -> twoLevelCacheManager.onMessage(message.getBody()),
+          new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+    }
+    return container;
+  }
+}
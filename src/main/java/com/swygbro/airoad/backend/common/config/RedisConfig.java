@@ -1,6 +1,12 @@
 package com.swygbro.airoad.backend.common.config;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +21,10 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.swygbro.airoad.backend.common.infrastructure.cache.TwoLevelCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Redis 캐싱 및 Pub/Sub 설정
  *
@@ -69,10 +79,28 @@ public class RedisConfig {
     return template;
   }
 
+  /**
+   * 로컬 L1 캐시와 Redis L2 캐시로 구성된 2단계 CacheManager
+   *
+   * <p>L1 항목은 {@code localTtl}의 {@code refreshAheadRatio} 비율이 지나면 조회 시 백그라운드에서 다시 로드됩니다. L2 만료
+   * 시간({@code spring.cache.redis.time-to-live})은 L1보다 길게 두어 인스턴스 재시작 직후에도 원본 조회가 몰리지 않도록 합니다.
+   *
+   * <p>캐시별 만료 시간이나 직렬화 방식은 {@link RedisCacheManagerBuilderCustomizer} 빈으로 지정합니다.
+   */
   @Bean
-  public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+  public CacheManager cacheManager(
+      RedisConnectionFactory connectionFactory,
+      RedisTemplate<String, Object> redisTemplate,
+      @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+      MeterRegistry meterRegistry,
+      ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+      @Value("${spring.cache.redis.time-to-live:1h}") Duration redisTtl,
+      @Value("${cache.two-level.local.max-size:1000}") long localMaxSize,
+      @Value("${cache.two-level.local.ttl:5m}") Duration localTtl,
+      @Value("${cache.two-level.local.refresh-ahead-ratio:0.8}") double refreshAheadRatio) {
     RedisCacheConfiguration cacheConfig =
         RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(redisTtl)
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new StringRedisSerializer()))
@@ -80,6 +108,25 @@ public class RedisConfig {
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new GenericJackson2JsonRedisSerializer()));
 
-    return RedisCacheManager.builder(connectionFactory).cacheDefaults(cacheConfig).build();
+    RedisCacheManager.RedisCacheManagerBuilder builder =
+        RedisCacheManager.builder(connectionFactory).cacheDefaults(cacheConfig);
+    customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+    RedisCacheManager redisCacheManager = builder.build();
+    redisCacheManager.afterPropertiesSet();
+
+    Duration refreshAfter =
+        refreshAheadRatio > 0 && refreshAheadRatio < 1
+            ? Duration.ofMillis((long) (localTtl.toMillis() * refreshAheadRatio))
+            : null;
+
+    return new TwoLevelCacheManager(
+        redisCacheManager,
+        redisTemplate,
+        cacheRefreshExecutor,
+        meterRegistry,
+        localMaxSize,
+        localTtl,
+        refreshAfter);
   }
 }
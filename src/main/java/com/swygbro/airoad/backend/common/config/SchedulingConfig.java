@@ -0,0 +1,35 @@
+package com.swygbro.airoad.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 작업 실행 설정
+ *
+ * <p>TaskScheduler 빈이 WebSocket 하트비트 스케줄러(wsHeartbeatScheduler) 하나뿐이면 Spring Boot가 기본 스케줄러를 만들지 않고
+ * 모든 {@code @Scheduled} 메서드가 하트비트 스레드에서 실행됩니다. 긴 주기 작업이 STOMP 하트비트와 연결 종료 후 취소 작업을 지연시키지 않도록
+ * 이름이 {@code taskScheduler}인 전용 스케줄러를 등록합니다. {@code @Scheduled}는 TaskScheduler가 여러 개이면 이 이름의 빈을
+ * 사용합니다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+  /**
+   * {@code @Scheduled} 전용 스케줄러를 생성합니다.
+   *
+   * @param poolSize 스케줄러 스레드 수
+   * @return 설정된 ThreadPoolTaskScheduler
+   */
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${spring.task.scheduling.pool.size:2}") int poolSize) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduling-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.initialize();
+    return scheduler;
+  }
+}
@@ -0,0 +1,91 @@
+package com.swygbro.airoad.backend.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 고정(pinning)을 감지하는 모니터
+ *
+ * <p>가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어 스레드를 점유하여 다른 가상 스레드가 실행되지 못합니다. JFR의
+ * {@code jdk.VirtualThreadPinned} 이벤트를 구독하여 고정 시간을 {@value #PINNED_METRIC} 메트릭으로 기록하고 발생 위치를 로그로
+ * 남깁니다.
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서만 활성화됩니다. 애플리케이션 코드에서는 블로킹 I/O를 감싸는
+ * 임계 영역에 synchronized 대신 {@link java.util.concurrent.locks.ReentrantLock}을 사용해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+  public static final String PINNED_METRIC = "airoad.virtual-thread.pinned";
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+  private static final String APPLICATION_PACKAGE = "com.swygbro.airoad";
+
+  private final MeterRegistry meterRegistry;
+
+  private RecordingStream recordingStream;
+
+  @PostConstruct
+  public void start() {
+    Timer pinnedTimer = Timer.builder(PINNED_METRIC).register(meterRegistry);
+
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withStackTrace();
+    recordingStream.onEvent(
+        PINNED_EVENT,
+        event -> {
+          pinnedTimer.record(event.getDuration());
+          log.warn(
+              "가상 스레드 고정 감지 - {}ms, 위치: {}", event.getDuration().toMillis(), pinnedAt(event));
+        });
+    recordingStream.startAsync();
+
+    log.info("가상 스레드 고정 모니터 시작 - 기준 시간: {}ms", PINNED_THRESHOLD.toMillis());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  /** 애플리케이션 코드의 첫 프레임을 우선하여 고정이 발생한 위치를 반환합니다. */
+  private String pinnedAt(RecordedEvent event) {
+    if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+      return "알 수 없음";
+    }
+
+    List<RecordedFrame> frames = event.getStackTrace().getFrames();
+    RecordedFrame frame =
+        frames.stream()
+            .filter(f -> f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .orElse(frames.get(0));
+
+    return "%s.%s:%d"
+        .formatted(
+            frame.getMethod().getType().getName(),
+            frame.getMethod().getName(),
+            frame.getLineNumber());
+  }
+}
@@ -1,34 +1,27 @@
 package com.swygbro.airoad.backend.common.domain.entity;
 
-import java.time.LocalDateTime;
-
-import jakarta.persistence.Column;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
 import lombok.Getter;
 
+/**
+ * 시퀀스 기반 ID를 사용하는 엔티티의 공통 상위 클래스
+ *
+ * <p>엔티티마다 엔티티 이름을 따른 시퀀스(예: {@code daily_plan_seq}, 증가 크기 50)를 사용하고, Hibernate의 pooled 옵티마이저가
+ * 50개 단위로 ID를 미리 할당합니다. IDENTITY 전략과 달리 INSERT 전에 ID가 정해지므로 {@code hibernate.jdbc.batch_size}에
+ * 따라 INSERT가 JDBC 배치로 묶입니다.
+ *
+ * <p>ID는 인스턴스별로 블록 단위로 할당되므로 여러 인스턴스 사이에서는 생성 순서와 일치하지 않습니다. ID 순서가 생성 순서여야 하는 엔티티는
+ * {@link BaseTimeEntity}를 상속하고 ID 전략을 직접 지정합니다.
+ */
 @Getter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
-public abstract class BaseEntity {
+public abstract class BaseEntity extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE)
   private Long id;
-
-  @CreatedDate
-  @Column(nullable = false, updatable = false)
-  private LocalDateTime createdAt;
-
-  @LastModifiedDate
-  @Column(nullable = false)
-  private LocalDateTime updatedAt;
 }
@@ -21,7 +21,9 @@ public enum CommonErrorCode implements ErrorCode {
   UNAUTHORIZED("COMMON401", HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
   FORBIDDEN("COMMON403", HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
   RESOURCE_NOT_FOUND("COMMON404", HttpStatus.NOT_FOUND, "해당하는 리소스를 찾을 수 없습니다."),
-  INTERNAL_ERROR("COMMON500", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
+  INTERNAL_ERROR("COMMON500", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
+  SERVICE_BUSY(
+      "COMMON503", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
   private final String code;
   private final HttpStatus httpStatus;
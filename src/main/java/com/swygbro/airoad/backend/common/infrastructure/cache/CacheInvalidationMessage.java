@@ -0,0 +1,10 @@
+package com.swygbro.airoad.backend.common.infrastructure.cache;
+
+/**
+ * 2단계 캐시의 L1 무효화를 다른 인스턴스에 알리는 메시지
+ *
+ * @param instanceId 메시지를 발행한 인스턴스 ID (자신이 발행한 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key 무효화할 L1 키 (null이면 캐시 전체)
+ */
+public record CacheInvalidationMessage(String instanceId, String cacheName, String key) {}
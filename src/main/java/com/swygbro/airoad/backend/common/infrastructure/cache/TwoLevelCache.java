@@ -0,0 +1,444 @@
+package com.swygbro.airoad.backend.common.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 메모리(L1)와 원격 캐시(L2, Redis)를 차례로 조회하는 2단계 캐시
+ *
+ * <p>조회 순서는 L1 → L2 → 원본 로더이며, L2에서 찾은 값은 L1에 적재합니다. L1은 항목 수와 만료 시간이 제한된 Guava 캐시이고, 키는
+ * {@code String.valueOf(key)}입니다.
+ *
+ * <ul>
+ *   <li>단일 로드: {@link #get(Object, Callable)}은 같은 키의 동시 미스를 인스턴스 안에서 한 번만 로드하고 나머지 요청은 그 결과를
+ *       기다립니다. {@code @Cacheable(sync = true)}가 이 경로를 사용합니다.
+ *   <li>조기 갱신: {@code refreshAfter}가 설정되면, 적재 후 그 시간이 지난 항목이 조회될 때 기존 값을 바로 반환하고 백그라운드에서 다시
+ *       로드합니다. 자주 조회되는 키는 만료로 인한 미스가 생기지 않습니다.
+ *   <li>무효화 우선: 단일 로드나 조기 갱신이 진행되는 동안 해당 키가 변경되거나 무효화되면 로드 결과를 L1과 L2에 쓰지 않습니다. 로드한 값은
+ *       요청한 호출자에게만 반환됩니다.
+ *   <li>무효화 전파: {@code put}, {@code evict}, {@code clear}는 L2에 반영한 뒤 {@code
+ *       invalidationPublisher}로 다른 인스턴스에 알려 각 인스턴스의 L1 항목을 함께 제거합니다.
+ * </ul>
+ *
+ * <p>L2 장애 시에는 경고 로그만 남기고 L1과 원본 로더로 동작합니다. 조회 결과는 {@value #REQUESTS_METRIC}의 {@code outcome}
+ * 태그({@code local_hit}, {@code remote_hit}, {@code miss})로, 로드 시간은 {@value #LOAD_METRIC}으로 기록됩니다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+  public static final String REQUESTS_METRIC = "airoad.cache.requests";
+  public static final String LOAD_METRIC = "airoad.cache.load";
+  public static final String LOCAL_SIZE_METRIC = "airoad.cache.local.size";
+
+  private final String name;
+  private final Cache remote;
+  private final com.google.common.cache.Cache<String, LocalEntry> local;
+  private final Ticker ticker;
+  private final long refreshAfterNanos;
+  private final Executor refreshExecutor;
+  private final BiConsumer<String, String> invalidationPublisher;
+  private final ConcurrentMap<String, WriteTicket> loading = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, WriteTicket> refreshing = new ConcurrentHashMap<>();
+
+  private final Counter localHits;
+  private final Counter remoteHits;
+  private final Counter misses;
+  private final Timer loadSuccess;
+  private final Timer loadError;
+
+  /**
+   * @param name 캐시 이름
+   * @param remote L2 캐시
+   * @param maxSize L1 최대 항목 수
+   * @param localTtl L1 항목 만료 시간 (L2 만료 시간보다 짧아야 함)
+   * @param refreshAfter 조기 갱신 기준 시간 (null이면 조기 갱신 안 함)
+   * @param refreshExecutor 조기 갱신을 실행할 Executor
+   * @param invalidationPublisher 다른 인스턴스에 무효화를 알리는 함수 (캐시 이름, 키 - 전체 삭제면 null)
+   * @param meterRegistry 메트릭 레지스트리
+   * @param ticker 시간 소스 (null이면 시스템 시간)
+   */
+  @Builder
+  private TwoLevelCache(
+      String name,
+      Cache remote,
+      long maxSize,
+      Duration localTtl,
+      Duration refreshAfter,
+      Executor refreshExecutor,
+      BiConsumer<String, String> invalidationPublisher,
+      MeterRegistry meterRegistry,
+      Ticker ticker) {
+    this.name = name;
+    this.remote = remote;
+    this.ticker = ticker != null ? ticker : Ticker.systemTicker();
+    this.local =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(localTtl.toNanos(), TimeUnit.NANOSECONDS)
+            .ticker(this.ticker)
+            .build();
+    this.refreshAfterNanos = refreshAfter != null ? refreshAfter.toNanos() : 0L;
+    this.refreshExecutor = refreshExecutor;
+    this.invalidationPublisher = invalidationPublisher;
+
+    this.localHits = requestCounter(meterRegistry, "local_hit");
+    this.remoteHits = requestCounter(meterRegistry, "remote_hit");
+    this.misses = requestCounter(meterRegistry, "miss");
+    this.loadSuccess = loadTimer(meterRegistry, "success");
+    this.loadError = loadTimer(meterRegistry, "error");
+    Gauge.builder(LOCAL_SIZE_METRIC, local, com.google.common.cache.Cache::size)
+        .tag("cache", name)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return local;
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = localKey(key);
+    LocalEntry entry = local.getIfPresent(localKey);
+    if (entry != null) {
+      localHits.increment();
+      return new SimpleValueWrapper(entry.value());
+    }
+
+    ValueWrapper remoteValue = getRemote(key);
+    if (remoteValue != null) {
+      remoteHits.increment();
+      local.put(localKey, new LocalEntry(remoteValue.get(), ticker.read()));
+      return remoteValue;
+    }
+
+    misses.increment();
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    String localKey = localKey(key);
+    LocalEntry entry = local.getIfPresent(localKey);
+    if (entry != null) {
+      localHits.increment();
+      refreshIfStale(key, localKey, entry, valueLoader);
+      return (T) entry.value();
+    }
+
+    try {
+      // Guava 캐시가 같은 키의 동시 로드를 하나로 합치고 나머지 요청은 결과를 기다림
+      WriteTicket ticket = new WriteTicket();
+      LocalEntry loaded =
+          local.get(localKey, () -> loadThrough(key, localKey, valueLoader, ticket));
+      if (ticket.isCancelled()) {
+        // 로드 중 무효화되었으면 Guava가 적재한 항목도 제거
+        local.asMap().remove(localKey, loaded);
+      }
+      return (T) loaded.value();
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      throw new ValueRetrievalException(key, valueLoader, e.getCause());
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    cancelPendingWrites(localKey(key));
+    putRemote(key, value);
+    local.put(localKey(key), new LocalEntry(value, ticker.read()));
+    invalidationPublisher.accept(name, localKey(key));
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    cancelPendingWrites(localKey(key));
+    ValueWrapper existing = remote.putIfAbsent(key, value);
+    Object current = existing != null ? existing.get() : value;
+    local.put(localKey(key), new LocalEntry(current, ticker.read()));
+    if (existing == null) {
+      invalidationPublisher.accept(name, localKey(key));
+    }
+    return existing;
+  }
+
+  @Override
+  public void evict(Object key) {
+    cancelPendingWrites(localKey(key));
+    remote.evict(key);
+    evictLocal(localKey(key));
+    invalidationPublisher.accept(name, localKey(key));
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    cancelPendingWrites(localKey(key));
+    boolean evicted = remote.evictIfPresent(key);
+    evictLocal(localKey(key));
+    invalidationPublisher.accept(name, localKey(key));
+    return evicted;
+  }
+
+  @Override
+  public void clear() {
+    cancelAllPendingWrites();
+    remote.clear();
+    clearLocal();
+    invalidationPublisher.accept(name, null);
+  }
+
+  @Override
+  public boolean invalidate() {
+    cancelAllPendingWrites();
+    boolean invalidated = remote.invalidate();
+    clearLocal();
+    invalidationPublisher.accept(name, null);
+    return invalidated;
+  }
+
+  /**
+   * 다른 인스턴스의 무효화 메시지를 받아 L1 항목만 제거합니다.
+   *
+   * @param localKey L1 키
+   */
+  public void evictLocal(String localKey) {
+    cancelPendingWrites(localKey);
+    local.invalidate(localKey);
+  }
+
+  /** 다른 인스턴스의 전체 무효화 메시지를 받아 L1 전체를 비웁니다. */
+  public void clearLocal() {
+    cancelAllPendingWrites();
+    local.invalidateAll();
+  }
+
+  /**
+   * L2 또는 원본 로더에서 값을 읽습니다. 같은 키의 로드는 Guava 캐시가 하나로 합치므로 이 메서드는 키마다 한 번에 하나만 실행됩니다.
+   *
+   * <p>로드 중에 키가 변경되거나 무효화되면 로더 결과를 L2에 쓰지 않습니다.
+   */
+  private LocalEntry loadThrough(
+      Object key, String localKey, Callable<?> valueLoader, WriteTicket ticket) throws Exception {
+    ValueWrapper remoteValue = getRemote(key);
+    if (remoteValue != null) {
+      remoteHits.increment();
+      return new LocalEntry(remoteValue.get(), ticker.read());
+    }
+
+    misses.increment();
+    loading.put(localKey, ticket);
+    try {
+      Object value = load(valueLoader);
+      if (!ticket.runIfCurrent(() -> putRemote(key, value))) {
+        log.debug("로드 중 무효화되어 로드 결과를 캐시에 쓰지 않음 - cache: {}, key: {}", name, localKey);
+      }
+      return new LocalEntry(value, ticker.read());
+    } finally {
+      loading.remove(localKey, ticket);
+    }
+  }
+
+  private void refreshIfStale(
+      Object key, String localKey, LocalEntry entry, Callable<?> valueLoader) {
+    if (refreshAfterNanos <= 0 || ticker.read() - entry.loadedAt() < refreshAfterNanos) {
+      return;
+    }
+    WriteTicket ticket = new WriteTicket();
+    if (refreshing.putIfAbsent(localKey, ticket) != null) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(
+          () -> {
+            try {
+              Object value = load(valueLoader);
+              boolean written =
+                  ticket.runIfCurrent(
+                      () -> {
+                        putRemote(key, value);
+                        local.put(localKey, new LocalEntry(value, ticker.read()));
+                      });
+              if (!written) {
+                log.debug("갱신 중 무효화되어 조기 갱신 결과를 버림 - cache: {}, key: {}", name, localKey);
+              }
+            } catch (Exception e) {
+              log.warn("캐시 조기 갱신 실패 - cache: {}, key: {}", name, localKey, e);
+            } finally {
+              refreshing.remove(localKey, ticket);
+            }
+          });
+    } catch (RuntimeException e) {
+      // 갱신 풀이 포화되면 이번 갱신은 건너뛰고 다음 조회에서 다시 시도
+      refreshing.remove(localKey, ticket);
+      log.debug("캐시 조기 갱신 건너뜀 - cache: {}, key: {}", name, localKey);
+    }
+  }
+
+  /**
+   * 진행 중인 단일 로드와 조기 갱신이 있으면 그 결과를 버리도록 표시합니다.
+   *
+   * <p>변경이나 무효화보다 먼저 호출해야 로드 결과가 변경 이후에 덮어쓰이지 않습니다.
+   *
+   * @param localKey L1 키
+   */
+  private void cancelPendingWrites(String localKey) {
+    cancel(loading.remove(localKey));
+    cancel(refreshing.remove(localKey));
+  }
+
+  private void cancelAllPendingWrites() {
+    loading.keySet().forEach(this::cancelPendingWrites);
+    refreshing.keySet().forEach(this::cancelPendingWrites);
+  }
+
+  private static void cancel(WriteTicket ticket) {
+    if (ticket != null) {
+      ticket.cancel();
+    }
+  }
+
+  private Object load(Callable<?> valueLoader) throws Exception {
+    long start = ticker.read();
+    try {
+      Object value = valueLoader.call();
+      loadSuccess.record(ticker.read() - start, TimeUnit.NANOSECONDS);
+      return value;
+    } catch (Exception e) {
+      loadError.record(ticker.read() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+  }
+
+  private ValueWrapper getRemote(Object key) {
+    try {
+      return remote.get(key);
+    } catch (RuntimeException e) {
+      log.warn("원격 캐시 조회 실패, 로컬 캐시만 사용 - cache: {}: {}", name, e.getMessage());
+      return null;
+    }
+  }
+
+  private void putRemote(Object key, Object value) {
+    try {
+      remote.put(key, value);
+    } catch (RuntimeException e) {
+      log.warn("원격 캐시 저장 실패 - cache: {}: {}", name, e.getMessage());
+    }
+  }
+
+  private Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(REQUESTS_METRIC)
+        .tag("cache", name)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private Timer loadTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder(LOAD_METRIC)
+        .tag("cache", name)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static String localKey(Object key) {
+    return String.valueOf(key);
+  }
+
+  /**
+   * L1 항목
+   *
+   * @param value 캐시 값 (null 가능)
+   * @param loadedAt 적재 시각 (ticker 기준 나노초)
+   */
+  private record LocalEntry(Object value, long loadedAt) {}
+
+  /**
+   * 진행 중인 단일 로드 또는 조기 갱신 한 건. 취소된 뒤에는 로드 결과를 캐시에 쓰지 않습니다.
+   *
+   * <p>쓰기 작업이 Redis 호출을 포함하므로 {@code synchronized} 대신 {@link ReentrantLock}을 사용하여 가상 스레드가 캐리어 스레드에
+   * 고정되지 않게 합니다.
+   */
+  private static final class WriteTicket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean cancelled;
+
+    void cancel() {
+      lock.lock();
+      try {
+        cancelled = true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    boolean isCancelled() {
+      lock.lock();
+      try {
+        return cancelled;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * 취소되지 않았으면 쓰기 작업을 실행합니다. 취소와 같은 잠금을 사용하므로 쓰기 도중 시작된 무효화는 쓰기가 끝난 뒤에 적용됩니다.
+     *
+     * @param write 캐시 쓰기 작업
+     * @return 실행 여부
+     */
+    boolean runIfCurrent(Runnable write) {
+      lock.lock();
+      try {
+        if (cancelled) {
+          return false;
+        }
+        write.run();
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
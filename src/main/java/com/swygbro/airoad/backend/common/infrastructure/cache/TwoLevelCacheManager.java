@@ -0,0 +1,122 @@
+package com.swygbro.airoad.backend.common.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 CacheManager(Redis)의 캐시마다 로컬 L1 캐시를 붙인 {@link TwoLevelCache}를 제공하는 CacheManager
+ *
+ * <p>L1 무효화는 Redis Pub/Sub 채널({@value #INVALIDATION_CHANNEL})로 다른 인스턴스에 전파되며, 수신 측은 {@link
+ * #onMessage(byte[])}로 자신의 L1 항목만 제거합니다. 각 인스턴스는 기동 시 생성한 ID로 자신이 발행한 메시지를 구분합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+  /** 다른 서버 인스턴스에 L1 무효화를 알리는 Redis Pub/Sub 채널 */
+  public static final String INVALIDATION_CHANNEL = "cache:invalidated";
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  private final CacheManager remoteCacheManager;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final Executor refreshExecutor;
+  private final MeterRegistry meterRegistry;
+  private final long localMaxSize;
+  private final Duration localTtl;
+  private final Duration refreshAfter;
+
+  /**
+   * @param remoteCacheManager L2 캐시를 제공하는 CacheManager
+   * @param redisTemplate 무효화 메시지 발행용 RedisTemplate
+   * @param refreshExecutor 조기 갱신을 실행할 Executor
+   * @param meterRegistry 메트릭 레지스트리
+   * @param localMaxSize 캐시별 L1 최대 항목 수
+   * @param localTtl L1 항목 만료 시간
+   * @param refreshAfter 조기 갱신 기준 시간 (null이면 조기 갱신 안 함)
+   */
+  public TwoLevelCacheManager(
+      CacheManager remoteCacheManager,
+      RedisTemplate<String, Object> redisTemplate,
+      Executor refreshExecutor,
+      MeterRegistry meterRegistry,
+      long localMaxSize,
+      Duration localTtl,
+      Duration refreshAfter) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.redisTemplate = redisTemplate;
+    this.refreshExecutor = refreshExecutor;
+    this.meterRegistry = meterRegistry;
+    this.localMaxSize = localMaxSize;
+    this.localTtl = localTtl;
+    this.refreshAfter = refreshAfter;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteCacheManager.getCacheNames();
+  }
+
+  /**
+   * 다른 인스턴스가 발행한 무효화 메시지를 처리합니다.
+   *
+   * @param body 직렬화된 {@link CacheInvalidationMessage}
+   */
+  public void onMessage(byte[] body) {
+    Object deserialized = redisTemplate.getValueSerializer().deserialize(body);
+    if (!(deserialized instanceof CacheInvalidationMessage message)
+        || instanceId.equals(message.instanceId())) {
+      return;
+    }
+
+    TwoLevelCache cache = caches.get(message.cacheName());
+    if (cache == null) {
+      return;
+    }
+
+    if (message.key() == null) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(message.key());
+    }
+    log.debug("L1 캐시 무효화 수신 - cache: {}, key: {}", message.cacheName(), message.key());
+  }
+
+  private TwoLevelCache createCache(String name) {
+    return TwoLevelCache.builder()
+        .name(name)
+        .remote(remoteCacheManager.getCache(name))
+        .maxSize(localMaxSize)
+        .localTtl(localTtl)
+        .refreshAfter(refreshAfter)
+        .refreshExecutor(refreshExecutor)
+        .invalidationPublisher(this::publish)
+        .meterRegistry(meterRegistry)
+        .build();
+  }
+
+  private void publish(String cacheName, String key) {
+    try {
+      redisTemplate.convertAndSend(
+          INVALIDATION_CHANNEL, new CacheInvalidationMessage(instanceId, cacheName, key));
+    } catch (Exception e) {
+      log.warn("L1 캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+    }
+  }
+}
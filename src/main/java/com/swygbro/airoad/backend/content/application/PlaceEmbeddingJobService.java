@@ -0,0 +1,253 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Lists;
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingBatchResult;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobFailureResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobResponse;
+import com.swygbro.airoad.backend.content.domain.entity.EmbeddingJobStatus;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJob;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJobFailure;
+import com.swygbro.airoad.backend.content.domain.event.PlaceEmbeddingJobRequestedEvent;
+import com.swygbro.airoad.backend.content.exception.ContentErrorCode;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingJobFailureRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingJobRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Place 임베딩 작업 서비스
+ *
+ * <p>작업은 대상 Place ID를 {@value #CHECKPOINT_BATCH_SIZE}개씩 처리하고, 배치마다 짧은 트랜잭션으로 진행 건수, 실패 목록, 체크포인트(마지막
+ * Place ID)를 저장합니다. 작업 전체를 하나의 트랜잭션으로 묶지 않으므로 중간에 서버가 종료되어도 저장된 체크포인트 다음부터 이어서 처리할 수 있습니다.
+ *
+ * <p>체크포인트는 배치의 요약, 임베딩, 저장이 모두 끝나고 요약/저장 실패가 실패 목록에 기록된 뒤에만 이동합니다. 처리 중에 서버가 종료되면
+ * 해당 배치는 재개 시 처음부터 다시 처리되며, 이미 저장된 장소는 지문이 같아 건너뜁니다.
+ *
+ * <p>실행 중 상태로 남아 일정 시간({@code spring.ai.embedding-job.stale-timeout-ms}) 동안 진행되지 않은 작업은 {@link
+ * #resumeStalledJobs()}가 다시 실행을 요청합니다. 재개한 실행은 새 실행 토큰을 받으므로 이전 실행이 살아 있더라도 다음 체크포인트에서 멈춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceEmbeddingJobService implements PlaceEmbeddingJobUseCase {
+
+  /** 체크포인트를 저장하는 단위 (Place 수) */
+  private static final int CHECKPOINT_BATCH_SIZE = 100;
+
+  /** 첫 실행의 체크포인트 (모든 Place ID보다 작은 값) */
+  private static final long INITIAL_CHECKPOINT = 0L;
+
+  private static final List<EmbeddingJobStatus> ACTIVE_STATUSES =
+      List.of(EmbeddingJobStatus.PENDING, EmbeddingJobStatus.RUNNING);
+
+  private final PlaceEmbeddingJobRepository jobRepository;
+  private final PlaceEmbeddingJobFailureRepository failureRepository;
+  private final PlaceRepository placeRepository;
+  private final PlaceEmbeddingUseCase placeEmbeddingUseCase;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${spring.ai.embedding-job.stale-timeout-ms:600000}")
+  private long staleTimeoutMillis;
+
+  @Override
+  @Transactional
+  public PlaceEmbeddingJobResponse startJob(LocalDateTime since) {
+    if (jobRepository.existsByStatusIn(ACTIVE_STATUSES)) {
+      throw new BusinessException(ContentErrorCode.EMBEDDING_JOB_ALREADY_RUNNING);
+    }
+
+    PlaceEmbeddingJob job = jobRepository.save(PlaceEmbeddingJob.builder().since(since).build());
+    eventPublisher.publishEvent(new PlaceEmbeddingJobRequestedEvent(job.getId()));
+
+    log.info("Place embedding job created - jobId: {}, since: {}", job.getId(), since);
+    return PlaceEmbeddingJobResponse.of(job);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PlaceEmbeddingJobResponse getJob(Long jobId) {
+    return PlaceEmbeddingJobResponse.of(findJob(jobId));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PlaceEmbeddingJobFailureResponse> getFailures(Long jobId) {
+    findJob(jobId);
+    return failureRepository.findAllByJobIdOrderByIdAsc(jobId).stream()
+        .map(PlaceEmbeddingJobFailureResponse::of)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public PlaceEmbeddingJobResponse cancelJob(Long jobId) {
+    PlaceEmbeddingJob job = findJob(jobId);
+    if (job.getStatus().isFinished()) {
+      throw new BusinessException(ContentErrorCode.EMBEDDING_JOB_ALREADY_FINISHED);
+    }
+
+    job.cancel("관리자 요청으로 취소");
+    log.info("Place embedding job cancelled - jobId: {}", jobId);
+    return PlaceEmbeddingJobResponse.of(job);
+  }
+
+  /**
+   * 임베딩 작업을 체크포인트부터 실행합니다.
+   *
+   * <p>메서드 전체가 아닌 상태 변경 단계마다 짧은 트랜잭션을 사용합니다. 취소되었거나 다른 실행이 작업을 넘겨받으면 다음 체크포인트에서 멈춥니다.
+   *
+   * @param jobId 작업 ID
+   */
+  @Override
+  public void runJob(Long jobId) {
+    String runToken = UUID.randomUUID().toString();
+    List<Long> placeIds;
+    try {
+      placeIds = transactionTemplate.execute(status -> claim(jobId, runToken));
+    } catch (ObjectOptimisticLockingFailureException e) {
+      log.info("Place embedding job claimed by another runner - jobId: {}", jobId);
+      return;
+    }
+    if (placeIds == null) {
+      return;
+    }
+
+    log.info("Place embedding job running - jobId: {}, remaining: {}", jobId, placeIds.size());
+    try {
+      for (List<Long> batchIds : Lists.partition(placeIds, CHECKPOINT_BATCH_SIZE)) {
+        PlaceEmbeddingBatchResult result = placeEmbeddingUseCase.embedBatch(batchIds);
+        Long checkpoint = batchIds.get(batchIds.size() - 1);
+
+        if (!recordBatch(jobId, runToken, result, checkpoint)) {
+          log.info("Place embedding job stopped at checkpoint - jobId: {}", jobId);
+          return;
+        }
+      }
+
+      transactionTemplate.execute(
+          status -> {
+            PlaceEmbeddingJob job = findJob(jobId);
+            if (job.isRunBy(runToken)) {
+              job.complete();
+            }
+            return null;
+          });
+      log.info("Place embedding job completed - jobId: {}", jobId);
+
+    } catch (Exception e) {
+      log.error("Place embedding job failed - jobId: {}", jobId, e);
+      transactionTemplate.execute(
+          status -> {
+            PlaceEmbeddingJob job = findJob(jobId);
+            if (job.isRunBy(runToken)) {
+              job.fail(e.getMessage());
+            }
+            return null;
+          });
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void resumeStalledJobs() {
+    LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleTimeoutMillis));
+    for (PlaceEmbeddingJob job :
+        jobRepository.findAllByStatusInAndUpdatedAtBefore(ACTIVE_STATUSES, staleBefore)) {
+      log.warn(
+          "Resuming stalled place embedding job - jobId: {}, checkpoint: {}",
+          job.getId(),
+          job.getLastPlaceId());
+      eventPublisher.publishEvent(new PlaceEmbeddingJobRequestedEvent(job.getId()));
+    }
+  }
+
+  /**
+   * 작업을 실행 상태로 전환하고 체크포인트 이후의 대상 Place ID를 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @param runToken 새 실행 토큰
+   * @return 처리할 Place ID 목록 (실행할 수 없는 작업이면 null)
+   */
+  private List<Long> claim(Long jobId, String runToken) {
+    PlaceEmbeddingJob job = findJob(jobId);
+    if (job.getStatus().isFinished()) {
+      log.info(
+          "Place embedding job already finished - jobId: {}, status: {}", jobId, job.getStatus());
+      return null;
+    }
+
+    long checkpoint = job.getLastPlaceId() != null ? job.getLastPlaceId() : INITIAL_CHECKPOINT;
+    List<Long> placeIds =
+        job.getSince() != null
+            ? placeRepository.findMustVisitIdsByUpdatedAtAfter(job.getSince(), checkpoint)
+            : placeRepository.findMustVisitIdsAfter(checkpoint);
+
+    job.start(runToken, placeIds.size());
+    jobRepository.saveAndFlush(job);
+    return placeIds;
+  }
+
+  /**
+   * 배치 결과와 체크포인트를 저장합니다.
+   *
+   * <p>취소 요청과 동시에 기록되면 낙관적 잠금 충돌이 발생하므로, 작업을 다시 읽어 한 번 더 시도합니다.
+   *
+   * @return 작업을 계속 진행해도 되면 true
+   */
+  private boolean recordBatch(
+      Long jobId, String runToken, PlaceEmbeddingBatchResult result, Long checkpoint) {
+    try {
+      return Boolean.TRUE.equals(
+          transactionTemplate.execute(status -> applyBatch(jobId, runToken, result, checkpoint)));
+    } catch (ObjectOptimisticLockingFailureException e) {
+      return Boolean.TRUE.equals(
+          transactionTemplate.execute(status -> applyBatch(jobId, runToken, result, checkpoint)));
+    }
+  }
+
+  private boolean applyBatch(
+      Long jobId, String runToken, PlaceEmbeddingBatchResult result, Long checkpoint) {
+    PlaceEmbeddingJob job = findJob(jobId);
+    if (!job.isRunBy(runToken)) {
+      return false;
+    }
+
+    Map<Long, String> failures = result.failures();
+    job.recordBatch(result.processedCount(), result.skippedCount(), failures.size(), checkpoint);
+    failureRepository.saveAll(
+        failures.entrySet().stream()
+            .map(
+                failure ->
+                    PlaceEmbeddingJobFailure.builder()
+                        .jobId(jobId)
+                        .placeId(failure.getKey())
+                        .reason(failure.getValue())
+                        .build())
+            .toList());
+    jobRepository.saveAndFlush(job);
+    return true;
+  }
+
+  private PlaceEmbeddingJob findJob(Long jobId) {
+    return jobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new BusinessException(ContentErrorCode.EMBEDDING_JOB_NOT_FOUND));
+  }
+}
@@ -0,0 +1,58 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobFailureResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobResponse;
+
+/**
+ * Place 임베딩 작업 UseCase 인터페이스
+ *
+ * <p>전체/증분 임베딩을 체크포인트가 저장되는 작업으로 실행하고, 작업의 조회, 취소, 재개를 정의합니다.
+ */
+public interface PlaceEmbeddingJobUseCase {
+
+  /**
+   * 임베딩 작업을 생성하고 비동기 실행을 요청합니다.
+   *
+   * @param since 기준 시각 (null이면 모든 필수 방문지를 처리)
+   * @return 생성된 작업
+   * @throws com.swygbro.airoad.backend.common.exception.BusinessException 이미 진행 중인 작업이 있는 경우
+   */
+  PlaceEmbeddingJobResponse startJob(LocalDateTime since);
+
+  /**
+   * 임베딩 작업의 진행 상태를 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 진행 상태
+   */
+  PlaceEmbeddingJobResponse getJob(Long jobId);
+
+  /**
+   * 임베딩 작업에서 실패한 장소 목록을 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 실패한 장소 목록
+   */
+  List<PlaceEmbeddingJobFailureResponse> getFailures(Long jobId);
+
+  /**
+   * 임베딩 작업을 취소합니다. 실행 중인 작업은 다음 체크포인트에서 멈춥니다.
+   *
+   * @param jobId 작업 ID
+   * @return 취소된 작업
+   */
+  PlaceEmbeddingJobResponse cancelJob(Long jobId);
+
+  /**
+   * 임베딩 작업을 체크포인트부터 실행합니다.
+   *
+   * @param jobId 작업 ID
+   */
+  void runJob(Long jobId);
+
+  /** 일정 시간 동안 진행되지 않은 작업(서버 종료 등으로 중단된 작업)의 재개를 요청합니다. */
+  void resumeStalledJobs();
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  *   <li>증분 업데이트: 매일 한국 시간 02:00 - 최근 24시간 수정본만 처리
  *   <li>전체 재임베딩: 주 1회 (일요일 한국 시간 03:00) - 전체 데이터 정합성 보장
+ *   <li>작업 복구: 1분마다 - 서버 종료 등으로 중단된 임베딩 작업을 체크포인트부터 재개
  * </ul>
  *
  * <p>PlaceEmbeddingUseCase Bean이 존재할 때만 활성화됩니다.
@@ -28,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PlaceEmbeddingScheduler {
 
   private final PlaceEmbeddingUseCase placeEmbeddingUseCase;
+  private final PlaceEmbeddingJobUseCase placeEmbeddingJobUseCase;
 
   /** 매일 한국 시간 02:00 (UTC 17:00 전날)에 최근 24시간 수정된 Place 삭제 후 재생성 */
   //  @Scheduled(cron = "0 0 17 * * ?", zone = "UTC")
@@ -53,4 +56,16 @@ public class PlaceEmbeddingScheduler {
       log.error("Scheduled full Place embedding failed", e);
     }
   }
+
+  /** 1분마다 진행이 멈춘 임베딩 작업을 찾아 재개를 요청 */
+  @Scheduled(
+      fixedDelayString = "${spring.ai.embedding-job.recovery-interval-ms:60000}",
+      initialDelayString = "${spring.ai.embedding-job.recovery-interval-ms:60000}")
+  public void resumeStalledEmbeddingJobs() {
+    try {
+      placeEmbeddingJobUseCase.resumeStalledJobs();
+    } catch (Exception e) {
+      log.error("Failed to resume stalled Place embedding jobs", e);
+    }
+  }
 }
@@ -2,55 +2,122 @@ package com.swygbro.airoad.backend.content.application;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.collect.Lists;
+import com.swygbro.airoad.backend.ai.agent.summary.dto.request.AiPlaceSummaryRequest;
+import com.swygbro.airoad.backend.ai.application.common.PlaceSummaryUseCase;
+import com.swygbro.airoad.backend.ai.application.query.AiPromptTemplateQueryUseCase;
+import com.swygbro.airoad.backend.ai.domain.dto.response.AiPromptTemplateResponse;
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.domain.entity.PromptType;
+import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
+import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingBatchResult;
 import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
 import com.swygbro.airoad.backend.content.domain.event.PlaceSummaryRequestedEvent;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingFingerprintRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Place 임베딩 서비스
+ *
+ * <p>임베딩은 다음 단계의 파이프라인으로 처리됩니다.
+ *
+ * <ol>
+ *   <li>대상 스냅샷: 필수 방문지 ID만 먼저 조회하여 DB 커서를 오래 열어두지 않습니다.
+ *   <li>배치 로드: ID를 {@value #LOAD_BATCH_SIZE}개씩 나누어 테마와 함께 조회합니다.
+ *   <li>요약: {@link PlaceSummaryRequestedEvent}를 발행하면 summaryTaskExecutor의 작업자들이 병렬로 요약합니다.
+ *   <li>임베딩 및 저장: 요약 완료 이벤트를 받아 vectorTaskExecutor의 작업자들이 임베딩 후 저장합니다.
+ * </ol>
+ *
+ * <p>각 단계의 스레드 풀은 크기가 제한된 큐를 가지며, 큐가 가득 차면 앞 단계의 스레드가 직접 실행하여 속도를 맞춥니다. 프로바이더 요청 속도는 단계와
+ * 무관하게 프로바이더별 토큰 버킷(ProviderRateLimiter)이 제한합니다.
+ *
+ * <p>임베딩 작업이 호출하는 {@link #embedBatch(List)}는 이벤트를 발행하지 않고 같은 두 스레드 풀에서 요약과 저장을 실행한 뒤 모두 끝날 때까지
+ * 기다립니다. 따라서 결과를 돌려받은 시점에는 배치의 모든 장소가 저장되었거나 실패 사유와 함께 실패로 집계되어 있습니다.
+ *
+ * <p>배치 처리 시 요약 입력(장소 정보 + 요약 프롬프트)의 지문을 마지막으로 임베딩한 지문과 비교하여, 변경이 없는 장소는 요약과 임베딩을 모두
+ * 건너뜁니다. 처리/건너뜀 건수는 {@value #PLACES_METRIC} 카운터({@code outcome} 태그)로 기록됩니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PlaceEmbeddingService implements PlaceEmbeddingUseCase {
 
   /**
-   * 배치 사이즈는 반드시 1로 고정해야 합니다. 네이버 CLOVA X의 경우 임베딩에 필요한 input 필드 지원을 String 형식만 지원합니다. 이번 MVP에서는 구현이
-   * 우선이므로 여행지 장소 임베딩을 단건 처리로 API 요청을 보내도록 하고 추후 청킹 전략으로 전환이 필요합니다.
-   */
-  private static final int BATCH_SIZE = 1;
-
-  /**
-   * API Rate Limiter (초당 최대 1개로 제한)
+   * 한 번에 로드할 Place 수
    *
-   * <p>Naver ClovaX API의 Rate Limit (분당 60회)를 초과하지 않도록 초당 최대 1개의 요청만 허용합니다.
+   * <p>네이버 CLOVA X 임베딩은 input 필드로 String 형식만 지원하므로, 임베딩 요청은 로드 배치와 관계없이 장소마다 단건으로 전송됩니다.
    */
-  private final RateLimiter rateLimiter = RateLimiter.create(55.0 / 60.0);
+  private static final int LOAD_BATCH_SIZE = 100;
+
+  /** 동기 배치에서 한 번에 저장할 최대 장소 수 (PlaceVectorStoreListener의 배치 크기와 같음) */
+  private static final int VECTOR_SAVE_BATCH_SIZE = 20;
+
+  static final String PLACES_METRIC = "airoad.place.embedding.places";
 
   private final PlaceRepository placeRepository;
+  private final PlaceEmbeddingFingerprintRepository fingerprintRepository;
+  private final PlaceDocumentConverter placeDocumentConverter;
+  private final AiPromptTemplateQueryUseCase aiPromptTemplateQueryUseCase;
+  private final PlaceSummaryUseCase placeSummaryUseCase;
+  private final PlaceVectorCommandUseCase placeVectorCommandUseCase;
   private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+  private final Executor summaryTaskExecutor;
+  private final Executor vectorTaskExecutor;
+
+  public PlaceEmbeddingService(
+      PlaceRepository placeRepository,
+      PlaceEmbeddingFingerprintRepository fingerprintRepository,
+      PlaceDocumentConverter placeDocumentConverter,
+      AiPromptTemplateQueryUseCase aiPromptTemplateQueryUseCase,
+      PlaceSummaryUseCase placeSummaryUseCase,
+      PlaceVectorCommandUseCase placeVectorCommandUseCase,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Qualifier("summaryTaskExecutor") Executor summaryTaskExecutor,
+      @Qualifier("vectorTaskExecutor") Executor vectorTaskExecutor) {
+    this.placeRepository = placeRepository;
+    this.fingerprintRepository = fingerprintRepository;
+    this.placeDocumentConverter = placeDocumentConverter;
+    this.aiPromptTemplateQueryUseCase = aiPromptTemplateQueryUseCase;
+    this.placeSummaryUseCase = placeSummaryUseCase;
+    this.placeVectorCommandUseCase = placeVectorCommandUseCase;
+    this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.summaryTaskExecutor = summaryTaskExecutor;
+    this.vectorTaskExecutor = vectorTaskExecutor;
+  }
 
   /**
-   * 모든 Place 데이터를 임베딩하여 벡터 스토어에 저장
+   * 모든 필수 방문지 Place를 임베딩하여 벡터 스토어에 저장
    *
-   * <p>Stream + Batch 방식으로 메모리 효율적으로 처리하며, 이벤트를 발행하여 비동기 처리합니다.
+   * <p>대상 ID를 스냅샷한 뒤 배치 단위로 로드하여 이벤트를 발행합니다.
    */
   @Override
-  @Transactional(readOnly = true)
   public void embedAllPlaces() {
     log.info("Starting to embed all places");
-    try (Stream<Place> placeStream = placeRepository.streamAllBy()) {
-      processPlaceStream(placeStream);
-    }
+    processPlaceIds(placeRepository.findMustVisitIds());
   }
 
   /**
@@ -61,12 +128,33 @@ public class PlaceEmbeddingService implements PlaceEmbeddingUseCase {
    * @param since 기준 시각 (이 시각 이후 수정된 Place만 처리)
    */
   @Override
-  @Transactional(readOnly = true)
   public void embedModifiedPlaces(LocalDateTime since) {
     log.info("Starting to embed places modified after: {}", since);
-    try (Stream<Place> placeStream = placeRepository.streamByUpdatedAtAfter(since)) {
-      processPlaceStream(placeStream);
-    }
+    processPlaceIds(placeRepository.findMustVisitIdsByUpdatedAtAfter(since));
+  }
+
+  /**
+   * 주어진 Place ID 배치를 요약, 임베딩, 저장까지 마친 뒤 결과를 반환
+   *
+   * <p>요약은 summaryTaskExecutor, 임베딩 및 저장은 vectorTaskExecutor에서 병렬로 실행하고 모두 끝날 때까지 기다립니다. 요약이나
+   * 저장에 실패한 장소는 실패 사유와 함께 결과에 담기며, 저장에 실패한 묶음의 장소는 모두 실패로 집계됩니다.
+   *
+   * @param placeIds 처리할 Place ID 목록
+   * @return 배치 처리 결과
+   */
+  @Override
+  public PlaceEmbeddingBatchResult embedBatch(List<Long> placeIds) {
+    List<Place> places = placeRepository.findAllByIdsWithThemes(placeIds);
+    Map<Long, String> failures = new LinkedHashMap<>();
+    Selection selection = selectChanged(places, resolvePromptVersion(), failures);
+
+    List<PlaceVectorSaveRequest> summarized = summarizeAll(selection.targets(), failures);
+    saveAll(summarized, failures);
+
+    // 필수 방문지가 아니거나 삭제된 Place는 건너뛴 것으로 집계
+    int missing = placeIds.size() - places.size();
+    return new PlaceEmbeddingBatchResult(
+        placeIds.size(), selection.skippedCount() + missing, failures);
   }
 
   /**
@@ -91,7 +179,9 @@ public class PlaceEmbeddingService implements PlaceEmbeddingUseCase {
                   return new IllegalArgumentException("Place not found with ID: " + placeId);
                 });
 
-    publishPlaceSummaryEvent(place);
+    // 단건 요청은 명시적인 재생성 요청이므로 지문이 같아도 다시 처리
+    eventPublisher.publishEvent(
+        toSummaryRequestedEvent(place, buildContentHash(place, resolvePromptVersion())));
 
     log.info(
         "PlaceSummaryRequestedEvent published - placeId: {}, name: {}",
@@ -100,73 +190,224 @@ public class PlaceEmbeddingService implements PlaceEmbeddingUseCase {
   }
 
   /**
-   * Place Stream을 배치 단위로 처리
+   * 스냅샷한 Place ID를 배치 단위로 로드하여 처리
+   *
+   * <p>배치마다 짧은 조회 트랜잭션만 사용하므로 전체 처리 시간 동안 커넥션을 점유하지 않습니다. 변경된 Place마다 이벤트를 발행하고 완료를 기다리지
+   * 않습니다.
    *
-   * @param placeStream 처리할 Place Stream
+   * @param placeIds 처리할 Place ID 목록
    */
-  private void processPlaceStream(Stream<Place> placeStream) {
-    List<Place> batch = new ArrayList<>(BATCH_SIZE);
+  private void processPlaceIds(List<Long> placeIds) {
+    log.info("Embedding target snapshot - {} places", placeIds.size());
 
-    placeStream.forEach(
-        place -> {
-          batch.add(place);
-
-          if (batch.size() >= BATCH_SIZE) {
-            processBatch(new ArrayList<>(batch));
-            batch.clear();
-          }
-        });
-
-    if (!batch.isEmpty()) {
-      processBatch(batch);
+    String promptVersion = resolvePromptVersion();
+    for (List<Long> batchIds : Lists.partition(placeIds, LOAD_BATCH_SIZE)) {
+      Map<Long, String> failures = new LinkedHashMap<>();
+      Selection selection =
+          selectChanged(placeRepository.findAllByIdsWithThemes(batchIds), promptVersion, failures);
+      for (PlaceSummaryRequestedEvent event : selection.targets()) {
+        eventPublisher.publishEvent(event);
+        placeCounter("processed").increment();
+        log.debug("PlaceSummaryRequestedEvent published - placeId: {}", event.placeId());
+      }
     }
   }
 
   /**
-   * 배치 단위로 Place를 처리하여 이벤트 발행
-   *
-   * <p>isMustVisit = true인 경우에만 이벤트를 발행합니다.
+   * 마지막으로 임베딩한 지문과 현재 지문을 비교하여 다시 처리할 Place를 고릅니다.
    *
    * @param places 처리할 Place 리스트
+   * @param promptVersion 요약 프롬프트 버전
+   * @param failures 지문 계산에 실패한 Place를 기록할 맵
+   * @return 다시 처리할 Place의 요약 요청과 건너뛴 Place 수
    */
-  private void processBatch(List<Place> places) {
+  private Selection selectChanged(
+      List<Place> places, String promptVersion, Map<Long, String> failures) {
+    Map<Long, String> storedHashes =
+        fingerprintRepository
+            .findAllByPlaceIdIn(places.stream().map(Place::getId).toList())
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    PlaceEmbeddingFingerprint::getPlaceId,
+                    PlaceEmbeddingFingerprint::getContentHash,
+                    (first, second) -> first));
+
+    int skipped = 0;
+    List<PlaceSummaryRequestedEvent> targets = new ArrayList<>();
     for (Place place : places) {
       try {
-        if (!place.getIsMustVisit()) {
+        String contentHash = buildContentHash(place, promptVersion);
+        if (contentHash.equals(storedHashes.get(place.getId()))) {
+          skipped++;
+          placeCounter("skipped").increment();
+          log.debug("Place unchanged, skipping - placeId: {}", place.getId());
           continue;
         }
-
-        publishPlaceSummaryEvent(place);
+        targets.add(toSummaryRequestedEvent(place, contentHash));
       } catch (Exception e) {
-        log.error("Failed to publish event for place: {}", place.getId(), e);
+        recordFailure(failures, place.getId(), e);
+      }
+    }
+    return new Selection(targets, skipped);
+  }
+
+  /**
+   * 요약 대상을 summaryTaskExecutor에서 병렬로 요약하고 모두 끝날 때까지 기다립니다.
+   *
+   * @param targets 요약할 Place
+   * @param failures 요약에 실패한 Place를 기록할 맵
+   * @return 요약에 성공한 Place의 저장 요청
+   */
+  private List<PlaceVectorSaveRequest> summarizeAll(
+      List<PlaceSummaryRequestedEvent> targets, Map<Long, String> failures) {
+    Map<Long, CompletableFuture<PlaceVectorSaveRequest>> summaries = new LinkedHashMap<>();
+    for (PlaceSummaryRequestedEvent target : targets) {
+      summaries.put(
+          target.placeId(),
+          CompletableFuture.supplyAsync(() -> summarize(target), summaryTaskExecutor));
+    }
+
+    List<PlaceVectorSaveRequest> summarized = new ArrayList<>(targets.size());
+    summaries.forEach(
+        (placeId, summary) -> {
+          try {
+            summarized.add(summary.join());
+          } catch (CompletionException e) {
+            recordFailure(failures, placeId, e.getCause());
+          }
+        });
+    return summarized;
+  }
+
+  private PlaceVectorSaveRequest summarize(PlaceSummaryRequestedEvent target) {
+    String content =
+        placeSummaryUseCase.summarize(
+            AiPlaceSummaryRequest.builder()
+                .placeId(target.placeId())
+                .name(target.name())
+                .address(target.address())
+                .description(target.description())
+                .operatingHours(target.operatingHours())
+                .holidayInfo(target.holidayInfo())
+                .themes(target.themes())
+                .contentHash(target.contentHash())
+                .build());
+
+    return PlaceVectorSaveRequest.builder()
+        .placeId(target.placeId())
+        .name(target.name())
+        .address(target.address())
+        .themes(target.themes())
+        .content(content)
+        .contentHash(target.contentHash())
+        .build();
+  }
+
+  /**
+   * 요약된 Place를 {@value #VECTOR_SAVE_BATCH_SIZE}개씩 vectorTaskExecutor에서 임베딩하여 저장하고 모두 끝날 때까지
+   * 기다립니다.
+   *
+   * @param summarized 저장할 Place
+   * @param failures 저장에 실패한 Place를 기록할 맵
+   */
+  private void saveAll(List<PlaceVectorSaveRequest> summarized, Map<Long, String> failures) {
+    List<List<PlaceVectorSaveRequest>> chunks =
+        Lists.partition(summarized, VECTOR_SAVE_BATCH_SIZE);
+    List<CompletableFuture<Void>> saves = new ArrayList<>(chunks.size());
+    for (List<PlaceVectorSaveRequest> chunk : chunks) {
+      saves.add(
+          CompletableFuture.runAsync(
+              () -> placeVectorCommandUseCase.savePlaceVectors(chunk), vectorTaskExecutor));
+    }
+
+    for (int i = 0; i < chunks.size(); i++) {
+      List<PlaceVectorSaveRequest> chunk = chunks.get(i);
+      try {
+        saves.get(i).join();
+        placeCounter("processed").increment(chunk.size());
+      } catch (CompletionException e) {
+        chunk.forEach(request -> recordFailure(failures, request.placeId(), e.getCause()));
       }
     }
   }
 
+  private void recordFailure(Map<Long, String> failures, Long placeId, Throwable cause) {
+    failures.put(placeId, Objects.toString(cause.getMessage(), cause.getClass().getSimpleName()));
+    placeCounter("failed").increment();
+    log.error("Failed to embed place: {}", placeId, cause);
+  }
+
   /**
-   * PlaceSummaryRequestedEvent 발행
+   * 요약 프롬프트 버전을 조회
    *
-   * <p>RateLimiter를 통해 초당 10개로 이벤트 발행 속도를 제한하여 API Rate Limit 초과를 방지합니다.
+   * <p>활성화된 PLACE_SUMMARY_AGENT의 SYSTEM/USER 프롬프트 본문을 버전으로 사용합니다. 프롬프트가 바뀌면 모든 장소의 지문이 달라져 다시
+   * 요약됩니다. 프롬프트가 없으면 빈 문자열로 취급합니다.
    *
-   * @param place 처리할 Place
+   * @return 요약 프롬프트 버전
    */
-  private void publishPlaceSummaryEvent(Place place) {
-    rateLimiter.acquire();
+  private String resolvePromptVersion() {
+    return Stream.of(PromptType.SYSTEM, PromptType.USER)
+        .map(this::findSummaryPrompt)
+        .collect(Collectors.joining("\u0000"));
+  }
 
-    List<String> themes = place.getThemes().stream().map(PlaceThemeType::getDescription).toList();
+  private String findSummaryPrompt(PromptType promptType) {
+    try {
+      AiPromptTemplateResponse template =
+          aiPromptTemplateQueryUseCase.findActivePromptTemplate(
+              promptType, AgentType.PLACE_SUMMARY_AGENT);
+      return template != null ? Objects.toString(template.prompt(), "") : "";
+    } catch (Exception e) {
+      log.debug("Summary prompt not found - type: {}", promptType);
+      return "";
+    }
+  }
 
-    PlaceSummaryRequestedEvent event =
-        PlaceSummaryRequestedEvent.builder()
-            .placeId(place.getId())
-            .name(place.getLocation().getName())
-            .address(place.getLocation().getAddress())
-            .description(place.getDescription())
-            .operatingHours(place.getOperatingHours())
-            .holidayInfo(place.getHolidayInfo())
-            .themes(themes)
-            .build();
+  private String buildContentHash(Place place, String promptVersion) {
+    return placeDocumentConverter.buildContentHash(
+        place.getLocation().getName(),
+        place.getLocation().getAddress(),
+        place.getDescription(),
+        place.getOperatingHours(),
+        place.getHolidayInfo(),
+        toThemeDescriptions(place),
+        promptVersion);
+  }
 
-    eventPublisher.publishEvent(event);
-    log.debug("PlaceSummaryRequestedEvent published - placeId: {}", place.getId());
+  private List<String> toThemeDescriptions(Place place) {
+    return place.getThemes().stream().map(PlaceThemeType::getDescription).toList();
   }
+
+  private Counter placeCounter(String outcome) {
+    return Counter.builder(PLACES_METRIC).tag("outcome", outcome).register(meterRegistry);
+  }
+
+  /**
+   * Place로 요약 요청 이벤트를 생성
+   *
+   * @param place 처리할 Place
+   * @param contentHash 요약 입력 지문
+   * @return 요약 요청 이벤트
+   */
+  private PlaceSummaryRequestedEvent toSummaryRequestedEvent(Place place, String contentHash) {
+    return PlaceSummaryRequestedEvent.builder()
+        .placeId(place.getId())
+        .name(place.getLocation().getName())
+        .address(place.getLocation().getAddress())
+        .description(place.getDescription())
+        .operatingHours(place.getOperatingHours())
+        .holidayInfo(place.getHolidayInfo())
+        .themes(toThemeDescriptions(place))
+        .contentHash(contentHash)
+        .build();
+  }
+
+  /**
+   * 다시 처리할 Place와 건너뛴 Place 수
+   *
+   * @param targets 다시 처리할 Place의 요약 요청
+   * @param skippedCount 변경이 없어 건너뛴 Place 수
+   */
+  private record Selection(List<PlaceSummaryRequestedEvent> targets, int skippedCount) {}
 }
@@ -1,6 +1,9 @@
 package com.swygbro.airoad.backend.content.application;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingBatchResult;
 
 /**
  * Place 임베딩 UseCase 인터페이스
@@ -25,6 +28,17 @@ public interface PlaceEmbeddingUseCase {
    */
   void embedModifiedPlaces(LocalDateTime since);
 
+  /**
+   * 주어진 Place ID 배치를 임베딩하여 벡터 스토어에 저장
+   *
+   * <p>임베딩 작업이 체크포인트 단위로 호출합니다. 변경이 없는 Place는 건너뜁니다. 배치의 모든 Place가 저장되거나 실패로 집계된 뒤에
+   * 반환합니다.
+   *
+   * @param placeIds 처리할 Place ID 목록
+   * @return 배치 처리 결과
+   */
+  PlaceEmbeddingBatchResult embedBatch(List<Long> placeIds);
+
   /**
    * 특정 Place를 임베딩하여 벡터 스토어에 저장
    *
@@ -0,0 +1,140 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceLexicalSearchRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 어휘 검색과 벡터 검색을 Reciprocal Rank Fusion(RRF)으로 합치는 하이브리드 장소 검색 서비스
+ *
+ * <p>두 검색을 동시에 실행하고, 각 결과 목록에서의 순위 r에 대해 {@code 1 / (k + r)}를 더한 점수로 정렬합니다. 두 검색 모두 여행 지역으로
+ * 범위를 좁힙니다. 벡터 검색이 실패하거나 제한 시간 안에 끝나지 않으면 어휘 검색 결과만으로 응답합니다.
+ */
+@Slf4j
+@Service
+public class PlaceHybridSearchService implements PlaceHybridSearchUseCase {
+
+  /** RRF 순위 상수 (상위 순위 간 점수 차이를 완화) */
+  static final int RRF_K = 60;
+
+  /** 각 검색에서 가져올 후보 배수 */
+  private static final int CANDIDATE_MULTIPLIER = 2;
+
+  /** 벡터 후보의 최소 유사도 (순위만 사용하므로 느슨하게 설정) */
+  private static final double VECTOR_SIMILARITY_THRESHOLD = 0.3d;
+
+  private final PlaceLexicalSearchRepository lexicalSearchRepository;
+  private final PlaceVectorQueryUseCase placeVectorQueryUseCase;
+  private final PlaceRepository placeRepository;
+  private final Executor searchExecutor;
+  private final long vectorTimeoutMs;
+
+  public PlaceHybridSearchService(
+      PlaceLexicalSearchRepository lexicalSearchRepository,
+      PlaceVectorQueryUseCase placeVectorQueryUseCase,
+      PlaceRepository placeRepository,
+      @Qualifier("searchTaskExecutor") Executor searchExecutor,
+      @Value("${spring.ai.vectorstore.hybrid-search.vector-timeout-ms:3000}")
+          long vectorTimeoutMs) {
+    this.lexicalSearchRepository = lexicalSearchRepository;
+    this.placeVectorQueryUseCase = placeVectorQueryUseCase;
+    this.placeRepository = placeRepository;
+    this.searchExecutor = searchExecutor;
+    this.vectorTimeoutMs = vectorTimeoutMs;
+  }
+
+  @Override
+  public List<PlaceResponse> search(String query, int size, String region) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be greater than 0");
+    }
+    int candidates = size * CANDIDATE_MULTIPLIER;
+
+    CompletableFuture<List<Long>> vectorFuture =
+        CompletableFuture.supplyAsync(() -> vectorSearch(query, candidates, region), searchExecutor)
+            .orTimeout(vectorTimeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(
+                e -> {
+                  log.warn("하이브리드 검색 중 벡터 검색 실패 또는 시간 초과, 어휘 검색 결과만 사용 - query: {}", query, e);
+                  return List.of();
+                });
+    List<Long> lexicalIds = lexicalSearchRepository.searchIdsByName(query, region, candidates);
+    List<Long> vectorIds = vectorFuture.join();
+
+    List<Long> fusedIds = fuse(List.of(lexicalIds, vectorIds), size);
+    log.debug(
+        "하이브리드 검색 완료 - query: {}, 어휘: {}, 벡터: {}, 결과: {}",
+        query,
+        lexicalIds.size(),
+        vectorIds.size(),
+        fusedIds.size());
+
+    if (fusedIds.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Place> places =
+        placeRepository.findAllWithThemesByIdIn(fusedIds).stream()
+            .collect(Collectors.toMap(Place::getId, Function.identity()));
+    return fusedIds.stream()
+        .map(places::get)
+        .filter(Objects::nonNull)
+        .map(PlaceResponse::of)
+        .toList();
+  }
+
+  /**
+   * 여러 순위 목록을 RRF 점수로 합칩니다.
+   *
+   * @param rankings 순위 순으로 정렬된 ID 목록들
+   * @param size 반환할 최대 개수
+   * @return RRF 점수 내림차순 ID 목록 (동점이면 먼저 나온 목록의 순위 우선)
+   */
+  static List<Long> fuse(List<List<Long>> rankings, int size) {
+    Map<Long, Double> scores = new HashMap<>();
+    Map<Long, Integer> firstSeen = new HashMap<>();
+    for (List<Long> ranking : rankings) {
+      for (int rank = 0; rank < ranking.size(); rank++) {
+        Long id = ranking.get(rank);
+        scores.merge(id, 1.0d / (RRF_K + rank + 1), Double::sum);
+        firstSeen.putIfAbsent(id, firstSeen.size());
+      }
+    }
+    return scores.keySet().stream()
+        .sorted(
+            Comparator.comparingDouble((Long id) -> scores.get(id))
+                .reversed()
+                .thenComparingInt(firstSeen::get))
+        .limit(size)
+        .toList();
+  }
+
+  private List<Long> vectorSearch(String query, int candidates, String region) {
+    List<Document> documents =
+        placeVectorQueryUseCase.search(query, candidates, VECTOR_SIMILARITY_THRESHOLD, region);
+    return documents.stream()
+        .map(doc -> doc.getMetadata().get("placeId"))
+        .filter(Number.class::isInstance)
+        .map(placeId -> ((Number) placeId).longValue())
+        .distinct()
+        .toList();
+  }
+}
@@ -0,0 +1,20 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+
+public interface PlaceHybridSearchUseCase {
+
+  /**
+   * 이름 어휘 검색과 벡터 유사도 검색을 함께 수행하여 장소를 검색합니다.
+   *
+   * <p>두 검색의 순위를 Reciprocal Rank Fusion으로 합칩니다. 정확한 장소 이름은 어휘 검색으로, 설명형 질의는 벡터 검색으로 찾습니다.
+   *
+   * @param query 장소 이름 또는 자연어 검색어
+   * @param size 반환할 최대 결과 개수
+   * @param region 벡터 검색을 제한할 여행 지역 (비어 있으면 전국 검색)
+   * @return 합산 순위로 정렬된 장소 목록
+   */
+  List<PlaceResponse> search(String query, int size, String region);
+}
@@ -0,0 +1,107 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Point;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.exception.ContentErrorCode;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceSpatialRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceSpatialRepository.PlaceDistance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌표 기반 주변 장소 조회 서비스
+ *
+ * <p>공간 인덱스로 가까운 장소 ID와 거리를 구한 뒤, 장소 정보를 한 번에 조회하여 거리 순서대로 반환합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlaceNearbyQueryService implements PlaceNearbyQueryUseCase {
+
+  private final PlaceSpatialRepository placeSpatialRepository;
+  private final PlaceRepository placeRepository;
+
+  @Override
+  public List<NearbyPlaceResponse> findNearbyPlaces(
+      double latitude,
+      double longitude,
+      Integer radiusMeters,
+      List<PlaceThemeType> themes,
+      int size) {
+    return findNearest(longitude, latitude, radiusMeters, themes, null, size);
+  }
+
+  @Override
+  public List<NearbyPlaceResponse> findPlacesNearPlace(
+      Long placeId, Integer radiusMeters, List<PlaceThemeType> themes, int size) {
+    Point point =
+        placeRepository
+            .findById(placeId)
+            .map(place -> place.getLocation().getPoint())
+            .orElseThrow(() -> new BusinessException(ContentErrorCode.PLACE_NOT_FOUND));
+
+    return findNearest(point.getX(), point.getY(), radiusMeters, themes, placeId, size);
+  }
+
+  private List<NearbyPlaceResponse> findNearest(
+      double longitude,
+      double latitude,
+      Integer radiusMeters,
+      List<PlaceThemeType> themes,
+      Long excludePlaceId,
+      int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be greater than 0");
+    }
+    if (radiusMeters != null && radiusMeters <= 0) {
+      throw new IllegalArgumentException("radiusMeters must be greater than 0");
+    }
+
+    List<PlaceDistance> nearest =
+        placeSpatialRepository.findNearest(
+            longitude, latitude, radiusMeters, themes, excludePlaceId, size);
+
+    log.debug(
+        "주변 장소 조회 - 좌표: ({}, {}), 반경: {}m, 테마: {}, 결과: {}",
+        latitude,
+        longitude,
+        radiusMeters,
+        themes,
+        nearest.size());
+
+    if (nearest.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Place> places =
+        placeRepository
+            .findAllWithThemesByIdIn(nearest.stream().map(PlaceDistance::placeId).toList())
+            .stream()
+            .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    return nearest.stream()
+        .filter(distance -> places.containsKey(distance.placeId()))
+        .map(
+            distance ->
+                NearbyPlaceResponse.builder()
+                    .place(PlaceResponse.of(places.get(distance.placeId())))
+                    .distanceMeters(Math.round(distance.distanceMeters()))
+                    .build())
+        .toList();
+  }
+}
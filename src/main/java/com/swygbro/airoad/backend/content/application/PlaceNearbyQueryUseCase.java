@@ -0,0 +1,38 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+public interface PlaceNearbyQueryUseCase {
+
+  /**
+   * 기준 좌표에서 가까운 장소를 거리 순으로 조회합니다.
+   *
+   * @param latitude 기준 위도
+   * @param longitude 기준 경도
+   * @param radiusMeters 검색 반경 (미터, null이면 제한 없음)
+   * @param themes 테마 목록 (null이거나 비어 있으면 전체)
+   * @param size 최대 결과 개수
+   * @return 가까운 순서의 장소 목록
+   */
+  List<NearbyPlaceResponse> findNearbyPlaces(
+      double latitude,
+      double longitude,
+      Integer radiusMeters,
+      List<PlaceThemeType> themes,
+      int size);
+
+  /**
+   * 특정 장소에서 가까운 다른 장소를 거리 순으로 조회합니다.
+   *
+   * @param placeId 기준 장소 ID (결과에서 제외)
+   * @param radiusMeters 검색 반경 (미터, null이면 제한 없음)
+   * @param themes 테마 목록 (null이거나 비어 있으면 전체)
+   * @param size 최대 결과 개수
+   * @return 가까운 순서의 장소 목록
+   */
+  List<NearbyPlaceResponse> findPlacesNearPlace(
+      Long placeId, Integer radiusMeters, List<PlaceThemeType> themes, int size);
+}
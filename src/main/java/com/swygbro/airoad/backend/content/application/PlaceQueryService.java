@@ -3,17 +3,21 @@ package com.swygbro.airoad.backend.content.application;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.swygbro.airoad.backend.common.domain.dto.CursorPageResponse;
 import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
 import com.swygbro.airoad.backend.content.domain.entity.Place;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalog;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceLexicalSearchRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 public class PlaceQueryService implements PlaceQueryUseCase {
 
   private final PlaceRepository placeRepository;
+  private final PlaceLexicalSearchRepository lexicalSearchRepository;
+  private final PlaceCatalog placeCatalog;
 
   @Override
   @Tool(
@@ -63,21 +69,17 @@ public class PlaceQueryService implements PlaceQueryUseCase {
 
     log.debug("랜덤 장소 조회 시작 - address: {}, themes: {}, limit: {}", address, themes, limit);
 
-    List<Long> allIds = placeRepository.findIdsByAddressStartingWithAndThemes(address, themes);
-
-    log.debug("필터링된 장소 ID 개수: {}", allIds.size());
+    // 인메모리 카탈로그에서 필터링과 샘플링, 적재 전이면 DB에서 조회
+    List<Long> selectedIds =
+        placeCatalog
+            .sample(address, themes, limit)
+            .orElseGet(() -> sampleFromDatabase(address, themes, limit));
 
-    if (allIds.isEmpty()) {
+    if (selectedIds.isEmpty()) {
       log.warn("조건에 맞는 장소가 없습니다 - address: {}, themes: {}", address, themes);
       return Collections.emptyList();
     }
 
-    List<Long> shuffledIds = new ArrayList<>(allIds);
-    Collections.shuffle(shuffledIds);
-
-    int actualLimit = Math.min(limit, shuffledIds.size());
-    List<Long> selectedIds = shuffledIds.subList(0, actualLimit);
-
     log.debug("랜덤 샘플링 완료 - 선택된 ID 개수: {}", selectedIds.size());
 
     List<Place> places = placeRepository.findAllByIdsWithThemes(selectedIds);
@@ -91,6 +93,17 @@ public class PlaceQueryService implements PlaceQueryUseCase {
     return responses;
   }
 
+  private List<Long> sampleFromDatabase(String address, List<PlaceThemeType> themes, int limit) {
+    List<Long> allIds = placeRepository.findIdsByAddressStartingWithAndThemes(address, themes);
+
+    log.debug("필터링된 장소 ID 개수: {}", allIds.size());
+
+    List<Long> shuffledIds = new ArrayList<>(allIds);
+    Collections.shuffle(shuffledIds);
+
+    return shuffledIds.subList(0, Math.min(limit, shuffledIds.size()));
+  }
+
   @Override
   @Tool(
       description =
@@ -102,14 +115,34 @@ public class PlaceQueryService implements PlaceQueryUseCase {
       @ToolParam(description = "장소 이름 (부분 일치 가능)") String name,
       @ToolParam(description = "장소 주소 (부분 일치 가능)") String address,
       @ToolParam(description = "조회할 사이즈") int size) {
+    return searchPlaceDetails(name, address, null, size).getContent();
+  }
+
+  @Override
+  public CursorPageResponse<PlaceResponse> searchPlaceDetails(
+      String name, String address, Long cursor, int size) {
     if (size <= 0) {
       throw new IllegalArgumentException("size must be greater than 0");
     }
 
-    PageRequest pageRequest = PageRequest.of(0, size);
+    // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+    List<Long> ids =
+        lexicalSearchRepository.searchIdsByNameAndAddress(name, address, cursor, size + 1);
+    boolean hasNext = ids.size() > size;
+    List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+    if (pageIds.isEmpty()) {
+      return CursorPageResponse.last(List.of());
+    }
 
-    Page<Place> page = placeRepository.findByNameAndAddress(name, address, pageRequest);
+    Map<Long, Place> places =
+        placeRepository.findAllWithThemesByIdIn(pageIds).stream()
+            .collect(Collectors.toMap(Place::getId, Function.identity()));
+    List<PlaceResponse> content =
+        pageIds.stream().map(places::get).filter(Objects::nonNull).map(PlaceResponse::of).toList();
 
-    return page.getContent().stream().map(PlaceResponse::of).toList();
+    return hasNext
+        ? CursorPageResponse.of(content, pageIds.get(pageIds.size() - 1), true)
+        : CursorPageResponse.last(content);
   }
 }
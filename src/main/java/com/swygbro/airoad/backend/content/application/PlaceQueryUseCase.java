@@ -2,6 +2,7 @@ package com.swygbro.airoad.backend.content.application;
 
 import java.util.List;
 
+import com.swygbro.airoad.backend.common.domain.dto.CursorPageResponse;
 import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
 
@@ -26,4 +27,18 @@ public interface PlaceQueryUseCase {
    * @return 조건에 맞는 장소 상세 정보 목록
    */
   List<PlaceResponse> findPlaceDetails(String name, String address, int size);
+
+  /**
+   * 이름과 주소로 장소를 검색하여 커서 기반으로 조회합니다.
+   *
+   * <p>COUNT 쿼리 없이 다음 페이지 존재 여부만 확인합니다. 결과는 이름 유사도 순으로 정렬됩니다.
+   *
+   * @param name 장소 이름 (부분 일치)
+   * @param address 장소 주소 (부분 일치)
+   * @param cursor 이전 페이지 마지막 장소 ID (null이면 첫 페이지)
+   * @param size 조회할 개수
+   * @return 커서 기반 장소 목록
+   */
+  CursorPageResponse<PlaceResponse> searchPlaceDetails(
+      String name, String address, Long cursor, int size);
 }
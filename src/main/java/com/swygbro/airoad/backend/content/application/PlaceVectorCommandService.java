@@ -1,6 +1,10 @@
 package com.swygbro.airoad.backend.content.application;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.document.Document;
 import org.springframework.stereotype.Service;
@@ -8,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
 import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingFingerprintRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceVectorStoreRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -20,29 +26,95 @@ public class PlaceVectorCommandService implements PlaceVectorCommandUseCase {
 
   private final PlaceVectorStoreRepository vectorStoreRepository;
   private final PlaceDocumentConverter placeDocumentConverter;
+  private final PlaceEmbeddingFingerprintRepository fingerprintRepository;
 
   @Override
   @Transactional
   public void savePlaceVector(PlaceVectorSaveRequest request) {
-    log.info("VectorStore 저장 시작 - placeId: {}", request.placeId());
+    savePlaceVectors(List.of(request));
+  }
 
-    try {
-      vectorStoreRepository.deleteByPlaceId(request.placeId());
-      log.debug("기존 임베딩 삭제 완료 - placeId: {}", request.placeId());
+  /**
+   * 여러 장소의 벡터를 하나의 트랜잭션에서 저장합니다.
+   *
+   * <p>Document는 upsert 한 문장(JDBC 배치)으로 저장되고, 결정적 ID 도입 전의 중복 Document 정리와 입력 지문 저장이 같은 트랜잭션에서
+   * 처리됩니다.
+   *
+   * @param requests 벡터 저장 요청 목록
+   */
+  @Override
+  @Transactional
+  public void savePlaceVectors(List<PlaceVectorSaveRequest> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
+    List<Long> placeIds = requests.stream().map(PlaceVectorSaveRequest::placeId).toList();
+    log.info("VectorStore 저장 시작 - placeIds: {}", placeIds);
 
-      Map<String, Object> metadata =
-          placeDocumentConverter.buildMetadataFromEvent(
-              request.placeId(), request.name(), request.address(), request.themes());
+    try {
+      List<Document> documents = requests.stream().map(this::toDocument).toList();
+      vectorStoreRepository.saveAll(documents);
+      vectorStoreRepository.deleteStaleByPlaceIds(placeIds);
 
-      Document document = new Document(request.content(), metadata);
-      vectorStoreRepository.save(document);
+      log.info("VectorStore에 저장 완료 - {} 개 장소", documents.size());
 
-      log.info(
-          "VectorStore에 저장 완료 - placeId: {}, documentId: {}", request.placeId(), document.getId());
+      saveFingerprints(requests);
 
     } catch (Exception e) {
-      log.error("VectorStore 저장 실패 - placeId: {}", request.placeId(), e);
+      log.error("VectorStore 저장 실패 - placeIds: {}", placeIds, e);
       throw new RuntimeException("Failed to save document to VectorStore", e);
     }
   }
+
+  private Document toDocument(PlaceVectorSaveRequest request) {
+    Map<String, Object> metadata =
+        placeDocumentConverter.buildMetadataFromEvent(
+            request.placeId(), request.name(), request.address(), request.themes());
+
+    return new Document(
+        PlaceVectorStoreRepository.documentId(request.placeId()), request.content(), metadata);
+  }
+
+  /**
+   * 임베딩에 성공한 요약 입력의 지문을 저장합니다. 이후 같은 입력의 장소는 요약과 임베딩을 건너뜁니다.
+   *
+   * <p>호출한 쪽의 트랜잭션 여부와 관계없이 반영되도록 새 지문과 해시가 바뀐 기존 지문을 모두 명시적으로 저장합니다.
+   *
+   * @param requests 벡터 저장 요청 목록
+   */
+  private void saveFingerprints(List<PlaceVectorSaveRequest> requests) {
+    List<PlaceVectorSaveRequest> hashed =
+        requests.stream().filter(request -> request.contentHash() != null).toList();
+    if (hashed.isEmpty()) {
+      return;
+    }
+
+    Map<Long, PlaceEmbeddingFingerprint> fingerprints =
+        fingerprintRepository
+            .findAllByPlaceIdIn(hashed.stream().map(PlaceVectorSaveRequest::placeId).toList())
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    PlaceEmbeddingFingerprint::getPlaceId,
+                    Function.identity(),
+                    (first, second) -> first));
+
+    List<PlaceEmbeddingFingerprint> changed = new ArrayList<>();
+    for (PlaceVectorSaveRequest request : hashed) {
+      PlaceEmbeddingFingerprint fingerprint = fingerprints.get(request.placeId());
+      if (fingerprint == null) {
+        changed.add(
+            PlaceEmbeddingFingerprint.builder()
+                .placeId(request.placeId())
+                .contentHash(request.contentHash())
+                .build());
+      } else if (!request.contentHash().equals(fingerprint.getContentHash())) {
+        fingerprint.updateContentHash(request.contentHash());
+        changed.add(fingerprint);
+      }
+    }
+    if (!changed.isEmpty()) {
+      fingerprintRepository.saveAll(changed);
+    }
+  }
 }
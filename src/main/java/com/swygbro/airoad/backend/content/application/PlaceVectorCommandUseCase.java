@@ -1,8 +1,19 @@
 package com.swygbro.airoad.backend.content.application;
 
+import java.util.List;
+
 import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
 
 public interface PlaceVectorCommandUseCase {
 
   void savePlaceVector(PlaceVectorSaveRequest request);
+
+  /**
+   * 여러 장소의 벡터를 한 번에 저장합니다.
+   *
+   * <p>placeId로 결정된 Document ID로 upsert하므로 같은 장소를 여러 번 저장해도 행이 하나만 유지됩니다.
+   *
+   * @param requests 벡터 저장 요청 목록
+   */
+  void savePlaceVectors(List<PlaceVectorSaveRequest> requests);
 }
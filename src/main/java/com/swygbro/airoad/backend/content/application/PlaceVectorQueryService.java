@@ -1,12 +1,19 @@
 package com.swygbro.airoad.backend.content.application;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 public class PlaceVectorQueryService implements PlaceVectorQueryUseCase {
 
   private final VectorStore vectorStore;
+  private final PlaceDocumentConverter placeDocumentConverter;
+
+  /** 지역 검색 결과가 이 개수(또는 topK)보다 적으면 전국 검색으로 보충 */
+  @Value("${spring.ai.vectorstore.region-filter.min-hits:3}")
+  private int regionMinHits;
 
   @Override
   public List<Document> search(String query, int topK, double similarityThreshold) {
@@ -26,4 +38,42 @@ public class PlaceVectorQueryService implements PlaceVectorQueryUseCase {
             .similarityThreshold(similarityThreshold)
             .build());
   }
+
+  @Override
+  public List<Document> search(
+      String query, int topK, double similarityThreshold, String region) {
+    return search(
+        SearchRequest.builder()
+            .query(query)
+            .topK(topK)
+            .similarityThreshold(similarityThreshold)
+            .build(),
+        region);
+  }
+
+  @Override
+  public List<Document> search(SearchRequest request, String region) {
+    Optional<Filter.Expression> regionFilter = placeDocumentConverter.buildRegionFilter(region);
+    if (regionFilter.isEmpty()) {
+      return vectorStore.similaritySearch(request);
+    }
+
+    List<Document> regional =
+        vectorStore.similaritySearch(
+            SearchRequest.from(request).filterExpression(regionFilter.get()).build());
+    if (regional.size() >= Math.min(regionMinHits, request.getTopK())) {
+      return regional;
+    }
+
+    log.debug("지역 검색 결과 부족, 전국 검색으로 보충 - region: {}, hits: {}", region, regional.size());
+    return fillUp(regional, vectorStore.similaritySearch(request), request.getTopK());
+  }
+
+  /** 지역 결과를 앞에 두고 전국 결과 중 중복되지 않은 장소로 topK까지 채웁니다. */
+  private List<Document> fillUp(List<Document> regional, List<Document> nationwide, int topK) {
+    Map<Object, Document> merged = new LinkedHashMap<>();
+    regional.forEach(doc -> merged.putIfAbsent(doc.getMetadata().get("placeId"), doc));
+    nationwide.forEach(doc -> merged.putIfAbsent(doc.getMetadata().get("placeId"), doc));
+    return merged.values().stream().limit(topK).toList();
+  }
 }
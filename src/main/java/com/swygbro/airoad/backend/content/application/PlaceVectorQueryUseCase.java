@@ -3,8 +3,31 @@ package com.swygbro.airoad.backend.content.application;
 import java.util.List;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
 
 public interface PlaceVectorQueryUseCase {
 
   List<Document> search(String query, int topK, double similarityThreshold);
+
+  /**
+   * 여행 지역 안에서 장소를 유사도 검색합니다.
+   *
+   * @param query 검색 쿼리
+   * @param topK 반환할 최대 결과 개수
+   * @param similarityThreshold 유사도 임계값
+   * @param region 여행 지역 (비어 있으면 전국 검색)
+   * @return 유사도 순으로 정렬된 Document 리스트
+   */
+  List<Document> search(String query, int topK, double similarityThreshold, String region);
+
+  /**
+   * 여행 지역 안에서 장소를 유사도 검색합니다.
+   *
+   * <p>지역 필터 결과가 너무 적으면 전국 검색 결과로 나머지를 채웁니다. 지역 결과가 항상 앞에 위치합니다.
+   *
+   * @param request 검색 요청 (필터 없음)
+   * @param region 여행 지역 (비어 있으면 전국 검색)
+   * @return 유사도 순으로 정렬된 Document 리스트
+   */
+  List<Document> search(SearchRequest request, String region);
 }
@@ -0,0 +1,59 @@
+package com.swygbro.airoad.backend.content.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceLexicalSearchRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceSpatialRepository;
+
+/**
+ * 장소 검색 인덱스 설정
+ *
+ * <p>place 테이블은 JPA가 생성하므로, 트라이그램 확장과 인덱스, 좌표 공간 인덱스는 기동 후 생성합니다.
+ */
+@Configuration
+@Profile("!test")
+public class PlaceSearchIndexConfig {
+
+  /**
+   * 장소 이름과 주소의 트라이그램 GIN 인덱스를 생성합니다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @return 인덱스를 생성하는 ApplicationRunner
+   */
+  @Bean
+  public ApplicationRunner placeSearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+    return args -> {
+      jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS "
+              + PlaceLexicalSearchRepository.NAME_TRGM_INDEX
+              + " ON place USING gin (name gin_trgm_ops)");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS "
+              + PlaceLexicalSearchRepository.ADDRESS_TRGM_INDEX
+              + " ON place USING gin (address gin_trgm_ops)");
+    };
+  }
+
+  /**
+   * 장소 좌표의 geography GiST 인덱스를 생성합니다.
+   *
+   * <p>반경 검색({@code ST_DWithin})과 KNN 정렬({@code <->})이 모두 {@code point::geography} 표현식을 사용하므로 같은
+   * 표현식으로 인덱스를 만듭니다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @return 인덱스를 생성하는 ApplicationRunner
+   */
+  @Bean
+  public ApplicationRunner placeSpatialIndexInitializer(JdbcTemplate jdbcTemplate) {
+    return args ->
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS "
+                + PlaceSpatialRepository.POINT_GIST_INDEX
+                + " ON place USING gist ((point::geography))");
+  }
+}
@@ -1,12 +1,23 @@
 package com.swygbro.airoad.backend.content.domain.converter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,6 +25,27 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class PlaceDocumentConverter {
 
+  /** 여행 지역 약칭과 주소의 시/도 표기 (행정구역 개편 전 표기 포함) */
+  private static final Map<String, List<String>> PROVINCE_ALIASES =
+      Map.ofEntries(
+          Map.entry("서울", List.of("서울특별시")),
+          Map.entry("부산", List.of("부산광역시")),
+          Map.entry("대구", List.of("대구광역시")),
+          Map.entry("인천", List.of("인천광역시")),
+          Map.entry("광주", List.of("광주광역시")),
+          Map.entry("대전", List.of("대전광역시")),
+          Map.entry("울산", List.of("울산광역시")),
+          Map.entry("세종", List.of("세종특별자치시")),
+          Map.entry("경기", List.of("경기도")),
+          Map.entry("강원", List.of("강원특별자치도", "강원도")),
+          Map.entry("충북", List.of("충청북도")),
+          Map.entry("충남", List.of("충청남도")),
+          Map.entry("전북", List.of("전북특별자치도", "전라북도")),
+          Map.entry("전남", List.of("전라남도")),
+          Map.entry("경북", List.of("경상북도")),
+          Map.entry("경남", List.of("경상남도")),
+          Map.entry("제주", List.of("제주특별자치도", "제주도")));
+
   public Map<String, Object> buildMetadataFromEvent(
       Long placeId, String name, String address, List<String> themes) {
     Map<String, Object> metadata = new HashMap<>();
@@ -34,4 +66,81 @@ public class PlaceDocumentConverter {
 
     return metadata;
   }
+
+  /**
+   * 여행 지역을 벡터 검색 메타데이터 필터로 변환합니다.
+   *
+   * <p>시/도 약칭("서울", "강원")이나 전체 표기("서울특별시")는 {@code province} 조건으로, 그 외("강릉", "경주시")는 {@code
+   * district} 조건으로 변환합니다.
+   *
+   * @param region 여행 지역 (예: "제주", "서울", "강릉")
+   * @return 메타데이터 필터 (지역이 비어 있으면 empty)
+   */
+  public Optional<Filter.Expression> buildRegionFilter(String region) {
+    if (!StringUtils.hasText(region)) {
+      return Optional.empty();
+    }
+    String normalized = region.strip();
+    FilterExpressionBuilder b = new FilterExpressionBuilder();
+
+    List<String> provinces = PROVINCE_ALIASES.get(normalized);
+    if (provinces != null) {
+      return Optional.of(b.in("province", provinces.toArray()).build());
+    }
+    boolean isProvince =
+        PROVINCE_ALIASES.values().stream().anyMatch(names -> names.contains(normalized));
+    if (isProvince) {
+      return Optional.of(b.eq("province", normalized).build());
+    }
+    if (normalized.matches(".+[시군구]")) {
+      return Optional.of(b.eq("district", normalized).build());
+    }
+    return Optional.of(b.in("district", normalized, normalized + "시", normalized + "군").build());
+  }
+
+  /**
+   * 요약 입력의 지문(SHA-256)을 생성합니다.
+   *
+   * <p>요약 결과에 영향을 주는 장소 정보와 요약 프롬프트 버전이 모두 같으면 같은 지문이 생성됩니다. 테마는 순서와 관계없이 같은 지문이 되도록 정렬합니다.
+   *
+   * @param name 장소명
+   * @param address 주소
+   * @param description 장소 설명
+   * @param operatingHours 운영 시간
+   * @param holidayInfo 휴무일 정보
+   * @param themes 테마 목록
+   * @param promptVersion 요약 프롬프트 버전
+   * @return 16진수 SHA-256 해시
+   */
+  public String buildContentHash(
+      String name,
+      String address,
+      String description,
+      String operatingHours,
+      String holidayInfo,
+      List<String> themes,
+      String promptVersion) {
+    String sortedThemes =
+        themes == null ? "" : themes.stream().sorted().collect(Collectors.joining(","));
+
+    // 필드 경계가 모호해지지 않도록 NUL 문자로 구분
+    String input =
+        Stream.of(
+                name,
+                address,
+                description,
+                operatingHours,
+                holidayInfo,
+                sortedThemes,
+                promptVersion)
+            .map(value -> Objects.toString(value, ""))
+            .collect(Collectors.joining("\u0000"));
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+    }
+  }
 }
@@ -0,0 +1,12 @@
+package com.swygbro.airoad.backend.content.domain.dto.response;
+
+import lombok.Builder;
+
+/**
+ * 기준 위치 주변 장소 응답
+ *
+ * @param place 장소 정보
+ * @param distanceMeters 기준 위치로부터의 직선 거리 (미터)
+ */
+@Builder
+public record NearbyPlaceResponse(PlaceResponse place, long distanceMeters) {}
@@ -0,0 +1,13 @@
+package com.swygbro.airoad.backend.content.domain.dto.response;
+
+import java.util.Map;
+
+/**
+ * 장소 임베딩 배치 하나의 처리 결과
+ *
+ * @param processedCount 처리한 장소 수 (건너뛴 장소와 실패한 장소 포함)
+ * @param skippedCount 변경이 없거나 대상이 아니어서 건너뛴 장소 수
+ * @param failures 실패한 장소 ID와 실패 사유
+ */
+public record PlaceEmbeddingBatchResult(
+    int processedCount, int skippedCount, Map<Long, String> failures) {}
@@ -0,0 +1,27 @@
+package com.swygbro.airoad.backend.content.domain.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJobFailure;
+
+import lombok.Builder;
+
+/**
+ * 장소 임베딩 작업에서 실패한 장소
+ *
+ * @param placeId 실패한 장소 ID
+ * @param reason 실패 사유
+ * @param failedAt 실패 시각
+ */
+@Builder
+public record PlaceEmbeddingJobFailureResponse(
+    Long placeId, String reason, LocalDateTime failedAt) {
+
+  public static PlaceEmbeddingJobFailureResponse of(PlaceEmbeddingJobFailure failure) {
+    return PlaceEmbeddingJobFailureResponse.builder()
+        .placeId(failure.getPlaceId())
+        .reason(failure.getReason())
+        .failedAt(failure.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,54 @@
+package com.swygbro.airoad.backend.content.domain.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.swygbro.airoad.backend.content.domain.entity.EmbeddingJobStatus;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJob;
+
+import lombok.Builder;
+
+/**
+ * 장소 임베딩 작업의 진행 상태
+ *
+ * @param jobId 작업 ID
+ * @param status 작업 상태
+ * @param since 증분 작업의 기준 시각 (전체 작업이면 null)
+ * @param totalCount 처리 대상 수 (실행 전이면 null)
+ * @param processedCount 처리한 장소 수 (건너뛴 장소와 실패한 장소 포함)
+ * @param skippedCount 변경이 없어 건너뛴 장소 수
+ * @param failedCount 실패한 장소 수
+ * @param lastPlaceId 마지막으로 처리한 장소 ID
+ * @param message 실패 또는 취소 사유
+ * @param startedAt 시작 시각
+ * @param finishedAt 종료 시각
+ */
+@Builder
+public record PlaceEmbeddingJobResponse(
+    Long jobId,
+    EmbeddingJobStatus status,
+    LocalDateTime since,
+    Integer totalCount,
+    int processedCount,
+    int skippedCount,
+    int failedCount,
+    Long lastPlaceId,
+    String message,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt) {
+
+  public static PlaceEmbeddingJobResponse of(PlaceEmbeddingJob job) {
+    return PlaceEmbeddingJobResponse.builder()
+        .jobId(job.getId())
+        .status(job.getStatus())
+        .since(job.getSince())
+        .totalCount(job.getTotalCount())
+        .processedCount(job.getProcessedCount())
+        .skippedCount(job.getSkippedCount())
+        .failedCount(job.getFailedCount())
+        .lastPlaceId(job.getLastPlaceId())
+        .message(job.getMessage())
+        .startedAt(job.getStartedAt())
+        .finishedAt(job.getFinishedAt())
+        .build();
+  }
+}
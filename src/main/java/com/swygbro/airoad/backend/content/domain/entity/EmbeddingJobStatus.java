@@ -0,0 +1,28 @@
+package com.swygbro.airoad.backend.content.domain.entity;
+
+/** 장소 임베딩 작업의 상태 */
+public enum EmbeddingJobStatus {
+  /** 생성되었으나 아직 실행되지 않음 */
+  PENDING,
+
+  /** 실행 중 (또는 실행 중 서버가 종료되어 재개 대기 중) */
+  RUNNING,
+
+  /** 모든 대상 처리 완료 */
+  COMPLETED,
+
+  /** 복구할 수 없는 오류로 중단됨 */
+  FAILED,
+
+  /** 관리자 요청으로 취소됨 */
+  CANCELLED;
+
+  /**
+   * 더 이상 진행되지 않는 상태인지 확인합니다.
+   *
+   * @return 완료, 실패, 취소 상태이면 true
+   */
+  public boolean isFinished() {
+    return this == COMPLETED || this == FAILED || this == CANCELLED;
+  }
+}
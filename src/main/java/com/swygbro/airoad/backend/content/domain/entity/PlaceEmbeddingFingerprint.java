@@ -0,0 +1,47 @@
+package com.swygbro.airoad.backend.content.domain.entity;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+import com.swygbro.airoad.backend.common.domain.entity.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 임베딩의 입력 지문을 나타내는 엔티티
+ *
+ * <p>마지막으로 임베딩에 성공한 요약 입력(장소 정보와 요약 프롬프트)의 해시를 보관합니다. 해시가 같은 장소는 요약과 임베딩을 다시 수행하지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceEmbeddingFingerprint extends BaseEntity {
+
+  /** 장소 ID */
+  @Column(nullable = false, unique = true)
+  private Long placeId;
+
+  /** 요약 입력의 SHA-256 해시 (16진수) */
+  @Column(nullable = false, length = 64)
+  private String contentHash;
+
+  @Builder
+  private PlaceEmbeddingFingerprint(Long placeId, String contentHash) {
+    this.placeId = placeId;
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * 임베딩 입력 해시를 갱신합니다.
+   *
+   * @param contentHash 새 입력 해시
+   */
+  public void updateContentHash(String contentHash) {
+    this.contentHash = Objects.requireNonNull(contentHash);
+  }
+}
@@ -0,0 +1,146 @@
+package com.swygbro.airoad.backend.content.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Version;
+
+import com.swygbro.airoad.backend.common.domain.entity.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 임베딩 작업을 나타내는 엔티티
+ *
+ * <p>배치가 끝날 때마다 진행 건수와 마지막으로 처리한 장소 ID(체크포인트)를 기록합니다. 서버가 재시작되면 체크포인트 다음 장소부터 이어서 처리합니다.
+ *
+ * <p>작업을 실행할 때마다 새 실행 토큰을 발급하며, 토큰이 바뀌면 이전 실행자는 다음 체크포인트에서 멈춥니다. 취소 요청과 진행 기록이 서로를 덮어쓰지 않도록
+ * 낙관적 잠금을 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceEmbeddingJob extends BaseEntity {
+
+  /** 증분 작업의 기준 시각 (null이면 전체 작업) */
+  @Column private LocalDateTime since;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private EmbeddingJobStatus status;
+
+  /** 처리 대상 장소 수 (첫 실행 시 확정) */
+  @Column private Integer totalCount;
+
+  /** 처리한 장소 수 (건너뛴 장소 포함) */
+  @Column(nullable = false)
+  private int processedCount;
+
+  /** 변경이 없어 건너뛴 장소 수 */
+  @Column(nullable = false)
+  private int skippedCount;
+
+  /** 처리에 실패한 장소 수 */
+  @Column(nullable = false)
+  private int failedCount;
+
+  /** 마지막으로 처리한 장소 ID (체크포인트) */
+  @Column private Long lastPlaceId;
+
+  /** 현재 실행의 토큰 */
+  @Column(length = 36)
+  private String runToken;
+
+  /** 실패 또는 취소 사유 */
+  @Column(length = 500)
+  private String message;
+
+  @Column private LocalDateTime startedAt;
+
+  @Column private LocalDateTime finishedAt;
+
+  @Version private Long version;
+
+  @Builder
+  private PlaceEmbeddingJob(LocalDateTime since) {
+    this.since = since;
+    this.status = EmbeddingJobStatus.PENDING;
+  }
+
+  /**
+   * 작업 실행을 시작하거나 재개합니다.
+   *
+   * @param runToken 새 실행 토큰
+   * @param totalCount 처리 대상 수 (이미 확정된 경우 무시)
+   */
+  public void start(String runToken, int totalCount) {
+    this.status = EmbeddingJobStatus.RUNNING;
+    this.runToken = runToken;
+    if (this.totalCount == null) {
+      this.totalCount = totalCount;
+    }
+    if (this.startedAt == null) {
+      this.startedAt = LocalDateTime.now();
+    }
+  }
+
+  /**
+   * 주어진 토큰의 실행이 여전히 이 작업의 현재 실행인지 확인합니다.
+   *
+   * @param runToken 실행 토큰
+   * @return 실행 중이고 토큰이 같으면 true
+   */
+  public boolean isRunBy(String runToken) {
+    return status == EmbeddingJobStatus.RUNNING && runToken.equals(this.runToken);
+  }
+
+  /**
+   * 배치 처리 결과를 기록하고 체크포인트를 이동합니다.
+   *
+   * @param processed 처리한 장소 수 (건너뛴 장소와 실패한 장소 포함)
+   * @param skipped 건너뛴 장소 수
+   * @param failed 실패한 장소 수
+   * @param lastPlaceId 배치의 마지막 장소 ID
+   */
+  public void recordBatch(int processed, int skipped, int failed, Long lastPlaceId) {
+    this.processedCount += processed;
+    this.skippedCount += skipped;
+    this.failedCount += failed;
+    this.lastPlaceId = lastPlaceId;
+  }
+
+  /** 작업을 완료 처리합니다. */
+  public void complete() {
+    finish(EmbeddingJobStatus.COMPLETED, null);
+  }
+
+  /**
+   * 작업을 실패 처리합니다.
+   *
+   * @param message 실패 사유
+   */
+  public void fail(String message) {
+    finish(EmbeddingJobStatus.FAILED, message);
+  }
+
+  /**
+   * 작업을 취소합니다.
+   *
+   * @param message 취소 사유
+   */
+  public void cancel(String message) {
+    finish(EmbeddingJobStatus.CANCELLED, message);
+  }
+
+  private void finish(EmbeddingJobStatus status, String message) {
+    this.status = status;
+    this.message = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    this.finishedAt = LocalDateTime.now();
+  }
+}
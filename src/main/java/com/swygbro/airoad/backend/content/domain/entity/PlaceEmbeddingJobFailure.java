@@ -0,0 +1,40 @@
+package com.swygbro.airoad.backend.content.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.swygbro.airoad.backend.common.domain.entity.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 장소 임베딩 작업에서 처리에 실패한 장소를 나타내는 엔티티 */
+@Entity
+@Table(indexes = @Index(name = "idx_place_embedding_job_failure_job", columnList = "job_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceEmbeddingJobFailure extends BaseEntity {
+
+  /** 작업 ID */
+  @Column(nullable = false)
+  private Long jobId;
+
+  /** 실패한 장소 ID */
+  @Column(nullable = false)
+  private Long placeId;
+
+  /** 실패 사유 */
+  @Column(length = 500)
+  private String reason;
+
+  @Builder
+  private PlaceEmbeddingJobFailure(Long jobId, Long placeId, String reason) {
+    this.jobId = jobId;
+    this.placeId = placeId;
+    this.reason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+  }
+}
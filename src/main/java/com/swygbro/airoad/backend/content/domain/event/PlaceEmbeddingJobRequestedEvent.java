@@ -0,0 +1,13 @@
+package com.swygbro.airoad.backend.content.domain.event;
+
+import lombok.Builder;
+
+/**
+ * 장소 임베딩 작업 실행 요청 이벤트
+ *
+ * <p>작업이 생성되거나 중단된 작업을 재개할 때 발행되며, 리스너가 임베딩 작업 전용 스레드에서 작업을 실행합니다.
+ *
+ * @param jobId 실행할 작업 ID
+ */
+@Builder
+public record PlaceEmbeddingJobRequestedEvent(Long jobId) {}
@@ -14,6 +14,7 @@ import lombok.Builder;
  * @param address 주소 (지역 정보 추출용)
  * @param description 장소 설명
  * @param themes 테마 목록
+ * @param contentHash 요약 입력의 지문 (임베딩 성공 후 저장되어 변경 감지에 사용)
  */
 @Builder
 public record PlaceSummaryRequestedEvent(
@@ -23,4 +24,5 @@ public record PlaceSummaryRequestedEvent(
     String description,
     String operatingHours,
     String holidayInfo,
-    List<String> themes) {}
+    List<String> themes,
+    String contentHash) {}
@@ -0,0 +1,29 @@
+package com.swygbro.airoad.backend.content.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.swygbro.airoad.backend.common.exception.ErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 콘텐츠 도메인의 에러 코드를 정의합니다.
+ *
+ * <p>장소 조회와 장소 임베딩 작업의 실행, 조회, 취소 과정에서 발생할 수 있는 에러를 정의합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ContentErrorCode implements ErrorCode {
+  // 임베딩 작업 관련 에러
+  EMBEDDING_JOB_NOT_FOUND("CONTENT101", HttpStatus.NOT_FOUND, "임베딩 작업을 찾을 수 없습니다."),
+  EMBEDDING_JOB_ALREADY_RUNNING("CONTENT102", HttpStatus.CONFLICT, "이미 진행 중인 임베딩 작업이 있습니다."),
+  EMBEDDING_JOB_ALREADY_FINISHED("CONTENT103", HttpStatus.CONFLICT, "이미 종료된 임베딩 작업입니다."),
+
+  // 장소 관련 에러
+  PLACE_NOT_FOUND("CONTENT201", HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다.");
+
+  private final String code;
+  private final HttpStatus httpStatus;
+  private final String defaultMessage;
+}
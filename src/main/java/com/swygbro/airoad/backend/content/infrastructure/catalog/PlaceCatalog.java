@@ -0,0 +1,92 @@
+package com.swygbro.airoad.backend.content.infrastructure.catalog;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 필수 방문지 장소의 인메모리 카탈로그
+ *
+ * <p>랜덤 장소 추천의 지역/테마 필터링을 DB 대신 {@link PlaceCatalogSnapshot}에서 수행합니다. 애플리케이션 시작 시 적재하고, 이후 주기적으로
+ * 장소 수와 마지막 수정 시각을 확인하여 바뀐 경우에만 새 스냅샷을 만들어 교체합니다(copy-on-write). 조회 중인 스레드는 교체 전 스냅샷을 그대로
+ * 사용합니다.
+ *
+ * <p>적재 전에는 {@link #sample}이 빈 Optional을 반환하므로 호출 측에서 DB 조회로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCatalog {
+
+  private final PlaceRepository placeRepository;
+
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private volatile PlaceCatalogSnapshot snapshot;
+  private volatile PlaceCatalogVersion version;
+
+  /**
+   * 주소 접두사와 테마 조건에 맞는 필수 방문지 중 {@code limit}개를 무작위로 뽑습니다.
+   *
+   * @param addressPrefix 주소 시작 문자열
+   * @param themes 테마 목록 (null이거나 비어 있으면 전체)
+   * @param limit 뽑을 개수
+   * @return 장소 ID 목록, 카탈로그가 아직 적재되지 않았으면 빈 Optional
+   */
+  public Optional<List<Long>> sample(String addressPrefix, List<PlaceThemeType> themes, int limit) {
+    PlaceCatalogSnapshot current = snapshot;
+    if (current == null) {
+      return Optional.empty();
+    }
+    return Optional.of(current.sample(addressPrefix, themes, limit, ThreadLocalRandom.current()));
+  }
+
+  /** 애플리케이션 시작 시 카탈로그를 적재합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    refreshIfChanged();
+  }
+
+  /** 장소가 바뀌었으면 카탈로그를 다시 적재합니다. 다른 스레드가 적재 중이면 건너뜁니다. */
+  @Scheduled(
+      fixedDelayString = "${place-catalog.refresh-interval-ms:60000}",
+      initialDelayString = "${place-catalog.refresh-interval-ms:60000}")
+  public void refreshIfChanged() {
+    if (!refreshLock.tryLock()) {
+      return;
+    }
+    try {
+      // 버전을 먼저 읽어야 적재 중 변경이 생겨도 다음 확인에서 다시 적재됨
+      PlaceCatalogVersion latest = placeRepository.findCatalogVersion();
+      if (snapshot != null && Objects.equals(latest, version)) {
+        return;
+      }
+
+      long start = System.currentTimeMillis();
+      PlaceCatalogSnapshot loaded = PlaceCatalogSnapshot.of(placeRepository.findCatalogRows());
+      snapshot = loaded;
+      version = latest;
+      log.info(
+          "장소 카탈로그 적재 완료 - 장소 수: {}, 소요 시간: {}ms",
+          loaded.size(),
+          System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      log.warn("장소 카탈로그 적재 실패, 기존 카탈로그 유지: {}", e.getMessage());
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+}
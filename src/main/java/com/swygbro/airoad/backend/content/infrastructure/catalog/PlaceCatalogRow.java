@@ -0,0 +1,14 @@
+package com.swygbro.airoad.backend.content.infrastructure.catalog;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+/**
+ * 장소 카탈로그 적재용 프로젝션
+ *
+ * <p>장소-테마 조인 결과의 한 행으로, 테마가 여러 개인 장소는 테마 수만큼 행이 생깁니다. 테마가 없는 장소는 {@code theme}이 null인 한 행입니다.
+ *
+ * @param placeId 장소 ID
+ * @param address 장소 주소
+ * @param theme 장소 테마 (없으면 null)
+ */
+public record PlaceCatalogRow(Long placeId, String address, PlaceThemeType theme) {}
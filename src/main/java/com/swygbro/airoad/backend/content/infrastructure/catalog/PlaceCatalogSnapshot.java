@@ -0,0 +1,214 @@
+package com.swygbro.airoad.backend.content.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+/**
+ * 필수 방문지 장소의 읽기 전용 컬럼형 인덱스
+ *
+ * <p>장소 ID와 주소를 위치(ordinal)별 배열에 저장하고, 테마와 지역별로 해당 위치의 {@link BitSet}을 둡니다. 지역 키는 주소의 첫 토큰(시/도)과
+ * 앞 두 토큰(시/도 + 시/군/구)입니다.
+ *
+ * <p>조회는 비트 연산(테마는 합집합, 지역과는 교집합)으로 후보를 구하고 {@code limit}개만 뽑습니다. 후보에 비해 {@code limit}이
+ * 작으면 후보 범위에서 위치를 무작위로 골라 후보인 것만 채택하므로 후보 수와 관계없이 {@code limit}에 비례하는 시간이 걸리고, 그렇지 않으면 후보를
+ * 배열로 꺼내 부분 Fisher-Yates 셔플로 뽑습니다. 지역 키와 정확히 일치하지 않는 주소 접두사는 주소 배열을 순회하여 {@code LIKE
+ * 'prefix%'}와 같은 결과를 냅니다.
+ *
+ * <p>생성 후에는 변경되지 않으므로 잠금 없이 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class PlaceCatalogSnapshot {
+
+  private final long[] placeIds;
+  private final String[] addresses;
+  private final Map<PlaceThemeType, BitSet> themeBits;
+  private final Map<String, BitSet> regionBits;
+
+  private PlaceCatalogSnapshot(
+      long[] placeIds,
+      String[] addresses,
+      Map<PlaceThemeType, BitSet> themeBits,
+      Map<String, BitSet> regionBits) {
+    this.placeIds = placeIds;
+    this.addresses = addresses;
+    this.themeBits = themeBits;
+    this.regionBits = regionBits;
+  }
+
+  /**
+   * 장소-테마 행 목록으로 카탈로그를 생성합니다.
+   *
+   * @param rows 장소 ID 순으로 정렬된 장소-테마 행 목록 (같은 장소의 행은 연속)
+   * @return 생성된 카탈로그
+   */
+  public static PlaceCatalogSnapshot of(List<PlaceCatalogRow> rows) {
+    List<Long> ids = new ArrayList<>();
+    List<String> addressList = new ArrayList<>();
+    Map<PlaceThemeType, BitSet> themeBits = new EnumMap<>(PlaceThemeType.class);
+    Map<String, BitSet> regionBits = new HashMap<>();
+
+    Long previousId = null;
+    for (PlaceCatalogRow row : rows) {
+      if (!row.placeId().equals(previousId)) {
+        int ordinal = ids.size();
+        ids.add(row.placeId());
+        addressList.add(Objects.requireNonNullElse(row.address(), ""));
+        for (String regionKey : regionKeys(row.address())) {
+          regionBits.computeIfAbsent(regionKey, k -> new BitSet()).set(ordinal);
+        }
+        previousId = row.placeId();
+      }
+      if (row.theme() != null) {
+        themeBits.computeIfAbsent(row.theme(), k -> new BitSet()).set(ids.size() - 1);
+      }
+    }
+
+    return new PlaceCatalogSnapshot(
+        ids.stream().mapToLong(Long::longValue).toArray(),
+        addressList.toArray(String[]::new),
+        themeBits,
+        regionBits);
+  }
+
+  /**
+   * 적재된 장소 수를 반환합니다.
+   *
+   * @return 장소 수
+   */
+  public int size() {
+    return placeIds.length;
+  }
+
+  /**
+   * 주소 접두사와 테마 조건에 맞는 장소 중 {@code limit}개를 무작위로 뽑습니다.
+   *
+   * @param addressPrefix 주소 시작 문자열 (null이거나 비어 있으면 전체)
+   * @param themes 테마 목록, 하나라도 일치하면 후보 (null이거나 비어 있으면 전체)
+   * @param limit 뽑을 개수
+   * @param random 난수 생성기
+   * @return 무작위 순서의 장소 ID 목록 (후보가 적으면 후보 전체)
+   */
+  public List<Long> sample(
+      String addressPrefix, Collection<PlaceThemeType> themes, int limit, RandomGenerator random) {
+    BitSet candidates = match(addressPrefix, themes);
+    int cardinality = candidates.cardinality();
+    int count = Math.min(Math.max(limit, 0), cardinality);
+    if (count == 0) {
+      return new ArrayList<>();
+    }
+
+    // 기각 샘플링의 예상 시도 횟수(count * span / 남은 후보 수)가 후보 수 이하일 때만 사용
+    int from = candidates.nextSetBit(0);
+    int span = candidates.length() - from;
+    if ((long) count * span <= (long) cardinality * (cardinality - count)) {
+      return sampleByRejection(candidates, from, span, count, random);
+    }
+    return sampleByShuffle(candidates.stream().toArray(), count, random);
+  }
+
+  /**
+   * 후보 범위에서 위치를 무작위로 골라 후보이면 채택합니다. 채택한 위치는 후보에서 제거하여 중복 없이 뽑습니다.
+   *
+   * @param candidates 후보 위치 집합 (채택한 위치가 제거됨)
+   * @param from 첫 후보 위치
+   * @param span 첫 후보부터 마지막 후보까지의 범위
+   * @param count 뽑을 개수 (후보 수 이하)
+   * @param random 난수 생성기
+   * @return 무작위 순서의 장소 ID 목록
+   */
+  private List<Long> sampleByRejection(
+      BitSet candidates, int from, int span, int count, RandomGenerator random) {
+    List<Long> sampled = new ArrayList<>(count);
+    while (sampled.size() < count) {
+      int position = from + random.nextInt(span);
+      if (candidates.get(position)) {
+        candidates.clear(position);
+        sampled.add(placeIds[position]);
+      }
+    }
+    return sampled;
+  }
+
+  /**
+   * 부분 Fisher-Yates 셔플로 후보 배열에서 {@code count}개를 뽑습니다.
+   *
+   * @param candidates 후보 위치 배열 (순서가 바뀜)
+   * @param count 뽑을 개수 (후보 수 이하)
+   * @param random 난수 생성기
+   * @return 무작위 순서의 장소 ID 목록
+   */
+  private List<Long> sampleByShuffle(int[] candidates, int count, RandomGenerator random) {
+    List<Long> sampled = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int j = i + random.nextInt(candidates.length - i);
+      int picked = candidates[j];
+      candidates[j] = candidates[i];
+      candidates[i] = picked;
+      sampled.add(placeIds[picked]);
+    }
+    return sampled;
+  }
+
+  /**
+   * 주소 접두사와 테마 조건에 맞는 장소 위치를 구합니다.
+   *
+   * @param addressPrefix 주소 시작 문자열 (null이거나 비어 있으면 전체)
+   * @param themes 테마 목록, 하나라도 일치하면 후보 (null이거나 비어 있으면 전체)
+   * @return 조건에 맞는 장소 위치 집합 (새 인스턴스)
+   */
+  BitSet match(String addressPrefix, Collection<PlaceThemeType> themes) {
+    BitSet result = matchRegion(addressPrefix);
+    if (themes != null && !themes.isEmpty()) {
+      BitSet themeUnion = new BitSet(placeIds.length);
+      for (PlaceThemeType theme : themes) {
+        BitSet bits = themeBits.get(theme);
+        if (bits != null) {
+          themeUnion.or(bits);
+        }
+      }
+      result.and(themeUnion);
+    }
+    return result;
+  }
+
+  private BitSet matchRegion(String addressPrefix) {
+    if (addressPrefix == null || addressPrefix.isBlank()) {
+      BitSet all = new BitSet(placeIds.length);
+      all.set(0, placeIds.length);
+      return all;
+    }
+
+    BitSet indexed = regionBits.get(addressPrefix);
+    if (indexed != null) {
+      return (BitSet) indexed.clone();
+    }
+
+    // 지역 키에 없는 접두사 (예: "서울", "서울특별시 강남구 역삼동")는 주소 배열을 순회
+    BitSet scanned = new BitSet(placeIds.length);
+    for (int i = 0; i < addresses.length; i++) {
+      if (addresses[i].startsWith(addressPrefix)) {
+        scanned.set(i);
+      }
+    }
+    return scanned;
+  }
+
+  private static List<String> regionKeys(String address) {
+    if (address == null || address.isBlank()) {
+      return List.of();
+    }
+    String[] tokens = address.strip().split("\\s+");
+    if (tokens.length == 1) {
+      return List.of(tokens[0]);
+    }
+    return List.of(tokens[0], tokens[0] + " " + tokens[1]);
+  }
+}
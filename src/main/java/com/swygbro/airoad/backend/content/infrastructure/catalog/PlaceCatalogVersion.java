@@ -0,0 +1,13 @@
+package com.swygbro.airoad.backend.content.infrastructure.catalog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소 카탈로그 변경 감지용 버전
+ *
+ * <p>장소 수나 마지막 수정 시각이 바뀌면 카탈로그를 다시 적재합니다.
+ *
+ * @param placeCount 전체 장소 수
+ * @param lastUpdatedAt 가장 최근 장소 수정 시각
+ */
+public record PlaceCatalogVersion(Long placeCount, LocalDateTime lastUpdatedAt) {}
@@ -0,0 +1,30 @@
+package com.swygbro.airoad.backend.content.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
+
+/** PlaceEmbeddingFingerprint 엔티티의 JPA Repository */
+public interface PlaceEmbeddingFingerprintRepository
+    extends JpaRepository<PlaceEmbeddingFingerprint, Long> {
+
+  /**
+   * 장소 ID로 임베딩 입력 지문을 조회합니다.
+   *
+   * @param placeId 장소 ID
+   * @return 임베딩 입력 지문 Optional
+   */
+  Optional<PlaceEmbeddingFingerprint> findByPlaceId(Long placeId);
+
+  /**
+   * 여러 장소의 임베딩 입력 지문을 한 번에 조회합니다.
+   *
+   * @param placeIds 장소 ID 목록
+   * @return 지문이 존재하는 장소들의 임베딩 입력 지문 목록
+   */
+  List<PlaceEmbeddingFingerprint> findAllByPlaceIdIn(Collection<Long> placeIds);
+}
@@ -0,0 +1,20 @@
+package com.swygbro.airoad.backend.content.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJobFailure;
+
+/** PlaceEmbeddingJobFailure 엔티티의 JPA Repository */
+public interface PlaceEmbeddingJobFailureRepository
+    extends JpaRepository<PlaceEmbeddingJobFailure, Long> {
+
+  /**
+   * 작업의 실패 목록을 기록 순으로 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 실패 목록
+   */
+  List<PlaceEmbeddingJobFailure> findAllByJobIdOrderByIdAsc(Long jobId);
+}
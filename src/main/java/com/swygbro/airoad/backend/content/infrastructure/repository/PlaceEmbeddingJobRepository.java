@@ -0,0 +1,34 @@
+package com.swygbro.airoad.backend.content.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.swygbro.airoad.backend.content.domain.entity.EmbeddingJobStatus;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJob;
+
+/** PlaceEmbeddingJob 엔티티의 JPA Repository */
+public interface PlaceEmbeddingJobRepository extends JpaRepository<PlaceEmbeddingJob, Long> {
+
+  /**
+   * 주어진 상태의 작업이 있는지 확인합니다.
+   *
+   * @param statuses 확인할 상태 목록
+   * @return 하나라도 있으면 true
+   */
+  boolean existsByStatusIn(Collection<EmbeddingJobStatus> statuses);
+
+  /**
+   * 주어진 상태이면서 기준 시각 이후 갱신되지 않은 작업을 조회합니다.
+   *
+   * <p>실행 중 서버가 종료되어 더 이상 진행되지 않는 작업을 찾는 데 사용합니다.
+   *
+   * @param statuses 조회할 상태 목록
+   * @param updatedAt 기준 시각
+   * @return 조건에 맞는 작업 목록
+   */
+  List<PlaceEmbeddingJob> findAllByStatusInAndUpdatedAtBefore(
+      Collection<EmbeddingJobStatus> statuses, LocalDateTime updatedAt);
+}
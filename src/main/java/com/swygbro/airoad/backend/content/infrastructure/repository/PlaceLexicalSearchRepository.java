@@ -0,0 +1,169 @@
+package com.swygbro.airoad.backend.content.infrastructure.repository;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.google.common.base.Suppliers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 이름/주소 어휘 검색 Repository
+ *
+ * <p>PostgreSQL에서는 pg_trgm 트라이그램 유사도({@code %})와 부분 일치({@code ILIKE})로 검색합니다. 두 조건 모두 트라이그램 GIN
+ * 인덱스({@value #NAME_TRGM_INDEX}, {@value #ADDRESS_TRGM_INDEX})를 사용하므로 앞쪽 와일드카드가 있어도 순차 스캔 없이 조회됩니다.
+ *
+ * <p>pg_trgm이 없는 데이터베이스(테스트용 H2 등)에서는 {@code LIKE} 부분 일치와 ID 순 정렬로 동작합니다.
+ *
+ * <p>목록 조회는 COUNT 쿼리 없이 {@code limit + 1}개를 조회하는 키셋 방식입니다. 커서는 이전 페이지 마지막 장소의 ID이며, 유사도 순
+ * 정렬에서는 그 장소의 유사도를 다시 계산하여 (유사도, ID) 위치 이후부터 조회합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PlaceLexicalSearchRepository {
+
+  /** 장소 이름 트라이그램 GIN 인덱스 이름 */
+  public static final String NAME_TRGM_INDEX = "idx_place_name_trgm";
+
+  /** 장소 주소 트라이그램 GIN 인덱스 이름 */
+  public static final String ADDRESS_TRGM_INDEX = "idx_place_address_trgm";
+
+  private static final String SEARCH_IDS_BY_NAME_SQL =
+      """
+      SELECT id FROM place
+      WHERE (name % ? OR name ILIKE ? ESCAPE '\\') AND address ILIKE ? ESCAPE '\\'
+      ORDER BY similarity(name, ?) DESC, id
+      LIMIT ?
+      """;
+
+  private static final String SEARCH_IDS_BY_NAME_FALLBACK_SQL =
+      """
+      SELECT id FROM place
+      WHERE name LIKE ? ESCAPE '\\' AND address LIKE ? ESCAPE '\\'
+      ORDER BY id
+      LIMIT ?
+      """;
+
+  private static final String SEARCH_IDS_BY_NAME_AND_ADDRESS_SQL =
+      """
+      SELECT id FROM place
+      WHERE name ILIKE ? ESCAPE '\\' AND address ILIKE ? ESCAPE '\\'
+      ORDER BY similarity(name, ?) DESC, id
+      LIMIT ?
+      """;
+
+  private static final String SEARCH_IDS_BY_NAME_AND_ADDRESS_AFTER_SQL =
+      """
+      WITH cursor_place AS (SELECT similarity(name, ?) AS score FROM place WHERE id = ?)
+      SELECT p.id FROM place p, cursor_place c
+      WHERE p.name ILIKE ? ESCAPE '\\' AND p.address ILIKE ? ESCAPE '\\'
+        AND (similarity(p.name, ?) < c.score
+          OR (similarity(p.name, ?) = c.score AND p.id > ?))
+      ORDER BY similarity(p.name, ?) DESC, p.id
+      LIMIT ?
+      """;
+
+  private static final String SEARCH_IDS_BY_NAME_AND_ADDRESS_FALLBACK_SQL =
+      """
+      SELECT id FROM place
+      WHERE name LIKE ? ESCAPE '\\' AND address LIKE ? ESCAPE '\\' AND id > ?
+      ORDER BY id
+      LIMIT ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Supplier<Boolean> trigramSupported = Suppliers.memoize(this::detectTrigram);
+
+  /**
+   * 이름이 검색어와 비슷한 장소 ID를 유사도 순으로 조회합니다.
+   *
+   * @param query 검색어
+   * @param region 지역 (주소 부분 일치, 비어 있으면 전국)
+   * @param limit 최대 결과 개수
+   * @return 유사도 순으로 정렬된 Place ID 목록
+   */
+  public List<Long> searchIdsByName(String query, String region, int limit) {
+    String pattern = containsPattern(query);
+    String regionPattern = containsPattern(region == null ? null : region.strip());
+    if (!trigramSupported.get()) {
+      return jdbcTemplate.queryForList(
+          SEARCH_IDS_BY_NAME_FALLBACK_SQL, Long.class, pattern, regionPattern, limit);
+    }
+    return jdbcTemplate.queryForList(
+        SEARCH_IDS_BY_NAME_SQL, Long.class, query, pattern, regionPattern, query, limit);
+  }
+
+  /**
+   * 이름과 주소를 부분 일치로 검색하여 장소 ID를 이름 유사도 순으로 조회합니다.
+   *
+   * @param name 장소 이름 (부분 일치, 비어 있으면 조건 없음)
+   * @param address 장소 주소 (부분 일치, 비어 있으면 조건 없음)
+   * @param cursor 이전 페이지 마지막 Place ID (null이면 첫 페이지)
+   * @param limit 최대 결과 개수
+   * @return 정렬된 Place ID 목록
+   */
+  public List<Long> searchIdsByNameAndAddress(
+      String name, String address, Long cursor, int limit) {
+    String namePattern = containsPattern(name);
+    String addressPattern = containsPattern(address);
+    String keyword = name == null ? "" : name;
+
+    if (!trigramSupported.get()) {
+      return jdbcTemplate.queryForList(
+          SEARCH_IDS_BY_NAME_AND_ADDRESS_FALLBACK_SQL,
+          Long.class,
+          namePattern,
+          addressPattern,
+          cursor == null ? 0L : cursor,
+          limit);
+    }
+    if (cursor == null) {
+      return jdbcTemplate.queryForList(
+          SEARCH_IDS_BY_NAME_AND_ADDRESS_SQL,
+          Long.class,
+          namePattern,
+          addressPattern,
+          keyword,
+          limit);
+    }
+
+    // 커서 장소의 유사도를 다시 계산하여 (유사도, ID) 위치 이후부터 조회
+    return jdbcTemplate.queryForList(
+        SEARCH_IDS_BY_NAME_AND_ADDRESS_AFTER_SQL,
+        Long.class,
+        keyword,
+        cursor,
+        namePattern,
+        addressPattern,
+        keyword,
+        keyword,
+        cursor,
+        keyword,
+        limit);
+  }
+
+  private boolean detectTrigram() {
+    String product =
+        jdbcTemplate.execute(
+            (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+    boolean supported = "PostgreSQL".equalsIgnoreCase(product);
+    if (!supported) {
+      log.info("pg_trgm을 사용할 수 없는 데이터베이스입니다. LIKE 검색으로 대체합니다 - {}", product);
+    }
+    return supported;
+  }
+
+  private static String containsPattern(String value) {
+    if (value == null || value.isEmpty()) {
+      return "%";
+    }
+    return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+  }
+}
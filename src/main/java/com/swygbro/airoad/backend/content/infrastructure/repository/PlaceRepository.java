@@ -3,9 +3,7 @@ package com.swygbro.airoad.backend.content.infrastructure.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 
 import com.swygbro.airoad.backend.content.domain.entity.Place;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalogRow;
+import com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalogVersion;
 
 /** Place 엔티티의 JPA Repository */
 public interface PlaceRepository extends JpaRepository<Place, Long> {
@@ -36,26 +36,62 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
   List<Place> findAllByIdsWithThemes(@Param("ids") List<Long> ids);
 
   /**
-   * 모든 Place를 Stream으로 조회
+   * 주어진 ID 목록에 해당하는 장소와 테마를 필수 방문지 여부와 관계없이 조회합니다.
    *
-   * <p>대량의 데이터를 메모리에 한번에 로드하지 않고 스트림으로 처리하기 위해 사용합니다. 반드시 @Transactional(readOnly = true)와 함께 사용해야
-   * 합니다.
+   * @param ids 조회할 장소의 ID 목록
+   * @return 장소 및 연결된 테마들의 리스트 (순서 보장 없음)
+   */
+  @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.themes WHERE p.id IN :ids")
+  List<Place> findAllWithThemesByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * 필수 방문지(isMustVisit)인 Place ID 목록을 ID 순으로 조회
+   *
+   * <p>임베딩 배치의 대상 스냅샷으로 사용합니다. ID만 조회하므로 긴 시간 커서나 트랜잭션을 유지하지 않습니다.
+   *
+   * @return 필수 방문지 Place ID 목록
+   */
+  @Query("SELECT p.id FROM Place p WHERE p.isMustVisit = true ORDER BY p.id")
+  List<Long> findMustVisitIds();
+
+  /**
+   * 특정 시점 이후 수정된 필수 방문지 Place ID 목록을 ID 순으로 조회
    *
-   * @return Place Stream
+   * <p>증분 임베딩의 대상 스냅샷으로 사용합니다.
+   *
+   * @param dateTime 기준 시각
+   * @return 기준 시각 이후 수정된 필수 방문지 Place ID 목록
    */
-  @Query("SELECT p FROM Place p JOIN FETCH p.themes")
-  Stream<Place> streamAllBy();
+  @Query(
+      "SELECT p.id FROM Place p "
+          + "WHERE p.isMustVisit = true AND p.updatedAt > :dateTime "
+          + "ORDER BY p.id")
+  List<Long> findMustVisitIdsByUpdatedAtAfter(@Param("dateTime") LocalDateTime dateTime);
 
   /**
-   * 특정 시점 이후 수정된 Place를 Stream으로 조회
+   * 체크포인트 이후의 필수 방문지 Place ID 목록을 ID 순으로 조회
+   *
+   * <p>임베딩 작업을 재개할 때 이미 처리한 Place를 제외하기 위해 사용합니다.
    *
-   * <p>증분 업데이트를 위해 최근 수정된 Place만 조회합니다. 반드시 @Transactional(readOnly = true)와 함께 사용해야 합니다.
+   * @param afterId 체크포인트 (이 ID보다 큰 Place만 조회)
+   * @return 필수 방문지 Place ID 목록
+   */
+  @Query("SELECT p.id FROM Place p WHERE p.isMustVisit = true AND p.id > :afterId ORDER BY p.id")
+  List<Long> findMustVisitIdsAfter(@Param("afterId") Long afterId);
+
+  /**
+   * 특정 시점 이후 수정된 필수 방문지 중 체크포인트 이후의 Place ID 목록을 ID 순으로 조회
    *
    * @param dateTime 기준 시각
-   * @return 기준 시각 이후 수정된 Place Stream
+   * @param afterId 체크포인트 (이 ID보다 큰 Place만 조회)
+   * @return 기준 시각 이후 수정된 필수 방문지 Place ID 목록
    */
-  @Query("SELECT p FROM Place p JOIN FETCH p.themes WHERE p.updatedAt > :dateTime")
-  Stream<Place> streamByUpdatedAtAfter(@Param("dateTime") LocalDateTime dateTime);
+  @Query(
+      "SELECT p.id FROM Place p "
+          + "WHERE p.isMustVisit = true AND p.updatedAt > :dateTime AND p.id > :afterId "
+          + "ORDER BY p.id")
+  List<Long> findMustVisitIdsByUpdatedAtAfter(
+      @Param("dateTime") LocalDateTime dateTime, @Param("afterId") Long afterId);
 
   /**
    * TourAPI 장소 ID로 Place 조회
@@ -96,12 +132,29 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
   List<Long> findIdsByAddressStartingWithAndThemes(
       @Param("addressPrefix") String addressPrefix, @Param("themes") List<PlaceThemeType> themes);
 
+  /**
+   * 장소 카탈로그 적재용으로 필수 방문지의 ID, 주소, 테마를 ID 순으로 조회
+   *
+   * <p>테마가 여러 개인 장소는 테마 수만큼 행이 반환됩니다.
+   *
+   * @return 장소-테마 행 목록
+   */
+  @Query(
+      "SELECT new com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalogRow("
+          + "p.id, p.location.address, t) "
+          + "FROM Place p LEFT JOIN p.themes t "
+          + "WHERE p.isMustVisit = true "
+          + "ORDER BY p.id")
+  List<PlaceCatalogRow> findCatalogRows();
+
+  /**
+   * 장소 카탈로그 변경 감지용으로 전체 장소 수와 마지막 수정 시각을 조회
+   *
+   * @return 장소 카탈로그 버전
+   */
   @Query(
-      """
-      SELECT p FROM Place p
-      WHERE p.location.name LIKE CONCAT('%', :name, '%')
-      AND p.location.address LIKE CONCAT('%', :address, '%')
-      """)
-  Page<Place> findByNameAndAddress(
-      @Param("name") String name, @Param("address") String address, Pageable pageable);
+      "SELECT new com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalogVersion("
+          + "COUNT(p), MAX(p.updatedAt)) "
+          + "FROM Place p")
+  PlaceCatalogVersion findCatalogVersion();
 }
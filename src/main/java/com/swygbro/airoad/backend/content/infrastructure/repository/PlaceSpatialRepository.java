@@ -0,0 +1,88 @@
+package com.swygbro.airoad.backend.content.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장소 좌표 기반 공간 검색 Repository
+ *
+ * <p>PostGIS geography 표현식 GiST 인덱스({@value #POINT_GIST_INDEX})를 사용합니다. 반경 조건은 {@code ST_DWithin},
+ * 정렬은 KNN 연산자 {@code <->}로 처리하므로 전체 장소의 거리를 계산하지 않고 가까운 순서대로 {@code limit}개만 읽습니다.
+ *
+ * <p>좌표는 경도(X), 위도(Y) 순서의 WGS84 좌표이며 거리는 미터 단위입니다. PostGIS가 필요하므로 테스트용 H2에서는 사용할 수 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceSpatialRepository {
+
+  /** 장소 좌표 geography GiST 인덱스 이름 */
+  public static final String POINT_GIST_INDEX = "idx_place_point_geog";
+
+  private static final String ORIGIN = "ST_MakePoint(?, ?)::geography";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 기준 좌표에서 가까운 장소를 거리 순으로 조회합니다.
+   *
+   * @param longitude 기준 경도
+   * @param latitude 기준 위도
+   * @param radiusMeters 검색 반경 (미터, null이면 제한 없음)
+   * @param themes 테마 목록, 하나라도 일치하면 포함 (null이거나 비어 있으면 전체)
+   * @param excludePlaceId 결과에서 제외할 장소 ID (null이면 제외 없음)
+   * @param limit 최대 결과 개수
+   * @return 가까운 순서의 장소 ID와 거리 목록
+   */
+  public List<PlaceDistance> findNearest(
+      double longitude,
+      double latitude,
+      Integer radiusMeters,
+      List<PlaceThemeType> themes,
+      Long excludePlaceId,
+      int limit) {
+    List<Object> params = new ArrayList<>(List.of(longitude, latitude));
+    StringBuilder sql =
+        new StringBuilder("SELECT p.id, ST_Distance(p.point::geography, ")
+            .append(ORIGIN)
+            .append(") AS distance FROM place p WHERE 1 = 1");
+
+    if (radiusMeters != null) {
+      sql.append(" AND ST_DWithin(p.point::geography, ").append(ORIGIN).append(", ?)");
+      params.addAll(List.of(longitude, latitude, radiusMeters));
+    }
+    if (themes != null && !themes.isEmpty()) {
+      sql.append(" AND EXISTS (SELECT 1 FROM place_theme_type t WHERE t.place_id = p.id")
+          .append(" AND t.theme IN (")
+          .append(String.join(", ", themes.stream().map(theme -> "?").toList()))
+          .append("))");
+      themes.forEach(theme -> params.add(theme.name()));
+    }
+    if (excludePlaceId != null) {
+      sql.append(" AND p.id <> ?");
+      params.add(excludePlaceId);
+    }
+
+    sql.append(" ORDER BY p.point::geography <-> ").append(ORIGIN).append(" LIMIT ?");
+    params.addAll(List.of(longitude, latitude, limit));
+
+    return jdbcTemplate.query(
+        sql.toString(),
+        (rs, rowNum) -> new PlaceDistance(rs.getLong("id"), rs.getDouble("distance")),
+        params.toArray());
+  }
+
+  /**
+   * 장소 ID와 기준 좌표로부터의 거리
+   *
+   * @param placeId 장소 ID
+   * @param distanceMeters 거리 (미터)
+   */
+  public record PlaceDistance(Long placeId, double distanceMeters) {}
+}
@@ -1,27 +1,72 @@
 package com.swygbro.airoad.backend.content.infrastructure.repository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
-import org.springframework.ai.vectorstore.filter.Filter;
-import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** PgVectorStore 래퍼 Repository */
+/**
+ * PgVectorStore 래퍼 Repository
+ *
+ * <p>장소 Document의 ID는 {@link #documentId(Long)}로 placeId에서 결정적으로 생성합니다. PgVectorStore의 저장은
+ * {@code INSERT ... ON CONFLICT (id) DO UPDATE} 한 문장으로 처리되므로, 같은 장소를 다시 저장하면 기존 행이 갱신됩니다. 여러
+ * Document는 하나의 JDBC 배치로 저장됩니다.
+ *
+ * <p>지역 필터 검색은 metadata GIN 인덱스({@value #METADATA_INDEX})로 후보를 좁힙니다.
+ *
+ * <p>placeId로 삭제할 때는 {@code metadata->>'placeId'} 표현식 인덱스({@value #PLACE_ID_INDEX})를 사용하는 SQL을 직접
+ * 실행합니다.
+ */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class PlaceVectorStoreRepository {
 
+  /** metadata의 placeId 표현식 인덱스 이름 */
+  public static final String PLACE_ID_INDEX = "idx_place_embedding_place_id";
+
+  /** 지역 등 metadata 필터 검색용 GIN 인덱스 이름 */
+  public static final String METADATA_INDEX = "idx_place_embedding_metadata";
+
   private final VectorStore vectorStore;
+  private final JdbcTemplate jdbcTemplate;
+  private final String deleteByPlaceIdSql;
+  private final String deleteStaleByPlaceIdSql;
+
+  public PlaceVectorStoreRepository(
+      VectorStore vectorStore,
+      JdbcTemplate jdbcTemplate,
+      @Value("${spring.ai.vectorstore.pgvector.schema-name:public}") String schemaName,
+      @Value("${spring.ai.vectorstore.pgvector.table-name:place_embedding}") String tableName) {
+    this.vectorStore = vectorStore;
+    this.jdbcTemplate = jdbcTemplate;
+
+    String table = schemaName + "." + tableName;
+    this.deleteByPlaceIdSql = "DELETE FROM " + table + " WHERE metadata->>'placeId' = ?";
+    this.deleteStaleByPlaceIdSql =
+        "DELETE FROM " + table + " WHERE metadata->>'placeId' = ? AND id <> ?::uuid";
+  }
+
+  /**
+   * placeId로부터 결정적인 Document ID를 생성합니다.
+   *
+   * @param placeId Place ID
+   * @return 이름 기반 UUID 문자열
+   */
+  public static String documentId(Long placeId) {
+    return UUID.nameUUIDFromBytes(("place:" + placeId).getBytes(StandardCharsets.UTF_8))
+        .toString();
+  }
 
   /**
-   * Document를 벡터 스토어에 저장
+   * Document를 벡터 스토어에 저장 (같은 ID가 있으면 갱신)
    *
    * @param document 저장할 Document
    */
@@ -31,7 +76,7 @@ public class PlaceVectorStoreRepository {
   }
 
   /**
-   * 여러 Document를 벡터 스토어에 일괄 저장
+   * 여러 Document를 벡터 스토어에 일괄 저장 (같은 ID가 있으면 갱신)
    *
    * @param documents 저장할 Document 리스트
    */
@@ -45,20 +90,33 @@ public class PlaceVectorStoreRepository {
   /**
    * Place ID로 Document 삭제
    *
-   * <p>메타데이터의 placeId로 필터링하여 삭제합니다.
+   * <p>메타데이터의 placeId 표현식 인덱스를 사용합니다.
    *
    * @param placeId 삭제할 Place의 ID
+   * @return 삭제된 행 수
+   */
+  public int deleteByPlaceId(Long placeId) {
+    int deleted = jdbcTemplate.update(deleteByPlaceIdSql, String.valueOf(placeId));
+    log.info("Deleted {} documents by placeId: {}", deleted, placeId);
+    return deleted;
+  }
+
+  /**
+   * 결정적 ID가 아닌 이전 Document를 삭제
+   *
+   * <p>결정적 ID 도입 전에 무작위 ID로 저장된 중복 Document를 정리합니다. 이전 Document가 없으면 인덱스 조회만 수행합니다.
+   *
+   * @param placeIds 정리할 Place ID 목록
    */
-  public void deleteByPlaceId(Long placeId) {
-    try {
-      log.info("Deleting document by placeId: {}", placeId);
-      FilterExpressionBuilder b = new FilterExpressionBuilder();
-      Filter.Expression filterExpression = b.eq("placeId", placeId).build();
-      vectorStore.delete(filterExpression);
-      log.info("Successfully deleted document by placeId: {}", placeId);
-    } catch (Exception e) {
-      log.error("Failed to delete document by placeId: {}", placeId, e);
+  public void deleteStaleByPlaceIds(List<Long> placeIds) {
+    if (placeIds.isEmpty()) {
+      return;
     }
+    jdbcTemplate.batchUpdate(
+        deleteStaleByPlaceIdSql,
+        placeIds.stream()
+            .map(placeId -> new Object[] {String.valueOf(placeId), documentId(placeId)})
+            .toList());
   }
 
   /**
@@ -0,0 +1,32 @@
+package com.swygbro.airoad.backend.content.presentation.message;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.swygbro.airoad.backend.content.application.PlaceEmbeddingJobUseCase;
+import com.swygbro.airoad.backend.content.domain.event.PlaceEmbeddingJobRequestedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 임베딩 작업 실행 요청을 처리하는 리스너
+ *
+ * <p>작업 생성 트랜잭션이 커밋된 뒤 임베딩 작업 전용 스레드(embeddingJobExecutor)에서 작업을 실행합니다. 트랜잭션 밖에서 발행된 재개 요청도 바로
+ * 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceEmbeddingJobListener {
+
+  private final PlaceEmbeddingJobUseCase placeEmbeddingJobUseCase;
+
+  @Async("embeddingJobExecutor")
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmbeddingJobRequested(PlaceEmbeddingJobRequestedEvent event) {
+    log.debug("PlaceEmbeddingJobRequestedEvent 수신 - jobId: {}", event.jobId());
+    placeEmbeddingJobUseCase.runJob(event.jobId());
+  }
+}
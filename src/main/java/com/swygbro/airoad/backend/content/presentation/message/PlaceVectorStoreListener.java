@@ -1,24 +1,58 @@
 package com.swygbro.airoad.backend.content.presentation.message;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.swygbro.airoad.backend.ai.domain.event.PlaceSummaryGeneratedEvent;
 import com.swygbro.airoad.backend.content.application.PlaceVectorCommandUseCase;
 import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 장소 요약 생성 완료 이벤트를 모아 벡터 스토어에 일괄 저장하는 리스너
+ *
+ * <p>요약이 끝난 장소를 버퍼에 쌓아 두었다가 {@value #BATCH_SIZE}개가 모이면 한 번에 저장합니다. 배치가 다 차지 않은 장소는 주기적으로
+ * 저장되며, 종료 시 남은 장소도 모두 저장합니다. 저장에 실패한 배치의 장소는 지문이 남지 않으므로 다음 임베딩 실행에서 다시 처리됩니다.
+ *
+ * <p>배치 하나는 장소마다 임베딩 API를 호출하므로 수십 초가 걸릴 수 있습니다. 주기적 저장은 스케줄러 스레드에서 직접 실행하지 않고
+ * vectorTaskExecutor에 넘기며, 이미 저장 중이면 새로 넘기지 않습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PlaceVectorStoreListener {
 
+  /** 한 번에 저장할 최대 장소 수 */
+  static final int BATCH_SIZE = 20;
+
   private final PlaceVectorCommandUseCase placeVectorCommandUseCase;
+  private final Executor vectorTaskExecutor;
+
+  private final ConcurrentLinkedQueue<PlaceVectorSaveRequest> pending =
+      new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
 
-  @Async
+  public PlaceVectorStoreListener(
+      PlaceVectorCommandUseCase placeVectorCommandUseCase,
+      @Qualifier("vectorTaskExecutor") Executor vectorTaskExecutor) {
+    this.placeVectorCommandUseCase = placeVectorCommandUseCase;
+    this.vectorTaskExecutor = vectorTaskExecutor;
+  }
+
+  @Async("vectorTaskExecutor")
   @EventListener
   public void onPlaceSummaryGenerated(PlaceSummaryGeneratedEvent event) {
     log.debug("PlaceSummaryGeneratedEvent 수신 - placeId: {}", event.placeId());
@@ -29,8 +63,70 @@ public class PlaceVectorStoreListener {
             .address(event.address())
             .themes(event.themes())
             .content(event.content())
+            .contentHash(event.contentHash())
             .build();
 
-    placeVectorCommandUseCase.savePlaceVector(request);
+    pending.add(request);
+    if (pendingCount.incrementAndGet() >= BATCH_SIZE) {
+      saveBatch();
+    }
+  }
+
+  /** 남아 있는 장소가 있으면 vectorTaskExecutor에서 저장하도록 넘깁니다. */
+  @Scheduled(
+      fixedDelayString = "${spring.ai.embedding-job.vector-flush-interval-ms:1000}",
+      initialDelayString = "${spring.ai.embedding-job.vector-flush-interval-ms:1000}")
+  public void scheduleFlush() {
+    if (pendingCount.get() == 0 || !flushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      vectorTaskExecutor.execute(
+          () -> {
+            try {
+              flush();
+            } finally {
+              flushScheduled.set(false);
+            }
+          });
+    } catch (RuntimeException e) {
+      flushScheduled.set(false);
+      log.warn("장소 벡터 주기적 저장 요청 실패, 다음 주기에 다시 시도 - pending: {}", pendingCount.get(), e);
+    }
+  }
+
+  /** 배치가 다 차지 않아 남아 있는 장소를 호출 스레드에서 모두 저장합니다. 종료 시에도 호출됩니다. */
+  @PreDestroy
+  public void flush() {
+    while (saveBatch() > 0) {
+      // 버퍼가 빌 때까지 반복
+    }
+  }
+
+  /**
+   * 버퍼에서 최대 {@value #BATCH_SIZE}개의 장소를 꺼내 저장합니다.
+   *
+   * @return 저장을 시도한 장소 수
+   */
+  private int saveBatch() {
+    List<PlaceVectorSaveRequest> batch = new ArrayList<>(BATCH_SIZE);
+    PlaceVectorSaveRequest request;
+    while (batch.size() < BATCH_SIZE && (request = pending.poll()) != null) {
+      batch.add(request);
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    pendingCount.addAndGet(-batch.size());
+
+    try {
+      placeVectorCommandUseCase.savePlaceVectors(batch);
+    } catch (Exception e) {
+      log.error(
+          "장소 벡터 일괄 저장 실패 - placeIds: {}",
+          batch.stream().map(PlaceVectorSaveRequest::placeId).toList(),
+          e);
+    }
+    return batch.size();
   }
 }
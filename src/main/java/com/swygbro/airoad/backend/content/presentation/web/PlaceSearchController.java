@@ -0,0 +1,105 @@
+package com.swygbro.airoad.backend.content.presentation.web;
+
+import java.util.List;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.swygbro.airoad.backend.common.domain.dto.CommonResponse;
+import com.swygbro.airoad.backend.content.application.PlaceHybridSearchUseCase;
+import com.swygbro.airoad.backend.content.application.PlaceNearbyQueryUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+import lombok.RequiredArgsConstructor;
+
+/** 장소 검색 API를 제공하는 컨트롤러 클래스입니다. */
+@Validated
+@RestController
+@RequestMapping("/api/v1/places")
+@RequiredArgsConstructor
+public class PlaceSearchController {
+
+  /** 주변 장소 검색 최대 반경 (미터) */
+  private static final long MAX_RADIUS_METERS = 50_000;
+
+  private final PlaceHybridSearchUseCase placeHybridSearchUseCase;
+  private final PlaceNearbyQueryUseCase placeNearbyQueryUseCase;
+
+  /**
+   * 장소 이름 또는 자연어 검색어로 장소를 검색합니다.
+   *
+   * <p>이름 어휘 검색과 벡터 유사도 검색 결과를 Reciprocal Rank Fusion으로 합친 순서로 반환합니다.
+   *
+   * @param query 장소 이름 또는 자연어 검색어
+   * @param size 반환할 최대 결과 개수 (1~50)
+   * @param region 벡터 검색을 제한할 여행 지역 (선택)
+   * @return 검색된 장소 목록
+   */
+  @GetMapping("/search")
+  public ResponseEntity<CommonResponse<List<PlaceResponse>>> searchPlaces(
+      @RequestParam @NotBlank String query,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size,
+      @RequestParam(required = false) String region) {
+    return ResponseEntity.ok(
+        CommonResponse.success(
+            HttpStatus.OK, placeHybridSearchUseCase.search(query, size, region)));
+  }
+
+  /**
+   * 기준 좌표에서 가까운 장소를 거리 순으로 조회합니다.
+   *
+   * @param latitude 기준 위도
+   * @param longitude 기준 경도
+   * @param radius 검색 반경 (미터, 선택)
+   * @param themes 테마 목록 (선택)
+   * @param size 반환할 최대 결과 개수 (1~50)
+   * @return 가까운 순서의 장소 목록과 거리
+   */
+  @GetMapping("/nearby")
+  public ResponseEntity<CommonResponse<List<NearbyPlaceResponse>>> findNearbyPlaces(
+      @RequestParam @DecimalMin("-90") @DecimalMax("90") double latitude,
+      @RequestParam @DecimalMin("-180") @DecimalMax("180") double longitude,
+      @RequestParam(required = false) @Min(1) @Max(MAX_RADIUS_METERS) Integer radius,
+      @RequestParam(required = false) List<PlaceThemeType> themes,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+    return ResponseEntity.ok(
+        CommonResponse.success(
+            HttpStatus.OK,
+            placeNearbyQueryUseCase.findNearbyPlaces(latitude, longitude, radius, themes, size)));
+  }
+
+  /**
+   * 특정 장소에서 가까운 다른 장소를 거리 순으로 조회합니다.
+   *
+   * @param placeId 기준 장소 ID
+   * @param radius 검색 반경 (미터, 선택)
+   * @param themes 테마 목록 (선택)
+   * @param size 반환할 최대 결과 개수 (1~50)
+   * @return 가까운 순서의 장소 목록과 거리
+   */
+  @GetMapping("/{placeId}/nearby")
+  public ResponseEntity<CommonResponse<List<NearbyPlaceResponse>>> findPlacesNearPlace(
+      @PathVariable Long placeId,
+      @RequestParam(required = false) @Min(1) @Max(MAX_RADIUS_METERS) Integer radius,
+      @RequestParam(required = false) List<PlaceThemeType> themes,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+    return ResponseEntity.ok(
+        CommonResponse.success(
+            HttpStatus.OK,
+            placeNearbyQueryUseCase.findPlacesNearPlace(placeId, radius, themes, size)));
+  }
+}
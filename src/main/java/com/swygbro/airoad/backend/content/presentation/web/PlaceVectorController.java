@@ -1,9 +1,12 @@
 package com.swygbro.airoad.backend.content.presentation.web;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,7 +14,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.swygbro.airoad.backend.common.domain.dto.CommonResponse;
+import com.swygbro.airoad.backend.content.application.PlaceEmbeddingJobUseCase;
 import com.swygbro.airoad.backend.content.application.PlaceEmbeddingUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobFailureResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,24 +31,63 @@ import lombok.RequiredArgsConstructor;
 public class PlaceVectorController {
 
   private final PlaceEmbeddingUseCase placeEmbeddingUseCase;
+  private final PlaceEmbeddingJobUseCase placeEmbeddingJobUseCase;
 
   /**
-   * 장소(Place) 데이터를 임베딩 처리하여 벡터 스토어에 저장하는 요청을 처리합니다. 'since' 파라미터가 제공되면, 지정된 시간 이후에 수정된 장소만 처리합니다.
+   * 장소(Place) 데이터를 임베딩 처리하여 벡터 스토어에 저장하는 작업을 시작합니다. 'since' 파라미터가 제공되면, 지정된 시간 이후에 수정된 장소만 처리합니다.
    * 파라미터가 없으면 모든 장소를 처리합니다.
    *
+   * <p>작업은 비동기로 실행되며, 응답의 작업 ID로 진행 상태를 조회할 수 있습니다.
+   *
    * @param since 특정 시간 이후에 수정된 장소를 대상으로 할 때 사용하는 날짜와 시간 (ISO 8601 형식)
-   * @return HTTP 204 No Content 상태를 반환합니다.
+   * @return HTTP 202 Accepted 상태와 생성된 작업 정보를 반환합니다.
    */
   @PostMapping("/vectors")
-  public ResponseEntity<CommonResponse<?>> createPlacesVector(
+  public ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> createPlacesVector(
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
           LocalDateTime since) {
-    if (since != null) {
-      placeEmbeddingUseCase.embedModifiedPlaces(since);
-    } else {
-      placeEmbeddingUseCase.embedAllPlaces();
-    }
-    return ResponseEntity.noContent().build();
+    PlaceEmbeddingJobResponse response = placeEmbeddingJobUseCase.startJob(since);
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(CommonResponse.success(HttpStatus.ACCEPTED, response));
+  }
+
+  /**
+   * 임베딩 작업의 진행 상태를 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 진행 상태
+   */
+  @GetMapping("/vectors/jobs/{jobId}")
+  public ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> getEmbeddingJob(
+      @PathVariable Long jobId) {
+    return ResponseEntity.ok(
+        CommonResponse.success(HttpStatus.OK, placeEmbeddingJobUseCase.getJob(jobId)));
+  }
+
+  /**
+   * 임베딩 작업에서 실패한 장소 목록을 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 실패한 장소 목록
+   */
+  @GetMapping("/vectors/jobs/{jobId}/failures")
+  public ResponseEntity<CommonResponse<List<PlaceEmbeddingJobFailureResponse>>>
+      getEmbeddingJobFailures(@PathVariable Long jobId) {
+    return ResponseEntity.ok(
+        CommonResponse.success(HttpStatus.OK, placeEmbeddingJobUseCase.getFailures(jobId)));
+  }
+
+  /**
+   * 임베딩 작업을 취소합니다. 실행 중인 작업은 현재 배치를 마친 뒤 멈춥니다.
+   *
+   * @param jobId 작업 ID
+   * @return 취소된 작업 정보
+   */
+  @PostMapping("/vectors/jobs/{jobId}/cancel")
+  public ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> cancelEmbeddingJob(
+      @PathVariable Long jobId) {
+    return ResponseEntity.ok(
+        CommonResponse.success(HttpStatus.OK, placeEmbeddingJobUseCase.cancelJob(jobId)));
   }
 
   /**
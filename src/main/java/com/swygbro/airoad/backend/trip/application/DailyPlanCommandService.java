@@ -1,5 +1,6 @@
 package com.swygbro.airoad.backend.trip.application;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -62,8 +63,12 @@ public class DailyPlanCommandService implements DailyPlanCommandUseCase {
             : placeRepository.findAllByIdsWithThemes(placeIds).stream()
                 .collect(Collectors.toMap(Place::getId, Function.identity()));
 
-    request
-        .places()
+    // 요청의 방문 순서대로 뒤에 추가하여 정렬 키를 간격을 두고 부여 (순서가 없는 장소는 마지막)
+    request.places().stream()
+        .sorted(
+            Comparator.comparing(
+                ScheduledPlaceCreateRequest::visitOrder,
+                Comparator.nullsLast(Comparator.naturalOrder())))
         .forEach(
             scheduledPlaceCreateRequest -> {
               Place place = placeMap.get(scheduledPlaceCreateRequest.placeId());
@@ -71,11 +76,6 @@ public class DailyPlanCommandService implements DailyPlanCommandUseCase {
                 throw new BusinessException(TripErrorCode.PLACE_NOT_FOUND);
               }
 
-              int visitOrder =
-                  scheduledPlaceCreateRequest.visitOrder() != null
-                      ? scheduledPlaceCreateRequest.visitOrder()
-                      : dailyPlan.getScheduledPlaces().size() + 1;
-
               TravelSegment travelSegment =
                   TravelSegment.builder()
                       .travelTime(scheduledPlaceCreateRequest.travelTime())
@@ -86,12 +86,11 @@ public class DailyPlanCommandService implements DailyPlanCommandUseCase {
                   ScheduledPlace.builder()
                       .dailyPlan(dailyPlan)
                       .place(place)
-                      .visitOrder(visitOrder)
                       .category(scheduledPlaceCreateRequest.category())
                       .travelSegment(travelSegment)
                       .build();
 
-              dailyPlan.addScheduledPlace(scheduledPlace);
+              dailyPlan.insertScheduledPlace(scheduledPlace, null);
             });
 
     dailyPlan.getScheduledPlaces().stream()
@@ -202,9 +201,8 @@ public class DailyPlanCommandService implements DailyPlanCommandUseCase {
   }
 
   private ScheduledPlace getScheduledPlace(DailyPlan dailyPlan, Integer visitOrder) {
-    return dailyPlan.getScheduledPlaces().stream()
-        .filter(sp -> sp.getVisitOrder().equals(visitOrder))
-        .findFirst()
+    return dailyPlan
+        .findScheduledPlace(visitOrder)
         .orElseThrow(() -> new BusinessException(TripErrorCode.SCHEDULED_PLACE_NOT_FOUND));
   }
 }
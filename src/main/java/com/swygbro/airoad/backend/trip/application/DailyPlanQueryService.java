@@ -3,14 +3,10 @@ package com.swygbro.airoad.backend.trip.application;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.swygbro.airoad.backend.common.exception.BusinessException;
 import com.swygbro.airoad.backend.trip.domain.dto.response.DailyPlanResponse;
-import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
-import com.swygbro.airoad.backend.trip.infrastructure.DailyPlanRepository;
-import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,21 +15,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class DailyPlanQueryService implements DailyPlanQueryUseCase {
-  private final TripPlanRepository tripPlanRepository;
-  private final DailyPlanRepository dailyPlanRepository;
+  private final TripPlanReadModelStore tripPlanReadModelStore;
 
   @Override
-  @Transactional(readOnly = true)
   public List<DailyPlanResponse> getDailyPlanListByTripPlanId(Long tripPlanId, Long memberId) {
-    TripPlan tripPlan =
-        tripPlanRepository
-            .findByIdWithMember(tripPlanId)
-            .orElseThrow(() -> new BusinessException(TripErrorCode.TRIP_PLAN_NOT_FOUND));
-    if (!tripPlan.getMember().getId().equals(memberId)) {
+    TripPlanReadModel readModel = tripPlanReadModelStore.get(tripPlanId);
+    if (!readModel.memberId().equals(memberId)) {
       throw new BusinessException(TripErrorCode.TRIP_PLAN_FORBIDDEN);
     }
-    return dailyPlanRepository.findAllByTripPlanId(tripPlanId).stream()
-        .map(DailyPlanResponse::of)
-        .toList();
+    return readModel.details().dailyPlans();
   }
 }
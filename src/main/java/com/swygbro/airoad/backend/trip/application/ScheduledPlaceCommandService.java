@@ -1,7 +1,5 @@
 package com.swygbro.airoad.backend.trip.application;
 
-import java.util.Comparator;
-
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,15 +51,6 @@ public class ScheduledPlaceCommandService implements ScheduledPlaceCommandUseCas
             .findById(request.placeId())
             .orElseThrow(() -> new BusinessException(TripErrorCode.PLACE_NOT_FOUND));
 
-    int targetVisitOrder =
-        request.visitOrder() != null
-            ? request.visitOrder()
-            : dailyPlan.getScheduledPlaces().size() + 1;
-
-    dailyPlan.getScheduledPlaces().stream()
-        .filter(sp -> sp.getVisitOrder() >= targetVisitOrder)
-        .forEach(sp -> sp.updateVisitOrder(sp.getVisitOrder() + 1));
-
     TravelSegment travelSegment =
         TravelSegment.builder()
             .travelTime(request.travelTime())
@@ -71,19 +60,18 @@ public class ScheduledPlaceCommandService implements ScheduledPlaceCommandUseCas
     ScheduledPlace scheduledPlace =
         ScheduledPlace.builder()
             .place(place)
-            .visitOrder(targetVisitOrder)
             .category(request.category())
             .travelSegment(travelSegment)
             .build();
 
-    dailyPlan.addScheduledPlace(scheduledPlace);
-    dailyPlan.getScheduledPlaces().sort(Comparator.comparing(ScheduledPlace::getVisitOrder));
+    // 앞뒤 장소 사이의 정렬 키를 부여하므로 기존 장소의 순서 값은 변경되지 않음
+    dailyPlan.insertScheduledPlace(scheduledPlace, request.visitOrder());
 
     log.info(
         "[완료] saveScheduledPlace - 여행 계획 ID: {}, 일차: {}의 {}번 위치에 장소 추가 완료",
         tripPlanId,
         dayNumber,
-        targetVisitOrder);
+        dailyPlan.getOrderedScheduledPlaces().indexOf(scheduledPlace) + 1);
 
     publishEvent(
         TripPlanUpdatedEvent.builder()
@@ -119,7 +107,7 @@ public class ScheduledPlaceCommandService implements ScheduledPlaceCommandUseCas
             .transportation(request.transportation())
             .build();
 
-    scheduledPlace.update(place, visitOrder, request.category(), travelSegment);
+    scheduledPlace.update(place, request.category(), travelSegment);
 
     log.info(
         "[완료] updateScheduledPlace - 여행 계획 ID: {}, 일차: {}, 방문 순서: {} 장소 수정 완료",
@@ -149,13 +137,9 @@ public class ScheduledPlaceCommandService implements ScheduledPlaceCommandUseCas
     DailyPlan dailyPlan = validateAndGetDailyPlan(tripPlanId, username, dayNumber);
     ScheduledPlace scheduledPlace = getScheduledPlace(dailyPlan, visitOrder);
 
+    // 이후 장소의 방문 순서는 정렬된 위치로 계산되므로 별도로 당기지 않음
     dailyPlan.removeScheduledPlace(scheduledPlace);
 
-    // 삭제된 위치 이후의 모든 항목들의 visitOrder를 1씩 감소
-    dailyPlan.getScheduledPlaces().stream()
-        .filter(sp -> sp.getVisitOrder() > visitOrder)
-        .forEach(sp -> sp.updateVisitOrder(sp.getVisitOrder() - 1));
-
     log.info(
         "[완료] deleteScheduledPlace - 여행 계획 ID: {}, 일차: {}, 방문 순서: {} 장소 삭제 완료",
         tripPlanId,
@@ -247,9 +231,8 @@ public class ScheduledPlaceCommandService implements ScheduledPlaceCommandUseCas
   }
 
   private ScheduledPlace getScheduledPlace(DailyPlan dailyPlan, Integer visitOrder) {
-    return dailyPlan.getScheduledPlaces().stream()
-        .filter(sp -> sp.getVisitOrder().equals(visitOrder))
-        .findFirst()
+    return dailyPlan
+        .findScheduledPlace(visitOrder)
         .orElseThrow(() -> new BusinessException(TripErrorCode.SCHEDULED_PLACE_NOT_FOUND));
   }
 
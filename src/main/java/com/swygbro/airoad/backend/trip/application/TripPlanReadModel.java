@@ -0,0 +1,68 @@
+package com.swygbro.airoad.backend.trip.application;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.swygbro.airoad.backend.trip.domain.dto.response.DailyPlanResponse;
+import com.swygbro.airoad.backend.trip.domain.dto.response.TripPlanDetailResponse;
+import com.swygbro.airoad.backend.trip.domain.dto.response.TripPlanDetailsResponse;
+import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
+import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+
+import lombok.Builder;
+
+/**
+ * 여행 계획 조회용 비정규화 모델
+ *
+ * <p>TripPlan → DailyPlan → ScheduledPlace → Place 애그리게이트를 한 번 읽어 조회 API가 사용하는 응답을 모두 담아 둡니다. 엔티티
+ * 참조를 갖지 않으므로 트랜잭션 밖에서도 사용할 수 있고 캐시에 그대로 저장됩니다.
+ *
+ * @param memberId 소유자 회원 ID
+ * @param username 소유자 이메일
+ * @param summary 여행 계획 요약 정보
+ * @param details 일차별 일정을 포함한 상세 정보 (일차, 방문 순서로 정렬됨)
+ */
+@Builder
+public record TripPlanReadModel(
+    Long memberId,
+    String username,
+    TripPlanDetailResponse summary,
+    TripPlanDetailsResponse details) {
+
+  /**
+   * TripPlan 애그리게이트로부터 조회 모델을 생성합니다.
+   *
+   * @param tripPlan 회원과 일차별 일정을 조회할 수 있는 여행 계획 엔티티
+   * @return 여행 계획 조회 모델
+   */
+  public static TripPlanReadModel from(TripPlan tripPlan) {
+    return from(tripPlan, tripPlan.getDailyPlans());
+  }
+
+  /**
+   * 여행 계획과 별도로 조회한 일차별 일정으로 조회 모델을 생성합니다.
+   *
+   * @param tripPlan 회원과 여행 테마를 조회할 수 있는 여행 계획 엔티티
+   * @param dailyPlans 여행 계획의 일차별 일정 (방문 장소와 장소 정보 포함)
+   * @return 여행 계획 조회 모델
+   */
+  public static TripPlanReadModel from(TripPlan tripPlan, List<DailyPlan> dailyPlans) {
+    return TripPlanReadModel.builder()
+        .memberId(tripPlan.getMember().getId())
+        .username(tripPlan.getMember().getEmail())
+        .summary(TripPlanDetailResponse.from(tripPlan))
+        .details(
+            TripPlanDetailsResponse.builder()
+                .id(tripPlan.getId())
+                .title(tripPlan.getTitle())
+                .startDate(tripPlan.getStartDate())
+                .endDate(tripPlan.getEndDate())
+                .dailyPlans(
+                    dailyPlans.stream()
+                        .sorted(Comparator.comparing(DailyPlan::getDayNumber))
+                        .map(DailyPlanResponse::of)
+                        .toList())
+                .build())
+        .build();
+  }
+}
@@ -0,0 +1,81 @@
+package com.swygbro.airoad.backend.trip.application;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
+import com.swygbro.airoad.backend.trip.infrastructure.DailyPlanRepository;
+import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여행 계획 조회 모델 저장소
+ *
+ * <p>여행 계획별 {@link TripPlanReadModel}을 2단계 캐시({@value #CACHE_NAME})에 보관합니다. 캐시 적중 시에는 DB 커넥션을 사용하지
+ * 않으며, 미스 시에만 읽기 전용 트랜잭션에서 애그리게이트를 조회합니다. 같은 여행 계획의 동시 미스는 한 번만 조회됩니다.
+ *
+ * <p>애그리게이트 조회는 일정 규모와 관계없이 3개의 쿼리로 끝납니다: 여행 계획(회원, 테마), 일차별 일정(방문 장소, 장소), 장소 테마 배치.
+ *
+ * <p>일정이 변경되면 {@code TripPlanReadModelCacheListener}가 트랜잭션 커밋 후 {@link #evict(Long)}를 호출합니다.
+ */
+@Slf4j
+@Component
+public class TripPlanReadModelStore {
+
+  /** 여행 계획 조회 모델 캐시 이름 */
+  public static final String CACHE_NAME = "tripPlanReadModel";
+
+  private final TripPlanRepository tripPlanRepository;
+  private final DailyPlanRepository dailyPlanRepository;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public TripPlanReadModelStore(
+      TripPlanRepository tripPlanRepository,
+      DailyPlanRepository dailyPlanRepository,
+      PlatformTransactionManager transactionManager) {
+    this.tripPlanRepository = tripPlanRepository;
+    this.dailyPlanRepository = dailyPlanRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * 여행 계획 조회 모델을 반환합니다.
+   *
+   * @param tripPlanId 여행 계획 ID
+   * @return 여행 계획 조회 모델
+   * @throws BusinessException 여행 계획이 없는 경우 (TRIP_PLAN_NOT_FOUND)
+   */
+  @Cacheable(cacheNames = CACHE_NAME, key = "#tripPlanId", sync = true)
+  public TripPlanReadModel get(Long tripPlanId) {
+    log.debug("여행 계획 조회 모델 적재 - tripPlanId: {}", tripPlanId);
+
+    return readOnlyTransaction.execute(status -> load(tripPlanId));
+  }
+
+  /**
+   * 여행 계획 조회 모델을 캐시에서 제거합니다.
+   *
+   * @param tripPlanId 여행 계획 ID
+   */
+  @CacheEvict(cacheNames = CACHE_NAME, key = "#tripPlanId")
+  public void evict(Long tripPlanId) {
+    log.debug("여행 계획 조회 모델 무효화 - tripPlanId: {}", tripPlanId);
+  }
+
+  private TripPlanReadModel load(Long tripPlanId) {
+    TripPlan tripPlan =
+        tripPlanRepository
+            .findByIdWithMemberAndThemes(tripPlanId)
+            .orElseThrow(() -> new BusinessException(TripErrorCode.TRIP_PLAN_NOT_FOUND));
+
+    return TripPlanReadModel.from(
+        tripPlan, dailyPlanRepository.findAllWithPlacesByTripPlanId(tripPlanId));
+  }
+}
@@ -33,6 +33,7 @@ import com.swygbro.airoad.backend.trip.domain.dto.response.TripPlanDetailRespons
 import com.swygbro.airoad.backend.trip.domain.dto.response.TripPlanResponse;
 import com.swygbro.airoad.backend.trip.domain.entity.Transportation;
 import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanChangedEvent;
 import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationRequestedEvent;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
 import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
@@ -55,6 +56,8 @@ public class TripPlanService implements TripPlanUseCase {
   private final AiConversationRepository aiConversationRepository;
   private final AiConversationCommandUseCase aiConversationCommandUseCase;
 
+  private final TripPlanReadModelStore tripPlanReadModelStore;
+
   private final ApplicationEventPublisher eventPublisher;
 
   @Override
@@ -120,20 +123,16 @@ public class TripPlanService implements TripPlanUseCase {
   }
 
   @Override
-  @Transactional(readOnly = true)
   public TripPlanDetailResponse getTripPlanDetail(Long tripPlanId, Long memberId) {
     log.info("여행 일정 상세 조회 - tripPlanId: {}, memberId: {}", tripPlanId, memberId);
 
-    TripPlan tripPlan =
-        tripPlanRepository
-            .findByIdWithMember(tripPlanId)
-            .orElseThrow(() -> new BusinessException(TripErrorCode.TRIP_PLAN_NOT_FOUND));
+    TripPlanReadModel readModel = tripPlanReadModelStore.get(tripPlanId);
 
-    if (!tripPlan.getMember().getId().equals(memberId)) {
+    if (!readModel.memberId().equals(memberId)) {
       throw new BusinessException(TripErrorCode.TRIP_PLAN_FORBIDDEN);
     }
 
-    return TripPlanDetailResponse.from(tripPlan);
+    return readModel.summary();
   }
 
   @Override
@@ -156,6 +155,7 @@ public class TripPlanService implements TripPlanUseCase {
             conversation -> aiConversationCommandUseCase.deleteConversation(conversation.getId()));
 
     tripPlanRepository.delete(tripPlan);
+    eventPublisher.publishEvent(TripPlanChangedEvent.builder().tripPlanId(tripPlanId).build());
 
     log.info("여행 일정 삭제 완료 - tripPlanId: {}, memberId: {}", tripPlanId, memberId);
   }
@@ -279,6 +279,7 @@ public class TripPlanService implements TripPlanUseCase {
     }
 
     applyUpdate(request.title(), tripPlan::updateTitle);
+    eventPublisher.publishEvent(TripPlanChangedEvent.builder().tripPlanId(tripPlanId).build());
 
     log.info("여행 일정 수정 완료 - tripPlanId: {}", tripPlanId);
   }
@@ -0,0 +1,44 @@
+package com.swygbro.airoad.backend.trip.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swygbro.airoad.backend.trip.application.TripPlanReadModel;
+import com.swygbro.airoad.backend.trip.application.TripPlanReadModelStore;
+
+/**
+ * 여행 계획 조회 모델 캐시 설정
+ *
+ * <p>조회 모델은 타입이 고정되어 있으므로 타입 정보를 포함하지 않는 JSON으로 직렬화합니다. 기본 직렬화기는 {@code LocalDate}
+ * 필드와 불변 List를 처리하지 못합니다.
+ */
+@Configuration
+public class TripPlanCacheConfig {
+
+  @Bean
+  public RedisCacheManagerBuilderCustomizer tripPlanReadModelCacheCustomizer(
+      ObjectMapper objectMapper,
+      @Value("${cache.trip-plan-read-model.ttl:30m}") Duration ttl) {
+    RedisCacheConfiguration cacheConfig =
+        RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(ttl)
+            .serializeKeysWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                    new StringRedisSerializer()))
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                    new Jackson2JsonRedisSerializer<>(objectMapper, TripPlanReadModel.class)));
+
+    return builder ->
+        builder.withCacheConfiguration(TripPlanReadModelStore.CACHE_NAME, cacheConfig);
+  }
+}
@@ -1,8 +1,10 @@
 package com.swygbro.airoad.backend.trip.domain.dto.response;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
+import com.swygbro.airoad.backend.trip.domain.entity.ScheduledPlace;
 
 import lombok.Builder;
 
@@ -16,8 +18,11 @@ public record DailyPlanResponse(
     List<ScheduledPlaceResponse> scheduledPlaces) {
 
   public static DailyPlanResponse of(DailyPlan dailyPlan) {
+    List<ScheduledPlace> orderedPlaces = dailyPlan.getOrderedScheduledPlaces();
     List<ScheduledPlaceResponse> scheduledPlaceResponses =
-        dailyPlan.getScheduledPlaces().stream().map(ScheduledPlaceResponse::of).toList();
+        IntStream.range(0, orderedPlaces.size())
+            .mapToObj(i -> ScheduledPlaceResponse.of(orderedPlaces.get(i), i + 1))
+            .toList();
 
     return DailyPlanResponse.builder()
         .id(dailyPlan.getId())
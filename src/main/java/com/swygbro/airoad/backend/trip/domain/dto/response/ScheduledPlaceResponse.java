@@ -13,10 +13,16 @@ public record ScheduledPlaceResponse(
     Integer travelTime,
     String transportation,
     PlaceResponse place) {
-  public static ScheduledPlaceResponse of(ScheduledPlace scheduledPlace) {
+  /**
+   * 방문 장소 응답을 생성합니다. 방문 순서는 저장된 정렬 키가 아니라 일일 계획 내 위치입니다.
+   *
+   * @param scheduledPlace 방문 장소
+   * @param visitOrder 일일 계획 내 정렬된 위치 (1부터 시작)
+   */
+  public static ScheduledPlaceResponse of(ScheduledPlace scheduledPlace, int visitOrder) {
     return ScheduledPlaceResponse.builder()
         .id(scheduledPlace.getId())
-        .visitOrder(scheduledPlace.getVisitOrder())
+        .visitOrder(visitOrder)
         .category(scheduledPlace.getCategory().name())
         .travelTime(scheduledPlace.getTravelSegment().getTravelTime())
         .transportation(scheduledPlace.getTravelSegment().getTransportation().name())
@@ -54,7 +54,7 @@ public record TripPlanDetailResponse(
         .isCompleted(tripPlan.getIsCompleted())
         .duration(duration)
         .peopleCount(tripPlan.getPeopleCount())
-        .themes(tripPlan.getTripThemes())
+        .themes(List.copyOf(tripPlan.getTripThemes()))
         .build();
   }
 }
@@ -2,7 +2,9 @@ package com.swygbro.airoad.backend.trip.domain.entity;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -28,6 +30,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailyPlan extends BaseEntity {
 
+  private static final Comparator<ScheduledPlace> VISIT_ORDER =
+      Comparator.comparing(ScheduledPlace::getOrderKey);
+
   /** 일정이 속한 전체 여행 계획 */
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(nullable = false)
@@ -36,7 +41,7 @@ public class DailyPlan extends BaseEntity {
   /** 예정된 방문 장소 목록 */
   @BatchSize(size = 10)
   @OneToMany(mappedBy = "dailyPlan", cascade = CascadeType.ALL, orphanRemoval = true)
-  @OrderBy("visitOrder asc")
+  @OrderBy("orderKey asc")
   private List<ScheduledPlace> scheduledPlaces = new ArrayList<>();
 
   /** 일정 날짜 */
@@ -76,6 +81,59 @@ public class DailyPlan extends BaseEntity {
     scheduledPlace.setDailyPlan(this);
   }
 
+  /**
+   * 방문 장소를 지정한 방문 순서에 삽입합니다.
+   *
+   * <p>앞뒤 장소 정렬 키의 중간값을 새 키로 사용하므로 다른 장소의 키는 바뀌지 않습니다. 키 사이에 남은 간격이 없을 때만 전체 키를 {@link
+   * ScheduledPlace#ORDER_KEY_GAP} 간격으로 다시 배치합니다.
+   *
+   * @param scheduledPlace 추가할 방문 장소
+   * @param visitOrder 1부터 시작하는 방문 순서 (null이거나 장소 수보다 크면 마지막에 추가)
+   */
+  public void insertScheduledPlace(ScheduledPlace scheduledPlace, Integer visitOrder) {
+    List<ScheduledPlace> ordered = new ArrayList<>(getOrderedScheduledPlaces());
+    int index =
+        visitOrder == null ? ordered.size() : Math.clamp(visitOrder - 1L, 0, ordered.size());
+
+    Integer before = index > 0 ? ordered.get(index - 1).getOrderKey() : null;
+    Integer after = index < ordered.size() ? ordered.get(index).getOrderKey() : null;
+    Integer orderKey = orderKeyBetween(before, after);
+
+    addScheduledPlace(scheduledPlace);
+    if (orderKey != null) {
+      scheduledPlace.updateOrderKey(orderKey);
+    } else {
+      ordered.add(index, scheduledPlace);
+      for (int i = 0; i < ordered.size(); i++) {
+        ordered.get(i).updateOrderKey((i + 1) * ScheduledPlace.ORDER_KEY_GAP);
+      }
+    }
+    scheduledPlaces.sort(VISIT_ORDER);
+  }
+
+  /**
+   * 방문 순서대로 정렬된 방문 장소 목록을 반환합니다.
+   *
+   * @return 정렬 키 순서의 방문 장소 목록 (목록의 i번째 장소가 방문 순서 i+1)
+   */
+  public List<ScheduledPlace> getOrderedScheduledPlaces() {
+    return scheduledPlaces.stream().sorted(VISIT_ORDER).toList();
+  }
+
+  /**
+   * 방문 순서로 방문 장소를 찾습니다.
+   *
+   * @param visitOrder 1부터 시작하는 방문 순서
+   * @return 해당 위치의 방문 장소
+   */
+  public Optional<ScheduledPlace> findScheduledPlace(Integer visitOrder) {
+    List<ScheduledPlace> ordered = getOrderedScheduledPlaces();
+    if (visitOrder == null || visitOrder < 1 || visitOrder > ordered.size()) {
+      return Optional.empty();
+    }
+    return Optional.of(ordered.get(visitOrder - 1));
+  }
+
   /**
    * 방문 장소를 일정에서 제거합니다.
    *
@@ -88,6 +146,29 @@ public class DailyPlan extends BaseEntity {
     scheduledPlace.setDailyPlan(null);
   }
 
+  /**
+   * 두 정렬 키 사이에 들어갈 키를 계산합니다.
+   *
+   * @param before 앞 장소의 키 (맨 앞이면 null)
+   * @param after 뒤 장소의 키 (맨 뒤면 null)
+   * @return 새 키, 두 키 사이에 간격이 없으면 null
+   */
+  private static Integer orderKeyBetween(Integer before, Integer after) {
+    long key;
+    if (before == null && after == null) {
+      key = ScheduledPlace.ORDER_KEY_GAP;
+    } else if (before == null) {
+      key = (long) after - ScheduledPlace.ORDER_KEY_GAP;
+    } else if (after == null) {
+      key = (long) before + ScheduledPlace.ORDER_KEY_GAP;
+    } else if ((long) after - before > 1) {
+      key = before + ((long) after - before) / 2;
+    } else {
+      return null;
+    }
+    return key >= Integer.MIN_VALUE && key <= Integer.MAX_VALUE ? (int) key : null;
+  }
+
   /**
    * TripPlan과의 양방향 관계 설정을 위한 메서드입니다.
    *
@@ -13,12 +13,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-/** 일일 계획에 포함된 개별 장소 방문 일정을 나타내는 엔티티 */
+/**
+ * 일일 계획에 포함된 개별 장소 방문 일정을 나타내는 엔티티
+ *
+ * <p>방문 순서는 일일 계획 안에서 정렬 키({@code orderKey})의 대소로 결정되며, API에는 정렬된 위치에 따라 1부터 시작하는 방문 순서로
+ * 노출됩니다. 키 관리는 {@link DailyPlan#insertScheduledPlace(ScheduledPlace, Integer)}가 담당합니다.
+ */
 @Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_scheduled_place_daily_plan_id_order_key",
+            columnList = "daily_plan_id, order_key"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ScheduledPlace extends BaseEntity {
 
+  /** 연속한 정렬 키 사이의 기본 간격 */
+  public static final int ORDER_KEY_GAP = 1024;
+
   /** 일정이 속한 일일 계획 */
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(nullable = false)
@@ -29,9 +42,13 @@ public class ScheduledPlace extends BaseEntity {
   @JoinColumn(nullable = false)
   private Place place;
 
-  /** 일일 계획 내 방문 순서 */
-  @Column(nullable = false, unique = true)
-  private Integer visitOrder;
+  /**
+   * 일일 계획 내 정렬 키
+   *
+   * <p>값의 대소만 의미가 있으며 키 사이에 간격을 두어, 중간에 장소를 넣거나 빼도 다른 장소의 키는 바뀌지 않습니다.
+   */
+  @Column(nullable = false)
+  private Integer orderKey;
 
   /** 일정 분류 (아침, 점심, 저녁 등) */
   @Enumerated(EnumType.STRING)
@@ -51,35 +68,35 @@ public class ScheduledPlace extends BaseEntity {
   private ScheduledPlace(
       DailyPlan dailyPlan,
       Place place,
-      Integer visitOrder,
+      Integer orderKey,
       ScheduledCategory category,
       LocalTime startTime,
       LocalTime endTime,
       TravelSegment travelSegment) {
     this.dailyPlan = dailyPlan;
     this.place = place;
-    this.visitOrder = visitOrder;
+    this.orderKey = orderKey;
     this.category = category;
     this.startTime = startTime;
     this.endTime = endTime;
     this.travelSegment = travelSegment;
   }
 
-  public void update(
-      Place place, Integer visitOrder, ScheduledCategory category, TravelSegment travelSegment) {
+  public void update(Place place, ScheduledCategory category, TravelSegment travelSegment) {
     this.place = place;
-    this.visitOrder = visitOrder;
     this.category = category;
     this.travelSegment = travelSegment;
   }
 
   /**
-   * 방문 순서만 업데이트합니다.
+   * 정렬 키를 변경합니다.
+   *
+   * <p>DailyPlan에서 방문 순서를 배치할 때만 호출되어야 합니다.
    *
-   * @param visitOrder 새로운 방문 순서
+   * @param orderKey 새로운 정렬 키
    */
-  public void updateVisitOrder(Integer visitOrder) {
-    this.visitOrder = visitOrder;
+  void updateOrderKey(Integer orderKey) {
+    this.orderKey = orderKey;
   }
 
   /**
@@ -0,0 +1,13 @@
+package com.swygbro.airoad.backend.trip.domain.event;
+
+import lombok.Builder;
+
+/**
+ * 여행 계획 정보가 수정되거나 삭제되었을 때 발행되는 이벤트입니다.
+ *
+ * <p>일정 저장/수정 이벤트로 알 수 없는 변경(제목 수정, 삭제)에 대해 트랜잭션 커밋 후 여행 계획 조회 모델을 무효화하는 데 사용됩니다.
+ *
+ * @param tripPlanId 변경된 여행 계획 ID
+ */
+@Builder
+public record TripPlanChangedEvent(Long tripPlanId) {}
@@ -20,4 +20,23 @@ public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long> {
   @Query(
       "SELECT DISTINCT dp FROM DailyPlan dp LEFT JOIN FETCH dp.scheduledPlaces as sp WHERE dp.tripPlan.id = :tripPlanId ORDER BY dp.dayNumber asc")
   List<DailyPlan> findAllByTripPlanId(@Param("tripPlanId") Long tripPlanId);
+
+  /**
+   * 여행 계획의 일차별 일정을 방문 장소, 장소 정보와 함께 한 번에 조회합니다.
+   *
+   * <p>장소 테마는 조인하지 않습니다. 방문 장소 목록과 테마를 함께 조인하면 행이 테마 수만큼 늘어나므로, 테마는 처음 접근할 때 {@code
+   * Place.themes}의 배치 크기(100)만큼 한 번의 쿼리로 초기화됩니다.
+   *
+   * @param tripPlanId 여행 계획 ID
+   * @return 일차 순으로 정렬된 일차별 일정 목록
+   */
+  @Query(
+      """
+          SELECT DISTINCT dp FROM DailyPlan dp
+                     LEFT JOIN FETCH dp.scheduledPlaces sp
+                     LEFT JOIN FETCH sp.place
+          WHERE dp.tripPlan.id = :tripPlanId
+          ORDER BY dp.dayNumber asc
+          """)
+  List<DailyPlan> findAllWithPlacesByTripPlanId(@Param("tripPlanId") Long tripPlanId);
 }
@@ -25,5 +25,14 @@ public interface TripPlanRepository
           """)
   Optional<TripPlan> findByIdWithDetails(@Param("tripPlanId") Long tripPlanId);
 
+  @Query(
+      """
+          SELECT tp FROM TripPlan tp
+                     JOIN FETCH tp.member m
+                     LEFT JOIN FETCH tp.tripThemes
+          WHERE tp.id = :tripPlanId
+          """)
+  Optional<TripPlan> findByIdWithMemberAndThemes(@Param("tripPlanId") Long tripPlanId);
+
   boolean existsByIdAndMemberId(Long id, Long memberId);
 }
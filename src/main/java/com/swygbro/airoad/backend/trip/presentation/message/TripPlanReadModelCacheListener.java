@@ -0,0 +1,69 @@
+package com.swygbro.airoad.backend.trip.presentation.message;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.swygbro.airoad.backend.trip.application.TripPlanReadModelStore;
+import com.swygbro.airoad.backend.trip.domain.event.DailyPlanSavedEvent;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanChangedEvent;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanUpdatedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여행 계획 조회 모델 캐시의 무효화를 담당하는 리스너입니다.
+ *
+ * <p>일정 변경 이벤트의 트랜잭션이 커밋된 후 조회 모델을 제거하여 다음 조회가 최신 데이터로 다시 적재되도록 합니다. 프론트엔드는 WebSocket 알림을 받은
+ * 뒤 일정을 다시 조회하므로, 알림 리스너({@link TripPlanNotificationListener})보다 먼저 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripPlanReadModelCacheListener {
+
+  private final TripPlanReadModelStore tripPlanReadModelStore;
+
+  /**
+   * 일차별 일정 저장 완료 이벤트를 처리합니다.
+   *
+   * @param event 일차별 일정 저장 완료 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener
+  public void handleDailyPlanSaved(DailyPlanSavedEvent event) {
+    evict(event.tripPlanId());
+  }
+
+  /**
+   * 일정 수정 완료 이벤트를 처리합니다.
+   *
+   * @param event 일정 수정 완료 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener
+  public void handleTripPlanUpdated(TripPlanUpdatedEvent event) {
+    evict(event.tripPlanId());
+  }
+
+  /**
+   * 여행 계획 수정/삭제 이벤트를 처리합니다.
+   *
+   * @param event 여행 계획 변경 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener
+  public void handleTripPlanChanged(TripPlanChangedEvent event) {
+    evict(event.tripPlanId());
+  }
+
+  private void evict(Long tripPlanId) {
+    try {
+      tripPlanReadModelStore.evict(tripPlanId);
+    } catch (Exception e) {
+      log.warn("여행 계획 조회 모델 무효화 실패 - tripPlanId: {}", tripPlanId, e);
+    }
+  }
+}
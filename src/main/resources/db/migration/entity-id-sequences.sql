@@ -0,0 +1,32 @@
+-- IDENTITY ID를 엔티티별 시퀀스(증가 크기 50, Hibernate pooled 옵티마이저)로 전환합니다.
+-- 기동할 때마다 Hibernate보다 먼저 실행되므로 여러 번 실행해도 결과가 같아야 합니다.
+--   * 테이블이 없으면(새 DB) 건너뛰고 Hibernate가 시퀀스를 생성합니다.
+--   * 시퀀스가 기존 최대 ID보다 뒤처져 있으면 최대 ID로 맞춰 다음 블록이 기존 ID와 겹치지 않게 합니다.
+--   * id 컬럼의 IDENTITY와 기본값을 제거합니다.
+-- ai_message는 생성 순서를 보장해야 하므로 IDENTITY를 유지합니다.
+DO $$
+DECLARE
+  target_table text;
+  sequence_name text;
+  max_id bigint;
+  sequence_value bigint;
+BEGIN
+  FOREACH target_table IN ARRAY ARRAY[
+      'member', 'refresh_token', 'ai_prompt_template', 'ai_conversation', 'ai_feedback',
+      'trip_plan', 'daily_plan', 'scheduled_place', 'place', 'place_embedding_job',
+      'place_embedding_job_failure', 'place_embedding_fingerprint']
+  LOOP
+    CONTINUE WHEN to_regclass(target_table) IS NULL;
+    sequence_name := target_table || '_seq';
+
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', sequence_name);
+    EXECUTE format('SELECT MAX(id) FROM %I', target_table) INTO max_id;
+    EXECUTE format('SELECT last_value FROM %I', sequence_name) INTO sequence_value;
+    IF max_id IS NOT NULL AND max_id > sequence_value THEN
+      PERFORM setval(sequence_name::regclass, max_id);
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target_table);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', target_table);
+  END LOOP;
+END $$;
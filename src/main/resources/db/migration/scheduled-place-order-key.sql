@@ -0,0 +1,49 @@
+-- scheduled_place.visit_order(전역 유일, 1..n)를 일차별 정렬 키 order_key로 전환합니다.
+-- 기동할 때마다 Hibernate보다 먼저 실행되므로 visit_order 컬럼이 남아 있을 때만 전환합니다.
+--   * visit_order의 유일 제약을 제거합니다.
+--   * ddl-auto: update로 비어 있는 order_key가 이미 추가되었으면 값을 옮기고 visit_order를 제거하며, 아니면 컬럼 이름을 바꿉니다.
+--   * 일차별 순서를 유지한 채 1024 간격으로 키를 다시 매기고 (daily_plan_id, order_key) 인덱스를 생성합니다.
+DO $$
+DECLARE
+  unique_constraint text;
+BEGIN
+  IF to_regclass('scheduled_place') IS NULL
+      OR NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = current_schema()
+          AND table_name = 'scheduled_place' AND column_name = 'visit_order') THEN
+    RETURN;
+  END IF;
+
+  FOR unique_constraint IN
+    SELECT con.conname
+    FROM pg_constraint con
+    JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+    WHERE con.conrelid = 'scheduled_place'::regclass
+      AND con.contype = 'u'
+      AND att.attname = 'visit_order'
+  LOOP
+    EXECUTE format('ALTER TABLE scheduled_place DROP CONSTRAINT %I', unique_constraint);
+  END LOOP;
+
+  IF EXISTS (
+      SELECT 1 FROM information_schema.columns
+      WHERE table_schema = current_schema()
+        AND table_name = 'scheduled_place' AND column_name = 'order_key') THEN
+    UPDATE scheduled_place SET order_key = visit_order WHERE order_key IS NULL;
+    ALTER TABLE scheduled_place DROP COLUMN visit_order;
+  ELSE
+    ALTER TABLE scheduled_place RENAME COLUMN visit_order TO order_key;
+  END IF;
+
+  UPDATE scheduled_place sp
+  SET order_key = ranked.rn * 1024
+  FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY daily_plan_id ORDER BY order_key, id) AS rn
+    FROM scheduled_place) ranked
+  WHERE sp.id = ranked.id;
+
+  ALTER TABLE scheduled_place ALTER COLUMN order_key SET NOT NULL;
+  CREATE INDEX IF NOT EXISTS idx_scheduled_place_daily_plan_id_order_key
+    ON scheduled_place (daily_plan_id, order_key);
+END $$;
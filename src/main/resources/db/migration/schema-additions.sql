@@ -0,0 +1,54 @@
+-- 기존 테이블에 더해진 스키마 객체를 생성합니다.
+-- 운영 환경은 ddl-auto: validate이므로 Hibernate가 만들지 않는 객체를 기동할 때마다 Hibernate보다 먼저 생성합니다.
+-- 모두 IF NOT EXISTS로 작성하여 여러 번 실행해도 결과가 같고, ddl-auto: update 환경과도 충돌하지 않습니다.
+
+-- 대화별 최근 메시지 조회 (conversation_id, id DESC)
+DO $$
+BEGIN
+  IF to_regclass('ai_message') IS NOT NULL THEN
+    CREATE INDEX IF NOT EXISTS idx_ai_message_conversation_id_id
+      ON ai_message (conversation_id, id);
+  END IF;
+END $$;
+
+-- 장소 임베딩 입력 지문 (BaseEntity: place_embedding_fingerprint_seq, 증가 크기 50)
+CREATE SEQUENCE IF NOT EXISTS place_embedding_fingerprint_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS place_embedding_fingerprint (
+  id BIGINT PRIMARY KEY,
+  place_id BIGINT NOT NULL UNIQUE,
+  content_hash VARCHAR(64) NOT NULL,
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6) NOT NULL
+);
+
+-- 장소 임베딩 작업과 실패 장소 (BaseEntity: <테이블>_seq, 증가 크기 50)
+CREATE SEQUENCE IF NOT EXISTS place_embedding_job_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS place_embedding_job (
+  id BIGINT PRIMARY KEY,
+  since TIMESTAMP(6),
+  status VARCHAR(255) NOT NULL,
+  total_count INTEGER,
+  processed_count INTEGER NOT NULL,
+  skipped_count INTEGER NOT NULL,
+  failed_count INTEGER NOT NULL,
+  last_place_id BIGINT,
+  run_token VARCHAR(36),
+  message VARCHAR(500),
+  started_at TIMESTAMP(6),
+  finished_at TIMESTAMP(6),
+  version BIGINT,
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS place_embedding_job_failure_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS place_embedding_job_failure (
+  id BIGINT PRIMARY KEY,
+  job_id BIGINT NOT NULL,
+  place_id BIGINT NOT NULL,
+  reason VARCHAR(500),
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_place_embedding_job_failure_job
+  ON place_embedding_job_failure (job_id, id);
@@ -0,0 +1,204 @@
+package com.swygbro.airoad.backend.ai.agent.trip;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.ai.agent.trip.dto.request.AiDailyPlanRequest;
+import com.swygbro.airoad.backend.ai.agent.trip.dto.response.AiDailyPlanResponse;
+import com.swygbro.airoad.backend.ai.agent.trip.dto.response.AiDailyPlanResponse.AiScheduledPlaceDto;
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecutionRegistry;
+import com.swygbro.airoad.backend.ai.common.context.ContextManager;
+import com.swygbro.airoad.backend.ai.common.context.ContextSession;
+import com.swygbro.airoad.backend.ai.domain.event.DailyPlanGeneratedEvent;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.trip.domain.entity.ScheduledCategory;
+import com.swygbro.airoad.backend.trip.domain.entity.Transportation;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationCancelledEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TripAgentTest {
+
+  private static final String USER = "user@example.com";
+  private static final String SESSION_ID = "session-1";
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private ChatModel chatModel;
+
+  @Mock private ContextManager contextManager;
+
+  @Mock private ContextSession contextSession;
+
+  private AgentExecutionRegistry agentExecutionRegistry;
+
+  private AiDailyPlanRequest request;
+
+  @BeforeEach
+  void setUp() {
+    agentExecutionRegistry = new AgentExecutionRegistry(mock(TaskScheduler.class), 0);
+    agentExecutionRegistry.registerSession(USER, SESSION_ID);
+    request =
+        AiDailyPlanRequest.builder()
+            .chatRoomId(1L)
+            .tripPlanId(10L)
+            .username(USER)
+            .themes(List.of(PlaceThemeType.HEALING))
+            .startDate(LocalDate.of(2025, 12, 1))
+            .duration(3)
+            .region("제주")
+            .peopleCount(2)
+            .transportation(Transportation.CAR)
+            .build();
+  }
+
+  private TripAgent createAgent(Executor executor, boolean parallelGeneration) {
+    return new TripAgent(
+        eventPublisher,
+        chatModel,
+        executor,
+        contextManager,
+        agentExecutionRegistry,
+        new SimpleMeterRegistry(),
+        parallelGeneration);
+  }
+
+  private static AiScheduledPlaceDto place(Long placeId, Integer visitOrder) {
+    return new AiScheduledPlaceDto(
+        placeId, visitOrder, ScheduledCategory.MORNING, 10, Transportation.CAR);
+  }
+
+  private static AiDailyPlanResponse dailyPlan(List<AiScheduledPlaceDto> places) {
+    return new AiDailyPlanResponse(1, LocalDate.of(2025, 12, 1), "제목", "설명", places);
+  }
+
+  @Nested
+  @DisplayName("앞선 일차에서 사용된 장소를 제외할 때")
+  class ExcludeUsedPlaces {
+
+    @Test
+    @DisplayName("방문 순서대로 정렬하고 방문 순서가 없는 장소는 마지막에 배치한다")
+    void 방문_순서대로_정렬한다() {
+      // given
+      AiDailyPlanResponse plan =
+          dailyPlan(List.of(place(3L, 3), place(4L, null), place(1L, 1), place(2L, 2)));
+
+      // when
+      List<AiScheduledPlaceDto> places = TripAgent.excludeUsedPlaces(plan, 1, new HashSet<>());
+
+      // then
+      assertThat(places).extracting(AiScheduledPlaceDto::placeId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("장소 ID가 없거나 이미 사용된 장소를 제외하고 사용된 장소에 추가한다")
+    void ID_누락_및_중복_장소를_제외한다() {
+      // given
+      AiDailyPlanResponse plan =
+          dailyPlan(
+              List.of(place(1L, 1), place(null, 2), place(2L, 3), place(5L, 4), place(2L, 5)));
+      Set<Long> usedPlaceIds = new HashSet<>(Set.of(5L));
+
+      // when
+      List<AiScheduledPlaceDto> places = TripAgent.excludeUsedPlaces(plan, 2, usedPlaceIds);
+
+      // then
+      assertThat(places).extracting(AiScheduledPlaceDto::placeId).containsExactly(1L, 2L);
+      assertThat(places).extracting(AiScheduledPlaceDto::visitOrder).containsExactly(1, 3);
+      assertThat(usedPlaceIds).containsExactlyInAnyOrder(1L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("방문 장소 목록이 없으면 빈 목록을 반환한다")
+    void 방문_장소가_없으면_빈_목록() {
+      // when
+      List<AiScheduledPlaceDto> places =
+          TripAgent.excludeUsedPlaces(dailyPlan(null), 1, new HashSet<>());
+
+      // then
+      assertThat(places).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("일정 생성 중 실행이 취소될 때")
+  class Cancellation {
+
+    @Test
+    @DisplayName("순차 생성 중 취소되면 모델을 호출하지 않고 다음 일차를 생성하지 않는다")
+    void 순차_생성_중_취소() {
+      // given: 1일차 컨텍스트 조회 중 사용자의 마지막 세션이 종료됨
+      given(contextManager.openSession(any(), any(), any(), any())).willReturn(contextSession);
+      willAnswer(
+              invocation -> {
+                agentExecutionRegistry.unregisterSession(USER, SESSION_ID);
+                return List.of();
+              })
+          .given(contextSession)
+          .buildContext(any(), any(), any(), any(), any());
+      TripAgent tripAgent = createAgent(Runnable::run, false);
+
+      // when
+      tripAgent.execute(request);
+
+      // then
+      then(contextSession).should(times(1)).buildContext(any(), any(), any(), any(), any());
+      then(chatModel).should(never()).call(any(Prompt.class));
+      then(eventPublisher).should().publishEvent(any(TripPlanGenerationCancelledEvent.class));
+      then(eventPublisher).should(never()).publishEvent(any(DailyPlanGeneratedEvent.class));
+    }
+
+    @Test
+    @DisplayName("병렬 생성 중 취소되면 대기 중인 일차 작업을 모두 취소한다")
+    void 병렬_생성_중_취소() {
+      // given: 스레드 풀이 가득 차 일차 작업이 대기 중인 상태에서 세션이 종료됨
+      List<Runnable> queued = new ArrayList<>();
+      given(contextManager.openSession(any(), any(), any(), any()))
+          .willAnswer(
+              invocation -> {
+                agentExecutionRegistry.unregisterSession(USER, SESSION_ID);
+                return contextSession;
+              });
+      TripAgent tripAgent = createAgent(queued::add, true);
+
+      // when
+      tripAgent.execute(request);
+
+      // then
+      assertThat(queued)
+          .hasSize(3)
+          .allSatisfy(task -> assertThat(((Future<?>) task).isCancelled()).isTrue());
+      then(contextSession).should(never()).buildContext(any(), any(), any(), any(), any());
+      then(eventPublisher).should().publishEvent(any(TripPlanGenerationCancelledEvent.class));
+    }
+  }
+}
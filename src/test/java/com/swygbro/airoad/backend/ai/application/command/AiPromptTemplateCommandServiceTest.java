@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.swygbro.airoad.backend.ai.domain.dto.request.CreateAiPromptTemplateRequest;
@@ -17,6 +18,7 @@ import com.swygbro.airoad.backend.ai.domain.dto.response.AiPromptTemplateRespons
 import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
 import com.swygbro.airoad.backend.ai.domain.entity.AiPromptTemplate;
 import com.swygbro.airoad.backend.ai.domain.entity.PromptType;
+import com.swygbro.airoad.backend.ai.domain.event.AiPromptTemplateChangedEvent;
 import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
 import com.swygbro.airoad.backend.ai.infrastructure.repository.AiPromptTemplateRepository;
 import com.swygbro.airoad.backend.common.exception.BusinessException;
@@ -32,6 +34,8 @@ class AiPromptTemplateCommandServiceTest {
 
   @Mock private AiPromptTemplateRepository aiPromptTemplateRepository;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private AiPromptTemplateCommandService aiPromptTemplateCommandService;
 
   @Nested
@@ -272,6 +276,21 @@ class AiPromptTemplateCommandServiceTest {
       verify(aiPromptTemplateRepository).deleteById(promptId);
     }
 
+    @Test
+    @DisplayName("템플릿_삭제시_캐시_무효화를_위한_변경_이벤트가_발행된다")
+    void 템플릿_삭제시_캐시_무효화를_위한_변경_이벤트가_발행된다() {
+      // given
+      Long promptId = 1L;
+
+      given(aiPromptTemplateRepository.existsById(promptId)).willReturn(true);
+
+      // when
+      aiPromptTemplateCommandService.deletePromptTemplate(promptId);
+
+      // then
+      verify(eventPublisher).publishEvent(new AiPromptTemplateChangedEvent(promptId));
+    }
+
     @Test
     @DisplayName("존재하지_않는_템플릿_삭제_요청시_예외가_발생한다")
     void 존재하지_않는_템플릿_삭제_요청시_예외가_발생한다() {
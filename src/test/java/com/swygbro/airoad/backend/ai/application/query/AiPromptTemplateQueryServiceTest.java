@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -35,6 +36,8 @@ class AiPromptTemplateQueryServiceTest {
 
   @Mock private AiPromptTemplateRepository aiPromptTemplateRepository;
 
+  @Spy private AiPromptTemplateCache aiPromptTemplateCache = new AiPromptTemplateCache();
+
   @InjectMocks private AiPromptTemplateQueryService aiPromptTemplateQueryService;
 
   @Nested
@@ -223,5 +226,44 @@ class AiPromptTemplateQueryServiceTest {
           .isInstanceOf(BusinessException.class)
           .hasFieldOrPropertyWithValue("errorCode", AiErrorCode.TEMPLATE_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("같은_조합을_다시_조회하면_캐시된_템플릿이_반환된다")
+    void 같은_조합을_다시_조회하면_캐시된_템플릿이_반환된다() {
+      // given
+      PromptType promptType = PromptType.SYSTEM;
+      AgentType agentType = AgentType.CHAT_AGENT;
+      AiPromptTemplate activeTemplate = AiPromptTemplateFixture.createChatAgentSystemPrompt();
+
+      given(aiPromptTemplateRepository.findByActivePrompt(promptType, agentType))
+          .willReturn(Optional.of(activeTemplate));
+
+      // when
+      aiPromptTemplateQueryService.findActivePromptTemplate(promptType, agentType);
+      aiPromptTemplateQueryService.findActivePromptTemplate(promptType, agentType);
+
+      // then
+      verify(aiPromptTemplateRepository, times(1)).findByActivePrompt(promptType, agentType);
+    }
+
+    @Test
+    @DisplayName("캐시가_무효화되면_다시_DB에서_조회한다")
+    void 캐시가_무효화되면_다시_DB에서_조회한다() {
+      // given
+      PromptType promptType = PromptType.SYSTEM;
+      AgentType agentType = AgentType.CHAT_AGENT;
+      AiPromptTemplate activeTemplate = AiPromptTemplateFixture.createChatAgentSystemPrompt();
+
+      given(aiPromptTemplateRepository.findByActivePrompt(promptType, agentType))
+          .willReturn(Optional.of(activeTemplate));
+      aiPromptTemplateQueryService.findActivePromptTemplate(promptType, agentType);
+
+      // when
+      aiPromptTemplateCache.invalidateAll();
+      aiPromptTemplateQueryService.findActivePromptTemplate(promptType, agentType);
+
+      // then
+      verify(aiPromptTemplateRepository, times(2)).findByActivePrompt(promptType, agentType);
+    }
   }
 }
@@ -0,0 +1,167 @@
+package com.swygbro.airoad.backend.ai.common.advisor;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import com.swygbro.airoad.backend.ai.common.advisor.ChatClientMetricsAdvisor.AttemptCountingAdvisor;
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ChatClientMetricsAdvisorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final ChatClientMetricsAdvisor metricsAdvisor =
+      ChatClientMetricsAdvisor.builder()
+          .meterRegistry(meterRegistry)
+          .agentType(AgentType.TRIP_AGENT)
+          .build();
+
+  private final CallAdvisorChain chain = mock(CallAdvisorChain.class);
+
+  private static ChatClientRequest request(String model) {
+    return ChatClientRequest.builder()
+        .prompt(new Prompt("질문", ChatOptions.builder().model(model).build()))
+        .build();
+  }
+
+  private static ChatClientResponse response(String model) {
+    ChatResponse chatResponse =
+        ChatResponse.builder()
+            .generations(List.of(new Generation(new AssistantMessage("답변"))))
+            .metadata(
+                ChatResponseMetadata.builder().model(model).usage(new DefaultUsage(10, 5)).build())
+            .build();
+    return ChatClientResponse.builder().chatResponse(chatResponse).build();
+  }
+
+  @Nested
+  @DisplayName("모델 호출이 성공할 때")
+  class CallSuccess {
+
+    @Test
+    @DisplayName("응답 메타데이터의 모델 태그로 지연 시간과 토큰 수를 기록한다")
+    void 응답_모델_태그로_지연_시간과_토큰_수를_기록한다() {
+      // given
+      given(chain.nextCall(any())).willReturn(response("solar-pro2-250710"));
+
+      // when
+      metricsAdvisor.adviseCall(request("solar-pro2"), chain);
+
+      // then
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.LATENCY_METRIC)
+                  .tags("agent", "TRIP_AGENT", "model", "solar-pro2-250710")
+                  .tags("mode", "call", "outcome", "success")
+                  .timer()
+                  .count())
+          .isEqualTo(1);
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.TOKENS_METRIC)
+                  .tags("model", "solar-pro2-250710", "type", "prompt")
+                  .counter()
+                  .count())
+          .isEqualTo(10);
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.TOKENS_METRIC)
+                  .tags("model", "solar-pro2-250710", "type", "completion")
+                  .counter()
+                  .count())
+          .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("모델을 다시 호출한 횟수를 재시도 횟수로 기록한다")
+    void 재호출_횟수를_재시도로_기록한다() {
+      // given: 구조화 출력 검증 실패로 모델을 세 번 호출
+      AttemptCountingAdvisor attemptCounter = metricsAdvisor.attemptCounter();
+      CallAdvisorChain modelChain = mock(CallAdvisorChain.class);
+      given(modelChain.nextCall(any())).willReturn(response("solar-pro2"));
+      given(chain.nextCall(any()))
+          .willAnswer(
+              invocation -> {
+                ChatClientRequest request = invocation.getArgument(0);
+                attemptCounter.adviseCall(request, modelChain);
+                attemptCounter.adviseCall(request, modelChain);
+                return attemptCounter.adviseCall(request, modelChain);
+              });
+
+      // when
+      metricsAdvisor.adviseCall(request("solar-pro2"), chain);
+
+      // then
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.RETRIES_METRIC)
+                  .tags("agent", "TRIP_AGENT", "model", "solar-pro2")
+                  .counter()
+                  .count())
+          .isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("모델 호출이 실패할 때")
+  class CallError {
+
+    @Test
+    @DisplayName("요청 옵션의 모델 태그로 실패 지연 시간을 기록한다")
+    void 요청_모델_태그로_실패를_기록한다() {
+      // given
+      given(chain.nextCall(any())).willThrow(new IllegalStateException("모델 호출 실패"));
+
+      // when & then
+      assertThatThrownBy(() -> metricsAdvisor.adviseCall(request("solar-pro2"), chain))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.LATENCY_METRIC)
+                  .tags("model", "solar-pro2", "mode", "call", "outcome", "error")
+                  .timer()
+                  .count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 옵션에 모델이 없으면 unknown 태그로 기록한다")
+    void 모델이_없으면_unknown으로_기록한다() {
+      // given
+      ChatClientRequest request = ChatClientRequest.builder().prompt(new Prompt("질문")).build();
+      given(chain.nextCall(any())).willThrow(new IllegalStateException("모델 호출 실패"));
+
+      // when & then
+      assertThatThrownBy(() -> metricsAdvisor.adviseCall(request, chain))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(
+              meterRegistry
+                  .get(ChatClientMetricsAdvisor.LATENCY_METRIC)
+                  .tags("model", ChatClientMetricsAdvisor.UNKNOWN_MODEL, "outcome", "error")
+                  .timer()
+                  .count())
+          .isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.swygbro.airoad.backend.ai.common.agent;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+import com.swygbro.airoad.backend.ai.exception.AiErrorCode;
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class AgentExecutionRegistryTest {
+
+  private static final String USER = "user@example.com";
+
+  private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+  private final AgentExecutionRegistry registry = new AgentExecutionRegistry(taskScheduler, 0);
+
+  @Nested
+  @DisplayName("WebSocket 세션이 종료될 때")
+  class UnregisterSession {
+
+    @Test
+    @DisplayName("종료된 세션이 보던 채팅방의 실행만 취소한다")
+    void 종료된_세션이_보던_채팅방의_실행만_취소한다() {
+      // given
+      registry.registerSession(USER, "session-1");
+      registry.registerSession(USER, "session-2");
+      registry.watchChatRoom(USER, "session-1", 1L);
+      registry.watchChatRoom(USER, "session-2", 2L);
+      AgentExecution watchedExecution = registry.start(AgentType.TRIP_AGENT, USER, 1L);
+      AgentExecution otherRoomExecution = registry.start(AgentType.CHAT_AGENT, USER, 2L);
+      AgentExecution otherUserExecution =
+          registry.start(AgentType.CHAT_AGENT, "other@example.com", 1L);
+
+      // when
+      registry.unregisterSession(USER, "session-1");
+
+      // then
+      assertThat(watchedExecution.isCancelled()).isTrue();
+      assertThat(otherRoomExecution.isCancelled()).isFalse();
+      assertThat(otherUserExecution.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방을 보는 다른 세션이 남아 있으면 취소하지 않는다")
+    void 같은_채팅방을_보는_세션이_남아_있으면_취소하지_않는다() {
+      // given
+      registry.registerSession(USER, "session-1");
+      registry.registerSession(USER, "session-2");
+      registry.watchChatRoom(USER, "session-1", 1L);
+      registry.watchChatRoom(USER, "session-2", 1L);
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, USER, 1L);
+
+      // when
+      registry.unregisterSession(USER, "session-1");
+
+      // then
+      assertThat(execution.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 종료되면 구독하지 않던 채팅방의 실행도 취소한다")
+    void 마지막_세션이면_모든_실행을_취소한다() {
+      // given
+      registry.registerSession(USER, "session-1");
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, USER, 1L);
+
+      // when
+      registry.unregisterSession(USER, "session-1");
+
+      // then
+      assertThat(execution.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 세션이거나 중복 해제이면 아무 실행도 취소하지 않는다")
+    void 등록되지_않은_세션은_무시한다() {
+      // given
+      registry.registerSession(USER, "session-1");
+      registry.watchChatRoom(USER, "session-1", 1L);
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, USER, 1L);
+      AgentExecution unknownUserExecution =
+          registry.start(AgentType.TRIP_AGENT, "unknown@example.com", 2L);
+
+      // when
+      registry.unregisterSession("unknown@example.com", "session-unknown");
+      registry.unregisterSession(USER, "session-2");
+
+      // then
+      assertThat(execution.isCancelled()).isFalse();
+      assertThat(unknownUserExecution.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 종료된 실행은 취소 대상에서 제외한다")
+    void 종료된_실행은_취소하지_않는다() {
+      // given
+      registry.registerSession(USER, "session-1");
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, USER, 1L);
+      registry.finish(execution);
+
+      // when
+      registry.unregisterSession(USER, "session-1");
+
+      // then
+      assertThat(execution.isCancelled()).isFalse();
+      then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("유예 시간이 설정되어 있을 때")
+  class GracePeriod {
+
+    private final AgentExecutionRegistry graceRegistry =
+        new AgentExecutionRegistry(taskScheduler, 10_000);
+
+    private Runnable captureScheduledCancel() {
+      ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+      then(taskScheduler).should().schedule(captor.capture(), any(Instant.class));
+      return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("세션 종료 즉시 취소하지 않고 유예 시간 뒤에 취소한다")
+    void 유예_시간_뒤에_취소한다() {
+      // given
+      graceRegistry.registerSession(USER, "session-1");
+      graceRegistry.watchChatRoom(USER, "session-1", 1L);
+      AgentExecution execution = graceRegistry.start(AgentType.TRIP_AGENT, USER, 1L);
+
+      // when
+      graceRegistry.unregisterSession(USER, "session-1");
+
+      // then
+      assertThat(execution.isCancelled()).isFalse();
+      captureScheduledCancel().run();
+      assertThat(execution.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 다시 연결해 같은 채팅방을 구독하면 취소하지 않는다")
+    void 유예_시간_안에_재연결하면_취소하지_않는다() {
+      // given
+      graceRegistry.registerSession(USER, "session-1");
+      graceRegistry.watchChatRoom(USER, "session-1", 1L);
+      AgentExecution execution = graceRegistry.start(AgentType.TRIP_AGENT, USER, 1L);
+      graceRegistry.unregisterSession(USER, "session-1");
+
+      // when
+      graceRegistry.registerSession(USER, "session-2");
+      graceRegistry.watchChatRoom(USER, "session-2", 1L);
+      captureScheduledCancel().run();
+
+      // then
+      assertThat(execution.isCancelled()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("실행 취소 여부를 확인할 때")
+  class ThrowIfCancelled {
+
+    @Test
+    @DisplayName("취소되지 않았으면 예외가 발생하지 않는다")
+    void 취소되지_않았으면_예외가_발생하지_않는다() {
+      // given
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, "user@example.com", 1L);
+
+      // when & then
+      assertThatCode(execution::throwIfCancelled).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("취소되었으면 AGENT_EXECUTION_CANCELLED 예외가 발생한다")
+    void 취소되었으면_예외가_발생한다() {
+      // given
+      AgentExecution execution = registry.start(AgentType.TRIP_AGENT, "user@example.com", 1L);
+      execution.cancel("WebSocket 연결 종료");
+
+      // when & then
+      assertThatThrownBy(execution::throwIfCancelled)
+          .isInstanceOf(BusinessException.class)
+          .extracting("errorCode")
+          .isEqualTo(AiErrorCode.AGENT_EXECUTION_CANCELLED);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.swygbro.airoad.backend.ai.common.context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor;
+import com.swygbro.airoad.backend.ai.common.advisor.PromptMetadataAdvisor.MetadataEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextManagerTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Nested
+  @DisplayName("병렬 모드에서 컨텍스트를 구성할 때")
+  class BuildContextInParallel {
+
+    @Test
+    @DisplayName("실행 완료 순서와 관계없이 데이터 순서와 Provider Order 순서대로 조합된다")
+    void 실행_완료_순서와_관계없이_결정적인_순서로_조합된다() {
+      // given: 먼저 실행되는 Provider가 더 늦게 끝나도록 구성
+      ContextManager contextManager =
+          new ContextManager(
+              List.of(
+                  new StubProvider<>(String.class, 2, "string-2", 0),
+                  new StubProvider<>(String.class, 1, "string-1", 200),
+                  new StubProvider<>(Integer.class, 0, "integer-0", 100)),
+              executor,
+              true,
+              1000);
+
+      // when
+      List<MetadataEntry> result = contextManager.buildContext("data", 1);
+
+      // then
+      assertThat(result)
+          .extracting(MetadataEntry::content)
+          .containsExactly("string-1", "string-2", "integer-0");
+    }
+
+    @Test
+    @DisplayName("제한 시간을 초과한 Provider는 대체 컨텍스트로 대체된다")
+    void 제한_시간을_초과한_Provider는_대체_컨텍스트로_대체된다() {
+      // given
+      StubProvider<String> slowProvider =
+          new StubProvider<>(String.class, 1, "slow", 1000) {
+            @Override
+            public Optional<Duration> getTimeout() {
+              return Optional.of(Duration.ofMillis(50));
+            }
+
+            @Override
+            public List<MetadataEntry> getFallbackContext(Object data) {
+              return PromptMetadataAdvisor.systemMetadata("fallback");
+            }
+          };
+      ContextManager contextManager =
+          new ContextManager(
+              List.of(slowProvider, new StubProvider<>(String.class, 2, "fast", 0)),
+              executor,
+              true,
+              1000);
+
+      // when
+      List<MetadataEntry> result = contextManager.buildContext("data");
+
+      // then
+      assertThat(result).extracting(MetadataEntry::content).containsExactly("fallback", "fast");
+    }
+
+    @Test
+    @DisplayName("제한 시간을 초과한 Provider 작업은 인터럽트된다")
+    void 제한_시간을_초과한_Provider는_인터럽트된다() throws InterruptedException {
+      // given
+      CountDownLatch interrupted = new CountDownLatch(1);
+      StubProvider<String> blockingProvider =
+          new StubProvider<>(String.class, 1, "blocking", 0) {
+            @Override
+            protected List<MetadataEntry> doGetContext(String data) {
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+              }
+              return PromptMetadataAdvisor.systemMetadata("blocking");
+            }
+
+            @Override
+            public Optional<Duration> getTimeout() {
+              return Optional.of(Duration.ofMillis(50));
+            }
+          };
+      ContextManager contextManager =
+          new ContextManager(List.of(blockingProvider), executor, true, 1000);
+
+      // when
+      contextManager.buildContext("data");
+
+      // then
+      assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("순차 모드에서 컨텍스트를 구성할 때")
+  class BuildContextSequentially {
+
+    @Test
+    @DisplayName("실패한 Provider는 건너뛰고 나머지 컨텍스트를 반환한다")
+    void 실패한_Provider는_건너뛰고_나머지_컨텍스트를_반환한다() {
+      // given
+      ContextProvider<String> failingProvider =
+          new StubProvider<>(String.class, 1, "failing", 0) {
+            @Override
+            protected List<MetadataEntry> doGetContext(String data) {
+              throw new IllegalStateException("조회 실패");
+            }
+          };
+      ContextManager contextManager =
+          new ContextManager(
+              List.of(failingProvider, new StubProvider<>(String.class, 2, "ok", 0)),
+              executor,
+              false,
+              1000);
+
+      // when
+      List<MetadataEntry> result = contextManager.buildContext("data");
+
+      // then
+      assertThat(result).extracting(MetadataEntry::content).containsExactly("ok");
+    }
+  }
+
+  private static class StubProvider<T> extends AbstractContextProvider<T> {
+
+    private final int order;
+    private final String content;
+    private final long delayMillis;
+
+    StubProvider(Class<T> supportedType, int order, String content, long delayMillis) {
+      super(supportedType);
+      this.order = order;
+      this.content = content;
+      this.delayMillis = delayMillis;
+    }
+
+    @Override
+    protected List<MetadataEntry> doGetContext(T data) {
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return PromptMetadataAdvisor.systemMetadata(content);
+    }
+
+    @Override
+    public int getOrder() {
+      return order;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.swygbro.airoad.backend.ai.common.ratelimit;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+
+import com.swygbro.airoad.backend.ai.common.ratelimit.ProviderRateLimiter.Provider;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedEmbeddingModelTest {
+
+  @Mock private EmbeddingModel delegate;
+
+  @Mock private ProviderRateLimiter rateLimiter;
+
+  private RateLimitedEmbeddingModel embeddingModel() {
+    return new RateLimitedEmbeddingModel(
+        delegate, rateLimiter, Provider.NAVER_EMBEDDING, Provider.NAVER_EMBEDDING_BATCH);
+  }
+
+  @Test
+  @DisplayName("검색 질의 임베딩은 질의용 프로바이더 토큰을 획득한다")
+  void 검색_질의는_질의용_토큰을_획득한다() {
+    // when
+    embeddingModel().embed("제주 힐링 장소");
+
+    // then
+    then(rateLimiter).should().acquire(Provider.NAVER_EMBEDDING);
+    then(rateLimiter).should(never()).acquire(Provider.NAVER_EMBEDDING_BATCH);
+    then(delegate).should().embed("제주 힐링 장소");
+  }
+
+  @Test
+  @DisplayName("문서 저장 임베딩은 배치용 프로바이더 토큰을 획득한다")
+  void 문서_저장은_배치용_토큰을_획득한다() {
+    // given
+    EmbeddingRequest request = new EmbeddingRequest(List.of("장소 요약"), null);
+
+    // when
+    embeddingModel().call(request);
+    embeddingModel().embed(new Document("장소 요약"));
+
+    // then
+    then(rateLimiter).should(times(2)).acquire(Provider.NAVER_EMBEDDING_BATCH);
+    then(rateLimiter).should(never()).acquire(Provider.NAVER_EMBEDDING);
+  }
+}
@@ -0,0 +1,73 @@
+package com.swygbro.airoad.backend.ai.common.tool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import com.swygbro.airoad.backend.ai.domain.entity.AgentType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MeteredToolCallbackTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final ToolCallback delegate = mock(ToolCallback.class);
+
+  private ToolCallback meteredTool;
+
+  @BeforeEach
+  void setUp() {
+    given(delegate.getToolDefinition())
+        .willReturn(
+            ToolDefinition.builder()
+                .name("searchPlaces")
+                .description("장소 검색")
+                .inputSchema("{}")
+                .build());
+    meteredTool =
+        MeteredToolCallback.wrap(meterRegistry, AgentType.CHAT_AGENT, "gpt-4o-mini", delegate)[0];
+  }
+
+  private double count(String outcome) {
+    return meterRegistry
+        .get(MeteredToolCallback.TOOL_CALLS_METRIC)
+        .tags("agent", "CHAT_AGENT", "model", "gpt-4o-mini", "tool", "searchPlaces")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  @Test
+  @DisplayName("도구 호출이 성공하면 success 결과로 호출 횟수를 기록한다")
+  void 성공한_도구_호출을_기록한다() {
+    // given
+    given(delegate.call(any(), any())).willReturn("[]");
+
+    // when
+    meteredTool.call("{}");
+    meteredTool.call("{}");
+
+    // then
+    assertThat(count("success")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("도구 호출이 실패하면 error 결과로 호출 횟수를 기록한다")
+  void 실패한_도구_호출을_기록한다() {
+    // given
+    given(delegate.call(any(), any())).willThrow(new IllegalStateException("조회 실패"));
+
+    // when & then
+    assertThatThrownBy(() -> meteredTool.call("{}")).isInstanceOf(IllegalStateException.class);
+    assertThat(count("error")).isEqualTo(1);
+  }
+}
@@ -0,0 +1,238 @@
+package com.swygbro.airoad.backend.ai.infrastructure.embedding;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class CachingEmbeddingModelTest {
+
+  private static final float[] EMBEDDING = {0.1f, 0.2f, 0.3f};
+
+  @Mock private EmbeddingModel delegate;
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock private ValueOperations<String, Object> valueOperations;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private CachingEmbeddingModel localOnly(int maxEntries) {
+    return new CachingEmbeddingModel(
+        delegate, "bge-m3", maxEntries, null, Duration.ofHours(1), meterRegistry);
+  }
+
+  private double count(String outcome) {
+    return meterRegistry
+        .get(CachingEmbeddingModel.REQUESTS_METRIC)
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("로컬 캐시만 사용할 때")
+  class LocalOnly {
+
+    @Test
+    @DisplayName("같은 질의는 한 번만 임베딩한다")
+    void givenSameQuery_whenEmbedTwice_thenCallDelegateOnce() {
+      // given
+      CachingEmbeddingModel model = localOnly(10);
+      given(delegate.embed("서울에 있는 음식점을 찾고 싶어요.")).willReturn(EMBEDDING);
+
+      // when
+      float[] first = model.embed("서울에 있는 음식점을 찾고 싶어요.");
+      float[] second = model.embed("서울에 있는 음식점을 찾고 싶어요.");
+
+      // then
+      then(delegate).should(times(1)).embed("서울에 있는 음식점을 찾고 싶어요.");
+      assertThat(first).containsExactly(EMBEDDING);
+      assertThat(second).containsExactly(EMBEDDING);
+      assertThat(count("miss")).isEqualTo(1.0);
+      assertThat(count("local_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("공백만 다른 질의는 같은 항목으로 취급한다")
+    void givenWhitespaceVariants_whenEmbed_thenShareEntry() {
+      // given
+      CachingEmbeddingModel model = localOnly(10);
+      given(delegate.embed("부산 맛집")).willReturn(EMBEDDING);
+
+      // when
+      model.embed("  부산   맛집 ");
+      model.embed("부산 맛집");
+
+      // then: 정규화된 질의로 한 번만 임베딩
+      then(delegate).should(times(1)).embed("부산 맛집");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void givenFullCache_whenEmbedNewQuery_thenEvictLeastRecentlyUsed() {
+      // given: 최대 2개
+      CachingEmbeddingModel model = localOnly(2);
+      given(delegate.embed(anyString())).willReturn(EMBEDDING);
+
+      // when: a, b 적재 후 a를 다시 사용하고 c 적재
+      model.embed("a");
+      model.embed("b");
+      model.embed("a");
+      model.embed("c");
+      model.embed("b");
+
+      // then: b가 제거되어 다시 임베딩됨
+      assertThat(model.size()).isEqualTo(2);
+      then(delegate).should(times(1)).embed("a");
+      then(delegate).should(times(2)).embed("b");
+    }
+
+    @Test
+    @DisplayName("반환된 배열을 수정해도 캐시된 값은 변하지 않는다")
+    void givenReturnedArrayModified_whenEmbedAgain_thenReturnOriginal() {
+      // given
+      CachingEmbeddingModel model = localOnly(10);
+      given(delegate.embed("제주")).willReturn(EMBEDDING.clone());
+
+      // when
+      model.embed("제주")[0] = 9f;
+
+      // then
+      assertThat(model.embed("제주")).containsExactly(EMBEDDING);
+    }
+  }
+
+  @Nested
+  @DisplayName("Redis를 함께 사용할 때")
+  class WithRedis {
+
+    private CachingEmbeddingModel model;
+
+    @BeforeEach
+    void setUp() {
+      given(redisTemplate.opsForValue()).willReturn(valueOperations);
+      model =
+          new CachingEmbeddingModel(
+              delegate, "bge-m3", 10, redisTemplate, Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Redis에 있는 질의는 임베딩 API를 호출하지 않는다")
+    void givenRedisEntry_whenEmbed_thenSkipDelegate() {
+      // given: 다른 인스턴스가 저장한 항목
+      given(delegate.embed("강릉")).willReturn(EMBEDDING);
+      model.embed("강릉");
+      ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+      then(valueOperations)
+          .should()
+          .set(anyString(), valueCaptor.capture(), eq(Duration.ofHours(1)));
+
+      CachingEmbeddingModel otherNode =
+          new CachingEmbeddingModel(
+              delegate, "bge-m3", 10, redisTemplate, Duration.ofHours(1), meterRegistry);
+      given(valueOperations.get(anyString())).willReturn(valueCaptor.getValue());
+
+      // when
+      float[] embedding = otherNode.embed("강릉");
+
+      // then
+      assertThat(embedding).containsExactly(EMBEDDING);
+      then(delegate).should(times(1)).embed("강릉");
+      assertThat(count("redis_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 임베딩 결과를 반환한다")
+    void givenRedisFailure_whenEmbed_thenFallbackToDelegate() {
+      // given
+      given(valueOperations.get(anyString())).willThrow(new RuntimeException("Redis down"));
+      given(delegate.embed("경주")).willReturn(EMBEDDING);
+
+      // when
+      float[] embedding = model.embed("경주");
+
+      // then
+      assertThat(embedding).containsExactly(EMBEDDING);
+      assertThat(count("miss")).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("예열 요청 시")
+  class WarmUp {
+
+    @Test
+    @DisplayName("실패한 질의는 건너뛰고 나머지를 적재한다")
+    void givenFailingQuery_whenWarmUp_thenSkipFailure() {
+      // given
+      CachingEmbeddingModel model = localOnly(10);
+      given(delegate.call(any()))
+          .willReturn(embeddingResponse())
+          .willThrow(new RuntimeException("rate limited"));
+
+      // when
+      int loaded = model.warmUp(List.of("서울", "부산"));
+
+      // then
+      assertThat(loaded).isEqualTo(1);
+      assertThat(model.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 질의는 검색 질의 경로가 아닌 배치 경로로 임베딩한다")
+    void givenMiss_whenWarmUp_thenEmbedThroughBatchPath() {
+      // given
+      CachingEmbeddingModel model = localOnly(10);
+      given(delegate.call(any())).willReturn(embeddingResponse());
+
+      // when
+      model.warmUp(List.of("서울"));
+      float[] embedding = model.embed("서울");
+
+      // then: 예열은 call()로 임베딩하고, 이후 검색 질의는 캐시에서 반환
+      ArgumentCaptor<EmbeddingRequest> requestCaptor =
+          ArgumentCaptor.forClass(EmbeddingRequest.class);
+      then(delegate).should().call(requestCaptor.capture());
+      assertThat(requestCaptor.getValue().getInstructions()).containsExactly("서울");
+      then(delegate).should(never()).embed(anyString());
+      assertThat(embedding).containsExactly(EMBEDDING);
+    }
+  }
+
+  private static EmbeddingResponse embeddingResponse() {
+    return new EmbeddingResponse(List.of(new Embedding(EMBEDDING, 0)));
+  }
+}
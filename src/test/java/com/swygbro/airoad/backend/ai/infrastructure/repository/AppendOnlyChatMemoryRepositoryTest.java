@@ -0,0 +1,116 @@
+package com.swygbro.airoad.backend.ai.infrastructure.repository;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.swygbro.airoad.backend.chat.domain.entity.AiConversation;
+import com.swygbro.airoad.backend.chat.infrastructure.repository.AiConversationRepository;
+import com.swygbro.airoad.backend.chat.infrastructure.repository.AiMessageRepository;
+import com.swygbro.airoad.backend.fixture.chat.AiConversationFixture;
+import com.swygbro.airoad.backend.fixture.member.MemberFixture;
+import com.swygbro.airoad.backend.fixture.trip.TripPlanFixture;
+import com.swygbro.airoad.backend.member.domain.entity.Member;
+import com.swygbro.airoad.backend.member.infrastructure.MemberRepository;
+import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AppendOnlyChatMemoryRepository 테스트
+ *
+ * <p>Repository 계층 테스트로 실제 데이터베이스와의 상호작용을 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnableJpaAuditing
+class AppendOnlyChatMemoryRepositoryTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private AiMessageRepository aiMessageRepository;
+
+  @Autowired private AiConversationRepository aiConversationRepository;
+
+  @Autowired private MemberRepository memberRepository;
+
+  @Autowired private TripPlanRepository tripPlanRepository;
+
+  private AppendOnlyChatMemoryRepository chatMemoryRepository;
+  private String conversationId;
+
+  @BeforeEach
+  void setUp() {
+    chatMemoryRepository =
+        new AppendOnlyChatMemoryRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+
+    Member member = memberRepository.save(MemberFixture.create());
+    TripPlan tripPlan = tripPlanRepository.save(TripPlanFixture.createWithMember(member));
+    AiConversation conversation =
+        aiConversationRepository.save(
+            AiConversationFixture.createWithMemberAndTripPlan(member, tripPlan));
+    conversationId = String.valueOf(conversation.getId());
+  }
+
+  @Nested
+  @DisplayName("append 메서드는")
+  class Append {
+
+    @Test
+    @DisplayName("기존 메시지를 유지한 채 새 메시지만 추가한다")
+    void shouldKeepExistingMessagesAndAppendNewOnes() {
+      // given
+      chatMemoryRepository.append(conversationId, List.of(new UserMessage("첫 질문")));
+
+      // when
+      chatMemoryRepository.append(
+          conversationId, List.of(new AssistantMessage("첫 답변"), new UserMessage("두번째 질문")));
+
+      // then
+      assertThat(aiMessageRepository.count()).isEqualTo(3);
+      assertThat(chatMemoryRepository.findByConversationId(conversationId))
+          .extracting(Message::getText)
+          .containsExactly("첫 질문", "첫 답변", "두번째 질문");
+    }
+  }
+
+  @Nested
+  @DisplayName("findRecentByConversationId 메서드는")
+  class FindRecentByConversationId {
+
+    @Test
+    @DisplayName("최근 N개의 메시지를 오래된 순서로 반환한다")
+    void shouldReturnRecentMessagesInChronologicalOrder() {
+      // given
+      chatMemoryRepository.append(
+          conversationId,
+          List.of(
+              new UserMessage("메시지1"),
+              new AssistantMessage("메시지2"),
+              new UserMessage("메시지3"),
+              new AssistantMessage("메시지4")));
+
+      // when
+      List<Message> recent = chatMemoryRepository.findRecentByConversationId(conversationId, 2);
+
+      // then
+      assertThat(recent).extracting(Message::getText).containsExactly("메시지3", "메시지4");
+    }
+  }
+}
@@ -4,16 +4,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.swygbro.airoad.backend.ai.domain.event.AiMessageChunkGeneratedEvent;
 import com.swygbro.airoad.backend.ai.domain.event.AiMessageGeneratedEvent;
 import com.swygbro.airoad.backend.chat.domain.dto.response.ChatStreamDto;
 import com.swygbro.airoad.backend.common.domain.dto.ErrorResponse;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
@@ -97,4 +100,54 @@ class ChatNotificationListenerTest {
               eq("test@example.com"), eq("/sub/errors/unknown"), any(ErrorResponse.class));
     }
   }
+
+  @Nested
+  @DisplayName("AI 메시지 청크 생성 이벤트를 수신할 때")
+  class HandleAiMessageChunkGeneratedTests {
+
+    @Test
+    @DisplayName("완료되지 않은 청크 메시지를 사용자에게 전송한다")
+    void 완료되지_않은_청크_메시지를_사용자에게_전송() {
+      // given
+      AiMessageChunkGeneratedEvent event =
+          AiMessageChunkGeneratedEvent.builder()
+              .chatRoomId(1L)
+              .username("test@example.com")
+              .chunk("제주도")
+              .build();
+
+      // when
+      chatNotificationListener.handleAiMessageChunkGenerated(event);
+
+      // then
+      ArgumentCaptor<ChatStreamDto> captor = ArgumentCaptor.forClass(ChatStreamDto.class);
+      verify(messagingTemplate)
+          .convertAndSendToUser(eq("test@example.com"), eq("/sub/chat/1"), captor.capture());
+      assertThat(captor.getValue().message()).isEqualTo("제주도");
+      assertThat(captor.getValue().isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크 전송 실패 시 에러 메시지를 전송하지 않는다")
+    void 청크_전송_실패_시_에러_메시지를_전송하지_않음() {
+      // given
+      AiMessageChunkGeneratedEvent event =
+          AiMessageChunkGeneratedEvent.builder()
+              .chatRoomId(1L)
+              .username("test@example.com")
+              .chunk("제주도")
+              .build();
+
+      willThrow(new RuntimeException("전송 실패"))
+          .given(messagingTemplate)
+          .convertAndSendToUser(anyString(), anyString(), any(ChatStreamDto.class));
+
+      // when
+      chatNotificationListener.handleAiMessageChunkGenerated(event);
+
+      // then
+      verify(messagingTemplate, never())
+          .convertAndSendToUser(anyString(), anyString(), any(ErrorResponse.class));
+    }
+  }
 }
@@ -1,10 +1,13 @@
 package com.swygbro.airoad.backend.chat.presentation.message;
 
+import java.security.Principal;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -17,14 +20,23 @@ import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
+import com.swygbro.airoad.backend.ai.common.agent.AgentExecutionRegistry;
+
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
 class WebSocketEventListenerTest {
 
+  @Mock private AgentExecutionRegistry agentExecutionRegistry;
+
   @InjectMocks private WebSocketEventListener listener;
 
+  private final Principal user = () -> "user@example.com";
+
   @Nested
   @DisplayName("사용자가 WebSocket에 연결할 때")
   class HandleWebSocketConnect {
@@ -58,6 +70,23 @@ class WebSocketEventListenerTest {
       assertThatCode(() -> listener.handleWebSocketConnectedListener(event))
           .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("인증된 사용자의 세션을 에이전트 실행 레지스트리에 등록한다")
+    void 인증된_사용자_세션_등록() {
+      // given
+      StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.CONNECTED);
+      headerAccessor.setSessionId("session-user-1");
+      Message<byte[]> message =
+          MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+      SessionConnectedEvent event = new SessionConnectedEvent(this, message, user);
+
+      // when
+      listener.handleWebSocketConnectedListener(event);
+
+      // then
+      then(agentExecutionRegistry).should().registerSession("user@example.com", "session-user-1");
+    }
   }
 
   @Nested
@@ -80,6 +109,46 @@ class WebSocketEventListenerTest {
       assertThatCode(() -> listener.handleWebSocketSubscribeListener(event))
           .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("채팅방 채널을 구독하면 세션이 보는 채팅방으로 등록한다")
+    void 채팅방_채널_구독_등록() {
+      // given
+      StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+      headerAccessor.setSessionId("session-user-1");
+      headerAccessor.setDestination("/user/sub/chat/100");
+      headerAccessor.setSubscriptionId("sub-1");
+      Message<byte[]> message =
+          MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+      SessionSubscribeEvent event = new SessionSubscribeEvent(this, message, user);
+
+      // when
+      listener.handleWebSocketSubscribeListener(event);
+
+      // then
+      then(agentExecutionRegistry)
+          .should()
+          .watchChatRoom("user@example.com", "session-user-1", 100L);
+    }
+
+    @Test
+    @DisplayName("채팅방 채널이 아닌 구독은 레지스트리에 등록하지 않는다")
+    void 채팅방_채널이_아닌_구독() {
+      // given
+      StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+      headerAccessor.setSessionId("session-user-1");
+      headerAccessor.setDestination("/user/sub/schedule/10");
+      headerAccessor.setSubscriptionId("sub-1");
+      Message<byte[]> message =
+          MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+      SessionSubscribeEvent event = new SessionSubscribeEvent(this, message, user);
+
+      // when
+      listener.handleWebSocketSubscribeListener(event);
+
+      // then
+      then(agentExecutionRegistry).should(never()).watchChatRoom(any(), any(), any());
+    }
   }
 
   @Nested
@@ -134,6 +203,42 @@ class WebSocketEventListenerTest {
       assertThatCode(() -> listener.handleWebSocketDisconnectListener(event))
           .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("인증된 사용자의 세션을 해제하여 진행 중인 AI 생성 작업을 취소한다")
+    void 인증된_사용자_세션_해제() {
+      // given
+      StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+      headerAccessor.setSessionId("session-user-1");
+      Message<byte[]> message =
+          MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+      SessionDisconnectEvent event =
+          new SessionDisconnectEvent(this, message, "session-user-1", CloseStatus.GOING_AWAY, user);
+
+      // when
+      listener.handleWebSocketDisconnectListener(event);
+
+      // then
+      then(agentExecutionRegistry).should().unregisterSession("user@example.com", "session-user-1");
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없는 세션은 레지스트리를 호출하지 않는다")
+    void 인증_정보가_없는_세션() {
+      // given
+      StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+      headerAccessor.setSessionId("session-user-1");
+      Message<byte[]> message =
+          MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+      SessionDisconnectEvent event =
+          new SessionDisconnectEvent(this, message, "session-user-1", CloseStatus.NORMAL);
+
+      // when
+      listener.handleWebSocketDisconnectListener(event);
+
+      // then
+      then(agentExecutionRegistry).should(never()).unregisterSession(any(), any());
+    }
   }
 
   @Nested
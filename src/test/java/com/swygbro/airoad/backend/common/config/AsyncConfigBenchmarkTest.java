@@ -0,0 +1,151 @@
+package com.swygbro.airoad.backend.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅/일정 생성 풀의 실제 설정으로 플랫폼 스레드 모드와 가상 스레드 모드를 비교하는 벤치마크
+ *
+ * <p>{@link AsyncConfig}가 만드는 chatTaskExecutor(5/10/20 ↔ 가상 100)와 tripTaskExecutor(3/5/20 ↔ 가상
+ * 50)에 일정한 속도로 요청을 보내고, 수락/거부 건수, 완료 처리량, 응답 시간을 측정합니다. 두 풀은 포화 시 바로 거부하므로 처리량 차이는 거부
+ * 건수로 드러납니다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class AsyncConfigBenchmarkTest {
+
+  private static final int REQUESTS = 1000;
+  private static final Duration ARRIVAL_INTERVAL = Duration.ofMillis(5);
+  private static final Duration MODEL_LATENCY = Duration.ofMillis(200);
+
+  private final ChatClient chatClient = ChatClient.create(new SlowChatModel());
+
+  @Test
+  @DisplayName("채팅 풀은 가상 스레드 모드에서 같은 부하를 더 적게 거부하고 더 많이 처리한다")
+  void 채팅_풀의_플랫폼_스레드_모드와_가상_스레드_모드를_비교한다() throws InterruptedException {
+    Result platform = measure("chat 플랫폼 5/10/20", AsyncConfig::chatTaskExecutor, false);
+    Result virtual = measure("chat 가상 100/20", AsyncConfig::chatTaskExecutor, true);
+
+    assertThat(virtual.rejected()).isLessThanOrEqualTo(platform.rejected());
+    assertThat(virtual.completedPerSecond()).isGreaterThanOrEqualTo(platform.completedPerSecond());
+  }
+
+  @Test
+  @DisplayName("일정 생성 풀은 가상 스레드 모드에서 같은 부하를 더 적게 거부하고 더 많이 처리한다")
+  void 일정_생성_풀의_플랫폼_스레드_모드와_가상_스레드_모드를_비교한다() throws InterruptedException {
+    Result platform = measure("trip 플랫폼 3/5/20", AsyncConfig::tripTaskExecutor, false);
+    Result virtual = measure("trip 가상 50/20", AsyncConfig::tripTaskExecutor, true);
+
+    assertThat(virtual.rejected()).isLessThanOrEqualTo(platform.rejected());
+    assertThat(virtual.completedPerSecond()).isGreaterThanOrEqualTo(platform.completedPerSecond());
+  }
+
+  private Result measure(
+      String mode,
+      BiFunction<AsyncConfig, MeterRegistry, ThreadPoolTaskExecutor> pool,
+      boolean virtualThreads)
+      throws InterruptedException {
+    ThreadPoolTaskExecutor executor =
+        pool.apply(new AsyncConfig(virtualThreads), new SimpleMeterRegistry());
+    ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    CountDownLatch latch = new CountDownLatch(REQUESTS);
+    int rejected = 0;
+
+    long start = System.nanoTime();
+    try {
+      for (int i = 0; i < REQUESTS; i++) {
+        LockSupport.parkNanos(start + i * ARRIVAL_INTERVAL.toNanos() - System.nanoTime());
+        long submittedAt = System.nanoTime();
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  chatClient.prompt().user("일정을 추천해주세요").call().content();
+                  latencies.add(System.nanoTime() - submittedAt);
+                } finally {
+                  latch.countDown();
+                }
+              });
+        } catch (RuntimeException e) {
+          // 포화 시 COMMON503으로 거부
+          rejected++;
+          latch.countDown();
+        }
+      }
+      assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+
+    double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+    List<Long> sorted = latencies.stream().sorted().toList();
+    Result result = new Result(sorted.size(), rejected, sorted.size() / seconds);
+    log.info(
+        "{} - 요청 {}건({}ms 간격), 모델 지연 {}ms: 수락 {}, 거부 {}, 완료 {} req/s, p50 {}ms, p99 {}ms",
+        mode,
+        REQUESTS,
+        ARRIVAL_INTERVAL.toMillis(),
+        MODEL_LATENCY.toMillis(),
+        result.accepted(),
+        result.rejected(),
+        String.format("%.1f", result.completedPerSecond()),
+        percentileMillis(sorted, 0.50),
+        percentileMillis(sorted, 0.99));
+    return result;
+  }
+
+  private static long percentileMillis(List<Long> sorted, double percentile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int index = Math.min(sorted.size() - 1, (int) (sorted.size() * percentile));
+    return TimeUnit.NANOSECONDS.toMillis(sorted.get(index));
+  }
+
+  /**
+   * 한 모드의 측정 결과
+   *
+   * @param accepted 수락되어 완료된 요청 수
+   * @param rejected 포화로 거부된 요청 수
+   * @param completedPerSecond 초당 완료 요청 수
+   */
+  private record Result(int accepted, int rejected, double completedPerSecond) {}
+
+  /** 모델 API 응답 대기를 흉내 내는 ChatModel */
+  private static class SlowChatModel implements ChatModel {
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+      try {
+        Thread.sleep(MODEL_LATENCY);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new ChatResponse(List.of(new Generation(new AssistantMessage("추천 일정입니다."))));
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.swygbro.airoad.backend.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.google.common.base.Ticker;
+import com.swygbro.airoad.backend.common.infrastructure.cache.TwoLevelCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 고정(pinning) 감지 테스트
+ *
+ * <p>가상 스레드 모드의 풀에서 I/O를 기다리는 경로를 실행하면서 JFR {@code jdk.VirtualThreadPinned} 이벤트를 수집합니다. {@code
+ * synchronized} 블록 안에서 Redis나 모델 API를 기다리면 가상 스레드가 캐리어 스레드에 고정되어 이벤트가 기록되고 테스트가 실패합니다.
+ */
+@ActiveProfiles("test")
+class VirtualThreadPinningTest {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(10);
+  private static final Duration IO_LATENCY = Duration.ofMillis(50);
+  private static final int KEYS = 16;
+
+  @Test
+  @DisplayName("2단계 캐시의 단일 로드와 조기 갱신은 가상 스레드를 고정하지 않는다")
+  void givenVirtualThreads_whenCacheLoadsAndRefreshes_thenNoPinnedEvents() throws Exception {
+    List<RecordedEvent> pinned =
+        recordPinnedEvents(
+            () -> {
+              AtomicLong nanos = new AtomicLong();
+              ThreadPoolTaskExecutor refreshExecutor =
+                  new AsyncConfig(true).cacheRefreshExecutor(new SimpleMeterRegistry());
+              TwoLevelCache cache =
+                  TwoLevelCache.builder()
+                      .name("tripPlanReadModel")
+                      .remote(new SlowRemoteCache("tripPlanReadModel"))
+                      .maxSize(100)
+                      .localTtl(Duration.ofMinutes(5))
+                      .refreshAfter(Duration.ofMinutes(1))
+                      .refreshExecutor(refreshExecutor)
+                      .invalidationPublisher((name, key) -> {})
+                      .meterRegistry(new SimpleMeterRegistry())
+                      .ticker(
+                          new Ticker() {
+                            @Override
+                            public long read() {
+                              return nanos.get();
+                            }
+                          })
+                      .build();
+
+              // 단일 로드: 가상 스레드 요청이 L2 조회와 저장을 기다림
+              runOnVirtualThreads(key -> cache.get(key, () -> "v1"));
+
+              // 조기 갱신: 가상 스레드 갱신 풀이 로드 결과를 L2에 저장
+              nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+              runOnVirtualThreads(key -> cache.get(key, () -> "v2"));
+
+              ThreadPoolExecutor refreshPool = refreshExecutor.getThreadPoolExecutor();
+              refreshPool.shutdown();
+              assertThat(refreshPool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            });
+
+    assertThat(pinned).as("고정된 가상 스레드: %s", pinned).isEmpty();
+  }
+
+  @Test
+  @DisplayName("채팅 풀에서 모델 응답을 기다리는 동안 가상 스레드를 고정하지 않는다")
+  void givenVirtualChatExecutor_whenCallModel_thenNoPinnedEvents() throws Exception {
+    ChatClient chatClient = ChatClient.create(new SlowChatModel());
+
+    List<RecordedEvent> pinned =
+        recordPinnedEvents(
+            () -> {
+              ThreadPoolTaskExecutor chatExecutor =
+                  new AsyncConfig(true).chatTaskExecutor(new SimpleMeterRegistry());
+              for (int i = 0; i < KEYS; i++) {
+                chatExecutor.execute(
+                    () -> chatClient.prompt().user("일정을 추천해주세요").call().content());
+              }
+
+              ThreadPoolExecutor chatPool = chatExecutor.getThreadPoolExecutor();
+              chatPool.shutdown();
+              assertThat(chatPool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            });
+
+    assertThat(pinned).as("고정된 가상 스레드: %s", pinned).isEmpty();
+  }
+
+  /**
+   * 작업을 실행하는 동안 기록된 가상 스레드 고정 이벤트를 반환합니다.
+   *
+   * @param workload 실행할 작업
+   * @return 고정 이벤트 목록
+   */
+  private List<RecordedEvent> recordPinnedEvents(Workload workload) throws Exception {
+    List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+    try (RecordingStream stream = new RecordingStream()) {
+      stream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withStackTrace();
+      stream.onEvent(PINNED_EVENT, pinned::add);
+      stream.startAsync();
+
+      workload.run();
+
+      // 기록 중인 이벤트를 모두 전달받은 뒤 종료
+      stream.stop();
+    }
+    return pinned;
+  }
+
+  private static void runOnVirtualThreads(KeyTask task) {
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long key = 1; key <= KEYS; key++) {
+        long current = key;
+        requests.submit(() -> task.run(current));
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface Workload {
+    void run() throws Exception;
+  }
+
+  @FunctionalInterface
+  private interface KeyTask {
+    void run(long key);
+  }
+
+  /** Redis 왕복 지연을 흉내 내는 L2 캐시 */
+  private static class SlowRemoteCache extends ConcurrentMapCache {
+
+    SlowRemoteCache(String name) {
+      super(name);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+      sleep();
+      return super.get(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+      sleep();
+      super.put(key, value);
+    }
+  }
+
+  /** 모델 API 응답 대기를 흉내 내는 ChatModel */
+  private static class SlowChatModel implements ChatModel {
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+      sleep();
+      return new ChatResponse(List.of(new Generation(new AssistantMessage("추천 일정입니다."))));
+    }
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(IO_LATENCY);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package com.swygbro.airoad.backend.common.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.google.common.base.Ticker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+class TwoLevelCacheTest {
+
+  private static final String CACHE_NAME = "tripPlanDetails";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final Ticker ticker =
+      new Ticker() {
+        @Override
+        public long read() {
+          return nanos.get();
+        }
+      };
+
+  private ConcurrentMapCache remote;
+  private SimpleMeterRegistry meterRegistry;
+  private List<String> published;
+  private TwoLevelCache cache;
+
+  @BeforeEach
+  void setUp() {
+    remote = new ConcurrentMapCache(CACHE_NAME);
+    meterRegistry = new SimpleMeterRegistry();
+    published = new ArrayList<>();
+    cache =
+        TwoLevelCache.builder()
+            .name(CACHE_NAME)
+            .remote(remote)
+            .maxSize(100)
+            .localTtl(Duration.ofMinutes(5))
+            .refreshAfter(Duration.ofMinutes(4))
+            .refreshExecutor(Runnable::run)
+            .invalidationPublisher((name, key) -> published.add(name + ":" + key))
+            .meterRegistry(meterRegistry)
+            .ticker(ticker)
+            .build();
+  }
+
+  private double requests(String outcome) {
+    return meterRegistry
+        .get(TwoLevelCache.REQUESTS_METRIC)
+        .tags("cache", CACHE_NAME, "outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  @Nested
+  @DisplayName("조회 시")
+  class Get {
+
+    @Test
+    @DisplayName("L2에만 있는 값은 L1에 적재되어 다음 조회는 L1에서 반환된다")
+    void givenRemoteOnly_whenGetTwice_thenSecondIsLocalHit() {
+      // given: L2에만 값이 있음
+      remote.put(1L, "plan-1");
+
+      // when: 두 번 조회
+      Cache.ValueWrapper first = cache.get(1L);
+      Cache.ValueWrapper second = cache.get(1L);
+
+      // then: 첫 조회는 L2, 두 번째는 L1에서 반환
+      assertThat(first.get()).isEqualTo("plan-1");
+      assertThat(second.get()).isEqualTo("plan-1");
+      assertThat(requests("remote_hit")).isEqualTo(1);
+      assertThat(requests("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1과 L2에 모두 없으면 로더 결과를 두 캐시에 저장한다")
+    void givenMiss_whenGetWithLoader_thenStoreInBothLevels() {
+      // when: 로더와 함께 조회
+      String value = cache.get(1L, () -> "loaded");
+
+      // then: 로더 결과가 L2에 저장되고 다음 조회는 L1 적중
+      assertThat(value).isEqualTo("loaded");
+      assertThat(remote.get(1L).get()).isEqualTo("loaded");
+      assertThat(cache.get(1L, () -> "other")).isEqualTo("loaded");
+      assertThat(requests("miss")).isEqualTo(1);
+      assertThat(requests("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 ValueRetrievalException이 발생하고 캐시에 저장하지 않는다")
+    void givenFailingLoader_whenGet_thenThrowValueRetrievalException() {
+      // when & then: 예외 발생
+      assertThatThrownBy(
+              () ->
+                  cache.get(
+                      1L,
+                      () -> {
+                        throw new IllegalStateException("db down");
+                      }))
+          .isInstanceOf(Cache.ValueRetrievalException.class)
+          .hasRootCauseMessage("db down");
+      assertThat(remote.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 호출한다")
+    void givenConcurrentMisses_whenGet_thenLoadOnce() throws Exception {
+      // given: 모든 요청이 도착할 때까지 대기하는 로더
+      AtomicInteger loads = new AtomicInteger();
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+
+      // when: 8개 스레드가 동시에 조회
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    cache.get(
+                        1L,
+                        () -> {
+                          loads.incrementAndGet();
+                          release.await(5, TimeUnit.SECONDS);
+                          return "loaded";
+                        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      // then: 로더는 한 번만 호출되고 모든 요청이 같은 값을 받음
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+      }
+      assertThat(loads.get()).isEqualTo(1);
+      executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로드 중에 키가 제거되면 로드 결과를 반환만 하고 캐시에 쓰지 않는다")
+    void givenEvictDuringLoad_whenLoadCompletes_thenDiscardResult() {
+      // when: 로더가 실행되는 동안 같은 키가 제거됨
+      String value =
+          cache.get(
+              1L,
+              () -> {
+                cache.evict(1L);
+                return "v1";
+              });
+
+      // then: 호출자는 로드 결과를 받지만 두 캐시에는 다시 쓰이지 않음
+      assertThat(value).isEqualTo("v1");
+      assertThat(remote.get(1L)).isNull();
+      assertThat(cache.get(1L)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("조기 갱신 시")
+  class RefreshAhead {
+
+    @Test
+    @DisplayName("갱신 기준 시간 전에는 로더를 호출하지 않는다")
+    void givenFreshEntry_whenGet_thenNoReload() {
+      // given: 적재 후 1분 경과
+      AtomicInteger loads = new AtomicInteger();
+      cache.get(1L, () -> "v" + loads.incrementAndGet());
+      advance(Duration.ofMinutes(1));
+
+      // when: 조회
+      String value = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+      // then: 기존 값 반환
+      assertThat(value).isEqualTo("v1");
+      assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 기준 시간이 지나면 기존 값을 반환하고 백그라운드에서 다시 로드한다")
+    void givenStaleEntry_whenGet_thenReturnOldAndRefresh() {
+      // given: 적재 후 4분 30초 경과 (갱신 기준 4분, L1 만료 5분)
+      AtomicInteger loads = new AtomicInteger();
+      cache.get(1L, () -> "v" + loads.incrementAndGet());
+      advance(Duration.ofSeconds(270));
+
+      // when: 조회
+      String value = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+      // then: 이번 조회는 기존 값, 갱신된 값은 L1과 L2에 반영됨
+      assertThat(value).isEqualTo("v1");
+      assertThat(loads.get()).isEqualTo(2);
+      assertThat(remote.get(1L).get()).isEqualTo("v2");
+      assertThat(cache.get(1L, () -> "unused")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("갱신 중에 키가 제거되면 갱신 결과를 캐시에 쓰지 않는다")
+    void givenEvictDuringRefresh_whenRefreshCompletes_thenDiscardResult() {
+      // given: 갱신 기준 시간이 지난 항목
+      cache.get(1L, () -> "v1");
+      advance(Duration.ofSeconds(270));
+
+      // when: 갱신 로더가 실행되는 동안 같은 키가 제거됨
+      cache.get(
+          1L,
+          () -> {
+            cache.evict(1L);
+            return "v2";
+          });
+
+      // then: 제거 이전에 시작된 갱신 결과가 두 캐시에 다시 쓰이지 않음
+      assertThat(remote.get(1L)).isNull();
+      assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("갱신 중에 다른 인스턴스의 전체 무효화를 받으면 갱신 결과를 L1에 쓰지 않는다")
+    void givenClearLocalDuringRefresh_whenRefreshCompletes_thenDiscardResult() {
+      // given: 갱신 기준 시간이 지난 항목
+      cache.get(1L, () -> "v1");
+      advance(Duration.ofSeconds(270));
+
+      // when: 갱신 로더가 실행되는 동안 전체 무효화 메시지 수신
+      cache.get(
+          1L,
+          () -> {
+            cache.clearLocal();
+            return "v2";
+          });
+
+      // then: L1은 비어 있고 L2의 기존 값이 다시 적재됨
+      assertThat(cache.get(1L).get()).isEqualTo("v1");
+      assertThat(requests("remote_hit")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("변경 시")
+  class Invalidation {
+
+    @Test
+    @DisplayName("put은 L2에 저장하고 다른 인스턴스에 무효화를 알린다")
+    void givenPut_whenPut_thenWriteThroughAndPublish() {
+      // when: 저장
+      cache.put(1L, "plan-1");
+
+      // then: L2 저장 및 무효화 발행
+      assertThat(remote.get(1L).get()).isEqualTo("plan-1");
+      assertThat(published).containsExactly(CACHE_NAME + ":1");
+    }
+
+    @Test
+    @DisplayName("evict는 두 캐시에서 제거하고 다른 인스턴스에 무효화를 알린다")
+    void givenCachedValue_whenEvict_thenRemoveFromBothLevelsAndPublish() {
+      // given: 캐시된 값
+      cache.get(1L, () -> "plan-1");
+
+      // when: 제거
+      cache.evict(1L);
+
+      // then: 두 캐시에서 제거됨
+      assertThat(remote.get(1L)).isNull();
+      assertThat(cache.get(1L)).isNull();
+      assertThat(published).containsExactly(CACHE_NAME + ":1");
+    }
+
+    @Test
+    @DisplayName("clear는 전체 무효화(null 키)를 알린다")
+    void givenCachedValues_whenClear_thenPublishNullKey() {
+      // given: 캐시된 값
+      cache.get(1L, () -> "plan-1");
+
+      // when: 전체 삭제
+      cache.clear();
+
+      // then: 전체 무효화 발행
+      assertThat(cache.get(1L)).isNull();
+      assertThat(published).containsExactly(CACHE_NAME + ":null");
+    }
+
+    @Test
+    @DisplayName("evictLocal은 L1만 제거하여 다음 조회가 L2에서 반환된다")
+    void givenCachedValue_whenEvictLocal_thenNextGetHitsRemote() {
+      // given: 캐시된 값
+      cache.get(1L, () -> "plan-1");
+
+      // when: 다른 인스턴스의 무효화 메시지 수신
+      cache.evictLocal("1");
+
+      // then: L2에서 조회되고 무효화를 다시 발행하지 않음
+      assertThat(cache.get(1L).get()).isEqualTo("plan-1");
+      assertThat(requests("remote_hit")).isEqualTo(1);
+      assertThat(published).isEmpty();
+    }
+  }
+}
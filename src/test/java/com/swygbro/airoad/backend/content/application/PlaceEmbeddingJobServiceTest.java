@@ -0,0 +1,275 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingBatchResult;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobResponse;
+import com.swygbro.airoad.backend.content.domain.entity.EmbeddingJobStatus;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingJob;
+import com.swygbro.airoad.backend.content.domain.event.PlaceEmbeddingJobRequestedEvent;
+import com.swygbro.airoad.backend.content.exception.ContentErrorCode;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingJobFailureRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingJobRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class PlaceEmbeddingJobServiceTest {
+
+  @Mock private PlaceEmbeddingJobRepository jobRepository;
+
+  @Mock private PlaceEmbeddingJobFailureRepository failureRepository;
+
+  @Mock private PlaceRepository placeRepository;
+
+  @Mock private PlaceEmbeddingUseCase placeEmbeddingUseCase;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  @InjectMocks private PlaceEmbeddingJobService placeEmbeddingJobService;
+
+  private static PlaceEmbeddingJob createJob(Long id) {
+    PlaceEmbeddingJob job = PlaceEmbeddingJob.builder().build();
+    ReflectionTestUtils.setField(job, "id", id);
+    return job;
+  }
+
+  @Nested
+  @DisplayName("작업 시작 요청 시")
+  class StartJob {
+
+    @Test
+    @DisplayName("작업을 저장하고 실행 요청 이벤트를 발행한다")
+    void givenNoActiveJob_whenStart_thenSaveAndPublishEvent() {
+      // given: 진행 중인 작업 없음
+      given(jobRepository.existsByStatusIn(any())).willReturn(false);
+      given(jobRepository.save(any(PlaceEmbeddingJob.class)))
+          .willAnswer(
+              invocation -> {
+                PlaceEmbeddingJob job = invocation.getArgument(0);
+                ReflectionTestUtils.setField(job, "id", 1L);
+                return job;
+              });
+
+      // when: 작업 시작
+      PlaceEmbeddingJobResponse response = placeEmbeddingJobService.startJob(null);
+
+      // then: 대기 상태의 작업이 반환되고 실행 요청 이벤트가 발행됨
+      assertThat(response.jobId()).isEqualTo(1L);
+      assertThat(response.status()).isEqualTo(EmbeddingJobStatus.PENDING);
+      then(eventPublisher).should(times(1)).publishEvent(new PlaceEmbeddingJobRequestedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업이 있으면 예외가 발생한다")
+    void givenActiveJob_whenStart_thenThrowException() {
+      // given: 진행 중인 작업 있음
+      given(jobRepository.existsByStatusIn(any())).willReturn(true);
+
+      // when & then: 예외 발생
+      assertThatThrownBy(() -> placeEmbeddingJobService.startJob(null))
+          .isInstanceOf(BusinessException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ContentErrorCode.EMBEDDING_JOB_ALREADY_RUNNING);
+      then(jobRepository).should(never()).save(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("작업 취소 요청 시")
+  class CancelJob {
+
+    @Test
+    @DisplayName("진행 중인 작업을 취소 상태로 변경한다")
+    void givenRunningJob_whenCancel_thenCancelled() {
+      // given: 실행 중인 작업
+      PlaceEmbeddingJob job = createJob(1L);
+      job.start("token", 10);
+      given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+      // when: 작업 취소
+      PlaceEmbeddingJobResponse response = placeEmbeddingJobService.cancelJob(1L);
+
+      // then: 취소 상태로 변경됨
+      assertThat(response.status()).isEqualTo(EmbeddingJobStatus.CANCELLED);
+      assertThat(job.isRunBy("token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 종료된 작업이면 예외가 발생한다")
+    void givenFinishedJob_whenCancel_thenThrowException() {
+      // given: 완료된 작업
+      PlaceEmbeddingJob job = createJob(1L);
+      job.complete();
+      given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+      // when & then: 예외 발생
+      assertThatThrownBy(() -> placeEmbeddingJobService.cancelJob(1L))
+          .isInstanceOf(BusinessException.class)
+          .hasFieldOrPropertyWithValue(
+              "errorCode", ContentErrorCode.EMBEDDING_JOB_ALREADY_FINISHED);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업이면 예외가 발생한다")
+    void givenUnknownJob_whenCancel_thenThrowException() {
+      // given: 작업 없음
+      given(jobRepository.findById(999L)).willReturn(Optional.empty());
+
+      // when & then: 예외 발생
+      assertThatThrownBy(() -> placeEmbeddingJobService.cancelJob(999L))
+          .isInstanceOf(BusinessException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ContentErrorCode.EMBEDDING_JOB_NOT_FOUND);
+    }
+  }
+
+  @Nested
+  @DisplayName("작업 실행 시")
+  class RunJob {
+
+    @BeforeEach
+    void setUp() {
+      // 트랜잭션 콜백을 바로 실행
+      given(transactionTemplate.execute(any()))
+          .willAnswer(
+              invocation ->
+                  invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후의 장소부터 배치 단위로 처리하고 진행 상황을 기록한다")
+    void givenCheckpoint_whenRun_thenResumeFromCheckpoint() {
+      // given: 250개 중 100개까지 처리된 뒤 중단된 작업
+      PlaceEmbeddingJob job = createJob(1L);
+      job.start("previous-run", 250);
+      job.recordBatch(100, 0, 0, 100L);
+      given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+      // given: 체크포인트 이후 남은 150개
+      List<Long> remainingIds = LongStream.rangeClosed(101, 250).boxed().toList();
+      given(placeRepository.findMustVisitIdsAfter(100L)).willReturn(remainingIds);
+
+      // given: 101번 장소는 실패
+      given(placeEmbeddingUseCase.embedBatch(anyList()))
+          .willAnswer(
+              invocation -> {
+                List<Long> ids = invocation.getArgument(0);
+                Map<Long, String> failures =
+                    ids.contains(101L) ? Map.of(101L, "요약 요청 실패") : Map.of();
+                return new PlaceEmbeddingBatchResult(ids.size(), 0, failures);
+              });
+
+      // when: 작업 실행
+      placeEmbeddingJobService.runJob(1L);
+
+      // then: 체크포인트 이후만 100개, 50개로 나누어 처리됨
+      then(placeEmbeddingUseCase).should().embedBatch(remainingIds.subList(0, 100));
+      then(placeEmbeddingUseCase).should().embedBatch(remainingIds.subList(100, 150));
+
+      // then: 진행 상황과 실패 목록이 기록되고 작업이 완료됨
+      assertThat(job.getStatus()).isEqualTo(EmbeddingJobStatus.COMPLETED);
+      assertThat(job.getTotalCount()).isEqualTo(250);
+      assertThat(job.getProcessedCount()).isEqualTo(250);
+      assertThat(job.getFailedCount()).isEqualTo(1);
+      assertThat(job.getLastPlaceId()).isEqualTo(250L);
+      then(failureRepository).should(times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("실행 중 취소되면 다음 체크포인트에서 멈춘다")
+    void givenCancelledDuringRun_whenRun_thenStopAtCheckpoint() {
+      // given: 처음 실행하는 작업
+      PlaceEmbeddingJob job = createJob(1L);
+      given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+      List<Long> placeIds = LongStream.rangeClosed(1, 150).boxed().toList();
+      given(placeRepository.findMustVisitIdsAfter(0L)).willReturn(placeIds);
+
+      // given: 첫 배치 처리 중 취소 요청
+      given(placeEmbeddingUseCase.embedBatch(anyList()))
+          .willAnswer(
+              invocation -> {
+                job.cancel("관리자 요청으로 취소");
+                List<Long> ids = invocation.getArgument(0);
+                return new PlaceEmbeddingBatchResult(ids.size(), 0, Map.of());
+              });
+
+      // when: 작업 실행
+      placeEmbeddingJobService.runJob(1L);
+
+      // then: 첫 배치만 처리되고 취소 상태가 유지됨
+      then(placeEmbeddingUseCase).should(times(1)).embedBatch(anyList());
+      assertThat(job.getStatus()).isEqualTo(EmbeddingJobStatus.CANCELLED);
+      assertThat(job.getProcessedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 종료된 작업은 실행하지 않는다")
+    void givenFinishedJob_whenRun_thenSkip() {
+      // given: 취소된 작업
+      PlaceEmbeddingJob job = createJob(1L);
+      job.cancel("관리자 요청으로 취소");
+      given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+      // when: 작업 실행
+      placeEmbeddingJobService.runJob(1L);
+
+      // then: 대상 조회와 임베딩 모두 수행되지 않음
+      then(placeRepository).should(never()).findMustVisitIdsAfter(any());
+      then(placeEmbeddingUseCase).should(never()).embedBatch(anyList());
+    }
+  }
+
+  @Nested
+  @DisplayName("멈춘 작업 재개 요청 시")
+  class ResumeStalledJobs {
+
+    @Test
+    @DisplayName("오래 갱신되지 않은 진행 중 작업마다 실행 요청 이벤트를 발행한다")
+    void givenStalledJobs_whenResume_thenPublishEvents() {
+      // given: 멈춘 작업 두 개
+      given(jobRepository.findAllByStatusInAndUpdatedAtBefore(any(), any()))
+          .willReturn(List.of(createJob(1L), createJob(2L)));
+
+      // when: 재개 요청
+      placeEmbeddingJobService.resumeStalledJobs();
+
+      // then: 작업마다 이벤트 발행
+      ArgumentCaptor<PlaceEmbeddingJobRequestedEvent> eventCaptor =
+          ArgumentCaptor.forClass(PlaceEmbeddingJobRequestedEvent.class);
+      then(eventPublisher).should(times(2)).publishEvent(eventCaptor.capture());
+      assertThat(eventCaptor.getAllValues())
+          .extracting(PlaceEmbeddingJobRequestedEvent::jobId)
+          .containsExactly(1L, 2L);
+    }
+  }
+}
@@ -24,6 +24,8 @@ class PlaceEmbeddingSchedulerTest {
 
   @Mock private PlaceEmbeddingUseCase placeEmbeddingUseCase;
 
+  @Mock private PlaceEmbeddingJobUseCase placeEmbeddingJobUseCase;
+
   @InjectMocks private PlaceEmbeddingScheduler placeEmbeddingScheduler;
 
   @Nested
@@ -127,4 +129,27 @@ class PlaceEmbeddingSchedulerTest {
       verify(placeEmbeddingUseCase, times(1)).embedAllPlaces();
     }
   }
+
+  @Nested
+  class 중단된_임베딩_작업_복구_스케줄_실행_시 {
+
+    @Test
+    void 실행되면_멈춘_작업의_재개를_요청할_수_있다() {
+      // when - 복구 스케줄러 실행
+      placeEmbeddingScheduler.resumeStalledEmbeddingJobs();
+
+      // then - 멈춘 작업 재개 요청
+      verify(placeEmbeddingJobUseCase, times(1)).resumeStalledJobs();
+    }
+
+    @Test
+    void 복구_실패_시에도_스케줄러는_중단되지_않아야_한다() {
+      // given - 복구 중 예외 발생
+      willThrow(new RuntimeException("DB 연결 실패")).given(placeEmbeddingJobUseCase).resumeStalledJobs();
+
+      // when & then - 예외가 발생해도 스케줄러는 안전하게 종료됨
+      assertThatCode(() -> placeEmbeddingScheduler.resumeStalledEmbeddingJobs())
+          .doesNotThrowAnyException();
+    }
+  }
 }
@@ -1,30 +1,44 @@
 package com.swygbro.airoad.backend.content.application;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.LongStream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.swygbro.airoad.backend.ai.agent.summary.dto.request.AiPlaceSummaryRequest;
+import com.swygbro.airoad.backend.ai.application.common.PlaceSummaryUseCase;
+import com.swygbro.airoad.backend.ai.application.query.AiPromptTemplateQueryUseCase;
+import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
+import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingBatchResult;
 import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
 import com.swygbro.airoad.backend.content.domain.event.PlaceSummaryRequestedEvent;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingFingerprintRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
 import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -34,40 +48,126 @@ class PlaceEmbeddingServiceTest {
 
   @Mock private PlaceRepository placeRepository;
 
+  @Mock private PlaceEmbeddingFingerprintRepository fingerprintRepository;
+
+  @Mock private AiPromptTemplateQueryUseCase aiPromptTemplateQueryUseCase;
+
+  @Mock private PlaceSummaryUseCase placeSummaryUseCase;
+
+  @Mock private PlaceVectorCommandUseCase placeVectorCommandUseCase;
+
   @Mock private ApplicationEventPublisher eventPublisher;
 
-  @InjectMocks private PlaceEmbeddingService placeEmbeddingService;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private PlaceEmbeddingService placeEmbeddingService;
+
+  @BeforeEach
+  void setUp() {
+    // 요약/저장 작업을 호출 스레드에서 바로 실행
+    placeEmbeddingService =
+        new PlaceEmbeddingService(
+            placeRepository,
+            fingerprintRepository,
+            new PlaceDocumentConverter(),
+            aiPromptTemplateQueryUseCase,
+            placeSummaryUseCase,
+            placeVectorCommandUseCase,
+            eventPublisher,
+            meterRegistry,
+            Runnable::run,
+            Runnable::run);
+  }
 
   @Nested
   @DisplayName("모든 장소 임베딩 요청 시")
   class EmbedAllPlaces {
 
     @Test
-    @DisplayName("모든 장소를 조회하고 필수 방문지만 이벤트를 발행한다")
+    @DisplayName("필수 방문지 ID를 스냅샷한 뒤 로드하여 이벤트를 발행한다")
     void givenPlaces_whenEmbedAll_thenPublishEventsForMustVisit() {
-      // given: 필수 방문지와 일반 장소
-      Place mustVisitPlace = PlaceFixture.createMustVisit();
-      Place normalPlace = PlaceFixture.createWithMinimalInfo();
+      // given: 필수 방문지
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
 
-      given(placeRepository.streamAllBy()).willReturn(Stream.of(mustVisitPlace, normalPlace));
+      given(placeRepository.findMustVisitIds()).willReturn(List.of(1L));
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L)))
+          .willReturn(List.of(mustVisitPlace));
 
       // when: 모든 장소 임베딩 요청
       placeEmbeddingService.embedAllPlaces();
 
-      // then: 필수 방문지에 대해서만 이벤트 발행됨
+      // then: 필수 방문지에 대해 이벤트 발행됨
       then(eventPublisher).should(times(1)).publishEvent(any(PlaceSummaryRequestedEvent.class));
     }
 
+    @Test
+    @DisplayName("대상 ID를 100개 단위 배치로 나누어 로드한다")
+    void givenManyPlaces_whenEmbedAll_thenLoadInBatches() {
+      // given: 필수 방문지 ID 150개
+      List<Long> placeIds = LongStream.rangeClosed(1, 150).boxed().toList();
+      given(placeRepository.findMustVisitIds()).willReturn(placeIds);
+      given(placeRepository.findAllByIdsWithThemes(any())).willReturn(List.of());
+
+      // when: 모든 장소 임베딩 요청
+      placeEmbeddingService.embedAllPlaces();
+
+      // then: 100개, 50개 두 번에 나누어 로드됨
+      then(placeRepository).should().findAllByIdsWithThemes(placeIds.subList(0, 100));
+      then(placeRepository).should().findAllByIdsWithThemes(placeIds.subList(100, 150));
+    }
+
+    @Test
+    @DisplayName("마지막 임베딩 이후 입력이 바뀌지 않은 장소는 건너뛴다")
+    void givenUnchangedPlace_whenEmbedAll_thenSkipPlace() {
+      // given: 한 번 임베딩된 필수 방문지
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
+
+      given(placeRepository.findMustVisitIds()).willReturn(List.of(1L));
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L)))
+          .willReturn(List.of(mustVisitPlace));
+
+      placeEmbeddingService.embedAllPlaces();
+
+      ArgumentCaptor<PlaceSummaryRequestedEvent> eventCaptor =
+          ArgumentCaptor.forClass(PlaceSummaryRequestedEvent.class);
+      then(eventPublisher).should(times(1)).publishEvent(eventCaptor.capture());
+      String contentHash = eventCaptor.getValue().contentHash();
+
+      // given: 같은 입력의 지문이 저장되어 있음
+      given(fingerprintRepository.findAllByPlaceIdIn(List.of(1L)))
+          .willReturn(
+              List.of(
+                  PlaceEmbeddingFingerprint.builder()
+                      .placeId(1L)
+                      .contentHash(contentHash)
+                      .build()));
+
+      // when: 다시 모든 장소 임베딩 요청
+      placeEmbeddingService.embedAllPlaces();
+
+      // then: 추가 이벤트 없이 건너뜀으로 기록됨
+      then(eventPublisher).should(times(1)).publishEvent(any(PlaceSummaryRequestedEvent.class));
+      assertThat(contentHash).isNotBlank();
+      assertThat(
+              meterRegistry
+                  .get(PlaceEmbeddingService.PLACES_METRIC)
+                  .tag("outcome", "skipped")
+                  .counter()
+                  .count())
+          .isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("장소가 없으면 이벤트를 발행하지 않는다")
     void givenNoPlaces_whenEmbedAll_thenNoEventsPublished() {
-      // given: 빈 스트림
-      given(placeRepository.streamAllBy()).willReturn(Stream.empty());
+      // given: 대상 없음
+      given(placeRepository.findMustVisitIds()).willReturn(List.of());
 
       // when: 모든 장소 임베딩 요청
       placeEmbeddingService.embedAllPlaces();
 
-      // then: 이벤트 발행되지 않음
+      // then: 로드와 이벤트 발행 모두 수행되지 않음
+      then(placeRepository).should(never()).findAllByIdsWithThemes(any());
       then(eventPublisher).should(never()).publishEvent(any(PlaceSummaryRequestedEvent.class));
     }
   }
@@ -83,9 +183,11 @@ class PlaceEmbeddingServiceTest {
       LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
 
       // given: 필수 방문지
-      Place mustVisitPlace = PlaceFixture.createMustVisit();
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
 
-      given(placeRepository.streamByUpdatedAtAfter(since)).willReturn(Stream.of(mustVisitPlace));
+      given(placeRepository.findMustVisitIdsByUpdatedAtAfter(since)).willReturn(List.of(1L));
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L)))
+          .willReturn(List.of(mustVisitPlace));
 
       // when: 수정된 장소 임베딩 요청
       placeEmbeddingService.embedModifiedPlaces(since);
@@ -99,7 +201,7 @@ class PlaceEmbeddingServiceTest {
     void givenNoModifiedPlaces_whenEmbedModified_thenNoEventsPublished() {
       // given: 기준 시간
       LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
-      given(placeRepository.streamByUpdatedAtAfter(since)).willReturn(Stream.empty());
+      given(placeRepository.findMustVisitIdsByUpdatedAtAfter(since)).willReturn(List.of());
 
       // when: 수정된 장소 임베딩 요청
       placeEmbeddingService.embedModifiedPlaces(since);
@@ -109,6 +211,105 @@ class PlaceEmbeddingServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("배치 임베딩 요청 시")
+  class EmbedBatch {
+
+    @Test
+    @DisplayName("로드되지 않은 장소는 건너뛴 것으로 집계한다")
+    void givenMissingPlace_whenEmbedBatch_thenCountAsSkipped() {
+      // given: 두 ID 중 필수 방문지는 하나
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L, 2L)))
+          .willReturn(List.of(mustVisitPlace));
+      given(placeSummaryUseCase.summarize(any(AiPlaceSummaryRequest.class))).willReturn("요약");
+
+      // when: 배치 임베딩 요청
+      PlaceEmbeddingBatchResult result = placeEmbeddingService.embedBatch(List.of(1L, 2L));
+
+      // then: 두 장소 모두 처리 건수에 포함되고 하나는 건너뜀
+      assertThat(result.processedCount()).isEqualTo(2);
+      assertThat(result.skippedCount()).isEqualTo(1);
+      assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요약한 장소를 이벤트 없이 바로 저장한 뒤 반환한다")
+    void givenChangedPlace_whenEmbedBatch_thenSaveBeforeReturning() {
+      // given: 변경된 필수 방문지
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L)))
+          .willReturn(List.of(mustVisitPlace));
+      given(placeSummaryUseCase.summarize(any(AiPlaceSummaryRequest.class))).willReturn("요약");
+
+      // when: 배치 임베딩 요청
+      placeEmbeddingService.embedBatch(List.of(1L));
+
+      // then: 요약 결과가 저장되고 이벤트는 발행되지 않음
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<PlaceVectorSaveRequest>> saveCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(placeVectorCommandUseCase).should().savePlaceVectors(saveCaptor.capture());
+      assertThat(saveCaptor.getValue())
+          .singleElement()
+          .satisfies(
+              request -> {
+                assertThat(request.placeId()).isEqualTo(1L);
+                assertThat(request.content()).isEqualTo("요약");
+                assertThat(request.contentHash()).isNotBlank();
+              });
+      then(eventPublisher).should(never()).publishEvent(any(PlaceSummaryRequestedEvent.class));
+    }
+
+    @Test
+    @DisplayName("요약에 실패한 장소는 실패로 집계하고 저장하지 않는다")
+    void givenSummaryFailure_whenEmbedBatch_thenRecordFailure() {
+      // given: 요약에 실패하는 필수 방문지
+      Place mustVisitPlace = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L)))
+          .willReturn(List.of(mustVisitPlace));
+      given(placeSummaryUseCase.summarize(any(AiPlaceSummaryRequest.class)))
+          .willThrow(new IllegalStateException("요약 실패"));
+
+      // when: 배치 임베딩 요청
+      PlaceEmbeddingBatchResult result = placeEmbeddingService.embedBatch(List.of(1L));
+
+      // then: 실패 사유가 기록되고 저장은 호출되지 않음
+      assertThat(result.processedCount()).isEqualTo(1);
+      assertThat(result.failures()).containsEntry(1L, "요약 실패");
+      then(placeVectorCommandUseCase).should(never()).savePlaceVectors(anyList());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 묶음의 장소는 모두 실패로 집계한다")
+    void givenSaveFailure_whenEmbedBatch_thenRecordFailuresForChunk() {
+      // given: 저장에 실패하는 필수 방문지 두 곳
+      Place first = PlaceFixture.withId(1L, PlaceFixture.createMustVisit());
+      Place second = PlaceFixture.withId(2L, PlaceFixture.createMustVisit());
+      given(placeRepository.findAllByIdsWithThemes(List.of(1L, 2L)))
+          .willReturn(List.of(first, second));
+      given(placeSummaryUseCase.summarize(any(AiPlaceSummaryRequest.class))).willReturn("요약");
+      willThrow(new IllegalStateException("저장 실패"))
+          .given(placeVectorCommandUseCase)
+          .savePlaceVectors(anyList());
+
+      // when: 배치 임베딩 요청
+      PlaceEmbeddingBatchResult result = placeEmbeddingService.embedBatch(List.of(1L, 2L));
+
+      // then: 두 장소 모두 실패로 기록됨
+      assertThat(result.failures())
+          .containsEntry(1L, "저장 실패")
+          .containsEntry(2L, "저장 실패");
+      assertThat(
+              meterRegistry
+                  .get(PlaceEmbeddingService.PLACES_METRIC)
+                  .tag("outcome", "failed")
+                  .counter()
+                  .count())
+          .isEqualTo(2.0);
+    }
+  }
+
   @Nested
   @DisplayName("특정 장소 임베딩 요청 시")
   class EmbedPlace {
@@ -135,6 +336,7 @@ class PlaceEmbeddingServiceTest {
       assertThat(event.placeId()).isEqualTo(placeId);
       assertThat(event.name()).isEqualTo(place.getLocation().getName());
       assertThat(event.address()).isEqualTo(place.getLocation().getAddress());
+      assertThat(event.contentHash()).isNotBlank();
     }
 
     @Test
@@ -0,0 +1,181 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.document.Document;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceLexicalSearchRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class PlaceHybridSearchServiceTest {
+
+  private static final long VECTOR_TIMEOUT_MS = 100;
+
+  @Mock private PlaceLexicalSearchRepository lexicalSearchRepository;
+
+  @Mock private PlaceVectorQueryUseCase placeVectorQueryUseCase;
+
+  @Mock private PlaceRepository placeRepository;
+
+  private PlaceHybridSearchService placeHybridSearchService;
+
+  @BeforeEach
+  void setUp() {
+    // 벡터 검색을 호출 스레드에서 바로 실행
+    Executor directExecutor = Runnable::run;
+    placeHybridSearchService =
+        new PlaceHybridSearchService(
+            lexicalSearchRepository,
+            placeVectorQueryUseCase,
+            placeRepository,
+            directExecutor,
+            VECTOR_TIMEOUT_MS);
+  }
+
+  private static Document vectorHit(long placeId) {
+    return new Document("장소" + placeId, Map.of("placeId", placeId));
+  }
+
+  @Nested
+  @DisplayName("순위 합산 시")
+  class Fuse {
+
+    @Test
+    @DisplayName("두 검색에 모두 나온 장소가 한쪽에만 나온 장소보다 앞선다")
+    void givenOverlappingRankings_whenFuse_thenOverlapFirst() {
+      // given: 3번은 양쪽 모두 2위
+      List<Long> lexical = List.of(1L, 3L);
+      List<Long> vector = List.of(2L, 3L);
+
+      // when
+      List<Long> fused = PlaceHybridSearchService.fuse(List.of(lexical, vector), 10);
+
+      // then: 동점(1위)끼리는 어휘 검색 결과가 먼저
+      assertThat(fused).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 반환한다")
+    void givenManyIds_whenFuse_thenLimitSize() {
+      // when
+      List<Long> fused = PlaceHybridSearchService.fuse(List.of(List.of(1L, 2L, 3L)), 2);
+
+      // then
+      assertThat(fused).containsExactly(1L, 2L);
+    }
+  }
+
+  @Nested
+  @DisplayName("하이브리드 검색 시")
+  class Search {
+
+    @Test
+    @DisplayName("어휘 검색과 벡터 검색 결과를 합산 순위대로 장소로 변환한다")
+    void givenBothResults_whenSearch_thenReturnFusedPlaces() {
+      // given
+      given(lexicalSearchRepository.searchIdsByName("광장시장", "서울", 4)).willReturn(List.of(1L, 2L));
+      given(placeVectorQueryUseCase.search(anyString(), anyInt(), anyDouble(), any()))
+          .willReturn(List.of(vectorHit(2L), vectorHit(3L)));
+      given(placeRepository.findAllWithThemesByIdIn(List.of(2L, 1L)))
+          .willReturn(
+              List.of(
+                  PlaceFixture.withId(1L, PlaceFixture.create()),
+                  PlaceFixture.withId(2L, PlaceFixture.createGangnam())));
+
+      // when
+      List<PlaceResponse> results = placeHybridSearchService.search("광장시장", 2, "서울");
+
+      // then: 양쪽에 나온 2번이 먼저
+      assertThat(results).extracting(PlaceResponse::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("벡터 검색이 실패하면 어휘 검색 결과만 반환한다")
+    void givenVectorFailure_whenSearch_thenReturnLexicalOnly() {
+      // given
+      given(lexicalSearchRepository.searchIdsByName("성산일출봉", null, 6)).willReturn(List.of(7L));
+      given(placeVectorQueryUseCase.search(anyString(), anyInt(), anyDouble(), any()))
+          .willThrow(new RuntimeException("embedding api down"));
+      given(placeRepository.findAllWithThemesByIdIn(List.of(7L)))
+          .willReturn(List.of(PlaceFixture.withId(7L, PlaceFixture.create())));
+
+      // when
+      List<PlaceResponse> results = placeHybridSearchService.search("성산일출봉", 3, null);
+
+      // then
+      assertThat(results).extracting(PlaceResponse::id).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("벡터 검색이 제한 시간 안에 끝나지 않으면 어휘 검색 결과만 반환한다")
+    void givenVectorTimeout_whenSearch_thenReturnLexicalOnly() {
+      // given: 벡터 검색 작업이 실행되지 않고 대기 중인 검색 스레드 풀
+      Executor stalledExecutor = task -> {};
+      PlaceHybridSearchService service =
+          new PlaceHybridSearchService(
+              lexicalSearchRepository,
+              placeVectorQueryUseCase,
+              placeRepository,
+              stalledExecutor,
+              VECTOR_TIMEOUT_MS);
+      given(lexicalSearchRepository.searchIdsByName("성산일출봉", "제주", 6))
+          .willReturn(List.of(7L));
+      given(placeRepository.findAllWithThemesByIdIn(List.of(7L)))
+          .willReturn(List.of(PlaceFixture.withId(7L, PlaceFixture.create())));
+
+      // when
+      List<PlaceResponse> results = service.search("성산일출봉", 3, "제주");
+
+      // then
+      assertThat(results).extracting(PlaceResponse::id).containsExactly(7L);
+      then(placeVectorQueryUseCase).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 장소를 조회하지 않는다")
+    void givenNoResults_whenSearch_thenSkipLoading() {
+      // given
+      given(lexicalSearchRepository.searchIdsByName("없는장소", null, 10)).willReturn(List.of());
+      given(placeVectorQueryUseCase.search(anyString(), anyInt(), anyDouble(), any()))
+          .willReturn(List.of());
+
+      // when
+      List<PlaceResponse> results = placeHybridSearchService.search("없는장소", 5, null);
+
+      // then
+      assertThat(results).isEmpty();
+      then(placeRepository).should(never()).findAllWithThemesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("size가 0 이하이면 예외가 발생한다")
+    void givenInvalidSize_whenSearch_thenThrowException() {
+      assertThatThrownBy(() -> placeHybridSearchService.search("서울역", 0, null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.common.exception.BusinessException;
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.exception.ContentErrorCode;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceSpatialRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceSpatialRepository.PlaceDistance;
+import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class PlaceNearbyQueryServiceTest {
+
+  @Mock private PlaceSpatialRepository placeSpatialRepository;
+
+  @Mock private PlaceRepository placeRepository;
+
+  @InjectMocks private PlaceNearbyQueryService placeNearbyQueryService;
+
+  @Nested
+  @DisplayName("좌표로 주변 장소 조회 시")
+  class FindNearbyPlaces {
+
+    @Test
+    @DisplayName("공간 검색 결과의 거리 순서대로 장소를 반환한다")
+    void givenCoordinates_whenFind_thenReturnInDistanceOrder() {
+      // given: 가까운 순서의 장소 ID와 거리 (경도, 위도 순으로 전달)
+      List<PlaceThemeType> themes = List.of(PlaceThemeType.RESTAURANT);
+      given(placeSpatialRepository.findNearest(126.9716, 37.5547, 1000, themes, null, 2))
+          .willReturn(List.of(new PlaceDistance(5L, 120.4), new PlaceDistance(2L, 870.6)));
+
+      // given: 장소 정보는 순서와 무관하게 조회됨
+      given(placeRepository.findAllWithThemesByIdIn(List.of(5L, 2L)))
+          .willReturn(
+              List.of(
+                  PlaceFixture.withId(2L, PlaceFixture.create()),
+                  PlaceFixture.withId(5L, PlaceFixture.create())));
+
+      // when: 주변 장소 조회
+      List<NearbyPlaceResponse> result =
+          placeNearbyQueryService.findNearbyPlaces(37.5547, 126.9716, 1000, themes, 2);
+
+      // then: 거리 순서와 반올림된 거리
+      assertThat(result).extracting(r -> r.place().id()).containsExactly(5L, 2L);
+      assertThat(result)
+          .extracting(NearbyPlaceResponse::distanceMeters)
+          .containsExactly(120L, 871L);
+    }
+
+    @Test
+    @DisplayName("주변에 장소가 없으면 장소 정보를 조회하지 않는다")
+    void givenNoNearbyPlace_whenFind_thenSkipPlaceLoad() {
+      // given: 공간 검색 결과 없음
+      given(
+              placeSpatialRepository.findNearest(
+                  anyDouble(), anyDouble(), any(), any(), any(), anyInt()))
+          .willReturn(List.of());
+
+      // when: 주변 장소 조회
+      List<NearbyPlaceResponse> result =
+          placeNearbyQueryService.findNearbyPlaces(33.5111, 126.4930, 500, null, 5);
+
+      // then: 빈 목록
+      assertThat(result).isEmpty();
+      then(placeRepository).should(never()).findAllWithThemesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("반경이 0 이하이면 예외가 발생한다")
+    void givenNonPositiveRadius_whenFind_thenThrowException() {
+      // when & then: 예외 발생
+      assertThatThrownBy(() -> placeNearbyQueryService.findNearbyPlaces(37.5, 127.0, 0, null, 5))
+          .isInstanceOf(IllegalArgumentException.class);
+      then(placeSpatialRepository).shouldHaveNoInteractions();
+    }
+  }
+
+  @Nested
+  @DisplayName("장소 기준 주변 장소 조회 시")
+  class FindPlacesNearPlace {
+
+    @Test
+    @DisplayName("기준 장소의 좌표로 검색하고 기준 장소는 결과에서 제외한다")
+    void givenPlaceId_whenFind_thenSearchFromPlacePointExcludingItself() {
+      // given: 서울역 좌표의 기준 장소
+      Place origin = PlaceFixture.withId(1L, PlaceFixture.create());
+      given(placeRepository.findById(1L)).willReturn(Optional.of(origin));
+      given(placeSpatialRepository.findNearest(126.9716, 37.5547, null, null, 1L, 3))
+          .willReturn(List.of());
+
+      // when: 기준 장소 주변 조회
+      List<NearbyPlaceResponse> result =
+          placeNearbyQueryService.findPlacesNearPlace(1L, null, null, 3);
+
+      // then: 기준 장소 좌표와 제외 ID로 검색됨
+      assertThat(result).isEmpty();
+      then(placeSpatialRepository).should().findNearest(126.9716, 37.5547, null, null, 1L, 3);
+    }
+
+    @Test
+    @DisplayName("기준 장소가 없으면 예외가 발생한다")
+    void givenUnknownPlace_whenFind_thenThrowException() {
+      // given: 장소 없음
+      given(placeRepository.findById(999L)).willReturn(Optional.empty());
+
+      // when & then: 예외 발생
+      assertThatThrownBy(() -> placeNearbyQueryService.findPlacesNearPlace(999L, null, null, 3))
+          .isInstanceOf(BusinessException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ContentErrorCode.PLACE_NOT_FOUND);
+    }
+  }
+}
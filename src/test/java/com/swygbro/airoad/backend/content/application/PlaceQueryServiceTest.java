@@ -2,6 +2,7 @@ package com.swygbro.airoad.backend.content.application;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,15 +13,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.swygbro.airoad.backend.common.domain.dto.CursorPageResponse;
 import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
 import com.swygbro.airoad.backend.content.domain.entity.Place;
 import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.infrastructure.catalog.PlaceCatalog;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceLexicalSearchRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
 import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +36,10 @@ class PlaceQueryServiceTest {
 
   @Mock private PlaceRepository placeRepository;
 
+  @Mock private PlaceLexicalSearchRepository lexicalSearchRepository;
+
+  @Mock private PlaceCatalog placeCatalog;
+
   @InjectMocks private PlaceQueryService placeQueryService;
 
   @Nested
@@ -152,4 +163,106 @@ class PlaceQueryServiceTest {
       assertThat(result).hasSize(3);
     }
   }
+
+  @Nested
+  @DisplayName("장소 카탈로그가 적재된 상태에서 랜덤 장소 조회 시")
+  class FindRandomPlacesFromCatalog {
+
+    @Test
+    @DisplayName("카탈로그에서 뽑은 ID로만 장소를 조회하고 DB 필터링은 수행하지 않는다")
+    void givenLoadedCatalog_whenQuery_thenSkipDatabaseFiltering() {
+      // given: 카탈로그에서 뽑힌 장소 ID
+      String address = "서울특별시";
+      List<PlaceThemeType> themes = List.of(PlaceThemeType.HEALING);
+      given(placeCatalog.sample(address, themes, 2)).willReturn(Optional.of(List.of(3L, 1L)));
+
+      List<Place> places =
+          List.of(
+              PlaceFixture.withId(1L, PlaceFixture.create()),
+              PlaceFixture.withId(3L, PlaceFixture.create()));
+      given(placeRepository.findAllByIdsWithThemes(List.of(3L, 1L))).willReturn(places);
+
+      // when: 랜덤 장소 조회
+      List<PlaceResponse> result = placeQueryService.findRandomPlaces(address, themes, 2);
+
+      // then: 뽑힌 장소가 반환되고 DB 필터링 쿼리는 호출되지 않음
+      assertThat(result).hasSize(2);
+      then(placeRepository).should(never()).findIdsByAddressStartingWithAndThemes(any(), any());
+    }
+
+    @Test
+    @DisplayName("카탈로그에 조건에 맞는 장소가 없으면 빈 리스트를 반환한다")
+    void givenNoCandidateInCatalog_whenQuery_thenReturnEmptyList() {
+      // given: 카탈로그 조회 결과 없음
+      given(placeCatalog.sample("제주특별자치도", null, 5)).willReturn(Optional.of(List.of()));
+
+      // when: 랜덤 장소 조회
+      List<PlaceResponse> result = placeQueryService.findRandomPlaces("제주특별자치도", null, 5);
+
+      // then: 장소 조회 없이 빈 리스트 반환
+      assertThat(result).isEmpty();
+      then(placeRepository).shouldHaveNoInteractions();
+    }
+  }
+
+  @Nested
+  @DisplayName("이름과 주소로 장소 검색 시")
+  class SearchPlaceDetails {
+
+    @Test
+    @DisplayName("요청 개수보다 많이 조회되면 다음 커서와 함께 유사도 순서대로 반환한다")
+    void givenMoreThanSize_whenSearch_thenReturnSliceWithNextCursor() {
+      // given: 유사도 순으로 3개 조회됨 (요청 2개 + 다음 페이지 확인용 1개)
+      given(lexicalSearchRepository.searchIdsByNameAndAddress("카페", "서울", null, 3))
+          .willReturn(List.of(7L, 3L, 5L));
+      given(placeRepository.findAllWithThemesByIdIn(List.of(7L, 3L)))
+          .willReturn(
+              List.of(
+                  PlaceFixture.withId(3L, PlaceFixture.create()),
+                  PlaceFixture.withId(7L, PlaceFixture.create())));
+
+      // when: 2개 검색
+      CursorPageResponse<PlaceResponse> result =
+          placeQueryService.searchPlaceDetails("카페", "서울", null, 2);
+
+      // then: 검색 순서가 유지되고 마지막 ID가 다음 커서가 됨
+      assertThat(result.getContent()).extracting(PlaceResponse::id).containsExactly(7L, 3L);
+      assertThat(result.isHasNext()).isTrue();
+      assertThat(result.getNextCursor()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 커서 없이 반환한다")
+    void givenLastPage_whenSearch_thenReturnWithoutNextCursor() {
+      // given: 커서 이후 1개만 남음
+      given(lexicalSearchRepository.searchIdsByNameAndAddress("카페", null, 3L, 3))
+          .willReturn(List.of(5L));
+      given(placeRepository.findAllWithThemesByIdIn(List.of(5L)))
+          .willReturn(List.of(PlaceFixture.withId(5L, PlaceFixture.create())));
+
+      // when: 다음 페이지 검색
+      CursorPageResponse<PlaceResponse> result =
+          placeQueryService.searchPlaceDetails("카페", null, 3L, 2);
+
+      // then: 다음 페이지 없음
+      assertThat(result.getContent()).hasSize(1);
+      assertThat(result.isHasNext()).isFalse();
+      assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 장소를 조회하지 않는다")
+    void givenNoMatch_whenSearch_thenSkipPlaceLoad() {
+      // given: 검색 결과 없음
+      given(lexicalSearchRepository.searchIdsByNameAndAddress(any(), any(), any(), anyInt()))
+          .willReturn(List.of());
+
+      // when: 장소 상세 검색 도구 호출
+      List<PlaceResponse> result = placeQueryService.findPlaceDetails("없는장소", null, 5);
+
+      // then: 빈 리스트를 반환하고 장소 조회는 수행되지 않음
+      assertThat(result).isEmpty();
+      then(placeRepository).should(never()).findAllWithThemesByIdIn(any());
+    }
+  }
 }
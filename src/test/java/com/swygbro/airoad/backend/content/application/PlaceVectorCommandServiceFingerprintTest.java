@@ -0,0 +1,83 @@
+package com.swygbro.airoad.backend.content.application;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
+import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingFingerprintRepository;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceVectorStoreRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PlaceVectorCommandService 지문 저장 테스트
+ *
+ * <p>테스트 트랜잭션 없이 실행하여 조회한 지문이 준영속 상태일 때도 갱신된 해시가 실제 데이터베이스에 반영되는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnableJpaAuditing
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlaceVectorCommandServiceFingerprintTest {
+
+  @Autowired private PlaceEmbeddingFingerprintRepository fingerprintRepository;
+
+  private PlaceVectorCommandService placeVectorCommandService;
+
+  @BeforeEach
+  void setUp() {
+    PlaceDocumentConverter placeDocumentConverter = mock(PlaceDocumentConverter.class);
+    given(placeDocumentConverter.buildMetadataFromEvent(any(), any(), any(), any()))
+        .willReturn(Map.of());
+    placeVectorCommandService =
+        new PlaceVectorCommandService(
+            mock(PlaceVectorStoreRepository.class), placeDocumentConverter, fingerprintRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fingerprintRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("기존 지문의 해시가 바뀌면 갱신된 해시가 데이터베이스에 저장된다")
+  void givenExistingFingerprint_whenSave_thenPersistUpdatedHash() {
+    // given: 이전 해시로 저장된 지문
+    fingerprintRepository.save(
+        PlaceEmbeddingFingerprint.builder().placeId(1L).contentHash("old-hash").build());
+
+    PlaceVectorSaveRequest request =
+        PlaceVectorSaveRequest.builder()
+            .placeId(1L)
+            .name("서울역")
+            .content("서울역 설명")
+            .themes(List.of("교통"))
+            .contentHash("new-hash")
+            .build();
+
+    // when: 트랜잭션 밖에서 벡터 저장 요청
+    placeVectorCommandService.savePlaceVector(request);
+
+    // then: 다시 조회한 지문의 해시가 갱신됨
+    assertThat(fingerprintRepository.findByPlaceId(1L))
+        .get()
+        .extracting(PlaceEmbeddingFingerprint::getContentHash)
+        .isEqualTo("new-hash");
+  }
+}
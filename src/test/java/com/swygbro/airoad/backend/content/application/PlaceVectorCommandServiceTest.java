@@ -16,15 +16,19 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
 import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceEmbeddingFingerprint;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceEmbeddingFingerprintRepository;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceVectorStoreRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +39,8 @@ class PlaceVectorCommandServiceTest {
 
   @Mock private PlaceDocumentConverter placeDocumentConverter;
 
+  @Mock private PlaceEmbeddingFingerprintRepository fingerprintRepository;
+
   @InjectMocks private PlaceVectorCommandService placeVectorCommandService;
 
   @Nested
@@ -42,8 +48,8 @@ class PlaceVectorCommandServiceTest {
   class SavePlaceVector {
 
     @Test
-    @DisplayName("기존 벡터를 삭제하고 새로운 벡터를 저장한다")
-    void givenRequest_whenSave_thenDeleteOldAndSaveNew() {
+    @DisplayName("placeId로 결정된 ID의 Document를 upsert하고 이전 중복 Document를 정리한다")
+    void givenRequest_whenSave_thenUpsertWithDeterministicId() {
       // given: 벡터 저장 요청
       PlaceVectorSaveRequest request =
           PlaceVectorSaveRequest.builder()
@@ -64,17 +70,21 @@ class PlaceVectorCommandServiceTest {
       // when: 벡터 저장 요청
       placeVectorCommandService.savePlaceVector(request);
 
-      // then: 기존 벡터 삭제됨
-      then(vectorStoreRepository).should(times(1)).deleteByPlaceId(1L);
+      // then: 저장 전에 삭제하지 않음
+      then(vectorStoreRepository).should(never()).deleteByPlaceId(any());
 
-      // then: 새로운 Document 저장됨
-      ArgumentCaptor<Document> documentCaptor = ArgumentCaptor.forClass(Document.class);
-      then(vectorStoreRepository).should(times(1)).save(documentCaptor.capture());
+      // then: 결정적 ID의 Document가 upsert됨
+      ArgumentCaptor<List<Document>> documentCaptor = ArgumentCaptor.forClass(List.class);
+      then(vectorStoreRepository).should(times(1)).saveAll(documentCaptor.capture());
 
       // then: Document 내용 검증
-      Document savedDocument = documentCaptor.getValue();
+      Document savedDocument = documentCaptor.getValue().get(0);
+      assertThat(savedDocument.getId()).isEqualTo(PlaceVectorStoreRepository.documentId(1L));
       assertThat(savedDocument.getText()).isEqualTo(request.content());
       assertThat(savedDocument.getMetadata()).containsEntry("placeId", 1L);
+
+      // then: 이전 무작위 ID의 중복 Document 정리
+      then(vectorStoreRepository).should(times(1)).deleteStaleByPlaceIds(List.of(1L));
     }
 
     @Test
@@ -127,12 +137,153 @@ class PlaceVectorCommandServiceTest {
       // given: Repository 저장 실패
       willThrow(new RuntimeException("DB connection failed"))
           .given(vectorStoreRepository)
-          .save(any(Document.class));
+          .saveAll(anyList());
 
       // when & then: 예외 발생
       assertThatThrownBy(() -> placeVectorCommandService.savePlaceVector(request))
           .isInstanceOf(RuntimeException.class)
           .hasMessageContaining("Failed to save document to VectorStore");
+
+      // then: 지문은 저장되지 않음
+      then(fingerprintRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("저장에 성공하면 입력 지문을 새로 저장한다")
+    void givenContentHash_whenSave_thenSaveFingerprint() {
+      // given: 지문이 포함된 벡터 저장 요청
+      PlaceVectorSaveRequest request =
+          PlaceVectorSaveRequest.builder()
+              .placeId(4L)
+              .name("경복궁")
+              .address("서울특별시 종로구")
+              .content("경복궁 설명")
+              .themes(List.of("문화"))
+              .contentHash("hash-4")
+              .build();
+
+      given(placeDocumentConverter.buildMetadataFromEvent(any(), any(), any(), any()))
+          .willReturn(Map.of("placeId", 4L));
+      given(fingerprintRepository.findAllByPlaceIdIn(List.of(4L))).willReturn(List.of());
+
+      // when: 벡터 저장 요청
+      placeVectorCommandService.savePlaceVector(request);
+
+      // then: 새로운 지문이 저장됨
+      ArgumentCaptor<List<PlaceEmbeddingFingerprint>> fingerprintCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(fingerprintRepository).should(times(1)).saveAll(fingerprintCaptor.capture());
+      assertThat(fingerprintCaptor.getValue())
+          .singleElement()
+          .satisfies(
+              fingerprint -> {
+                assertThat(fingerprint.getPlaceId()).isEqualTo(4L);
+                assertThat(fingerprint.getContentHash()).isEqualTo("hash-4");
+              });
+    }
+
+    @Test
+    @DisplayName("기존 지문이 있으면 해시만 갱신한다")
+    void givenExistingFingerprint_whenSave_thenUpdateHash() {
+      // given: 지문이 포함된 벡터 저장 요청
+      PlaceVectorSaveRequest request =
+          PlaceVectorSaveRequest.builder()
+              .placeId(5L)
+              .name("남산타워")
+              .address("서울특별시 용산구")
+              .content("남산타워 설명")
+              .themes(List.of("관광"))
+              .contentHash("new-hash")
+              .build();
+
+      // given: 이전 지문
+      PlaceEmbeddingFingerprint fingerprint =
+          PlaceEmbeddingFingerprint.builder().placeId(5L).contentHash("old-hash").build();
+
+      given(placeDocumentConverter.buildMetadataFromEvent(any(), any(), any(), any()))
+          .willReturn(Map.of("placeId", 5L));
+      given(fingerprintRepository.findAllByPlaceIdIn(List.of(5L))).willReturn(List.of(fingerprint));
+
+      // when: 벡터 저장 요청
+      placeVectorCommandService.savePlaceVector(request);
+
+      // then: 기존 지문의 해시가 갱신되어 명시적으로 저장됨
+      assertThat(fingerprint.getContentHash()).isEqualTo("new-hash");
+      then(fingerprintRepository).should(times(1)).saveAll(List.of(fingerprint));
+    }
+
+    @Test
+    @DisplayName("기존 지문의 해시가 같으면 저장하지 않는다")
+    void givenSameFingerprint_whenSave_thenSkipSave() {
+      // given: 지문이 포함된 벡터 저장 요청
+      PlaceVectorSaveRequest request =
+          PlaceVectorSaveRequest.builder()
+              .placeId(5L)
+              .name("남산타워")
+              .content("남산타워 설명")
+              .themes(List.of("관광"))
+              .contentHash("same-hash")
+              .build();
+
+      // given: 같은 해시의 이전 지문
+      PlaceEmbeddingFingerprint fingerprint =
+          PlaceEmbeddingFingerprint.builder().placeId(5L).contentHash("same-hash").build();
+
+      given(placeDocumentConverter.buildMetadataFromEvent(any(), any(), any(), any()))
+          .willReturn(Map.of("placeId", 5L));
+      given(fingerprintRepository.findAllByPlaceIdIn(List.of(5L))).willReturn(List.of(fingerprint));
+
+      // when: 벡터 저장 요청
+      placeVectorCommandService.savePlaceVector(request);
+
+      // then: 지문을 다시 저장하지 않음
+      then(fingerprintRepository).should(never()).saveAll(anyList());
+    }
+  }
+
+  @Nested
+  @DisplayName("여러 장소 벡터 저장 요청 시")
+  class SavePlaceVectors {
+
+    @Test
+    @DisplayName("모든 Document를 한 번의 배치로 upsert하고 지문도 한 번에 저장한다")
+    void givenRequests_whenSaveAll_thenUpsertInSingleBatch() {
+      // given: 장소 두 곳의 벡터 저장 요청
+      List<PlaceVectorSaveRequest> requests =
+          List.of(
+              PlaceVectorSaveRequest.builder()
+                  .placeId(6L)
+                  .name("광화문")
+                  .content("광화문 설명")
+                  .themes(List.of("문화"))
+                  .contentHash("hash-6")
+                  .build(),
+              PlaceVectorSaveRequest.builder()
+                  .placeId(7L)
+                  .name("덕수궁")
+                  .content("덕수궁 설명")
+                  .themes(List.of("문화"))
+                  .contentHash("hash-7")
+                  .build());
+
+      given(placeDocumentConverter.buildMetadataFromEvent(any(), any(), any(), any()))
+          .willReturn(Map.of());
+      given(fingerprintRepository.findAllByPlaceIdIn(List.of(6L, 7L))).willReturn(List.of());
+
+      // when: 일괄 저장 요청
+      placeVectorCommandService.savePlaceVectors(requests);
+
+      // then: 한 번의 배치로 두 Document가 upsert됨
+      ArgumentCaptor<List<Document>> documentCaptor = ArgumentCaptor.forClass(List.class);
+      then(vectorStoreRepository).should(times(1)).saveAll(documentCaptor.capture());
+      assertThat(documentCaptor.getValue())
+          .extracting(Document::getId)
+          .containsExactly(
+              PlaceVectorStoreRepository.documentId(6L), PlaceVectorStoreRepository.documentId(7L));
+      then(vectorStoreRepository).should(times(1)).deleteStaleByPlaceIds(List.of(6L, 7L));
+
+      // then: 지문도 한 번에 저장됨
+      then(fingerprintRepository).should(times(1)).saveAll(anyList());
     }
   }
 }
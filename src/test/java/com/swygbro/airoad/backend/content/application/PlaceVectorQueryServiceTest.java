@@ -1,15 +1,31 @@
 package com.swygbro.airoad.backend.content.application;
 
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.swygbro.airoad.backend.content.domain.converter.PlaceDocumentConverter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,6 +35,21 @@ class PlaceVectorQueryServiceTest {
 
   @Mock private VectorStore vectorStore;
 
+  @Spy private PlaceDocumentConverter placeDocumentConverter = new PlaceDocumentConverter();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(placeVectorQueryService, "regionMinHits", 3);
+  }
+
+  private static boolean isFiltered(SearchRequest request, boolean filtered) {
+    return request != null && request.hasFilterExpression() == filtered;
+  }
+
+  private static Document place(long placeId) {
+    return new Document("장소" + placeId, Map.of("placeId", placeId));
+  }
+
   @Test
   @DisplayName("장소 검색이 요청되면 VectorStore의 similaritySearch를 호출해야 한다")
   void search가_요청되면_VectorStore의_similaritySearch를_호출해야_한다() {
@@ -33,4 +64,74 @@ class PlaceVectorQueryServiceTest {
     // then
     verify(vectorStore).similaritySearch(any(SearchRequest.class));
   }
+
+  @Nested
+  @DisplayName("지역을 지정한 검색 시")
+  class SearchInRegion {
+
+    @Test
+    @DisplayName("시/도 약칭을 province 필터로 변환하여 검색한다")
+    void givenProvinceAlias_whenSearch_thenFilterByProvince() {
+      // given: 지역 결과가 충분함
+      given(vectorStore.similaritySearch(any(SearchRequest.class)))
+          .willReturn(List.of(place(1L), place(2L), place(3L)));
+
+      // when
+      List<Document> results = placeVectorQueryService.search("음식점", 5, 0.45, "서울");
+
+      // then: province 필터로 한 번만 검색
+      ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+      verify(vectorStore, times(1)).similaritySearch(captor.capture());
+      assertThat(captor.getValue().getFilterExpression())
+          .isEqualTo(new FilterExpressionBuilder().in("province", "서울특별시").build());
+      assertThat(results).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("시/도가 아닌 지역은 district 필터로 변환한다")
+    void givenCityName_whenSearch_thenFilterByDistrict() {
+      // given
+      given(vectorStore.similaritySearch(any(SearchRequest.class)))
+          .willReturn(List.of(place(1L), place(2L), place(3L)));
+
+      // when
+      placeVectorQueryService.search("바다", 5, 0.45, "강릉");
+
+      // then
+      ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+      verify(vectorStore).similaritySearch(captor.capture());
+      assertThat(captor.getValue().getFilterExpression())
+          .isEqualTo(new FilterExpressionBuilder().in("district", "강릉", "강릉시", "강릉군").build());
+    }
+
+    @Test
+    @DisplayName("지역 결과가 부족하면 전국 검색 결과로 중복 없이 채운다")
+    void givenFewRegionalHits_whenSearch_thenFallbackToNationwide() {
+      // given: 지역 결과 1개, 전국 결과 3개 (1개 중복)
+      given(vectorStore.similaritySearch(argThat((SearchRequest r) -> isFiltered(r, true))))
+          .willReturn(List.of(place(1L)));
+      given(vectorStore.similaritySearch(argThat((SearchRequest r) -> isFiltered(r, false))))
+          .willReturn(List.of(place(9L), place(1L), place(8L)));
+
+      // when
+      List<Document> results = placeVectorQueryService.search("음식점", 3, 0.45, "제주");
+
+      // then: 지역 결과가 먼저, 나머지는 전국 결과
+      assertThat(results)
+          .extracting(doc -> doc.getMetadata().get("placeId"))
+          .containsExactly(1L, 9L, 8L);
+    }
+
+    @Test
+    @DisplayName("지역이 비어 있으면 필터 없이 검색한다")
+    void givenBlankRegion_whenSearch_thenNoFilter() {
+      // when
+      placeVectorQueryService.search("음식점", 5, 0.45, " ");
+
+      // then
+      ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+      verify(vectorStore, times(1)).similaritySearch(captor.capture());
+      assertThat(captor.getValue().hasFilterExpression()).isFalse();
+    }
+  }
 }
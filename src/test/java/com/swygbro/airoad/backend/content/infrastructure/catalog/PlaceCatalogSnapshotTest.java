@@ -0,0 +1,153 @@
+package com.swygbro.airoad.backend.content.infrastructure.catalog;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceCatalogSnapshotTest {
+
+  private final PlaceCatalogSnapshot snapshot =
+      PlaceCatalogSnapshot.of(
+          List.of(
+              new PlaceCatalogRow(1L, "서울특별시 강남구 테헤란로 1", PlaceThemeType.HEALING),
+              new PlaceCatalogRow(1L, "서울특별시 강남구 테헤란로 1", PlaceThemeType.SHOPPING),
+              new PlaceCatalogRow(2L, "서울특별시 종로구 세종대로 1", PlaceThemeType.CULTURE_ART),
+              new PlaceCatalogRow(3L, "강원특별자치도 강릉시 해안로 1", PlaceThemeType.HEALING),
+              new PlaceCatalogRow(4L, "서울특별시 강남구 역삼로 1", null)));
+
+  @Nested
+  @DisplayName("카탈로그 생성 시")
+  class Of {
+
+    @Test
+    @DisplayName("테마가 여러 개인 장소도 한 번만 적재한다")
+    void givenMultiThemeRows_whenOf_thenDeduplicatePlaces() {
+      // then: 장소 4개
+      assertThat(snapshot.size()).isEqualTo(4);
+    }
+  }
+
+  @Nested
+  @DisplayName("조건 조회 시")
+  class Match {
+
+    @Test
+    @DisplayName("시/도 단위 지역과 테마 합집합의 교집합을 반환한다")
+    void givenProvinceAndThemes_whenMatch_thenIntersectRegionWithThemeUnion() {
+      // when: 서울특별시의 힐링 또는 문화/예술 장소 조회
+      List<Long> result =
+          snapshot.sample(
+              "서울특별시",
+              List.of(PlaceThemeType.HEALING, PlaceThemeType.CULTURE_ART),
+              10,
+              new Random(0));
+
+      // then: 강릉(3)과 테마 없는 장소(4)는 제외됨
+      assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("시/군/구 단위 지역으로 조회한다")
+    void givenDistrict_whenMatch_thenFilterByDistrict() {
+      // when: 강남구 전체 조회
+      List<Long> result = snapshot.sample("서울특별시 강남구", null, 10, new Random(0));
+
+      // then: 강남구 장소만 반환됨
+      assertThat(result).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("지역 키와 일치하지 않는 접두사는 주소 시작 문자열로 조회한다")
+    void givenPartialPrefix_whenMatch_thenFallbackToPrefixScan() {
+      // when: 축약된 시/도 이름으로 조회
+      List<Long> result = snapshot.sample("서울", List.of(), 10, new Random(0));
+
+      // then: LIKE '서울%'과 같은 결과
+      assertThat(result).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("일치하는 테마가 없으면 빈 목록을 반환한다")
+    void givenUnknownTheme_whenMatch_thenReturnEmpty() {
+      // when: 적재되지 않은 테마로 조회
+      List<Long> result =
+          snapshot.sample("서울특별시", List.of(PlaceThemeType.RESTAURANT), 10, new Random(0));
+
+      // then: 빈 목록
+      assertThat(result).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("무작위 추출 시")
+  class Sample {
+
+    @Test
+    @DisplayName("후보 중 요청한 개수만큼 중복 없이 뽑는다")
+    void givenLimit_whenSample_thenReturnDistinctIdsWithinCandidates() {
+      // when: 전체 중 2개 추출
+      List<Long> result = snapshot.sample(null, null, 2, new Random(42));
+
+      // then: 후보 안에서 중복 없이 2개
+      assertThat(result).hasSize(2).doesNotHaveDuplicates().isSubsetOf(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("후보보다 많이 요청하면 후보 전체를 반환한다")
+    void givenLimitOverCandidates_whenSample_thenReturnAllCandidates() {
+      // when: 힐링 장소 10개 요청
+      List<Long> result = snapshot.sample(null, List.of(PlaceThemeType.HEALING), 10, new Random(0));
+
+      // then: 힐링 장소 2개 전체
+      assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("후보가 많은 큰 카탈로그에서도 조건에 맞는 장소만 중복 없이 뽑는다")
+    void givenLargeCatalog_whenSampleFew_thenReturnDistinctMatchingIds() {
+      // given: 짝수 ID만 힐링 테마인 장소 10,000개
+      PlaceCatalogSnapshot large = largeCatalog(10_000, id -> id % 2 == 0);
+
+      // when: 힐링 장소 5개 추출
+      List<Long> result = large.sample(null, List.of(PlaceThemeType.HEALING), 5, new Random(7));
+
+      // then: 짝수 ID 5개
+      assertThat(result).hasSize(5).doesNotHaveDuplicates().allMatch(id -> id % 2 == 0);
+    }
+
+    @Test
+    @DisplayName("후보가 드문 큰 카탈로그에서도 조건에 맞는 장소만 중복 없이 뽑는다")
+    void givenSparseCandidates_whenSample_thenReturnDistinctMatchingIds() {
+      // given: 1,000의 배수 ID만 힐링 테마인 장소 10,000개
+      PlaceCatalogSnapshot large = largeCatalog(10_000, id -> id % 1_000 == 0);
+
+      // when: 힐링 장소 5개 추출
+      List<Long> result = large.sample(null, List.of(PlaceThemeType.HEALING), 5, new Random(7));
+
+      // then: 1,000의 배수 ID 5개
+      assertThat(result).hasSize(5).doesNotHaveDuplicates().allMatch(id -> id % 1_000 == 0);
+    }
+  }
+
+  private static PlaceCatalogSnapshot largeCatalog(
+      int size, LongPredicate healing) {
+    return PlaceCatalogSnapshot.of(
+        LongStream.rangeClosed(1, size)
+            .mapToObj(
+                id ->
+                    new PlaceCatalogRow(
+                        id,
+                        "서울특별시 강남구 테헤란로 " + id,
+                        healing.test(id) ? PlaceThemeType.HEALING : PlaceThemeType.SHOPPING))
+            .toList());
+  }
+}
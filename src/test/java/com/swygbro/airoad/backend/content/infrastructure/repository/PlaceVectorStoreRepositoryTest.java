@@ -3,29 +3,32 @@ package com.swygbro.airoad.backend.content.infrastructure.repository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
-import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -33,7 +36,15 @@ class PlaceVectorStoreRepositoryTest {
 
   @Mock private VectorStore vectorStore;
 
-  @InjectMocks private PlaceVectorStoreRepository placeVectorStoreRepository;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private PlaceVectorStoreRepository placeVectorStoreRepository;
+
+  @BeforeEach
+  void setUp() {
+    placeVectorStoreRepository =
+        new PlaceVectorStoreRepository(vectorStore, jdbcTemplate, "public", "place_embedding");
+  }
 
   @Nested
   class 단일_Document_저장_시 {
@@ -93,6 +104,22 @@ class PlaceVectorStoreRepositoryTest {
     }
   }
 
+  @Nested
+  class Document_ID_생성_시 {
+
+    @Test
+    void 같은_Place_ID는_항상_같은_Document_ID를_생성한다() {
+      // when - 같은 Place ID로 두 번 생성
+      String first = PlaceVectorStoreRepository.documentId(1L);
+      String second = PlaceVectorStoreRepository.documentId(1L);
+
+      // then - 같은 UUID가 생성되고 다른 Place ID와는 다름
+      assertThat(first).isEqualTo(second);
+      assertThat(UUID.fromString(first)).isNotNull();
+      assertThat(PlaceVectorStoreRepository.documentId(2L)).isNotEqualTo(first);
+    }
+  }
+
   @Nested
   class Place_ID로_삭제_시 {
 
@@ -100,31 +127,55 @@ class PlaceVectorStoreRepositoryTest {
     void Place_ID로_해당_임베딩을_삭제할_수_있다() {
       // given - 삭제할 Place ID
       Long testPlaceId = 100L;
+      given(jdbcTemplate.update(anyString(), any(Object[].class))).willReturn(1);
 
       // when - Place ID로 삭제 요청
-      placeVectorStoreRepository.deleteByPlaceId(testPlaceId);
-
-      // then - Place ID 필터를 적용하여 vectorStore에서 삭제
-      ArgumentCaptor<Filter.Expression> captor = ArgumentCaptor.forClass(Filter.Expression.class);
-      verify(vectorStore, times(1)).delete(captor.capture());
+      int deleted = placeVectorStoreRepository.deleteByPlaceId(testPlaceId);
 
-      // Filter.Expression이 정상적으로 생성되었는지 확인
-      assertThat(captor.getValue()).isNotNull();
+      // then - metadata의 placeId 조건으로 삭제
+      verify(jdbcTemplate, times(1))
+          .update("DELETE FROM public.place_embedding WHERE metadata->>'placeId' = ?", "100");
+      assertThat(deleted).isEqualTo(1);
     }
 
     @Test
-    void 삭제_중_오류가_발생해도_안전하게_처리할_수_있다() {
-      // given - vectorStore에서 삭제 중 예외 발생 설정
+    void 삭제_중_오류가_발생하면_예외를_전파한다() {
+      // given - 삭제 중 예외 발생 설정
       willThrow(new RuntimeException("Vector store delete error"))
-          .given(vectorStore)
-          .delete(any(Filter.Expression.class));
+          .given(jdbcTemplate)
+          .update(anyString(), any(Object[].class));
 
-      // when & then - 예외가 발생해도 메서드는 안전하게 종료됨
-      assertThatCode(() -> placeVectorStoreRepository.deleteByPlaceId(1L))
-          .doesNotThrowAnyException();
+      // when & then - 호출자의 트랜잭션이 롤백되도록 예외가 전파됨
+      assertThatThrownBy(() -> placeVectorStoreRepository.deleteByPlaceId(1L))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Vector store delete error");
+    }
+  }
+
+  @Nested
+  class 이전_중복_Document_정리_시 {
+
+    @Test
+    void 결정적_ID가_아닌_Document만_배치로_삭제한다() {
+      // when - 두 장소의 이전 Document 정리 요청
+      placeVectorStoreRepository.deleteStaleByPlaceIds(List.of(1L, 2L));
+
+      // then - 장소마다 결정적 ID를 제외하는 조건으로 한 번의 배치 삭제
+      ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+      verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+      assertThat(captor.getValue())
+          .containsExactly(
+              new Object[] {"1", PlaceVectorStoreRepository.documentId(1L)},
+              new Object[] {"2", PlaceVectorStoreRepository.documentId(2L)});
+    }
+
+    @Test
+    void 빈_리스트로_호출하면_삭제하지_않는다() {
+      // when - 빈 리스트로 정리 요청
+      placeVectorStoreRepository.deleteStaleByPlaceIds(List.of());
 
-      // vectorStore 삭제 시도는 수행되었는지 확인
-      verify(vectorStore, times(1)).delete(any(Filter.Expression.class));
+      // then - DB 호출 없음
+      verifyNoInteractions(jdbcTemplate);
     }
   }
 
@@ -1,6 +1,8 @@
 package com.swygbro.airoad.backend.content.presentation.message;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +19,12 @@ import com.swygbro.airoad.backend.content.application.PlaceVectorCommandUseCase;
 import com.swygbro.airoad.backend.content.domain.dto.request.PlaceVectorSaveRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,8 @@ class PlaceVectorStoreListenerTest {
 
   @Mock private PlaceVectorCommandUseCase placeVectorCommandUseCase;
 
+  @Mock private Executor vectorTaskExecutor;
+
   @InjectMocks private PlaceVectorStoreListener listener;
 
   @Nested
@@ -38,23 +47,30 @@ class PlaceVectorStoreListenerTest {
       // given: 장소 요약 생성 완료 이벤트
       PlaceSummaryGeneratedEvent event =
           new PlaceSummaryGeneratedEvent(
-              1L, "서울역", "서울특별시 용산구", List.of("교통", "관광"), "서울특별시 용산구에 위치한 서울역은 서울의 중심 역입니다.");
-
-      // when: 이벤트 수신
+              1L,
+              "서울역",
+              "서울특별시 용산구",
+              List.of("교통", "관광"),
+              "서울특별시 용산구에 위치한 서울역은 서울의 중심 역입니다.",
+              "hash-1");
+
+      // when: 이벤트 수신 후 버퍼 저장
       listener.onPlaceSummaryGenerated(event);
+      listener.flush();
 
       // then: 벡터 저장 요청이 호출됨
-      ArgumentCaptor<PlaceVectorSaveRequest> requestCaptor =
-          ArgumentCaptor.forClass(PlaceVectorSaveRequest.class);
-      then(placeVectorCommandUseCase).should(times(1)).savePlaceVector(requestCaptor.capture());
+      ArgumentCaptor<List<PlaceVectorSaveRequest>> requestCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(placeVectorCommandUseCase).should(times(1)).savePlaceVectors(requestCaptor.capture());
 
       // then: 이벤트 정보가 요청에 매핑됨
-      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue();
+      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue().get(0);
       assertThat(capturedRequest.placeId()).isEqualTo(1L);
       assertThat(capturedRequest.name()).isEqualTo("서울역");
       assertThat(capturedRequest.address()).isEqualTo("서울특별시 용산구");
       assertThat(capturedRequest.themes()).containsExactly("교통", "관광");
       assertThat(capturedRequest.content()).isEqualTo("서울특별시 용산구에 위치한 서울역은 서울의 중심 역입니다.");
+      assertThat(capturedRequest.contentHash()).isEqualTo("hash-1");
     }
 
     @Test
@@ -62,18 +78,19 @@ class PlaceVectorStoreListenerTest {
     void givenEventWithoutThemes_whenReceived_thenSaveToVectorStore() {
       // given: 테마가 없는 이벤트
       PlaceSummaryGeneratedEvent event =
-          new PlaceSummaryGeneratedEvent(2L, "강남역", "서울특별시 강남구", List.of(), "강남역 설명");
+          new PlaceSummaryGeneratedEvent(2L, "강남역", "서울특별시 강남구", List.of(), "강남역 설명", null);
 
-      // when: 이벤트 수신
+      // when: 이벤트 수신 후 버퍼 저장
       listener.onPlaceSummaryGenerated(event);
+      listener.flush();
 
       // then: 벡터 저장 요청이 호출됨
-      ArgumentCaptor<PlaceVectorSaveRequest> requestCaptor =
-          ArgumentCaptor.forClass(PlaceVectorSaveRequest.class);
-      then(placeVectorCommandUseCase).should(times(1)).savePlaceVector(requestCaptor.capture());
+      ArgumentCaptor<List<PlaceVectorSaveRequest>> requestCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(placeVectorCommandUseCase).should(times(1)).savePlaceVectors(requestCaptor.capture());
 
       // then: 빈 테마 리스트로 전달됨
-      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue();
+      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue().get(0);
       assertThat(capturedRequest.themes()).isEmpty();
     }
 
@@ -83,18 +100,106 @@ class PlaceVectorStoreListenerTest {
       // given: 여러 테마가 있는 이벤트
       List<String> themes = List.of("관광", "맛집", "쇼핑", "문화");
       PlaceSummaryGeneratedEvent event =
-          new PlaceSummaryGeneratedEvent(3L, "명동", "서울특별시 중구", themes, "명동 설명");
+          new PlaceSummaryGeneratedEvent(3L, "명동", "서울특별시 중구", themes, "명동 설명", null);
 
-      // when: 이벤트 수신
+      // when: 이벤트 수신 후 버퍼 저장
       listener.onPlaceSummaryGenerated(event);
+      listener.flush();
 
       // then: 모든 테마가 전달됨
-      ArgumentCaptor<PlaceVectorSaveRequest> requestCaptor =
-          ArgumentCaptor.forClass(PlaceVectorSaveRequest.class);
-      then(placeVectorCommandUseCase).should(times(1)).savePlaceVector(requestCaptor.capture());
+      ArgumentCaptor<List<PlaceVectorSaveRequest>> requestCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(placeVectorCommandUseCase).should(times(1)).savePlaceVectors(requestCaptor.capture());
 
-      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue();
+      PlaceVectorSaveRequest capturedRequest = requestCaptor.getValue().get(0);
       assertThat(capturedRequest.themes()).containsExactlyElementsOf(themes);
     }
   }
+
+  @Nested
+  @DisplayName("여러 장소의 요약 생성 완료 이벤트 수신 시")
+  class BatchSave {
+
+    private PlaceSummaryGeneratedEvent event(long placeId) {
+      return new PlaceSummaryGeneratedEvent(
+          placeId, "장소" + placeId, "주소", List.of(), "설명", "hash-" + placeId);
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모이면 주기적 저장을 기다리지 않고 한 번에 저장한다")
+    void givenFullBatch_whenReceived_thenSaveAtOnce() {
+      // when: 배치 크기만큼 이벤트 수신
+      for (long placeId = 1; placeId <= PlaceVectorStoreListener.BATCH_SIZE; placeId++) {
+        listener.onPlaceSummaryGenerated(event(placeId));
+      }
+
+      // then: 모든 장소가 한 번의 요청으로 저장됨
+      ArgumentCaptor<List<PlaceVectorSaveRequest>> requestCaptor =
+          ArgumentCaptor.forClass(List.class);
+      then(placeVectorCommandUseCase).should(times(1)).savePlaceVectors(requestCaptor.capture());
+      assertThat(requestCaptor.getValue())
+          .extracting(PlaceVectorSaveRequest::placeId)
+          .hasSize(PlaceVectorStoreListener.BATCH_SIZE)
+          .startsWith(1L);
+      then(placeVectorCommandUseCase).should(never()).savePlaceVector(any());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치가 있어도 남은 배치를 계속 저장한다")
+    void givenFailedBatch_whenFlush_thenContinueWithNextBatch() {
+      // given: 두 배치 분량의 이벤트, 첫 배치 저장 실패
+      willThrow(new RuntimeException("VectorStore 저장 실패"))
+          .willDoNothing()
+          .given(placeVectorCommandUseCase)
+          .savePlaceVectors(anyList());
+      for (long placeId = 1; placeId <= PlaceVectorStoreListener.BATCH_SIZE + 1; placeId++) {
+        listener.onPlaceSummaryGenerated(event(placeId));
+      }
+
+      // when: 남은 장소 저장
+      listener.flush();
+
+      // then: 실패한 배치와 남은 배치 모두 저장을 시도함
+      then(placeVectorCommandUseCase).should(times(2)).savePlaceVectors(anyList());
+    }
+
+    @Test
+    @DisplayName("주기적 저장은 스케줄러 스레드에서 저장하지 않고 vectorTaskExecutor에 한 번만 넘긴다")
+    void givenPending_whenScheduleFlush_thenHandOffOnce() {
+      // given: 저장 대기 중인 장소와 실행을 미뤄 두는 Executor
+      List<Runnable> submitted = new ArrayList<>();
+      willAnswer(
+              invocation -> {
+                submitted.add(invocation.getArgument(0));
+                return null;
+              })
+          .given(vectorTaskExecutor)
+          .execute(any());
+      listener.onPlaceSummaryGenerated(event(1L));
+
+      // when: 저장이 끝나기 전에 주기가 두 번 돌아옴
+      listener.scheduleFlush();
+      listener.scheduleFlush();
+
+      // then: 작업은 한 번만 넘겨지고 호출 스레드에서는 저장하지 않음
+      assertThat(submitted).hasSize(1);
+      then(placeVectorCommandUseCase).should(never()).savePlaceVectors(anyList());
+
+      // when: 넘겨진 작업 실행
+      submitted.get(0).run();
+
+      // then: 남은 장소가 저장됨
+      then(placeVectorCommandUseCase).should(times(1)).savePlaceVectors(anyList());
+    }
+
+    @Test
+    @DisplayName("저장할 장소가 없으면 주기적 저장을 넘기지 않는다")
+    void givenNoPending_whenScheduleFlush_thenSkip() {
+      // when
+      listener.scheduleFlush();
+
+      // then
+      then(vectorTaskExecutor).should(never()).execute(any());
+    }
+  }
 }
@@ -0,0 +1,74 @@
+package com.swygbro.airoad.backend.content.presentation.web;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.common.domain.dto.CommonResponse;
+import com.swygbro.airoad.backend.content.application.PlaceHybridSearchUseCase;
+import com.swygbro.airoad.backend.content.application.PlaceNearbyQueryUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.NearbyPlaceResponse;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceResponse;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class PlaceSearchControllerTest {
+
+  @Mock private PlaceHybridSearchUseCase placeHybridSearchUseCase;
+
+  @Mock private PlaceNearbyQueryUseCase placeNearbyQueryUseCase;
+
+  @InjectMocks private PlaceSearchController placeSearchController;
+
+  @Test
+  @DisplayName("검색어로 하이브리드 검색 결과를 반환한다")
+  void givenQuery_whenSearch_thenReturnPlaces() {
+    // given: 검색 결과
+    List<PlaceResponse> places =
+        List.of(PlaceResponse.builder().id(1L).name("광장시장").build());
+    given(placeHybridSearchUseCase.search("광장시장", 10, "서울")).willReturn(places);
+
+    // when: 검색 요청
+    ResponseEntity<CommonResponse<List<PlaceResponse>>> response =
+        placeSearchController.searchPlaces("광장시장", 10, "서울");
+
+    // then: 200 OK와 검색 결과
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().data()).isEqualTo(places);
+  }
+
+  @Test
+  @DisplayName("좌표로 주변 장소를 거리 순으로 반환한다")
+  void givenCoordinates_whenFindNearby_thenReturnNearbyPlaces() {
+    // given: 서울역 주변 음식점
+    List<PlaceThemeType> themes = List.of(PlaceThemeType.RESTAURANT);
+    List<NearbyPlaceResponse> places =
+        List.of(
+            NearbyPlaceResponse.builder()
+                .place(PlaceResponse.builder().id(2L).name("남대문시장").build())
+                .distanceMeters(850)
+                .build());
+    given(placeNearbyQueryUseCase.findNearbyPlaces(37.5547, 126.9716, 1000, themes, 5))
+        .willReturn(places);
+
+    // when: 주변 장소 조회 요청
+    ResponseEntity<CommonResponse<List<NearbyPlaceResponse>>> response =
+        placeSearchController.findNearbyPlaces(37.5547, 126.9716, 1000, themes, 5);
+
+    // then: 200 OK와 주변 장소
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().data()).isEqualTo(places);
+  }
+}
@@ -13,9 +13,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.swygbro.airoad.backend.common.domain.dto.CommonResponse;
+import com.swygbro.airoad.backend.content.application.PlaceEmbeddingJobUseCase;
 import com.swygbro.airoad.backend.content.application.PlaceEmbeddingUseCase;
+import com.swygbro.airoad.backend.content.domain.dto.response.PlaceEmbeddingJobResponse;
+import com.swygbro.airoad.backend.content.domain.entity.EmbeddingJobStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 
@@ -25,6 +30,8 @@ class PlaceVectorControllerTest {
 
   @Mock private PlaceEmbeddingUseCase placeEmbeddingUseCase;
 
+  @Mock private PlaceEmbeddingJobUseCase placeEmbeddingJobUseCase;
+
   @InjectMocks private PlaceVectorController placeVectorController;
 
   @Nested
@@ -32,36 +39,97 @@ class PlaceVectorControllerTest {
   class CreatePlacesVector {
 
     @Test
-    @DisplayName("since 파라미터 없이 요청하면 모든 장소를 임베딩한다")
-    void givenNoSinceParam_whenRequested_thenEmbedAllPlaces() {
+    @DisplayName("since 파라미터 없이 요청하면 전체 임베딩 작업을 시작하고 작업 ID를 바로 반환한다")
+    void givenNoSinceParam_whenRequested_thenStartFullJob() {
+      // given: 생성될 작업
+      PlaceEmbeddingJobResponse job =
+          PlaceEmbeddingJobResponse.builder().jobId(1L).status(EmbeddingJobStatus.PENDING).build();
+      given(placeEmbeddingJobUseCase.startJob(null)).willReturn(job);
+
       // when: since 파라미터 없이 요청
-      ResponseEntity<?> response = placeVectorController.createPlacesVector(null);
+      ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> response =
+          placeVectorController.createPlacesVector(null);
 
-      // then: 모든 장소 임베딩이 수행됨
-      then(placeEmbeddingUseCase).should(times(1)).embedAllPlaces();
-      then(placeEmbeddingUseCase)
-          .should(times(0))
-          .embedModifiedPlaces(org.mockito.ArgumentMatchers.any());
+      // then: 작업만 시작되고 동기 임베딩은 수행되지 않음
+      then(placeEmbeddingJobUseCase).should(times(1)).startJob(null);
+      then(placeEmbeddingUseCase).shouldHaveNoInteractions();
 
-      // then: 204 No Content 응답
-      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+      // then: 202 Accepted 응답과 작업 ID
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+      assertThat(response.getBody().data().jobId()).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("since 파라미터와 함께 요청하면 해당 시간 이후 수정된 장소만 임베딩한다")
-    void givenSinceParam_whenRequested_thenEmbedModifiedPlaces() {
+    @DisplayName("since 파라미터와 함께 요청하면 증분 임베딩 작업을 시작한다")
+    void givenSinceParam_whenRequested_thenStartIncrementalJob() {
       // given: 특정 시간
       LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
+      PlaceEmbeddingJobResponse job =
+          PlaceEmbeddingJobResponse.builder()
+              .jobId(2L)
+              .status(EmbeddingJobStatus.PENDING)
+              .since(since)
+              .build();
+      given(placeEmbeddingJobUseCase.startJob(since)).willReturn(job);
 
       // when: since 파라미터와 함께 요청
-      ResponseEntity<?> response = placeVectorController.createPlacesVector(since);
+      ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> response =
+          placeVectorController.createPlacesVector(since);
 
-      // then: 지정된 시간 이후 수정된 장소만 임베딩이 수행됨
-      then(placeEmbeddingUseCase).should(times(1)).embedModifiedPlaces(since);
-      then(placeEmbeddingUseCase).should(times(0)).embedAllPlaces();
+      // then: 기준 시각으로 작업이 시작됨
+      then(placeEmbeddingJobUseCase).should(times(1)).startJob(since);
 
-      // then: 204 No Content 응답
-      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+      // then: 202 Accepted 응답
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+      assertThat(response.getBody().data().since()).isEqualTo(since);
+    }
+  }
+
+  @Nested
+  @DisplayName("임베딩 작업 조회 및 취소 요청 시")
+  class EmbeddingJob {
+
+    @Test
+    @DisplayName("작업 ID로 진행 상태를 조회한다")
+    void givenJobId_whenGetJob_thenReturnProgress() {
+      // given: 진행 중인 작업
+      PlaceEmbeddingJobResponse job =
+          PlaceEmbeddingJobResponse.builder()
+              .jobId(1L)
+              .status(EmbeddingJobStatus.RUNNING)
+              .totalCount(300)
+              .processedCount(100)
+              .lastPlaceId(120L)
+              .build();
+      given(placeEmbeddingJobUseCase.getJob(1L)).willReturn(job);
+
+      // when: 진행 상태 조회
+      ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> response =
+          placeVectorController.getEmbeddingJob(1L);
+
+      // then: 진행 상태가 반환됨
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(response.getBody().data()).isEqualTo(job);
+    }
+
+    @Test
+    @DisplayName("작업을 취소한다")
+    void givenJobId_whenCancel_thenCancelJob() {
+      // given: 취소될 작업
+      PlaceEmbeddingJobResponse job =
+          PlaceEmbeddingJobResponse.builder()
+              .jobId(1L)
+              .status(EmbeddingJobStatus.CANCELLED)
+              .build();
+      given(placeEmbeddingJobUseCase.cancelJob(1L)).willReturn(job);
+
+      // when: 작업 취소 요청
+      ResponseEntity<CommonResponse<PlaceEmbeddingJobResponse>> response =
+          placeVectorController.cancelEmbeddingJob(1L);
+
+      // then: 취소된 작업이 반환됨
+      then(placeEmbeddingJobUseCase).should(times(1)).cancelJob(1L);
+      assertThat(response.getBody().data().status()).isEqualTo(EmbeddingJobStatus.CANCELLED);
     }
   }
 
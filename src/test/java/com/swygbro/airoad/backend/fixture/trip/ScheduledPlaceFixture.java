@@ -15,7 +15,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(DailyPlanFixture.create())
         .place(PlaceFixture.create())
-        .visitOrder(1)
+        .orderKey(1)
         .category(ScheduledCategory.MORNING)
         .startTime(LocalTime.of(9, 0))
         .endTime(LocalTime.of(11, 0))
@@ -27,7 +27,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(DailyPlanFixture.create())
         .place(PlaceFixture.create())
-        .visitOrder(1)
+        .orderKey(1)
         .category(ScheduledCategory.MORNING)
         .startTime(LocalTime.of(9, 0))
         .endTime(LocalTime.of(11, 0))
@@ -39,7 +39,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(DailyPlanFixture.create())
         .place(PlaceFixture.createMustVisit())
-        .visitOrder(3)
+        .orderKey(3)
         .category(ScheduledCategory.AFTERNOON)
         .startTime(LocalTime.of(14, 0))
         .endTime(LocalTime.of(16, 0))
@@ -51,7 +51,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(dailyPlan)
         .place(PlaceFixture.create())
-        .visitOrder(1)
+        .orderKey(1)
         .category(ScheduledCategory.MORNING)
         .startTime(LocalTime.of(9, 0))
         .endTime(LocalTime.of(11, 0))
@@ -63,7 +63,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(dailyPlan)
         .place(place)
-        .visitOrder(1)
+        .orderKey(1)
         .category(ScheduledCategory.MORNING)
         .startTime(LocalTime.of(9, 0))
         .endTime(LocalTime.of(11, 0))
@@ -75,7 +75,7 @@ public class ScheduledPlaceFixture {
     return ScheduledPlace.builder()
         .dailyPlan(DailyPlanFixture.create())
         .place(PlaceFixture.create())
-        .visitOrder(1)
+        .orderKey(1)
         .category(ScheduledCategory.MORNING)
         .startTime(LocalTime.of(9, 0))
         .endTime(LocalTime.of(11, 0))
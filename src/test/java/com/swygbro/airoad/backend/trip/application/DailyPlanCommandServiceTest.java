@@ -94,14 +94,14 @@ class DailyPlanCommandServiceTest {
         ScheduledPlaceFixture.builder()
             .dailyPlan(dailyPlan1)
             .place(place1)
-            .visitOrder(1)
+            .orderKey(1)
             .category(ScheduledCategory.MORNING)
             .build();
     ScheduledPlace scheduledPlace2 =
         ScheduledPlaceFixture.builder()
             .dailyPlan(dailyPlan2)
             .place(place2)
-            .visitOrder(1)
+            .orderKey(1)
             .category(ScheduledCategory.AFTERNOON)
             .build();
 
@@ -32,7 +32,6 @@ import com.swygbro.airoad.backend.trip.domain.entity.Transportation;
 import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
 import com.swygbro.airoad.backend.trip.domain.event.DailyPlanSavedEvent;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
-import com.swygbro.airoad.backend.trip.infrastructure.DailyPlanRepository;
 import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,7 +51,7 @@ class DailyPlanServiceTest {
 
   @Mock private ApplicationEventPublisher eventPublisher;
 
-  @Mock private DailyPlanRepository dailyPlanRepository;
+  @Mock private TripPlanReadModelStore tripPlanReadModelStore;
 
   @InjectMocks private DailyPlanCommandService dailyPlanService;
 
@@ -329,11 +328,9 @@ class DailyPlanServiceTest {
           DailyPlanFixture.builder().dayNumber(1).date(LocalDate.of(2025, 12, 1)).build();
       DailyPlan dailyPlan2 =
           DailyPlanFixture.builder().dayNumber(2).date(LocalDate.of(2025, 12, 2)).build();
+      tripPlan.getDailyPlans().addAll(List.of(dailyPlan1, dailyPlan2));
 
-      List<DailyPlan> dailyPlans = List.of(dailyPlan1, dailyPlan2);
-
-      given(tripPlanRepository.findByIdWithMember(tripPlanId)).willReturn(Optional.of(tripPlan));
-      given(dailyPlanRepository.findAllByTripPlanId(tripPlanId)).willReturn(dailyPlans);
+      given(tripPlanReadModelStore.get(tripPlanId)).willReturn(TripPlanReadModel.from(tripPlan));
 
       // when
       List<DailyPlanResponse> result =
@@ -343,8 +340,7 @@ class DailyPlanServiceTest {
       assertThat(result).hasSize(2);
       assertThat(result.get(0).dayNumber()).isEqualTo(1);
       assertThat(result.get(1).dayNumber()).isEqualTo(2);
-      verify(tripPlanRepository).findByIdWithMember(tripPlanId);
-      verify(dailyPlanRepository).findAllByTripPlanId(tripPlanId);
+      verify(tripPlanReadModelStore).get(tripPlanId);
     }
 
     @Test
@@ -354,16 +350,14 @@ class DailyPlanServiceTest {
       Long tripPlanId = 999L;
       Long memberId = 1L;
 
-      given(tripPlanRepository.findByIdWithMember(tripPlanId)).willReturn(Optional.empty());
+      given(tripPlanReadModelStore.get(tripPlanId))
+          .willThrow(new BusinessException(TripErrorCode.TRIP_PLAN_NOT_FOUND));
 
       // when & then
       assertThatThrownBy(
               () -> dailyPlanQueryService.getDailyPlanListByTripPlanId(tripPlanId, memberId))
           .isInstanceOf(BusinessException.class)
           .hasFieldOrPropertyWithValue("errorCode", TripErrorCode.TRIP_PLAN_NOT_FOUND);
-
-      verify(tripPlanRepository).findByIdWithMember(tripPlanId);
-      verify(dailyPlanRepository, never()).findAllByTripPlanId(anyLong());
     }
 
     @Test
@@ -377,16 +371,13 @@ class DailyPlanServiceTest {
       Member owner = MemberFixture.withId(ownerMemberId, MemberFixture.createWithEmail("owner"));
       TripPlan tripPlan = TripPlanFixture.createWithMember(owner);
 
-      given(tripPlanRepository.findByIdWithMember(tripPlanId)).willReturn(Optional.of(tripPlan));
+      given(tripPlanReadModelStore.get(tripPlanId)).willReturn(TripPlanReadModel.from(tripPlan));
 
       // when & then
       assertThatThrownBy(
               () -> dailyPlanQueryService.getDailyPlanListByTripPlanId(tripPlanId, requestMemberId))
           .isInstanceOf(BusinessException.class)
           .hasFieldOrPropertyWithValue("errorCode", TripErrorCode.TRIP_PLAN_FORBIDDEN);
-
-      verify(tripPlanRepository).findByIdWithMember(tripPlanId);
-      verify(dailyPlanRepository, never()).findAllByTripPlanId(anyLong());
     }
 
     @Test
@@ -398,8 +389,7 @@ class DailyPlanServiceTest {
       Member member = MemberFixture.withId(memberId, MemberFixture.create());
       TripPlan tripPlan = TripPlanFixture.createWithMember(member);
 
-      given(tripPlanRepository.findByIdWithMember(tripPlanId)).willReturn(Optional.of(tripPlan));
-      given(dailyPlanRepository.findAllByTripPlanId(tripPlanId)).willReturn(List.of());
+      given(tripPlanReadModelStore.get(tripPlanId)).willReturn(TripPlanReadModel.from(tripPlan));
 
       // when
       List<DailyPlanResponse> result =
@@ -407,8 +397,6 @@ class DailyPlanServiceTest {
 
       // then
       assertThat(result).isEmpty();
-      verify(tripPlanRepository).findByIdWithMember(tripPlanId);
-      verify(dailyPlanRepository).findAllByTripPlanId(tripPlanId);
     }
 
     @Test
@@ -426,11 +414,9 @@ class DailyPlanServiceTest {
           DailyPlanFixture.builder().dayNumber(2).date(LocalDate.of(2025, 12, 2)).build();
       DailyPlan dailyPlan3 =
           DailyPlanFixture.builder().dayNumber(3).date(LocalDate.of(2025, 12, 3)).build();
+      tripPlan.getDailyPlans().addAll(List.of(dailyPlan3, dailyPlan1, dailyPlan2));
 
-      List<DailyPlan> dailyPlans = List.of(dailyPlan1, dailyPlan2, dailyPlan3);
-
-      given(tripPlanRepository.findByIdWithMember(tripPlanId)).willReturn(Optional.of(tripPlan));
-      given(dailyPlanRepository.findAllByTripPlanId(tripPlanId)).willReturn(dailyPlans);
+      given(tripPlanReadModelStore.get(tripPlanId)).willReturn(TripPlanReadModel.from(tripPlan));
 
       // when
       List<DailyPlanResponse> result =
@@ -444,8 +430,6 @@ class DailyPlanServiceTest {
       assertThat(result.get(0).date()).isEqualTo("2025-12-01");
       assertThat(result.get(1).date()).isEqualTo("2025-12-02");
       assertThat(result.get(2).date()).isEqualTo("2025-12-03");
-      verify(tripPlanRepository).findByIdWithMember(tripPlanId);
-      verify(dailyPlanRepository).findAllByTripPlanId(tripPlanId);
     }
   }
 }
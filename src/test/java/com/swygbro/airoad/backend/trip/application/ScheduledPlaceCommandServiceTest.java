@@ -2,12 +2,14 @@ package com.swygbro.airoad.backend.trip.application;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,15 +20,18 @@ import com.swygbro.airoad.backend.content.domain.entity.Place;
 import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
 import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
 import com.swygbro.airoad.backend.fixture.member.MemberFixture;
+import com.swygbro.airoad.backend.fixture.trip.ScheduledPlaceFixture;
 import com.swygbro.airoad.backend.fixture.trip.TripPlanFixture;
 import com.swygbro.airoad.backend.member.domain.entity.Member;
 import com.swygbro.airoad.backend.trip.domain.dto.request.ScheduledPlaceCreateRequest;
 import com.swygbro.airoad.backend.trip.domain.dto.request.ScheduledPlaceUpdateRequest;
+import com.swygbro.airoad.backend.trip.domain.dto.response.ScheduledPlaceResponse;
 import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
 import com.swygbro.airoad.backend.trip.domain.entity.ScheduledCategory;
 import com.swygbro.airoad.backend.trip.domain.entity.ScheduledPlace;
 import com.swygbro.airoad.backend.trip.domain.entity.Transportation;
 import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanUpdatedEvent;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
 import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
 
@@ -141,7 +146,7 @@ class ScheduledPlaceCommandServiceTest {
     ScheduledPlace scheduledPlace =
         ScheduledPlace.builder()
             .dailyPlan(dailyPlan)
-            .visitOrder(1)
+            .orderKey(1)
             .startTime(LocalTime.of(9, 0))
             .endTime(LocalTime.of(11, 0))
             .build();
@@ -199,7 +204,7 @@ class ScheduledPlaceCommandServiceTest {
     ScheduledPlace scheduledPlace =
         ScheduledPlace.builder()
             .dailyPlan(dailyPlan)
-            .visitOrder(1)
+            .orderKey(1)
             .startTime(LocalTime.of(9, 0))
             .endTime(LocalTime.of(11, 0))
             .build();
@@ -239,4 +244,105 @@ class ScheduledPlaceCommandServiceTest {
         .extracting("errorCode")
         .isEqualTo(TripErrorCode.SCHEDULED_PLACE_NOT_FOUND);
   }
+
+  private List<ScheduledPlace> givenScheduledPlaces(Integer... orderKeys) {
+    DailyPlan dailyPlan = tripPlan.getDailyPlans().get(0);
+    for (Integer orderKey : orderKeys) {
+      dailyPlan.addScheduledPlace(
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).orderKey(orderKey).build());
+    }
+    return List.copyOf(dailyPlan.getScheduledPlaces());
+  }
+
+  private TripPlanUpdatedEvent capturePublishedEvent() {
+    ArgumentCaptor<TripPlanUpdatedEvent> captor =
+        ArgumentCaptor.forClass(TripPlanUpdatedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  @DisplayName("중간 위치에 장소를 추가하면, 새 장소에만 앞뒤 사이의 정렬 키가 부여되어야 한다.")
+  void saveScheduledPlace_InMiddle_OnlyNewPlaceGetsOrderKey() {
+    // given: 정렬 키 1024, 2048, 3072인 장소 3개
+    List<ScheduledPlace> existing = givenScheduledPlaces(1024, 2048, 3072);
+    ScheduledPlaceCreateRequest request =
+        new ScheduledPlaceCreateRequest(
+            place.getId(), 2, ScheduledCategory.MORNING, 30, Transportation.PUBLIC_TRANSIT);
+
+    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
+        .willReturn(Optional.of(tripPlan));
+    given(placeRepository.findById(place.getId())).willReturn(Optional.of(place));
+
+    // when: 2번 위치에 추가
+    scheduledPlaceCommandService.saveScheduledPlace(
+        0L, tripPlan.getId(), member.getEmail(), 1, request);
+
+    // then: 기존 장소의 키는 그대로이고 새 장소는 1024와 2048 사이
+    assertThat(existing)
+        .extracting(ScheduledPlace::getOrderKey)
+        .containsExactly(1024, 2048, 3072);
+    ScheduledPlace inserted = tripPlan.getDailyPlans().get(0).findScheduledPlace(2).orElseThrow();
+    assertThat(inserted.getPlace()).isEqualTo(place);
+    assertThat(inserted.getOrderKey()).isEqualTo(1536);
+
+    // then: 응답의 방문 순서는 1부터 연속
+    List<ScheduledPlaceResponse> responses = capturePublishedEvent().dailyPlan().scheduledPlaces();
+    assertThat(responses)
+        .extracting(ScheduledPlaceResponse::visitOrder)
+        .containsExactly(1, 2, 3, 4);
+    assertThat(responses.get(1).place().id()).isEqualTo(place.getId());
+  }
+
+  @Test
+  @DisplayName("정렬 키 사이에 간격이 없으면, 전체 정렬 키가 다시 배치되어야 한다.")
+  void saveScheduledPlace_NoGap_RebalancesOrderKeys() {
+    // given: 정렬 키가 연속된 장소 2개
+    List<ScheduledPlace> existing = givenScheduledPlaces(1, 2);
+    ScheduledPlaceCreateRequest request =
+        new ScheduledPlaceCreateRequest(
+            place.getId(), 2, ScheduledCategory.MORNING, 30, Transportation.PUBLIC_TRANSIT);
+
+    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
+        .willReturn(Optional.of(tripPlan));
+    given(placeRepository.findById(place.getId())).willReturn(Optional.of(place));
+
+    // when: 두 장소 사이에 추가
+    scheduledPlaceCommandService.saveScheduledPlace(
+        0L, tripPlan.getId(), member.getEmail(), 1, request);
+
+    // then: 모든 키가 기본 간격으로 다시 배치되고 순서는 유지됨
+    DailyPlan dailyPlan = tripPlan.getDailyPlans().get(0);
+    assertThat(dailyPlan.getOrderedScheduledPlaces())
+        .extracting(ScheduledPlace::getOrderKey)
+        .containsExactly(
+            ScheduledPlace.ORDER_KEY_GAP,
+            2 * ScheduledPlace.ORDER_KEY_GAP,
+            3 * ScheduledPlace.ORDER_KEY_GAP);
+    assertThat(dailyPlan.findScheduledPlace(1)).contains(existing.get(0));
+    assertThat(dailyPlan.findScheduledPlace(2).orElseThrow().getPlace()).isEqualTo(place);
+    assertThat(dailyPlan.findScheduledPlace(3)).contains(existing.get(1));
+  }
+
+  @Test
+  @DisplayName("장소를 삭제하면, 이후 장소의 정렬 키는 유지되고 방문 순서만 당겨져야 한다.")
+  void deleteScheduledPlace_KeepsOrderKeysOfLaterPlaces() {
+    // given: 정렬 키 1024, 2048, 3072인 장소 3개
+    List<ScheduledPlace> existing = givenScheduledPlaces(1024, 2048, 3072);
+
+    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
+        .willReturn(Optional.of(tripPlan));
+
+    // when: 1번 장소 삭제
+    scheduledPlaceCommandService.deleteScheduledPlace(
+        0L, tripPlan.getId(), member.getEmail(), 1, 1);
+
+    // then: 남은 장소의 키는 그대로이고 방문 순서는 1, 2
+    assertThat(existing.subList(1, 3))
+        .extracting(ScheduledPlace::getOrderKey)
+        .containsExactly(2048, 3072);
+    assertThat(capturePublishedEvent().dailyPlan().scheduledPlaces())
+        .extracting(ScheduledPlaceResponse::visitOrder)
+        .containsExactly(1, 2);
+  }
 }
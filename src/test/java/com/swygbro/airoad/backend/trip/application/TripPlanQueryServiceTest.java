@@ -2,7 +2,6 @@ package com.swygbro.airoad.backend.trip.application;
 
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +22,6 @@ import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
 import com.swygbro.airoad.backend.trip.domain.entity.ScheduledPlace;
 import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
-import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,7 +30,7 @@ import static org.mockito.BDDMockito.given;
 @ExtendWith(MockitoExtension.class)
 class TripPlanQueryServiceTest {
 
-  @Mock private TripPlanRepository tripPlanRepository;
+  @Mock private TripPlanReadModelStore tripPlanReadModelStore;
 
   @InjectMocks private TripPlanQueryService tripPlanQueryService;
 
@@ -62,17 +60,20 @@ class TripPlanQueryServiceTest {
             .date(LocalDate.of(2025, 12, 2))
             .build();
 
-    ScheduledPlace place1_2 = ScheduledPlaceFixture.builder().dailyPlan(day1).visitOrder(2).build();
-    ScheduledPlace place1_1 = ScheduledPlaceFixture.builder().dailyPlan(day1).visitOrder(1).build();
+    ScheduledPlace place1_2 =
+        ScheduledPlaceFixture.builder().dailyPlan(day1).orderKey(2048).build();
+    ScheduledPlace place1_1 =
+        ScheduledPlaceFixture.builder().dailyPlan(day1).orderKey(1024).build();
     day1.getScheduledPlaces().addAll(Arrays.asList(place1_2, place1_1));
 
-    ScheduledPlace place2_1 = ScheduledPlaceFixture.builder().dailyPlan(day2).visitOrder(1).build();
+    ScheduledPlace place2_1 =
+        ScheduledPlaceFixture.builder().dailyPlan(day2).orderKey(1024).build();
     day2.getScheduledPlaces().add(place2_1);
 
     tripPlan.getDailyPlans().addAll(Arrays.asList(day2, day1)); // 순서 섞어서 제공
 
-    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
-        .willReturn(Optional.of(tripPlan));
+    given(tripPlanReadModelStore.get(tripPlan.getId()))
+        .willReturn(TripPlanReadModel.from(tripPlan));
 
     // when
     TripPlanDetailsResponse response =
@@ -95,8 +96,8 @@ class TripPlanQueryServiceTest {
   void whenRequestingNonExistentTripPlan_thenExceptionShouldBeThrown() {
     // given
     Long nonExistentTripPlanId = 999L;
-    given(tripPlanRepository.findByIdWithDetails(nonExistentTripPlanId))
-        .willReturn(Optional.empty());
+    given(tripPlanReadModelStore.get(nonExistentTripPlanId))
+        .willThrow(new BusinessException(TripErrorCode.TRIP_PLAN_NOT_FOUND));
 
     // when & then
     assertThatThrownBy(
@@ -112,8 +113,8 @@ class TripPlanQueryServiceTest {
   void whenRequestingOthersTripPlan_thenForbiddenExceptionShouldBeThrown() {
     // given
     String otherUsername = "other@example.com";
-    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
-        .willReturn(Optional.of(tripPlan));
+    given(tripPlanReadModelStore.get(tripPlan.getId()))
+        .willReturn(TripPlanReadModel.from(tripPlan));
 
     // when & then
     assertThatThrownBy(
@@ -127,8 +128,8 @@ class TripPlanQueryServiceTest {
   void whenTripPlanHasNoDailyPlans_thenItShouldBeReturnedSuccessfully() {
     // given
     tripPlan.getDailyPlans().clear();
-    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
-        .willReturn(Optional.of(tripPlan));
+    given(tripPlanReadModelStore.get(tripPlan.getId()))
+        .willReturn(TripPlanReadModel.from(tripPlan));
 
     // when
     TripPlanDetailsResponse response =
@@ -153,8 +154,8 @@ class TripPlanQueryServiceTest {
     day1.getScheduledPlaces().clear();
     tripPlan.getDailyPlans().add(day1);
 
-    given(tripPlanRepository.findByIdWithDetails(tripPlan.getId()))
-        .willReturn(Optional.of(tripPlan));
+    given(tripPlanReadModelStore.get(tripPlan.getId()))
+        .willReturn(TripPlanReadModel.from(tripPlan));
 
     // when
     TripPlanDetailsResponse response =
@@ -0,0 +1,140 @@
+package com.swygbro.airoad.backend.trip.application;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.domain.entity.PlaceThemeType;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
+import com.swygbro.airoad.backend.fixture.member.MemberFixture;
+import com.swygbro.airoad.backend.fixture.trip.ScheduledPlaceFixture;
+import com.swygbro.airoad.backend.fixture.trip.TripPlanFixture;
+import com.swygbro.airoad.backend.member.domain.entity.Member;
+import com.swygbro.airoad.backend.member.infrastructure.MemberRepository;
+import com.swygbro.airoad.backend.trip.domain.dto.response.DailyPlanResponse;
+import com.swygbro.airoad.backend.trip.domain.dto.response.ScheduledPlaceResponse;
+import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
+import com.swygbro.airoad.backend.trip.domain.entity.ScheduledPlace;
+import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.infrastructure.DailyPlanRepository;
+import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TripPlanReadModelStore 쿼리 수 테스트
+ *
+ * <p>일정 규모가 커져도 조회 모델 적재에 필요한 쿼리 수가 늘어나지 않는지 검증합니다. 캐시 프록시 없이 저장소를 직접 생성하므로 매 호출마다 DB에서
+ * 적재합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@EnableJpaAuditing
+class TripPlanReadModelStoreTest {
+
+  private static final int DAYS = 5;
+  private static final int PLACES_PER_DAY = 6;
+  private static final long MAX_STATEMENTS = 3;
+
+  @Autowired private TripPlanRepository tripPlanRepository;
+
+  @Autowired private DailyPlanRepository dailyPlanRepository;
+
+  @Autowired private MemberRepository memberRepository;
+
+  @Autowired private PlaceRepository placeRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private EntityManager entityManager;
+
+  private TripPlanReadModelStore tripPlanReadModelStore;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    tripPlanReadModelStore =
+        new TripPlanReadModelStore(tripPlanRepository, dailyPlanRepository, transactionManager);
+    statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("5일 x 6곳 일정의 조회 모델을 3개 이하의 쿼리로 적재한다")
+  void shouldLoadReadModelWithConstantStatements() {
+    // given: 5일 x 6곳, 장소마다 테마 2개
+    Member member = memberRepository.save(MemberFixture.create());
+    TripPlan tripPlan = TripPlanFixture.createWithMemberAndTheme(member, PlaceThemeType.HEALING);
+
+    for (int day = 1; day <= DAYS; day++) {
+      DailyPlan dailyPlan =
+          DailyPlan.builder()
+              .tripPlan(tripPlan)
+              .dayNumber(day)
+              .date(LocalDate.of(2025, 12, day))
+              .build();
+      for (int order = PLACES_PER_DAY; order >= 1; order--) {
+        Place place =
+            placeRepository.save(
+                PlaceFixture.builder()
+                    .theme(PlaceThemeType.RESTAURANT)
+                    .theme(PlaceThemeType.SNS_HOTSPOT)
+                    .build());
+        dailyPlan.addScheduledPlace(
+            ScheduledPlaceFixture.builder()
+                .dailyPlan(dailyPlan)
+                .place(place)
+                .orderKey(order * ScheduledPlace.ORDER_KEY_GAP)
+                .build());
+      }
+      tripPlan.addDailyPlan(dailyPlan);
+    }
+    tripPlanRepository.save(tripPlan);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    // when: 조회 모델 적재
+    TripPlanReadModel readModel = tripPlanReadModelStore.get(tripPlan.getId());
+
+    // then: 쿼리 수는 일정 규모와 무관
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+    // then: 모든 일차, 방문 장소, 테마가 순서대로 채워짐
+    assertThat(readModel.username()).isEqualTo(member.getEmail());
+    assertThat(readModel.summary().themes()).containsExactly(PlaceThemeType.HEALING);
+    assertThat(readModel.details().dailyPlans())
+        .extracting(DailyPlanResponse::dayNumber)
+        .containsExactly(1, 2, 3, 4, 5);
+    for (DailyPlanResponse dailyPlan : readModel.details().dailyPlans()) {
+      assertThat(dailyPlan.scheduledPlaces()).hasSize(PLACES_PER_DAY);
+      assertThat(dailyPlan.scheduledPlaces())
+          .extracting(ScheduledPlaceResponse::visitOrder)
+          .containsExactly(1, 2, 3, 4, 5, 6);
+      // 장소는 역순으로 저장했으므로 정렬 키 순서면 장소 ID가 내림차순
+      assertThat(dailyPlan.scheduledPlaces())
+          .extracting(scheduledPlace -> scheduledPlace.place().id())
+          .isSortedAccordingTo(Comparator.reverseOrder());
+      assertThat(dailyPlan.scheduledPlaces())
+          .allSatisfy(
+              scheduledPlace ->
+                  assertThat(scheduledPlace.place().themes())
+                      .containsExactlyInAnyOrder(
+                          PlaceThemeType.RESTAURANT, PlaceThemeType.SNS_HOTSPOT));
+    }
+  }
+}
@@ -38,6 +38,7 @@ import com.swygbro.airoad.backend.trip.domain.dto.response.ChannelIdResponse;
 import com.swygbro.airoad.backend.trip.domain.dto.response.TripPlanResponse;
 import com.swygbro.airoad.backend.trip.domain.entity.Transportation;
 import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanChangedEvent;
 import com.swygbro.airoad.backend.trip.domain.event.TripPlanGenerationRequestedEvent;
 import com.swygbro.airoad.backend.trip.exception.TripErrorCode;
 import com.swygbro.airoad.backend.trip.infrastructure.TripPlanRepository;
@@ -184,6 +185,7 @@ class TripPlanServiceTest {
       verify(aiConversationRepository).findByTripPlanId(tripPlanId);
       verify(aiConversationCommandUseCase).deleteConversation(conversationId);
       verify(tripPlanRepository).delete(tripPlan);
+      verify(eventPublisher).publishEvent(new TripPlanChangedEvent(tripPlanId));
     }
 
     @Test
@@ -248,6 +250,7 @@ class TripPlanServiceTest {
 
       // then
       assertThat(tripPlan.getTitle()).isEqualTo(newTitle);
+      verify(eventPublisher).publishEvent(new TripPlanChangedEvent(tripPlanId));
     }
 
     @Test
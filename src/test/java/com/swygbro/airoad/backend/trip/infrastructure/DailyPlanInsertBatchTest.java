@@ -0,0 +1,119 @@
+package com.swygbro.airoad.backend.trip.infrastructure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.content.domain.entity.Place;
+import com.swygbro.airoad.backend.content.infrastructure.repository.PlaceRepository;
+import com.swygbro.airoad.backend.fixture.content.PlaceFixture;
+import com.swygbro.airoad.backend.fixture.member.MemberFixture;
+import com.swygbro.airoad.backend.fixture.trip.ScheduledPlaceFixture;
+import com.swygbro.airoad.backend.fixture.trip.TripPlanFixture;
+import com.swygbro.airoad.backend.member.domain.entity.Member;
+import com.swygbro.airoad.backend.member.infrastructure.MemberRepository;
+import com.swygbro.airoad.backend.trip.domain.entity.DailyPlan;
+import com.swygbro.airoad.backend.trip.domain.entity.ScheduledPlace;
+import com.swygbro.airoad.backend.trip.domain.entity.TripPlan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일차별 일정 INSERT 배치 테스트
+ *
+ * <p>같은 일정을 배치 크기 1(IDENTITY 전략과 같은 행 단위 INSERT)과 설정된 배치 크기로 각각 저장하여 DB 왕복 횟수를 비교합니다. 시퀀스 ID는
+ * 미리 할당되므로 방문 장소 수와 무관하게 INSERT가 몇 개의 배치로 묶여야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@EnableJpaAuditing
+class DailyPlanInsertBatchTest {
+
+  private static final int PLACES_PER_DAY = 30;
+  private static final long MAX_BATCHED_STATEMENTS = 6;
+
+  @Autowired private DailyPlanRepository dailyPlanRepository;
+
+  @Autowired private TripPlanRepository tripPlanRepository;
+
+  @Autowired private MemberRepository memberRepository;
+
+  @Autowired private PlaceRepository placeRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  private TripPlan tripPlan;
+  private List<Place> places;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    Member member = memberRepository.save(MemberFixture.create());
+    tripPlan = tripPlanRepository.save(TripPlanFixture.createWithMember(member));
+    places = new ArrayList<>();
+    for (int i = 0; i < PLACES_PER_DAY; i++) {
+      places.add(placeRepository.save(PlaceFixture.create()));
+    }
+    entityManager.flush();
+    statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  private long insertDailyPlan(int dayNumber) {
+    DailyPlan dailyPlan =
+        DailyPlan.builder()
+            .tripPlan(tripPlan)
+            .dayNumber(dayNumber)
+            .date(LocalDate.of(2025, 12, dayNumber))
+            .build();
+    for (int order = 1; order <= PLACES_PER_DAY; order++) {
+      dailyPlan.addScheduledPlace(
+          ScheduledPlaceFixture.builder()
+              .dailyPlan(dailyPlan)
+              .place(places.get(order - 1))
+              .orderKey(order * ScheduledPlace.ORDER_KEY_GAP)
+              .build());
+    }
+
+    statistics.clear();
+    dailyPlanRepository.save(dailyPlan);
+    entityManager.flush();
+    return statistics.getPrepareStatementCount();
+  }
+
+  @Test
+  @DisplayName("방문 장소 INSERT가 배치로 묶여 행 단위 INSERT보다 DB 왕복이 적다")
+  void shouldBatchScheduledPlaceInserts() {
+    // given: 배치를 끈 세션에서 저장 (변경 전 기준)
+    Session session = entityManager.unwrap(Session.class);
+    session.setJdbcBatchSize(1);
+    long unbatched = insertDailyPlan(1);
+
+    // when: 설정된 배치 크기로 저장
+    session.setJdbcBatchSize(null);
+    long batched = insertDailyPlan(2);
+
+    // then: 행 단위 INSERT는 방문 장소 수만큼, 배치 INSERT는 장소 수와 무관한 횟수만큼 실행됨
+    assertThat(unbatched).isGreaterThan(PLACES_PER_DAY);
+    assertThat(batched).isLessThanOrEqualTo(MAX_BATCHED_STATEMENTS);
+
+    // then: 두 방식 모두 모든 방문 장소가 저장됨
+    entityManager.clear();
+    assertThat(dailyPlanRepository.findAllByTripPlanId(tripPlan.getId()))
+        .allSatisfy(dailyPlan -> assertThat(dailyPlan.getScheduledPlaces()).hasSize(PLACES_PER_DAY))
+        .hasSize(2);
+  }
+}
@@ -106,9 +106,9 @@ class DailyPlanRepositoryTest {
 
       // ScheduledPlace 추가
       ScheduledPlace scheduledPlace1 =
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place1).visitOrder(1).build();
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place1).orderKey(1).build();
       ScheduledPlace scheduledPlace2 =
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place2).visitOrder(2).build();
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place2).orderKey(2).build();
 
       dailyPlan.addScheduledPlace(scheduledPlace1);
       dailyPlan.addScheduledPlace(scheduledPlace2);
@@ -121,8 +121,8 @@ class DailyPlanRepositoryTest {
       // then
       assertThat(result).hasSize(1);
       assertThat(result.get(0).getScheduledPlaces()).hasSize(2);
-      assertThat(result.get(0).getScheduledPlaces().get(0).getVisitOrder()).isEqualTo(1);
-      assertThat(result.get(0).getScheduledPlaces().get(1).getVisitOrder()).isEqualTo(2);
+      assertThat(result.get(0).getScheduledPlaces().get(0).getOrderKey()).isEqualTo(1);
+      assertThat(result.get(0).getScheduledPlaces().get(1).getOrderKey()).isEqualTo(2);
     }
 
     @Test
@@ -205,15 +205,15 @@ class DailyPlanRepositoryTest {
       Place place5 = placeRepository.save(PlaceFixture.createJejuAirport());
 
       dailyPlan.addScheduledPlace(
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place1).visitOrder(1).build());
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place1).orderKey(1).build());
       dailyPlan.addScheduledPlace(
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place2).visitOrder(2).build());
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place2).orderKey(2).build());
       dailyPlan.addScheduledPlace(
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place3).visitOrder(3).build());
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place3).orderKey(3).build());
       dailyPlan.addScheduledPlace(
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place4).visitOrder(4).build());
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place4).orderKey(4).build());
       dailyPlan.addScheduledPlace(
-          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place5).visitOrder(5).build());
+          ScheduledPlaceFixture.builder().dailyPlan(dailyPlan).place(place5).orderKey(5).build());
 
       tripPlanRepository.save(tripPlan);
 
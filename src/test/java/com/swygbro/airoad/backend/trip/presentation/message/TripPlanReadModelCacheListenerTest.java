@@ -0,0 +1,62 @@
+package com.swygbro.airoad.backend.trip.presentation.message;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.swygbro.airoad.backend.trip.application.TripPlanReadModelStore;
+import com.swygbro.airoad.backend.trip.domain.event.DailyPlanSavedEvent;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanChangedEvent;
+import com.swygbro.airoad.backend.trip.domain.event.TripPlanUpdatedEvent;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TripPlanReadModelCacheListenerTest {
+
+  @Mock private TripPlanReadModelStore tripPlanReadModelStore;
+
+  @InjectMocks private TripPlanReadModelCacheListener tripPlanReadModelCacheListener;
+
+  @Test
+  @DisplayName("일차별 일정이 저장되면 해당 여행 계획의 조회 모델을 무효화한다")
+  void 일정_저장시_조회_모델_무효화() {
+    // when
+    tripPlanReadModelCacheListener.handleDailyPlanSaved(
+        DailyPlanSavedEvent.builder().chatRoomId(1L).tripPlanId(100L).build());
+
+    // then
+    then(tripPlanReadModelStore).should().evict(100L);
+  }
+
+  @Test
+  @DisplayName("일정이 수정되면 해당 여행 계획의 조회 모델을 무효화한다")
+  void 일정_수정시_조회_모델_무효화() {
+    // when
+    tripPlanReadModelCacheListener.handleTripPlanUpdated(
+        TripPlanUpdatedEvent.builder().chatRoomId(1L).tripPlanId(100L).build());
+
+    // then
+    then(tripPlanReadModelStore).should().evict(100L);
+  }
+
+  @Test
+  @DisplayName("캐시 무효화에 실패해도 예외를 전파하지 않는다")
+  void 무효화_실패시_예외_전파_안함() {
+    // given
+    willThrow(new IllegalStateException("redis down")).given(tripPlanReadModelStore).evict(100L);
+
+    // when & then
+    assertThatCode(
+            () ->
+                tripPlanReadModelCacheListener.handleTripPlanChanged(
+                    TripPlanChangedEvent.builder().tripPlanId(100L).build()))
+        .doesNotThrowAnyException();
+  }
+}